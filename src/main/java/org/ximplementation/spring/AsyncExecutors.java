@@ -0,0 +1,104 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Factory of {@linkplain ExecutorService}s for asynchronous <i>implementee
+ * method</i>s.
+ * <p>
+ * It can be used as a {@code factory-method} bean in XML configuration
+ * files, for example :
+ * </p>
+ * 
+ * <pre>
+ * &lt;bean class="org.ximplementation.spring.ImplementeeBeanCreationPostProcessor"&gt;
+ * 	&lt;property name="asyncExecutor"&gt;
+ * 		&lt;bean class="org.ximplementation.spring.AsyncExecutors" factory-method="newVirtualThreadPerTaskExecutor" /&gt;
+ * 	&lt;/property&gt;
+ * &lt;/bean&gt;
+ * </pre>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see AsyncImplementeeMethodInvocation
+ */
+public class AsyncExecutors
+{
+	private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR_METHOD = findNewVirtualThreadPerTaskExecutorMethod();
+
+	/**
+	 * Return if virtual threads are supported by the current JVM.
+	 * 
+	 * @return
+	 */
+	public static boolean isVirtualThreadSupported()
+	{
+		return (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR_METHOD != null);
+	}
+
+	/**
+	 * Create an {@linkplain ExecutorService} which starts a new virtual thread
+	 * for each task.
+	 * <p>
+	 * If virtual threads are not supported by the current JVM, a cached thread
+	 * pool is returned instead.
+	 * </p>
+	 * 
+	 * @return
+	 */
+	public static ExecutorService newVirtualThreadPerTaskExecutor()
+	{
+		if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR_METHOD != null)
+		{
+			try
+			{
+				return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR_METHOD
+						.invoke(null);
+			}
+			catch (Exception e)
+			{
+			}
+		}
+
+		return Executors.newCachedThreadPool();
+	}
+
+	/**
+	 * Create a fixed size thread pool {@linkplain ExecutorService}.
+	 * 
+	 * @param nThreads
+	 * @return
+	 */
+	public static ExecutorService newFixedThreadPool(int nThreads)
+	{
+		return Executors.newFixedThreadPool(nThreads);
+	}
+
+	private static Method findNewVirtualThreadPerTaskExecutorMethod()
+	{
+		try
+		{
+			return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+		}
+		catch (Exception e)
+		{
+			return null;
+		}
+	}
+}
@@ -0,0 +1,236 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.ximplementation.support.ImplementeeMethodInvocation;
+
+/**
+ * Asynchronous {@linkplain ImplementeeMethodInvocation}.
+ * <p>
+ * It is used for <i>implementee method</i>s which return
+ * {@linkplain Future}. The <i>implementor</i> is selected synchronously
+ * before this invocation is created, and then the <i>implement method</i> is
+ * invoked in the {@linkplain Executor}. The {@linkplain Future} returned by
+ * the <i>implement method</i> is unwrapped, so the {@linkplain Future}
+ * returned by {@linkplain #invoke()} will be done when it is done.
+ * </p>
+ * <p>
+ * The unwrapping does not wait in the {@linkplain Executor}, the
+ * {@linkplain Future} returned by the <i>implement method</i> is only waited
+ * for by the callers of {@linkplain Future#get()}, so a bounded
+ * {@linkplain Executor} is not occupied by the pending <i>implement
+ * method</i>s.
+ * </p>
+ * <p>
+ * If the {@linkplain Executor} rejects it, or the returned
+ * {@linkplain Future} is cancelled before it runs, the underline invocation
+ * is never invoked and its {@linkplain Bulkhead} permit is released.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see AsyncExecutors
+ */
+public class AsyncImplementeeMethodInvocation
+		implements ImplementeeMethodInvocation
+{
+	private final ImplementeeMethodInvocation implementeeMethodInvocation;
+
+	private final Executor executor;
+
+	public AsyncImplementeeMethodInvocation(
+			ImplementeeMethodInvocation implementeeMethodInvocation,
+			Executor executor)
+	{
+		super();
+		this.implementeeMethodInvocation = implementeeMethodInvocation;
+		this.executor = executor;
+	}
+
+	/**
+	 * Get the underline {@linkplain ImplementeeMethodInvocation}.
+	 * 
+	 * @return
+	 */
+	public ImplementeeMethodInvocation getImplementeeMethodInvocation()
+	{
+		return implementeeMethodInvocation;
+	}
+
+	/**
+	 * Get the {@linkplain Executor}.
+	 * 
+	 * @return
+	 */
+	public Executor getExecutor()
+	{
+		return executor;
+	}
+
+	@Override
+	public Object invoke() throws Throwable
+	{
+		InvocationFutureTask futureTask = new InvocationFutureTask(
+				new InvocationCallable(this.implementeeMethodInvocation)
+				{
+					@Override
+					protected Object doCall() throws Exception
+					{
+						return invokeUnderline();
+					}
+				});
+
+		try
+		{
+			this.executor.execute(futureTask);
+		}
+		catch (RejectedExecutionException e)
+		{
+			futureTask.getInvocationCallable().abandon();
+			throw e;
+		}
+
+		return new UnwrappingFuture(futureTask);
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName() + " [implementeeMethodInvocation="
+				+ implementeeMethodInvocation + "]";
+	}
+
+	/**
+	 * Invoke the underline {@linkplain ImplementeeMethodInvocation}.
+	 * 
+	 * @return
+	 * @throws Exception
+	 */
+	protected Object invokeUnderline() throws Exception
+	{
+		return InvocationUtil.invoke(this.implementeeMethodInvocation);
+	}
+
+	/**
+	 * The {@linkplain Future} which is done when the {@linkplain Future}
+	 * returned by the <i>implement method</i> is done.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 *
+	 */
+	protected static class UnwrappingFuture implements Future<Object>
+	{
+		private final Future<Object> future;
+
+		public UnwrappingFuture(Future<Object> future)
+		{
+			super();
+			this.future = future;
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning)
+		{
+			if (this.future.cancel(mayInterruptIfRunning))
+				return true;
+
+			Future<?> inner = getInnerIfDone();
+
+			return (inner != null && inner.cancel(mayInterruptIfRunning));
+		}
+
+		@Override
+		public boolean isCancelled()
+		{
+			if (this.future.isCancelled())
+				return true;
+
+			Future<?> inner = getInnerIfDone();
+
+			return (inner != null && inner.isCancelled());
+		}
+
+		@Override
+		public boolean isDone()
+		{
+			if (!this.future.isDone())
+				return false;
+
+			Future<?> inner = getInnerIfDone();
+
+			return (inner == null || inner.isDone());
+		}
+
+		@Override
+		public Object get() throws InterruptedException, ExecutionException
+		{
+			Object re = this.future.get();
+
+			if (re instanceof Future<?>)
+				return ((Future<?>) re).get();
+
+			return re;
+		}
+
+		@Override
+		public Object get(long timeout, TimeUnit unit)
+				throws InterruptedException, ExecutionException,
+				TimeoutException
+		{
+			long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+			Object re = this.future.get(timeout, unit);
+
+			if (re instanceof Future<?>)
+				return ((Future<?>) re).get(
+						Math.max(0L, deadline - System.nanoTime()),
+						TimeUnit.NANOSECONDS);
+
+			return re;
+		}
+
+		/**
+		 * Get the {@linkplain Future} returned by the <i>implement
+		 * method</i>.
+		 * 
+		 * @return {@code null} if the <i>implement method</i> is not done
+		 *         yet, failed or not returned a {@linkplain Future}.
+		 */
+		protected Future<?> getInnerIfDone()
+		{
+			if (!this.future.isDone() || this.future.isCancelled())
+				return null;
+
+			try
+			{
+				Object re = this.future.get();
+
+				return (re instanceof Future<?> ? (Future<?>) re : null);
+			}
+			catch (Exception e)
+			{
+				return null;
+			}
+		}
+	}
+}
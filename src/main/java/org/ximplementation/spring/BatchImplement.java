@@ -0,0 +1,79 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+
+/**
+ * Batch <i>implement method</i> annotation.
+ * <p>
+ * An <i>implementor</i> method annotated with it handles a batch of
+ * invocations of the <i>implementee method</i> named {@linkplain #value()} in
+ * {@linkplain BatchImplementee#invokeBatch(java.lang.reflect.Method, List)}.
+ * If the <i>implementee method</i> is overloaded, its parameter types must be
+ * given by {@linkplain #paramTypes()}.
+ * </p>
+ * <p>
+ * The batch method must have only one {@linkplain List} parameter. Its
+ * elements are the {@code Object[]} arguments of the <i>implement
+ * method</i> of each invocation, in the <i>implement method</i> parameter
+ * order, whatever the parameter count is. It must return a
+ * {@linkplain List} of results in the same order, or {@code void} if the
+ * <i>implementee method</i> returns {@code void}.
+ * </p>
+ * <p>
+ * Examples :
+ * </p>
+ * 
+ * <pre>
+ * &#64;Component
+ * public class RecordHandlerImpl implements RecordHandler
+ * {
+ * 	public Result handle(Record record){...}
+ * 
+ * 	&#64;BatchImplement("handle")
+ * 	public List&lt;Result&gt; handleAll(List&lt;Object[]&gt; argsList){...}
+ * }
+ * </pre>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see BatchImplementee
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface BatchImplement
+{
+	/**
+	 * The name of the <i>implementee method</i>.
+	 * 
+	 * @return
+	 */
+	String value();
+
+	/**
+	 * The parameter types of the <i>implementee method</i>, empty for any if
+	 * it is not overloaded.
+	 * 
+	 * @return
+	 */
+	Class<?>[] paramTypes() default {};
+}
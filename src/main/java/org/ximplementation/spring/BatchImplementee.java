@@ -0,0 +1,73 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Batch invocation interface of <i>implementee</i> beans.
+ * <p>
+ * The <i>implementee</i> beans created by
+ * {@linkplain CglibImplementeeBeanBuilder} implement this interface if any of
+ * their <i>implementor</i>s has {@linkplain BatchImplement} method, or
+ * {@linkplain CglibImplementeeBeanBuilder#isBatchEnabled()}, the
+ * <i>implementee</i> bean can be cast to it for batch invocation, even if it
+ * is proxied by Spring JDK Proxy AOP.
+ * </p>
+ * <p>
+ * The {@linkplain FanOut}, {@linkplain CacheableImplement},
+ * {@linkplain Hedged} and asynchronous <i>implementee method</i>s are invoked
+ * one by one as regular invocations, so these annotations are honoured.
+ * </p>
+ * <p>
+ * Examples :
+ * </p>
+ * 
+ * <pre>
+ * &#64;Autowired
+ * private RecordHandler recordHandler;
+ * 
+ * public List&lt;Object&gt; handleAll(List&lt;Object[]&gt; records)
+ * {
+ * 	return ((BatchImplementee) recordHandler).invokeBatch(HANDLE_METHOD,
+ * 			records);
+ * }
+ * </pre>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see BatchImplement
+ */
+public interface BatchImplementee
+{
+	/**
+	 * Invoke the <i>implementee method</i> with each arguments.
+	 * <p>
+	 * The <i>implementor</i> is selected for each arguments, and then the
+	 * arguments are grouped by the selected <i>implementor</i> bean. Each
+	 * group is handled by the {@linkplain BatchImplement} method of the
+	 * <i>implementor</i> if exists, or by invoking the <i>implement method</i>
+	 * one by one otherwise.
+	 * </p>
+	 * 
+	 * @param implementeeMethod
+	 *            The <i>implementee method</i> to be invoked.
+	 * @param argsList
+	 *            The arguments of each invocation.
+	 * @return The results in the same order as the arguments.
+	 */
+	List<Object> invokeBatch(Method implementeeMethod, List<Object[]> argsList);
+}
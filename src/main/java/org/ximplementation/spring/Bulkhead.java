@@ -0,0 +1,63 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Concurrency bulkhead <i>implementor</i> annotation.
+ * <p>
+ * It limits the concurrent in-flight invocations of all beans of the annotated
+ * <i>implementor</i>. If it is saturated, the next valid <i>implementor</i> in
+ * priority order is selected instead of waiting, and
+ * {@linkplain ImplementorSaturatedException} is thrown if all the valid ones
+ * are saturated.
+ * </p>
+ * <p>
+ * Each invocation of a {@linkplain FanOut} <i>implementee method</i> and each
+ * {@linkplain BatchImplement} method call takes a permit too.
+ * </p>
+ * <p>
+ * Examples :
+ * </p>
+ * 
+ * <pre>
+ * &#64;Bulkhead(20)
+ * public class RemoteQuoteService implements QuoteService
+ * {
+ * 	...
+ * }
+ * </pre>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see ImplementorBulkhead
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Bulkhead
+{
+	/**
+	 * The max concurrent in-flight invocations.
+	 * 
+	 * @return
+	 */
+	int value();
+}
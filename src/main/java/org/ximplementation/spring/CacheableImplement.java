@@ -0,0 +1,74 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Result caching <i>implementee method</i> annotation.
+ * <p>
+ * The results of an <i>implementee method</i> annotated with it are cached by
+ * the invocation parameters in a bounded {@linkplain TinyLfuCache}, which is
+ * checked before evaluating validities and invoking <i>implement method</i>s,
+ * so a hit skips the dispatch entirely. The results are cached with their
+ * <i>implementor</i>s, and the ones of an <i>implementor</i> are invalidated
+ * when it is disabled.
+ * </p>
+ * <p>
+ * The invocation parameters are compared by {@linkplain Object#equals(Object)}
+ * and should be immutable. A {@linkplain java.util.concurrent.Future} result
+ * is cached only when it completes successfully.
+ * </p>
+ * <p>
+ * Examples :
+ * </p>
+ * 
+ * <pre>
+ * public interface RateService
+ * {
+ * 	&#64;CacheableImplement(maximumSize = 10000, ttl = 60000)
+ * 	BigDecimal getRate(String currency);
+ * }
+ * </pre>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see CacheableImplementeeMethodInvocation
+ * @see TinyLfuCache
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CacheableImplement
+{
+	/**
+	 * The maximum cached result count.
+	 * 
+	 * @return
+	 */
+	int maximumSize() default 1000;
+
+	/**
+	 * The time to live in milliseconds after a result is cached, {@code 0}
+	 * for never expiring.
+	 * 
+	 * @return
+	 */
+	long ttl() default 0;
+}
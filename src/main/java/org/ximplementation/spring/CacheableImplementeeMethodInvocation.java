@@ -0,0 +1,303 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.scheduling.annotation.AsyncResult;
+import org.ximplementation.support.ImplementeeMethodInvocation;
+
+/**
+ * {@linkplain ImplementeeMethodInvocation} which caches the result of the
+ * invocation into the {@linkplain TinyLfuCache} of the
+ * {@linkplain CacheableImplement} <i>implementee method</i>.
+ * <p>
+ * The result is not cached if the result cache is invalidated after the
+ * <i>implementor</i> is selected, so a disabled <i>implementor</i> can not
+ * put its result back. A {@linkplain Future} result is cached only when it
+ * completes successfully, as a completed {@linkplain Future}, and only if the
+ * <i>implementee method</i> returns {@linkplain Future} itself.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see CacheableImplement
+ */
+public class CacheableImplementeeMethodInvocation
+		implements ImplementeeMethodInvocation
+{
+	/** marker of cached null result */
+	protected static final Object NULL = new Object();
+
+	private final ImplementeeMethodInvocation implementeeMethodInvocation;
+
+	/** the selected implementor, null if not single */
+	private final Class<?> implementor;
+
+	private final ImplementeeMethodInvoker implementeeMethodInvoker;
+
+	private final ArgumentsKey key;
+
+	private final long resultCacheEpoch;
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param implementeeMethodInvocation
+	 * @param implementor
+	 *            The selected <i>implementor</i>, {@code null} if not single.
+	 * @param implementeeMethodInvoker
+	 *            The {@linkplain ImplementeeMethodInvoker} of the result
+	 *            cache.
+	 * @param key
+	 * @param resultCacheEpoch
+	 *            The {@linkplain ImplementeeMethodInvoker#getResultCacheEpoch()}
+	 *            before the <i>implementor</i> is selected.
+	 */
+	public CacheableImplementeeMethodInvocation(
+			ImplementeeMethodInvocation implementeeMethodInvocation,
+			Class<?> implementor,
+			ImplementeeMethodInvoker implementeeMethodInvoker,
+			ArgumentsKey key, long resultCacheEpoch)
+	{
+		super();
+		this.implementeeMethodInvocation = implementeeMethodInvocation;
+		this.implementor = implementor;
+		this.implementeeMethodInvoker = implementeeMethodInvoker;
+		this.key = key;
+		this.resultCacheEpoch = resultCacheEpoch;
+	}
+
+	public ImplementeeMethodInvocation getImplementeeMethodInvocation()
+	{
+		return implementeeMethodInvocation;
+	}
+
+	public Class<?> getImplementor()
+	{
+		return implementor;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Object invoke() throws Throwable
+	{
+		Object re = this.implementeeMethodInvocation.invoke();
+
+		if (re instanceof Future<?>)
+		{
+			// the pending Future can not be cached, and a CachingFuture can
+			// not be returned for the sub types of Future
+			return (this.implementeeMethodInvoker.isFutureReturnType()
+					? new CachingFuture((Future<Object>) re) : re);
+		}
+
+		putResult(re);
+
+		return re;
+	}
+
+	/**
+	 * Put the result into the result cache if it is not invalidated since
+	 * the <i>implementor</i> is selected.
+	 * 
+	 * @param re
+	 */
+	protected void putResult(Object re)
+	{
+		if (this.implementeeMethodInvoker
+				.getResultCacheEpoch() != this.resultCacheEpoch)
+			return;
+
+		TinyLfuCache<ArgumentsKey, CachedResult> resultCache = this.implementeeMethodInvoker
+				.getResultCache();
+
+		resultCache.put(this.key,
+				new CachedResult(this.implementor, (re == null ? NULL : re)));
+
+		// invalidated while putting
+		if (this.implementeeMethodInvoker
+				.getResultCacheEpoch() != this.resultCacheEpoch)
+			resultCache.remove(this.key);
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName() + " [implementeeMethodInvocation="
+				+ implementeeMethodInvocation + "]";
+	}
+
+	/**
+	 * {@linkplain Future} which caches the result when it completes
+	 * successfully.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 * 
+	 */
+	protected class CachingFuture implements Future<Object>
+	{
+		private final Future<Object> future;
+
+		private final AtomicBoolean cached = new AtomicBoolean(false);
+
+		public CachingFuture(Future<Object> future)
+		{
+			super();
+			this.future = future;
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning)
+		{
+			return this.future.cancel(mayInterruptIfRunning);
+		}
+
+		@Override
+		public boolean isCancelled()
+		{
+			return this.future.isCancelled();
+		}
+
+		@Override
+		public boolean isDone()
+		{
+			return this.future.isDone();
+		}
+
+		@Override
+		public Object get() throws InterruptedException, ExecutionException
+		{
+			return cache(this.future.get());
+		}
+
+		@Override
+		public Object get(long timeout, TimeUnit unit)
+				throws InterruptedException, ExecutionException,
+				TimeoutException
+		{
+			return cache(this.future.get(timeout, unit));
+		}
+
+		protected Object cache(Object re)
+		{
+			if (this.cached.compareAndSet(false, true))
+				putResult(new AsyncResult<Object>(re));
+
+			return re;
+		}
+	}
+
+	/**
+	 * Cache key of invocation parameters.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 * 
+	 */
+	public static class ArgumentsKey
+	{
+		private final Object[] invocationParams;
+
+		private final int hashCode;
+
+		public ArgumentsKey(Object[] invocationParams)
+		{
+			super();
+			this.invocationParams = invocationParams.clone();
+			this.hashCode = Arrays.deepHashCode(this.invocationParams);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return this.hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			if (this == obj)
+				return true;
+			if (!(obj instanceof ArgumentsKey))
+				return false;
+
+			ArgumentsKey other = (ArgumentsKey) obj;
+
+			return this.hashCode == other.hashCode && Arrays
+					.deepEquals(this.invocationParams, other.invocationParams);
+		}
+
+		@Override
+		public String toString()
+		{
+			return Arrays.deepToString(this.invocationParams);
+		}
+	}
+
+	/**
+	 * Cached result with the <i>implementor</i> which returns it.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 * 
+	 */
+	public static class CachedResult implements ImplementeeMethodInvocation
+	{
+		private final Class<?> implementor;
+
+		private final Object result;
+
+		public CachedResult(Class<?> implementor, Object result)
+		{
+			super();
+			this.implementor = implementor;
+			this.result = result;
+		}
+
+		/**
+		 * Get the <i>implementor</i> which returns the result.
+		 * 
+		 * @return {@code null} if not single
+		 */
+		public Class<?> getImplementor()
+		{
+			return implementor;
+		}
+
+		/**
+		 * Return the cached result without invoking any <i>implement
+		 * method</i>.
+		 */
+		@Override
+		public Object invoke() throws Throwable
+		{
+			return (this.result == NULL ? null : this.result);
+		}
+
+		@Override
+		public String toString()
+		{
+			return getClass().getSimpleName() + " [implementor="
+					+ implementor + "]";
+		}
+	}
+}
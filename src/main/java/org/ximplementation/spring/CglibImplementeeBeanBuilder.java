@@ -15,19 +15,33 @@
 package org.ximplementation.spring;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
-import org.ximplementation.support.CachedImplementeeMethodInvocationFactory;
+import org.ximplementation.support.ImplementInfo;
+import org.ximplementation.support.ImplementMethodInfo;
 import org.ximplementation.support.Implementation;
 import org.ximplementation.support.ImplementeeBeanBuilder;
 import org.ximplementation.support.ImplementeeMethodInvocationFactory;
 import org.ximplementation.support.ImplementorBeanFactory;
 import org.ximplementation.support.ProxyImplementeeInvocationSupport;
 
+import net.sf.cglib.core.ClassGenerator;
+import net.sf.cglib.core.CodeGenerationException;
+import net.sf.cglib.core.DefaultGeneratorStrategy;
+import net.sf.cglib.core.GeneratorStrategy;
 import net.sf.cglib.proxy.Callback;
+import net.sf.cglib.proxy.CallbackFilter;
 import net.sf.cglib.proxy.Enhancer;
 import net.sf.cglib.proxy.Factory;
 import net.sf.cglib.proxy.InvocationHandler;
+import net.sf.cglib.proxy.MethodInterceptor;
+import net.sf.cglib.proxy.MethodProxy;
 
 /**
  * Implementee bean builder based on CGLIB.
@@ -36,8 +50,34 @@ import net.sf.cglib.proxy.InvocationHandler;
  * {@linkplain CglibImplementeeInvocationHandler} as its invocation handler.
  * </p>
  * <p>
+ * The default {@linkplain ImplementeeMethodInvocationFactory} is
+ * {@linkplain InvokerImplementeeMethodInvocationFactory}, and its invokers are
+ * prepared when the <i>implementee</i> bean is built.
+ * </p>
+ * <p>
+ * For {@code class} <i>implementee</i>s, the not {@code abstract}
+ * <i>implementee method</i>s which are neither overridden nor inherited by any
+ * <i>implementor</i> can be invoked by
+ * {@linkplain MethodProxy#invokeSuper(Object, Object[])} directly but not
+ * dispatched, see {@linkplain #isInvokeSuperIfNotOverridden()}.
+ * </p>
+ * <p>
+ * If {@linkplain #isAheadOfTime()} is {@code true}, the generated classes are
+ * named by {@linkplain ImplementeeNamingPolicy}, and the classes generated
+ * ahead of time by {@linkplain ImplementeeClassGenerator} are loaded instead
+ * of generating again.
+ * </p>
+ * <p>
+ * If {@linkplain #getClassCache()} is set, the bytecode of the generated
+ * classes are written into it, and defined from it in the later JVM runs.
+ * </p>
+ * <p>
  * Note that the <i>implementee</i> bean also implements the
- * {@linkplain CglibImplementee} interface for token.
+ * {@linkplain CglibImplementee} interface for token, the
+ * {@linkplain BatchImplementee} interface for batch invocation if
+ * {@linkplain #isBatchEnabled()} or any <i>implementor</i> has
+ * {@linkplain BatchImplement} method, and the {@linkplain StreamImplementee}
+ * interface for streaming invocation if {@linkplain #isStreamEnabled()}.
  * </p>
  * <p>
  * The <i>implementee</i> bean it created is a sub class of the
@@ -55,10 +95,22 @@ public class CglibImplementeeBeanBuilder implements ImplementeeBeanBuilder
 {
 	private ImplementeeMethodInvocationFactory implementeeMethodInvocationFactory;
 
+	private boolean invokeSuperIfNotOverridden = false;
+
+	private boolean aheadOfTime = false;
+
+	private GeneratorStrategy generatorStrategy;
+
+	private ImplementeeClassCache classCache;
+
+	private boolean batchEnabled = false;
+
+	private boolean streamEnabled = false;
+
 	public CglibImplementeeBeanBuilder()
 	{
 		super();
-		this.implementeeMethodInvocationFactory = new CachedImplementeeMethodInvocationFactory();
+		this.implementeeMethodInvocationFactory = new InvokerImplementeeMethodInvocationFactory();
 	}
 
 	public ImplementeeMethodInvocationFactory getImplementeeMethodInvocationFactory()
@@ -72,6 +124,142 @@ public class CglibImplementeeBeanBuilder implements ImplementeeBeanBuilder
 		this.implementeeMethodInvocationFactory = implementeeMethodInvocationFactory;
 	}
 
+	/**
+	 * Return if the <i>implementee method</i>s which are neither overridden
+	 * nor inherited by any <i>implementor</i> of {@code class}
+	 * <i>implementee</i> are invoked by
+	 * {@linkplain MethodProxy#invokeSuper(Object, Object[])} directly.
+	 * <p>
+	 * Note that these methods are invoked on the <i>implementee</i> bean
+	 * itself but not on the <i>implementor</i> beans, so they should not
+	 * depend on the fields of the <i>implementee</i> class, nor on the AOP
+	 * advices of the <i>implementor</i>s.
+	 * </p>
+	 * 
+	 * @return {@code false} by default.
+	 */
+	public boolean isInvokeSuperIfNotOverridden()
+	{
+		return invokeSuperIfNotOverridden;
+	}
+
+	public void setInvokeSuperIfNotOverridden(
+			boolean invokeSuperIfNotOverridden)
+	{
+		this.invokeSuperIfNotOverridden = invokeSuperIfNotOverridden;
+	}
+
+	/**
+	 * Return if the classes are named deterministically, and the classes
+	 * generated ahead of time are loaded instead of generating again.
+	 * 
+	 * @return
+	 * @see ImplementeeNamingPolicy
+	 * @see ImplementeeClassGenerator
+	 */
+	public boolean isAheadOfTime()
+	{
+		return aheadOfTime;
+	}
+
+	public void setAheadOfTime(boolean aheadOfTime)
+	{
+		this.aheadOfTime = aheadOfTime;
+	}
+
+	/**
+	 * Get the CGLIB {@linkplain GeneratorStrategy} for generating classes.
+	 * 
+	 * @return {@code null} if using the CGLIB default.
+	 */
+	public GeneratorStrategy getGeneratorStrategy()
+	{
+		return generatorStrategy;
+	}
+
+	public void setGeneratorStrategy(GeneratorStrategy generatorStrategy)
+	{
+		this.generatorStrategy = generatorStrategy;
+	}
+
+	/**
+	 * Get the on-disk cache of generated classes.
+	 * 
+	 * @return {@code null} if not cached.
+	 */
+	public ImplementeeClassCache getClassCache()
+	{
+		return classCache;
+	}
+
+	public void setClassCache(ImplementeeClassCache classCache)
+	{
+		this.classCache = classCache;
+	}
+
+	/**
+	 * Return if all the <i>implementee</i> beans implement
+	 * {@linkplain BatchImplementee}, otherwise only the ones which have
+	 * <i>implementor</i>s with {@linkplain BatchImplement} methods when built
+	 * do.
+	 * 
+	 * @return {@code false} by default.
+	 */
+	public boolean isBatchEnabled()
+	{
+		return batchEnabled;
+	}
+
+	public void setBatchEnabled(boolean batchEnabled)
+	{
+		this.batchEnabled = batchEnabled;
+	}
+
+	/**
+	 * Return if the <i>implementee</i> beans implement
+	 * {@linkplain StreamImplementee}.
+	 * 
+	 * @return {@code false} by default.
+	 */
+	public boolean isStreamEnabled()
+	{
+		return streamEnabled;
+	}
+
+	public void setStreamEnabled(boolean streamEnabled)
+	{
+		this.streamEnabled = streamEnabled;
+	}
+
+	/**
+	 * Get the interfaces which the <i>implementee</i> bean implements.
+	 * 
+	 * @param implementee
+	 * @param implementors
+	 *            May be {@code null}.
+	 * @return
+	 */
+	public Class<?>[] getImplementeeBeanInterfaces(Class<?> implementee,
+			Set<Class<?>> implementors)
+	{
+		List<Class<?>> re = new ArrayList<Class<?>>();
+
+		// Enhancer.setSuperclass(Class) replaces the interfaces with an
+		// interface super class, so it must be added as an interface
+		if (implementee.isInterface())
+			re.add(implementee);
+
+		re.add(CglibImplementee.class);
+
+		if (this.batchEnabled || hasBatchImplementMethod(implementors))
+			re.add(BatchImplementee.class);
+
+		if (this.streamEnabled)
+			re.add(StreamImplementee.class);
+
+		return re.toArray(new Class<?>[re.size()]);
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> T build(Implementation<T> implementation,
@@ -91,18 +279,249 @@ public class CglibImplementeeBeanBuilder implements ImplementeeBeanBuilder
 			Implementation<?> implementation,
 			ImplementorBeanFactory implementorBeanFactory)
 	{
+		if (this.implementeeMethodInvocationFactory instanceof InvokerImplementeeMethodInvocationFactory)
+			((InvokerImplementeeMethodInvocationFactory) this.implementeeMethodInvocationFactory)
+					.prepare(implementation);
+
 		InvocationHandler invocationHandler = new CglibImplementeeInvocationHandler(
 				implementation, implementorBeanFactory,
 				implementeeMethodInvocationFactory);
 
-		Enhancer enhancer = new Enhancer();
-		enhancer.setInterfaces(new Class[] { CglibImplementee.class });
-		enhancer.setSuperclass(implementation.getImplementee());
-		enhancer.setCallback(invocationHandler);
+		Set<Method> superMethods = (this.invokeSuperIfNotOverridden
+				? resolveSuperMethods(implementation) : null);
+
+		Callback[] callbacks = (superMethods == null || superMethods.isEmpty()
+				? new Callback[] { invocationHandler }
+				: new Callback[] { invocationHandler,
+						SuperMethodInterceptor.INSTANCE });
+
+		if (this.classCache != null)
+		{
+			Object bean = createByClassCache(implementation, superMethods,
+					callbacks);
+
+			if (bean != null)
+				return bean;
+		}
+
+		Enhancer enhancer = createEnhancer(implementation, superMethods);
+
+		if (callbacks.length == 1)
+			enhancer.setCallback(invocationHandler);
+		else
+		{
+			enhancer.setCallbacks(callbacks);
+			enhancer.setCallbackFilter(
+					new SuperMethodCallbackFilter(superMethods));
+		}
 
 		return enhancer.create();
 	}
 
+	/**
+	 * Create CGLIB <i>implementee</i> bean of the class defined from
+	 * {@linkplain #getClassCache()}, the class is generated and cached if not
+	 * cached yet.
+	 * 
+	 * @param implementation
+	 * @param superMethods
+	 * @param callbacks
+	 * @return {@code null} if the class can not be cached.
+	 */
+	protected Object createByClassCache(Implementation<?> implementation,
+			Set<Method> superMethods, Callback[] callbacks)
+	{
+		String stableKey = getStableKey(implementation, superMethods);
+
+		String key = this.classCache.getKey(implementation, stableKey,
+				getClass());
+
+		if (key == null)
+			return null;
+
+		Class<?> clazz = this.classCache.load(key,
+				implementation.getImplementee());
+
+		if (clazz == null)
+		{
+			CapturingGeneratorStrategy strategy = new CapturingGeneratorStrategy(
+					this.generatorStrategy);
+
+			Enhancer enhancer = createEnhancer(implementation, superMethods);
+			enhancer.setNamingPolicy(
+					new ImplementeeNamingPolicy(stableKey + "#" + key));
+			enhancer.setAttemptLoad(false);
+			enhancer.setUseCache(false);
+			enhancer.setStrategy(strategy);
+
+			if (callbacks.length == 1)
+				enhancer.setCallbackType(callbacks[0].getClass());
+			else
+			{
+				enhancer.setCallbackTypes(new Class[] {
+						callbacks[0].getClass(), callbacks[1].getClass() });
+				enhancer.setCallbackFilter(
+						new SuperMethodCallbackFilter(superMethods));
+			}
+
+			clazz = enhancer.createClass();
+
+			this.classCache.store(key, strategy.takeBytes(), clazz);
+		}
+
+		Enhancer.registerCallbacks(clazz, callbacks);
+		try
+		{
+			return clazz.newInstance();
+		}
+		catch (Exception e)
+		{
+			throw new CodeGenerationException(e);
+		}
+		finally
+		{
+			Enhancer.registerCallbacks(clazz, null);
+		}
+	}
+
+	/**
+	 * Create the {@linkplain Enhancer} for the <i>implementee</i> class, the
+	 * callbacks are not set.
+	 * 
+	 * @param implementation
+	 * @param superMethods
+	 *            The methods invoked by
+	 *            {@linkplain MethodProxy#invokeSuper(Object, Object[])}, may
+	 *            be {@code null}.
+	 * @return
+	 */
+	protected Enhancer createEnhancer(Implementation<?> implementation,
+			Set<Method> superMethods)
+	{
+		Class<?> implementee = implementation.getImplementee();
+
+		Enhancer enhancer = new Enhancer();
+
+		enhancer.setInterfaces(getImplementeeBeanInterfaces(implementee,
+				implementation.getImplementors()));
+
+		if (!implementee.isInterface())
+			enhancer.setSuperclass(implementee);
+
+		if (this.aheadOfTime)
+		{
+			enhancer.setNamingPolicy(new ImplementeeNamingPolicy(
+					getStableKey(implementation, superMethods)));
+			enhancer.setAttemptLoad(true);
+		}
+
+		if (this.generatorStrategy != null)
+			enhancer.setStrategy(this.generatorStrategy);
+
+		return enhancer;
+	}
+
+	/**
+	 * Get the stable key string which identifies the generated class.
+	 * 
+	 * @param implementation
+	 * @param superMethods
+	 * @return
+	 */
+	protected String getStableKey(Implementation<?> implementation,
+			Set<Method> superMethods)
+	{
+		StringBuilder sb = new StringBuilder(
+				implementation.getImplementee().getName());
+
+		if (superMethods != null && !superMethods.isEmpty())
+		{
+			Set<String> names = new TreeSet<String>();
+			for (Method method : superMethods)
+				names.add(method.toString());
+
+			sb.append(names);
+		}
+
+		for (Class<?> beanInterface : getImplementeeBeanInterfaces(
+				implementation.getImplementee(),
+				implementation.getImplementors()))
+		{
+			if (BatchImplementee.class.equals(beanInterface))
+				sb.append("#batch");
+			else if (StreamImplementee.class.equals(beanInterface))
+				sb.append("#stream");
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Return if any <i>implementor</i> has {@linkplain BatchImplement}
+	 * method.
+	 * 
+	 * @param implementors
+	 *            May be {@code null}.
+	 * @return
+	 */
+	protected boolean hasBatchImplementMethod(Set<Class<?>> implementors)
+	{
+		if (implementors == null)
+			return false;
+
+		for (Class<?> implementor : implementors)
+		{
+			for (Method method : implementor.getMethods())
+			{
+				if (method.isAnnotationPresent(BatchImplement.class))
+					return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Resolve the <i>implementee method</i>s which are not {@code abstract}
+	 * and neither overridden nor inherited by any <i>implementor</i>.
+	 * 
+	 * @param implementation
+	 * @return
+	 */
+	protected Set<Method> resolveSuperMethods(Implementation<?> implementation)
+	{
+		Set<Method> superMethods = new HashSet<Method>();
+
+		if (implementation.getImplementee().isInterface())
+			return superMethods;
+
+		ImplementInfo[] implementInfos = implementation.getImplementInfos();
+
+		if (implementInfos == null)
+			return superMethods;
+
+		for (ImplementInfo implementInfo : implementInfos)
+		{
+			Method implementeeMethod = implementInfo.getImplementeeMethod();
+
+			int modifiers = implementeeMethod.getModifiers();
+
+			if (Modifier.isAbstract(modifiers) || Modifier.isFinal(modifiers))
+				continue;
+
+			ImplementMethodInfo[] implementMethodInfos = implementInfo
+					.getImplementMethodInfos();
+
+			// an implementor bean which inherits the method may depend on
+			// its own state or advices, so it is still dispatched to
+			if (implementMethodInfos == null
+					|| implementMethodInfos.length == 0)
+				superMethods.add(implementeeMethod);
+		}
+
+		return superMethods;
+	}
+
 	/**
 	 * The {@linkplain InvocationHandler} for CGLIB <i>implementee</i> bean.
 	 * <p>
@@ -131,6 +550,7 @@ public class CglibImplementeeBeanBuilder implements ImplementeeBeanBuilder
 					implementeeMethodInvocationFactory);
 		}
 
+		@SuppressWarnings("unchecked")
 		@Override
 		public Object invoke(Object proxy, Method method, Object[] args)
 				throws Throwable
@@ -144,9 +564,100 @@ public class CglibImplementeeBeanBuilder implements ImplementeeBeanBuilder
 			if (isToStringMethod(method))
 				return toString();
 
+			if (isInvokeBatchMethod(method))
+				return invokeBatch((Method) args[0], (List<Object[]>) args[1]);
+
+			if (isOpenStreamMethod(method))
+				return openStream((Method) args[0], (Integer) args[1],
+						(Integer) args[2]);
+
 			return invoke(method, args);
 		}
 
+		/**
+		 * Invoke the <i>implementee method</i> in batch.
+		 * 
+		 * @param implementeeMethod
+		 * @param argsList
+		 * @return
+		 * @throws Throwable
+		 * @see BatchImplementee#invokeBatch(Method, List)
+		 */
+		protected List<Object> invokeBatch(Method implementeeMethod,
+				List<Object[]> argsList) throws Throwable
+		{
+			ImplementeeMethodInvocationFactory factory = getImplementeeMethodInvocationFactory();
+
+			if (factory instanceof InvokerImplementeeMethodInvocationFactory)
+				return ((InvokerImplementeeMethodInvocationFactory) factory)
+						.invokeBatch(getImplementation(), implementeeMethod,
+								argsList, getImplementorBeanFactory());
+
+			List<Object> results = new ArrayList<Object>(argsList.size());
+
+			for (Object[] args : argsList)
+				results.add(invoke(implementeeMethod, args));
+
+			return results;
+		}
+
+		/**
+		 * Return if the method is
+		 * {@linkplain BatchImplementee#invokeBatch(Method, List)}.
+		 * 
+		 * @param method
+		 * @return
+		 */
+		protected boolean isInvokeBatchMethod(Method method)
+		{
+			return (BatchImplementee.class.equals(method.getDeclaringClass())
+					&& "invokeBatch".equals(method.getName()));
+		}
+
+		/**
+		 * Open an {@linkplain ImplementeeStream} for the <i>implementee
+		 * method</i>.
+		 * 
+		 * @param implementeeMethod
+		 * @param parallelism
+		 * @param bufferSize
+		 * @return
+		 * @throws UnsupportedOperationException
+		 *             If the {@linkplain ImplementeeMethodInvocationFactory} is
+		 *             not {@linkplain InvokerImplementeeMethodInvocationFactory}.
+		 * @see StreamImplementee#openStream(Method, int, int)
+		 */
+		protected ImplementeeStream openStream(Method implementeeMethod,
+				int parallelism, int bufferSize)
+		{
+			ImplementeeMethodInvocationFactory factory = getImplementeeMethodInvocationFactory();
+
+			if (!(factory instanceof InvokerImplementeeMethodInvocationFactory))
+				throw new UnsupportedOperationException(
+						"Streaming invocation requires ["
+								+ InvokerImplementeeMethodInvocationFactory.class
+										.getSimpleName()
+								+ "]");
+
+			return ((InvokerImplementeeMethodInvocationFactory) factory)
+					.openStream(getImplementation(), implementeeMethod,
+							getImplementorBeanFactory(), parallelism,
+							bufferSize);
+		}
+
+		/**
+		 * Return if the method is
+		 * {@linkplain StreamImplementee#openStream(Method, int, int)}.
+		 * 
+		 * @param method
+		 * @return
+		 */
+		protected boolean isOpenStreamMethod(Method method)
+		{
+			return (StreamImplementee.class.equals(method.getDeclaringClass())
+					&& "openStream".equals(method.getName()));
+		}
+
 		@Override
 		public int hashCode()
 		{
@@ -172,8 +683,8 @@ public class CglibImplementeeBeanBuilder implements ImplementeeBeanBuilder
 			{
 				Callback[] callbacks = ((Factory) obj).getCallbacks();
 
-				// there is only one Callback
-				if (callbacks == null || callbacks.length != 1)
+				// the first Callback is always the invocation handler
+				if (callbacks == null || callbacks.length == 0)
 					return false;
 
 				Callback ih = callbacks[0];
@@ -191,4 +702,132 @@ public class CglibImplementeeBeanBuilder implements ImplementeeBeanBuilder
 			return super.equals(otherHandler);
 		}
 	}
+
+	/**
+	 * The {@linkplain MethodInterceptor} for invoking super methods of CGLIB
+	 * <i>implementee</i> bean.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 *
+	 */
+	public static class SuperMethodInterceptor implements MethodInterceptor
+	{
+		public static final SuperMethodInterceptor INSTANCE = new SuperMethodInterceptor();
+
+		public SuperMethodInterceptor()
+		{
+			super();
+		}
+
+		@Override
+		public Object intercept(Object obj, Method method, Object[] args,
+				MethodProxy proxy) throws Throwable
+		{
+			return proxy.invokeSuper(obj, args);
+		}
+	}
+
+	/**
+	 * The {@linkplain CallbackFilter} which routes super methods to
+	 * {@linkplain SuperMethodInterceptor} and all others to
+	 * {@linkplain CglibImplementeeInvocationHandler}.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 *
+	 */
+	protected static class SuperMethodCallbackFilter implements CallbackFilter
+	{
+		private final Set<Method> superMethods;
+
+		public SuperMethodCallbackFilter(Set<Method> superMethods)
+		{
+			super();
+			this.superMethods = superMethods;
+		}
+
+		@Override
+		public int accept(Method method)
+		{
+			return (this.superMethods.contains(method) ? 1 : 0);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return this.superMethods.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			if (this == obj)
+				return true;
+			if (obj == null)
+				return false;
+			if (getClass() != obj.getClass())
+				return false;
+
+			SuperMethodCallbackFilter other = (SuperMethodCallbackFilter) obj;
+
+			return this.superMethods.equals(other.superMethods);
+		}
+	}
+
+	/**
+	 * The {@linkplain GeneratorStrategy} which keeps the last generated
+	 * bytecode.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 *
+	 */
+	protected static class CapturingGeneratorStrategy
+			implements GeneratorStrategy
+	{
+		private final GeneratorStrategy generatorStrategy;
+
+		private volatile byte[] bytes;
+
+		public CapturingGeneratorStrategy()
+		{
+			this(null);
+		}
+
+		/**
+		 * Create an instance.
+		 * 
+		 * @param generatorStrategy
+		 *            The delegated {@linkplain GeneratorStrategy}, the CGLIB
+		 *            default if {@code null}.
+		 */
+		public CapturingGeneratorStrategy(GeneratorStrategy generatorStrategy)
+		{
+			super();
+			this.generatorStrategy = (generatorStrategy == null
+					? DefaultGeneratorStrategy.INSTANCE : generatorStrategy);
+		}
+
+		@Override
+		public byte[] generate(ClassGenerator cg) throws Exception
+		{
+			byte[] bytes = this.generatorStrategy.generate(cg);
+			this.bytes = bytes;
+
+			return bytes;
+		}
+
+		/**
+		 * Take the last generated bytecode.
+		 * 
+		 * @return {@code null} if none.
+		 */
+		public byte[] takeBytes()
+		{
+			byte[] re = this.bytes;
+			this.bytes = null;
+			return re;
+		}
+	}
 }
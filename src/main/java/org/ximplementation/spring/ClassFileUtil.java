@@ -0,0 +1,226 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Utility for class files.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class ClassFileUtil
+{
+	public static final String CLASS_FILE_SUFFIX = ".class";
+
+	private static final String HASH_ALGORITHM = "SHA-1";
+
+	/**
+	 * Read the class file of the class.
+	 * 
+	 * @param clazz
+	 * @return {@code null} if the class file is not found.
+	 * @throws IOException
+	 */
+	public static byte[] readClassFile(Class<?> clazz) throws IOException
+	{
+		String name = clazz.getName();
+		String resource = name.substring(name.lastIndexOf('.') + 1)
+				+ CLASS_FILE_SUFFIX;
+
+		InputStream in = clazz.getResourceAsStream(resource);
+
+		if (in == null)
+			return null;
+
+		try
+		{
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+			byte[] buffer = new byte[4096];
+			for (int len; (len = in.read(buffer)) > 0;)
+				out.write(buffer, 0, len);
+
+			return out.toByteArray();
+		}
+		finally
+		{
+			in.close();
+		}
+	}
+
+	/**
+	 * Hash the seed string and the names and class files of the classes.
+	 * 
+	 * @param seed
+	 * @param classes
+	 * @return The hex hash string, {@code null} if any class file can not be
+	 *         read.
+	 */
+	public static String hashClassFiles(String seed,
+			Collection<Class<?>> classes)
+	{
+		try
+		{
+			MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+
+			digest.update(seed.getBytes("UTF-8"));
+
+			for (Class<?> clazz : classes)
+			{
+				byte[] bytes = readClassFile(clazz);
+
+				if (bytes == null)
+					return null;
+
+				digest.update(clazz.getName().getBytes("UTF-8"));
+				digest.update(bytes);
+			}
+
+			return toHex(digest.digest());
+		}
+		catch (NoSuchAlgorithmException e)
+		{
+			return null;
+		}
+		catch (IOException e)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * Get the fingerprint of the class path.
+	 * <p>
+	 * It hashes the path, length and last modified time of each jar and
+	 * each file in directories of the class path, so it changes if any of
+	 * them is added, removed or modified.
+	 * </p>
+	 * 
+	 * @param classPath
+	 *            The class path, entries separated by
+	 *            {@linkplain File#pathSeparator}.
+	 * @return The hex hash string, {@code null} if not available.
+	 */
+	public static String getClassPathFingerprint(String classPath)
+	{
+		if (classPath == null)
+			return null;
+
+		try
+		{
+			MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+
+			for (String entry : classPath.split(File.pathSeparator))
+			{
+				if (entry.length() > 0)
+					updateFingerprint(digest, new File(entry));
+			}
+
+			return toHex(digest.digest());
+		}
+		catch (NoSuchAlgorithmException e)
+		{
+			return null;
+		}
+		catch (IOException e)
+		{
+			return null;
+		}
+	}
+
+	private static void updateFingerprint(MessageDigest digest, File file)
+			throws IOException
+	{
+		digest.update(file.getPath().getBytes("UTF-8"));
+
+		if (file.isDirectory())
+		{
+			File[] children = file.listFiles();
+
+			if (children == null)
+				return;
+
+			Arrays.sort(children);
+
+			for (File child : children)
+				updateFingerprint(digest, child);
+		}
+		else
+		{
+			long length = file.length();
+			long lastModified = file.lastModified();
+
+			for (int i = 0; i < 8; i++)
+				digest.update((byte) (length >>> (i * 8)));
+			for (int i = 0; i < 8; i++)
+				digest.update((byte) (lastModified >>> (i * 8)));
+		}
+	}
+
+	/**
+	 * Sort classes by their names.
+	 * 
+	 * @param classes
+	 * @return A new sorted list.
+	 */
+	public static List<Class<?>> sortByName(Collection<Class<?>> classes)
+	{
+		List<Class<?>> re = new ArrayList<Class<?>>(classes);
+
+		Collections.sort(re, new Comparator<Class<?>>()
+		{
+			@Override
+			public int compare(Class<?> o1, Class<?> o2)
+			{
+				return o1.getName().compareTo(o2.getName());
+			}
+		});
+
+		return re;
+	}
+
+	/**
+	 * Convert bytes to lower case hex string.
+	 * 
+	 * @param bytes
+	 * @return
+	 */
+	public static String toHex(byte[] bytes)
+	{
+		StringBuilder sb = new StringBuilder(bytes.length * 2);
+
+		for (byte b : bytes)
+		{
+			sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+			sb.append(Character.forDigit(b & 0xF, 16));
+		}
+
+		return sb.toString();
+	}
+}
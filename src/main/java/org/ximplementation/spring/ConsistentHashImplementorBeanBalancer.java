@@ -0,0 +1,213 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Consistent hash {@linkplain ImplementorBeanBalancer} by a key parameter.
+ * <p>
+ * Each bean is placed on a hash ring by {@linkplain #getVirtualNodes()}
+ * virtual nodes derived from its index, and a key is mapped to the first
+ * node clockwise from its hash. The ring is precomputed for binary search
+ * lookup, and it is rebuilt when the bean count changes. Because beans of an
+ * <i>implementor</i> are only appended and the node positions depend only on
+ * the bean index, an added bean only takes over the keys of its own nodes.
+ * </p>
+ * <p>
+ * The key is hashed by its {@linkplain Object#hashCode()}, and {@code null}
+ * keys are mapped to the first bean.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see KeyAffinity
+ */
+public class ConsistentHashImplementorBeanBalancer
+		implements ImplementorBeanBalancer
+{
+	private final int paramIndex;
+
+	private final int virtualNodes;
+
+	private final ConcurrentHashMap<Class<?>, HashRing> rings = new ConcurrentHashMap<Class<?>, HashRing>();
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param paramIndex
+	 *            The index of the key parameter.
+	 * @param virtualNodes
+	 *            The virtual node count of each bean.
+	 */
+	public ConsistentHashImplementorBeanBalancer(int paramIndex,
+			int virtualNodes)
+	{
+		super();
+
+		if (paramIndex < 0)
+			throw new IllegalArgumentException("[paramIndex] must be >= 0");
+		if (virtualNodes < 1)
+			throw new IllegalArgumentException("[virtualNodes] must be > 0");
+
+		this.paramIndex = paramIndex;
+		this.virtualNodes = virtualNodes;
+	}
+
+	public int getParamIndex()
+	{
+		return paramIndex;
+	}
+
+	public int getVirtualNodes()
+	{
+		return virtualNodes;
+	}
+
+	@Override
+	public int select(Class<?> implementor, int beanCount,
+			Object[] invocationParams)
+	{
+		Object key = (invocationParams.length > this.paramIndex
+				? invocationParams[this.paramIndex] : null);
+
+		if (key == null)
+			return 0;
+
+		return getHashRing(implementor, beanCount).lookup(mix(key.hashCode()));
+	}
+
+	@Override
+	public AtomicInteger getInFlightCounter(Class<?> implementor,
+			int beanIndex)
+	{
+		return null;
+	}
+
+	/**
+	 * Get the {@linkplain HashRing} of the <i>implementor</i> for the bean
+	 * count, build it if not exists or the bean count is changed.
+	 * 
+	 * @param implementor
+	 * @param beanCount
+	 * @return
+	 */
+	protected HashRing getHashRing(Class<?> implementor, int beanCount)
+	{
+		HashRing ring = this.rings.get(implementor);
+
+		if (ring == null || ring.getBeanCount() != beanCount)
+		{
+			ring = new HashRing(beanCount, this.virtualNodes);
+			this.rings.put(implementor, ring);
+		}
+
+		return ring;
+	}
+
+	/**
+	 * Mix the bits of a hash, the MurmurHash3 finalizer.
+	 * 
+	 * @param hash
+	 * @return
+	 */
+	protected static int mix(int hash)
+	{
+		hash ^= (hash >>> 16);
+		hash *= 0x85ebca6b;
+		hash ^= (hash >>> 13);
+		hash *= 0xc2b2ae35;
+		hash ^= (hash >>> 16);
+
+		return hash;
+	}
+
+	/**
+	 * Immutable hash ring of bean indexes.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 * 
+	 */
+	protected static class HashRing
+	{
+		private final int beanCount;
+
+		/** sorted node hashes */
+		private final int[] hashes;
+
+		/** bean index of each node */
+		private final int[] beanIndexes;
+
+		public HashRing(int beanCount, int virtualNodes)
+		{
+			super();
+			this.beanCount = beanCount;
+
+			int size = beanCount * virtualNodes;
+
+			long[] nodes = new long[size];
+
+			for (int i = 0; i < beanCount; i++)
+			{
+				for (int j = 0; j < virtualNodes; j++)
+				{
+					int hash = mix(mix(i) * 31 + j);
+
+					// hash in high bits for sorting, bean index in low bits
+					nodes[i * virtualNodes + j] = (((long) hash) << 32)
+							| (i & 0xffffffffL);
+				}
+			}
+
+			Arrays.sort(nodes);
+
+			this.hashes = new int[size];
+			this.beanIndexes = new int[size];
+
+			for (int i = 0; i < size; i++)
+			{
+				this.hashes[i] = (int) (nodes[i] >> 32);
+				this.beanIndexes[i] = (int) nodes[i];
+			}
+		}
+
+		public int getBeanCount()
+		{
+			return beanCount;
+		}
+
+		/**
+		 * Get the bean index of the first node clockwise from the hash.
+		 * 
+		 * @param hash
+		 * @return
+		 */
+		public int lookup(int hash)
+		{
+			int index = Arrays.binarySearch(this.hashes, hash);
+
+			if (index < 0)
+				index = -index - 1;
+
+			if (index == this.hashes.length)
+				index = 0;
+
+			return this.beanIndexes[index];
+		}
+	}
+}
@@ -0,0 +1,322 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Dispatch profile of an <i>implementee method</i> for an invocation parameter
+ * types.
+ * <p>
+ * It counts how often each candidate {@linkplain ImplementMethodInvoker} is
+ * selected, and reorders the candidates by their counts every
+ * {@linkplain #getReorderInterval()} selections, so the likely selected one
+ * is evaluated first. Only the adjacent candidates which have the same static
+ * priority and none of them is more specific than another are reordered.
+ * </p>
+ * <p>
+ * Reordering only changes the evaluation order but not the selected one : if
+ * more than one candidates of a group are valid for an invocation, the first
+ * one in the original order still wins, see
+ * {@linkplain #isStaticallyBefore(ImplementMethodInvoker, ImplementMethodInvoker)}.
+ * </p>
+ * <p>
+ * Note that this class is thread-safe and can be accessed by multiple threads.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see ImplementeeMethodInvoker
+ */
+public class DispatchProfile
+{
+	private final ImplementMethodInvoker[] candidates;
+
+	/** end index of the reorderable group each candidate belongs to */
+	private final int[] groupEnds;
+
+	private final int reorderInterval;
+
+	private final AtomicLongArray selectedCounts;
+
+	private final AtomicLong totalCount = new AtomicLong(0);
+
+	private volatile ImplementMethodInvoker[] orderedCandidates;
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param candidates
+	 *            The candidate {@linkplain ImplementMethodInvoker}s in
+	 *            evaluation order.
+	 * @param reorderInterval
+	 *            The selection count interval of reordering.
+	 */
+	public DispatchProfile(ImplementMethodInvoker[] candidates,
+			int reorderInterval)
+	{
+		super();
+
+		if (reorderInterval < 1)
+			throw new IllegalArgumentException(
+					"[reorderInterval] must be > 0");
+
+		this.candidates = candidates;
+		this.groupEnds = resolveGroupEnds(candidates);
+		this.reorderInterval = reorderInterval;
+		this.selectedCounts = new AtomicLongArray(candidates.length);
+		this.orderedCandidates = candidates;
+	}
+
+	/**
+	 * Get the candidates in original evaluation order.
+	 * 
+	 * @return
+	 */
+	public ImplementMethodInvoker[] getCandidates()
+	{
+		return candidates;
+	}
+
+	/**
+	 * Get the candidates in profiled evaluation order.
+	 * 
+	 * @return
+	 */
+	public ImplementMethodInvoker[] getOrderedCandidates()
+	{
+		return orderedCandidates;
+	}
+
+	public int getReorderInterval()
+	{
+		return reorderInterval;
+	}
+
+	/**
+	 * Get the selected count of the candidate.
+	 * 
+	 * @param candidate
+	 * @return
+	 */
+	public long getSelectedCount(ImplementMethodInvoker candidate)
+	{
+		int index = indexOf(candidate);
+
+		return (index < 0 ? 0 : this.selectedCounts.get(index));
+	}
+
+	/**
+	 * Add to the selected count of the candidate.
+	 * <p>
+	 * It does not reorder the candidates.
+	 * </p>
+	 * 
+	 * @param candidate
+	 * @param count
+	 */
+	public void addSelectedCount(ImplementMethodInvoker candidate, long count)
+	{
+		int index = indexOf(candidate);
+
+		if (index < 0)
+			return;
+
+		this.selectedCounts.addAndGet(index, count);
+		this.totalCount.addAndGet(count);
+	}
+
+	/**
+	 * Record a selection of the candidate.
+	 * 
+	 * @param candidate
+	 */
+	public void recordSelected(ImplementMethodInvoker candidate)
+	{
+		int index = indexOf(candidate);
+
+		if (index < 0)
+			return;
+
+		this.selectedCounts.incrementAndGet(index);
+
+		if (this.totalCount.incrementAndGet() % this.reorderInterval == 0)
+			reorder();
+	}
+
+	/**
+	 * Reorder the candidates by their selected counts.
+	 */
+	public void reorder()
+	{
+		int length = this.candidates.length;
+
+		ImplementMethodInvoker[] ordered = new ImplementMethodInvoker[length];
+		long[] counts = new long[length];
+
+		for (int i = 0; i < length; i++)
+		{
+			ordered[i] = this.candidates[i];
+			counts[i] = this.selectedCounts.get(i);
+		}
+
+		int start = 0;
+		while (start < length)
+		{
+			int end = this.groupEnds[start];
+
+			// stable insertion sort in descending count order
+			for (int i = start + 1; i < end; i++)
+			{
+				ImplementMethodInvoker invoker = ordered[i];
+				long count = counts[i];
+
+				int j = i;
+				for (; j > start && counts[j - 1] < count; j--)
+				{
+					ordered[j] = ordered[j - 1];
+					counts[j] = counts[j - 1];
+				}
+
+				ordered[j] = invoker;
+				counts[j] = count;
+			}
+
+			start = end;
+		}
+
+		this.orderedCandidates = ordered;
+	}
+
+	/**
+	 * Return if the two candidates are in the same reorderable group.
+	 * 
+	 * @param one
+	 * @param another
+	 * @return
+	 */
+	public boolean isInSameGroup(ImplementMethodInvoker one,
+			ImplementMethodInvoker another)
+	{
+		int oneIndex = indexOf(one);
+		int anotherIndex = indexOf(another);
+
+		return (oneIndex > -1 && anotherIndex > -1
+				&& this.groupEnds[oneIndex] == this.groupEnds[anotherIndex]);
+	}
+
+	/**
+	 * Return if the candidate is before another one of the same reorderable
+	 * group in the original evaluation order.
+	 * <p>
+	 * If the another one is valid and evaluated first because of reordering,
+	 * the candidate must still be evaluated and wins if it is valid too.
+	 * </p>
+	 * 
+	 * @param candidate
+	 * @param another
+	 * @return
+	 */
+	public boolean isStaticallyBefore(ImplementMethodInvoker candidate,
+			ImplementMethodInvoker another)
+	{
+		int index = indexOf(candidate);
+		int anotherIndex = indexOf(another);
+
+		return (index > -1 && anotherIndex > -1 && index < anotherIndex
+				&& this.groupEnds[index] == this.groupEnds[anotherIndex]);
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName() + " [totalCount="
+				+ this.totalCount.get() + ", orderedCandidates="
+				+ Arrays.toString(this.orderedCandidates) + "]";
+	}
+
+	protected int indexOf(ImplementMethodInvoker candidate)
+	{
+		for (int i = 0; i < this.candidates.length; i++)
+		{
+			if (this.candidates[i] == candidate)
+				return i;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Resolve the end index of the reorderable group of each candidate.
+	 * 
+	 * @param candidates
+	 * @return
+	 */
+	protected int[] resolveGroupEnds(ImplementMethodInvoker[] candidates)
+	{
+		int[] re = new int[candidates.length];
+
+		int start = 0;
+		while (start < candidates.length)
+		{
+			List<ImplementMethodInvoker> group = new ArrayList<ImplementMethodInvoker>();
+			group.add(candidates[start]);
+
+			int end = start + 1;
+			while (end < candidates.length
+					&& isReorderable(group, candidates[end]))
+			{
+				group.add(candidates[end]);
+				end++;
+			}
+
+			for (int i = start; i < end; i++)
+				re[i] = end;
+
+			start = end;
+		}
+
+		return re;
+	}
+
+	/**
+	 * Return if the candidate can be reordered with the group.
+	 * 
+	 * @param group
+	 * @param candidate
+	 * @return
+	 */
+	protected boolean isReorderable(List<ImplementMethodInvoker> group,
+			ImplementMethodInvoker candidate)
+	{
+		if (candidate.hasPriorityMethod())
+			return false;
+
+		for (ImplementMethodInvoker member : group)
+		{
+			if (member.hasPriorityMethod()
+					|| member.getMaxPriority() != candidate.getMaxPriority()
+					|| member.isMoreSpecificThan(candidate)
+					|| candidate.isMoreSpecificThan(member))
+				return false;
+		}
+
+		return true;
+	}
+}
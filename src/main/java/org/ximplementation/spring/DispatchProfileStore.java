@@ -0,0 +1,501 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.ximplementation.spring.ImplementeeMethodInvoker.ParamTypesKey;
+import org.ximplementation.support.Implementation;
+
+/**
+ * File store of {@linkplain DispatchProfile}s.
+ * <p>
+ * It {@linkplain #save(InvokerImplementeeMethodInvocationFactory) saves} the
+ * invocation parameter types of all parameter type matched caches, and the
+ * selected counts of the {@linkplain DispatchProfile}s of them if adaptive,
+ * into a compact file. The file is
+ * {@linkplain #load() loaded} at startup and
+ * {@linkplain #apply(Implementation, Map) applied} to the
+ * {@linkplain ImplementeeMethodInvoker}s when they are created, which
+ * pre-populates their parameter type matched caches and evaluation orders, so
+ * new instances start warm.
+ * </p>
+ * <p>
+ * The stored counts are multiplied by {@linkplain #getDecayFactor()} when
+ * loaded, because the live counts, which include the loaded ones, are saved
+ * again, so old invocation history fades out across restarts instead of
+ * accumulating forever.
+ * </p>
+ * <p>
+ * Records whose <i>implementee method</i>, parameter types or
+ * <i>implementor</i>s no longer exist are ignored.
+ * </p>
+ * <p>
+ * Note that this class is thread-safe and can be accessed by multiple threads.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see DispatchProfile
+ */
+public class DispatchProfileStore
+{
+	private static final int MAGIC = 0x58445046;
+
+	private static final int VERSION = 1;
+
+	private static final String NULL_TYPE = "";
+
+	private final File file;
+
+	private double decayFactor = 0.5;
+
+	/** implementee class name -> records */
+	private final ConcurrentHashMap<String, List<ProfileRecord>> loadedRecords = new ConcurrentHashMap<String, List<ProfileRecord>>();
+
+	public DispatchProfileStore(File file)
+	{
+		super();
+		this.file = file;
+	}
+
+	public File getFile()
+	{
+		return file;
+	}
+
+	public double getDecayFactor()
+	{
+		return decayFactor;
+	}
+
+	/**
+	 * Set the factor which the stored counts are multiplied by when
+	 * {@linkplain #load() loaded}, in {@code [0, 1]}. {@code 1} keeps all
+	 * history, {@code 0} keeps only the parameter types. Default is
+	 * {@code 0.5}.
+	 * 
+	 * @param decayFactor
+	 */
+	public void setDecayFactor(double decayFactor)
+	{
+		if (decayFactor < 0 || decayFactor > 1)
+			throw new IllegalArgumentException(
+					"[decayFactor] must be in [0, 1]");
+
+		this.decayFactor = decayFactor;
+	}
+
+	/**
+	 * Load the store file.
+	 * 
+	 * @return {@code false} if the file does not exist or is not a valid
+	 *         store file.
+	 * @throws IOException
+	 */
+	public boolean load() throws IOException
+	{
+		if (!this.file.isFile())
+			return false;
+
+		DataInputStream in = new DataInputStream(
+				new BufferedInputStream(new FileInputStream(this.file)));
+
+		try
+		{
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+				return false;
+
+			Map<String, List<ProfileRecord>> records = new ConcurrentHashMap<String, List<ProfileRecord>>();
+
+			int recordCount = in.readInt();
+			for (int i = 0; i < recordCount; i++)
+			{
+				String implementee = in.readUTF();
+				ProfileRecord record = readRecord(in);
+
+				List<ProfileRecord> list = records.get(implementee);
+				if (list == null)
+				{
+					list = new ArrayList<ProfileRecord>();
+					records.put(implementee, list);
+				}
+
+				list.add(record);
+			}
+
+			this.loadedRecords.clear();
+			this.loadedRecords.putAll(records);
+
+			return true;
+		}
+		catch (EOFException e)
+		{
+			// truncated file
+			return false;
+		}
+		finally
+		{
+			in.close();
+		}
+	}
+
+	/**
+	 * Apply the loaded records to the {@linkplain ImplementeeMethodInvoker}s
+	 * of the {@linkplain Implementation}.
+	 * 
+	 * @param implementation
+	 * @param implementeeMethodInvokers
+	 */
+	public void apply(Implementation<?> implementation,
+			Map<Method, ImplementeeMethodInvoker> implementeeMethodInvokers)
+	{
+		Class<?> implementee = implementation.getImplementee();
+
+		List<ProfileRecord> records = this.loadedRecords
+				.get(implementee.getName());
+
+		if (records == null)
+			return;
+
+		for (ImplementeeMethodInvoker implementeeMethodInvoker : implementeeMethodInvokers
+				.values())
+		{
+			String implementeeMethod = implementeeMethodInvoker
+					.getImplementeeMethod().toString();
+
+			for (ProfileRecord record : records)
+			{
+				if (!record.getImplementeeMethod().equals(implementeeMethod))
+					continue;
+
+				ParamTypesKey key = toParamTypesKey(record.getParamTypes(),
+						implementee.getClassLoader());
+
+				if (key == null)
+					continue;
+
+				applyRecord(implementeeMethodInvoker, key, record);
+			}
+		}
+	}
+
+	/**
+	 * Save the parameter type matched caches and all
+	 * {@linkplain DispatchProfile}s of the
+	 * {@linkplain InvokerImplementeeMethodInvocationFactory} to the store
+	 * file.
+	 * <p>
+	 * The records of the parameter types without {@linkplain DispatchProfile}
+	 * , which is the case if not adaptive, have zero counts, and only warm the
+	 * parameter type matched caches when applied.
+	 * </p>
+	 * 
+	 * @param factory
+	 * @throws IOException
+	 */
+	public void save(InvokerImplementeeMethodInvocationFactory factory)
+			throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+
+		int recordCount = 0;
+		ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+		DataOutputStream recordOut = new DataOutputStream(recordBytes);
+
+		for (Map.Entry<Implementation<?>, Map<Method, ImplementeeMethodInvoker>> entry : factory
+				.getImplementeeMethodInvokersMap().entrySet())
+		{
+			String implementee = entry.getKey().getImplementee().getName();
+
+			for (ImplementeeMethodInvoker implementeeMethodInvoker : entry
+					.getValue().values())
+			{
+				Map<ParamTypesKey, DispatchProfile> profiles = implementeeMethodInvoker
+						.getDispatchProfiles();
+
+				for (Map.Entry<ParamTypesKey, DispatchProfile> profileEntry : profiles
+						.entrySet())
+				{
+					recordOut.writeUTF(implementee);
+					writeRecord(recordOut, implementeeMethodInvoker,
+							profileEntry.getKey(), profileEntry.getValue());
+					recordCount++;
+				}
+
+				for (ParamTypesKey key : implementeeMethodInvoker
+						.getParamTypeMatchedKeys())
+				{
+					if (profiles.containsKey(key))
+						continue;
+
+					recordOut.writeUTF(implementee);
+					writeRecord(recordOut, implementeeMethodInvoker, key, null);
+					recordCount++;
+				}
+			}
+		}
+
+		recordOut.flush();
+
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(recordCount);
+		recordBytes.writeTo(out);
+		out.flush();
+
+		writeFile(bytes.toByteArray());
+	}
+
+	/**
+	 * Write the content to the store file.
+	 * <p>
+	 * The content is written to a temporary file in the same directory first
+	 * and then renamed to the store file, so a concurrent or crashed save never
+	 * leaves a partially written file.
+	 * </p>
+	 * 
+	 * @param content
+	 * @throws IOException
+	 */
+	protected void writeFile(byte[] content) throws IOException
+	{
+		File parent = this.file.getAbsoluteFile().getParentFile();
+		if (!parent.exists())
+			parent.mkdirs();
+
+		File tmpFile = File.createTempFile(this.file.getName(), ".tmp",
+				parent);
+
+		try
+		{
+			OutputStream out = new FileOutputStream(tmpFile);
+			try
+			{
+				out.write(content);
+			}
+			finally
+			{
+				out.close();
+			}
+
+			// renaming to an existing file fails on some platforms
+			if (!tmpFile.renameTo(this.file)
+					&& !(this.file.delete() && tmpFile.renameTo(this.file)))
+				throw new IOException("Rename [" + tmpFile + "] to ["
+						+ this.file + "] failed");
+		}
+		finally
+		{
+			if (tmpFile.exists())
+				tmpFile.delete();
+		}
+	}
+
+	/**
+	 * Write a record.
+	 * 
+	 * @param out
+	 * @param implementeeMethodInvoker
+	 * @param key
+	 * @param profile
+	 *            {@code null} if none, the counts are zero.
+	 * @throws IOException
+	 */
+	protected void writeRecord(DataOutputStream out,
+			ImplementeeMethodInvoker implementeeMethodInvoker,
+			ParamTypesKey key, DispatchProfile profile) throws IOException
+	{
+		out.writeUTF(implementeeMethodInvoker.getImplementeeMethod().toString());
+
+		Class<?>[] paramTypes = key.getParamTypes();
+		out.writeInt(paramTypes.length);
+		for (Class<?> paramType : paramTypes)
+			out.writeUTF(paramType == null ? NULL_TYPE : paramType.getName());
+
+		ImplementMethodInvoker[] candidates = (profile == null
+				? implementeeMethodInvoker.getParamTypeMatched(key)
+				: profile.getCandidates());
+		out.writeInt(candidates.length);
+		for (ImplementMethodInvoker candidate : candidates)
+		{
+			out.writeUTF(candidate.getImplementor().getName());
+			out.writeUTF(candidate.getImplementMethod().toString());
+			out.writeLong(profile == null ? 0
+					: profile.getSelectedCount(candidate));
+		}
+	}
+
+	protected ProfileRecord readRecord(DataInputStream in) throws IOException
+	{
+		String implementeeMethod = in.readUTF();
+
+		String[] paramTypes = new String[in.readInt()];
+		for (int i = 0; i < paramTypes.length; i++)
+			paramTypes[i] = in.readUTF();
+
+		int candidateCount = in.readInt();
+		String[] implementors = new String[candidateCount];
+		String[] implementMethods = new String[candidateCount];
+		long[] counts = new long[candidateCount];
+		for (int i = 0; i < candidateCount; i++)
+		{
+			implementors[i] = in.readUTF();
+			implementMethods[i] = in.readUTF();
+			counts[i] = (long) (in.readLong() * this.decayFactor);
+		}
+
+		return new ProfileRecord(implementeeMethod, paramTypes, implementors,
+				implementMethods, counts);
+	}
+
+	/**
+	 * Apply a record to the {@linkplain ImplementeeMethodInvoker}.
+	 * 
+	 * @param implementeeMethodInvoker
+	 * @param key
+	 * @param record
+	 */
+	protected void applyRecord(
+			ImplementeeMethodInvoker implementeeMethodInvoker,
+			ParamTypesKey key, ProfileRecord record)
+	{
+		DispatchProfile profile = implementeeMethodInvoker
+				.getDispatchProfile(key);
+
+		// only warm the parameter type matched cache if not adaptive
+		if (profile == null)
+		{
+			implementeeMethodInvoker.getParamTypeMatched(key);
+			return;
+		}
+
+		for (ImplementMethodInvoker candidate : profile.getCandidates())
+		{
+			long count = record.getCount(candidate.getImplementor().getName(),
+					candidate.getImplementMethod().toString());
+
+			if (count > 0)
+				profile.addSelectedCount(candidate, count);
+		}
+
+		profile.reorder();
+	}
+
+	/**
+	 * Convert class names to {@linkplain ParamTypesKey}.
+	 * 
+	 * @param paramTypes
+	 * @param classLoader
+	 * @return {@code null} if any class is not found.
+	 */
+	protected ParamTypesKey toParamTypesKey(String[] paramTypes,
+			ClassLoader classLoader)
+	{
+		Class<?>[] classes = new Class<?>[paramTypes.length];
+
+		for (int i = 0; i < paramTypes.length; i++)
+		{
+			if (NULL_TYPE.equals(paramTypes[i]))
+				continue;
+
+			try
+			{
+				classes[i] = Class.forName(paramTypes[i], false, classLoader);
+			}
+			catch (ClassNotFoundException e)
+			{
+				return null;
+			}
+		}
+
+		return new ParamTypesKey(classes);
+	}
+
+	/**
+	 * Stored record of a {@linkplain DispatchProfile}.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 * 
+	 */
+	protected static class ProfileRecord
+	{
+		private final String implementeeMethod;
+
+		private final String[] paramTypes;
+
+		private final String[] implementors;
+
+		private final String[] implementMethods;
+
+		private final long[] counts;
+
+		public ProfileRecord(String implementeeMethod, String[] paramTypes,
+				String[] implementors, String[] implementMethods, long[] counts)
+		{
+			super();
+			this.implementeeMethod = implementeeMethod;
+			this.paramTypes = paramTypes;
+			this.implementors = implementors;
+			this.implementMethods = implementMethods;
+			this.counts = counts;
+		}
+
+		public String getImplementeeMethod()
+		{
+			return implementeeMethod;
+		}
+
+		public String[] getParamTypes()
+		{
+			return paramTypes;
+		}
+
+		/**
+		 * Get the stored count of the candidate.
+		 * 
+		 * @param implementor
+		 * @param implementMethod
+		 * @return {@code 0} if not stored.
+		 */
+		public long getCount(String implementor, String implementMethod)
+		{
+			for (int i = 0; i < this.implementors.length; i++)
+			{
+				if (this.implementors[i].equals(implementor)
+						&& this.implementMethods[i].equals(implementMethod))
+					return this.counts[i];
+			}
+
+			return 0;
+		}
+	}
+}
@@ -15,8 +15,14 @@
 package org.ximplementation.spring;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.ximplementation.support.EditableImplementorBeanFactory;
 
@@ -26,6 +32,16 @@ import org.ximplementation.support.EditableImplementorBeanFactory;
  * It can add {@linkplain BeanHolder} objects for supporting Spring beans, and
  * they will be unpacked in {@linkplain #getImplementorBeans(Class)}.
  * </p>
+ * <p>
+ * The <i>implementor</i> beans are kept in an immutable map which is
+ * replaced as a whole when adding, so <i>implementor</i> beans can be added
+ * at runtime, and concurrent readers never block nor see a partial state.
+ * </p>
+ * <p>
+ * <i>Implementor</i>s can be disabled and enabled at runtime by
+ * {@linkplain #setEnabled(Class, boolean)} in the same way, the beans of a
+ * disabled <i>implementor</i> are kept but not returned.
+ * </p>
  * 
  * @author earthangry@gmail.com
  * @date 2016-11-10
@@ -34,11 +50,136 @@ import org.ximplementation.support.EditableImplementorBeanFactory;
 public class EditableImplementorBeanHolderFactory
 		extends EditableImplementorBeanFactory
 {
+	/** implementor -> beans, replaced as a whole when adding */
+	private volatile Map<Class<?>, List<Object>> allImplementorBeansMap = Collections
+			.emptyMap();
+
+	private volatile Set<Class<?>> disabledImplementors = Collections
+			.emptySet();
+
+	/** enabled implementor -> beans, the view for readers */
+	private volatile Map<Class<?>, List<Object>> implementorBeansMap = Collections
+			.emptyMap();
+
 	public EditableImplementorBeanHolderFactory()
 	{
 		super();
 	}
 
+	@Override
+	public boolean add(Class<?> implementor, Object... implementorBeans)
+	{
+		Map<Class<?>, List<Object>> beansMap = new HashMap<Class<?>, List<Object>>();
+		beansMap.put(implementor, Arrays.asList(implementorBeans));
+
+		addAll(beansMap);
+
+		return true;
+	}
+
+	/**
+	 * Add <i>implementor</i> beans in one replacement.
+	 * 
+	 * @param implementorBeansMap
+	 */
+	public synchronized void addAll(
+			Map<Class<?>, List<Object>> implementorBeansMap)
+	{
+		Map<Class<?>, List<Object>> newMap = new HashMap<Class<?>, List<Object>>(
+				this.allImplementorBeansMap);
+
+		for (Map.Entry<Class<?>, List<Object>> entry : implementorBeansMap
+				.entrySet())
+		{
+			List<Object> beans = newMap.get(entry.getKey());
+
+			List<Object> newBeans = (beans == null ? new ArrayList<Object>()
+					: new ArrayList<Object>(beans));
+			newBeans.addAll(entry.getValue());
+
+			newMap.put(entry.getKey(), Collections.unmodifiableList(newBeans));
+		}
+
+		this.allImplementorBeansMap = Collections.unmodifiableMap(newMap);
+		this.implementorBeansMap = createEnabledImplementorBeansMap(
+				this.allImplementorBeansMap, this.disabledImplementors);
+	}
+
+	/**
+	 * Return if the <i>implementor</i> is enabled.
+	 * 
+	 * @param implementor
+	 * @return
+	 */
+	public boolean isEnabled(Class<?> implementor)
+	{
+		return !this.disabledImplementors.contains(implementor);
+	}
+
+	/**
+	 * Enable or disable the <i>implementor</i>, its beans are not returned by
+	 * {@linkplain #getImplementorBeans(Class)} when disabled.
+	 * 
+	 * @param implementor
+	 * @param enabled
+	 * @return {@code true} if the state is changed, {@code false} if it is
+	 *         already in the state.
+	 */
+	public synchronized boolean setEnabled(Class<?> implementor,
+			boolean enabled)
+	{
+		if (isEnabled(implementor) == enabled)
+			return false;
+
+		Set<Class<?>> disabled = new HashSet<Class<?>>(
+				this.disabledImplementors);
+
+		if (enabled)
+			disabled.remove(implementor);
+		else
+			disabled.add(implementor);
+
+		this.disabledImplementors = Collections.unmodifiableSet(disabled);
+		this.implementorBeansMap = createEnabledImplementorBeansMap(
+				this.allImplementorBeansMap, this.disabledImplementors);
+
+		return true;
+	}
+
+	/**
+	 * Create the <i>implementor</i> beans map without the disabled
+	 * <i>implementor</i>s.
+	 * 
+	 * @param allImplementorBeansMap
+	 * @param disabledImplementors
+	 * @return
+	 */
+	protected Map<Class<?>, List<Object>> createEnabledImplementorBeansMap(
+			Map<Class<?>, List<Object>> allImplementorBeansMap,
+			Set<Class<?>> disabledImplementors)
+	{
+		if (disabledImplementors.isEmpty())
+			return allImplementorBeansMap;
+
+		Map<Class<?>, List<Object>> re = new HashMap<Class<?>, List<Object>>(
+				allImplementorBeansMap);
+		re.keySet().removeAll(disabledImplementors);
+
+		return Collections.unmodifiableMap(re);
+	}
+
+	@Override
+	protected List<Object> getImplementorBeansList(Class<?> implementor)
+	{
+		return this.implementorBeansMap.get(implementor);
+	}
+
+	@Override
+	protected Map<Class<?>, List<Object>> getImplementorBeansMap()
+	{
+		return this.implementorBeansMap;
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> Collection<T> getImplementorBeans(Class<T> implementor)
@@ -0,0 +1,81 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fan-out <i>implementee method</i> annotation.
+ * <p>
+ * An <i>implementee method</i> annotated with it will invoke all valid
+ * <i>implement method</i>s in parallel but not only the highest priority one,
+ * and combine their results by the {@linkplain #aggregator()}.
+ * </p>
+ * <p>
+ * The <i>implement method</i>s are invoked in the executor of
+ * {@linkplain InvokerImplementeeMethodInvocationFactory#getAsyncExecutor()},
+ * or in the caller thread one by one if it is not set.
+ * </p>
+ * <p>
+ * Examples :
+ * </p>
+ * 
+ * <pre>
+ * public interface QuoteService
+ * {
+ * 	&#64;FanOut(aggregator = MergeResultAggregator.class, timeout = 500)
+ * 	List&lt;Quote&gt; query(String product);
+ * }
+ * </pre>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see FanOutImplementeeMethodInvocation
+ * @see ResultAggregator
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface FanOut
+{
+	/**
+	 * The {@linkplain ResultAggregator} for combining the results, it must
+	 * have a public no-argument constructor.
+	 * 
+	 * @return
+	 */
+	Class<? extends ResultAggregator> aggregator() default CollectResultAggregator.class;
+
+	/**
+	 * The timeout in milliseconds for waiting all results, {@code 0} for no
+	 * timeout.
+	 * 
+	 * @return
+	 */
+	long timeout() default 0;
+
+	/**
+	 * If throwing {@linkplain java.util.concurrent.TimeoutException} when
+	 * timeout, {@code false} for combining only the results returned in
+	 * time.
+	 * 
+	 * @return
+	 */
+	boolean failOnTimeout() default false;
+}
@@ -0,0 +1,277 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.ximplementation.support.ImplementeeMethodInvocation;
+
+/**
+ * Fan-out {@linkplain ImplementeeMethodInvocation}.
+ * <p>
+ * It invokes all given {@linkplain ImplementeeMethodInvocation}s in parallel
+ * in the {@linkplain Executor}, waits for them with the timeout, and combines
+ * their results by the {@linkplain ResultAggregator}. If any of them throws
+ * exception, the others are cancelled and the exception is thrown.
+ * </p>
+ * <p>
+ * If not failing on timeout, the results of the timed out invocations are
+ * {@linkplain ResultAggregator#TIMED_OUT}.
+ * </p>
+ * <p>
+ * If the {@linkplain Executor} is {@code null}, they are invoked one by one
+ * in the caller thread and the timeout is ignored.
+ * </p>
+ * <p>
+ * The {@linkplain Bulkhead} permits of the invocations which are never
+ * invoked, because they are cancelled, rejected by the
+ * {@linkplain Executor}, or after a failed one in the caller thread, are
+ * released.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see FanOut
+ */
+public class FanOutImplementeeMethodInvocation
+		implements ImplementeeMethodInvocation
+{
+	private final Method implementeeMethod;
+
+	private final List<? extends ImplementeeMethodInvocation> implementeeMethodInvocations;
+
+	private final ResultAggregator resultAggregator;
+
+	private final Executor executor;
+
+	private final long timeout;
+
+	private final boolean failOnTimeout;
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param implementeeMethod
+	 * @param implementeeMethodInvocations
+	 *            The invocations in descending priority order.
+	 * @param resultAggregator
+	 * @param executor
+	 *            The {@linkplain Executor}, may be {@code null}.
+	 * @param timeout
+	 *            The timeout in milliseconds, {@code 0} for no timeout.
+	 * @param failOnTimeout
+	 */
+	public FanOutImplementeeMethodInvocation(Method implementeeMethod,
+			List<? extends ImplementeeMethodInvocation> implementeeMethodInvocations,
+			ResultAggregator resultAggregator, Executor executor,
+			long timeout, boolean failOnTimeout)
+	{
+		super();
+		this.implementeeMethod = implementeeMethod;
+		this.implementeeMethodInvocations = implementeeMethodInvocations;
+		this.resultAggregator = resultAggregator;
+		this.executor = executor;
+		this.timeout = timeout;
+		this.failOnTimeout = failOnTimeout;
+	}
+
+	public Method getImplementeeMethod()
+	{
+		return implementeeMethod;
+	}
+
+	public List<? extends ImplementeeMethodInvocation> getImplementeeMethodInvocations()
+	{
+		return implementeeMethodInvocations;
+	}
+
+	public ResultAggregator getResultAggregator()
+	{
+		return resultAggregator;
+	}
+
+	public Executor getExecutor()
+	{
+		return executor;
+	}
+
+	public long getTimeout()
+	{
+		return timeout;
+	}
+
+	public boolean isFailOnTimeout()
+	{
+		return failOnTimeout;
+	}
+
+	@Override
+	public Object invoke() throws Throwable
+	{
+		List<Object> results = (this.executor == null ? invokeInCallerThread()
+				: invokeInExecutor());
+
+		return this.resultAggregator.aggregate(this.implementeeMethod,
+				results);
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName() + " [implementeeMethod="
+				+ implementeeMethod + ", implementeeMethodInvocations="
+				+ implementeeMethodInvocations + "]";
+	}
+
+	/**
+	 * Invoke all {@linkplain ImplementeeMethodInvocation}s in the caller
+	 * thread.
+	 * 
+	 * @return
+	 * @throws Throwable
+	 */
+	protected List<Object> invokeInCallerThread() throws Throwable
+	{
+		int size = this.implementeeMethodInvocations.size();
+
+		List<Object> results = new ArrayList<Object>(size);
+
+		for (int i = 0; i < size; i++)
+		{
+			try
+			{
+				results.add(this.implementeeMethodInvocations.get(i).invoke());
+			}
+			catch (Throwable t)
+			{
+				release(i + 1);
+				throw t;
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Invoke all {@linkplain ImplementeeMethodInvocation}s in the
+	 * {@linkplain Executor}.
+	 * 
+	 * @return
+	 * @throws Throwable
+	 */
+	protected List<Object> invokeInExecutor() throws Throwable
+	{
+		int size = this.implementeeMethodInvocations.size();
+
+		List<InvocationFutureTask> tasks = new ArrayList<InvocationFutureTask>(
+				size);
+
+		for (int i = 0; i < size; i++)
+		{
+			InvocationFutureTask task = new InvocationFutureTask(
+					new InvocationCallable(
+							this.implementeeMethodInvocations.get(i)));
+
+			tasks.add(task);
+
+			try
+			{
+				this.executor.execute(task);
+			}
+			catch (RejectedExecutionException e)
+			{
+				cancel(tasks, 0);
+				release(i + 1);
+				throw e;
+			}
+		}
+
+		long deadline = (this.timeout > 0
+				? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.timeout)
+				: 0);
+
+		List<Object> results = new ArrayList<Object>(size);
+
+		for (int i = 0; i < size; i++)
+		{
+			InvocationFutureTask task = tasks.get(i);
+
+			try
+			{
+				if (this.timeout > 0)
+					results.add(task.get(deadline - System.nanoTime(),
+							TimeUnit.NANOSECONDS));
+				else
+					results.add(task.get());
+			}
+			catch (TimeoutException e)
+			{
+				task.cancel(true);
+
+				if (this.failOnTimeout)
+				{
+					cancel(tasks, i + 1);
+					throw e;
+				}
+
+				results.add(ResultAggregator.TIMED_OUT);
+			}
+			catch (ExecutionException e)
+			{
+				cancel(tasks, i + 1);
+				throw InvocationUtil.getCause(e);
+			}
+			catch (InterruptedException e)
+			{
+				cancel(tasks, i);
+				throw e;
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Cancel the tasks from the given index, the ones which are not started
+	 * are abandoned.
+	 * 
+	 * @param tasks
+	 * @param from
+	 */
+	protected void cancel(List<InvocationFutureTask> tasks, int from)
+	{
+		for (int i = from; i < tasks.size(); i++)
+			tasks.get(i).cancel(true);
+	}
+
+	/**
+	 * Release the {@linkplain Bulkhead} permits of the invocations from the
+	 * given index, which are never invoked.
+	 * 
+	 * @param from
+	 */
+	protected void release(int from)
+	{
+		for (int i = from; i < this.implementeeMethodInvocations.size(); i++)
+			InvocationUtil.release(this.implementeeMethodInvocations.get(i));
+	}
+}
@@ -0,0 +1,156 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import net.sf.cglib.reflect.FastClass;
+import net.sf.cglib.reflect.FastMethod;
+
+/**
+ * Method invoker based on CGLIB {@linkplain FastClass}.
+ * <p>
+ * The {@linkplain FastMethod} is resolved only once when the invoker is
+ * created, and each {@linkplain #invoke(Object, Object[])} calls the generated
+ * {@linkplain FastClass} directly instead of {@linkplain Method#invoke(Object, Object...)}.
+ * </p>
+ * <p>
+ * If the method can not be handled by {@linkplain FastClass} (for example a
+ * {@code private} method), it falls back to Java reflection.
+ * </p>
+ * <p>
+ * Note that this class is thread-safe and can be accessed by multiple threads.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class FastMethodInvoker
+{
+	private final Method method;
+
+	private final FastMethod fastMethod;
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param method
+	 *            The method to be invoked.
+	 */
+	public FastMethodInvoker(Method method)
+	{
+		super();
+		this.method = method;
+		this.fastMethod = createFastMethod(method);
+
+		if (this.fastMethod == null && !this.method.isAccessible())
+			this.method.setAccessible(true);
+	}
+
+	/**
+	 * Get the method to be invoked.
+	 * 
+	 * @return
+	 */
+	public Method getMethod()
+	{
+		return method;
+	}
+
+	/**
+	 * Return if the method is invoked by CGLIB {@linkplain FastClass}.
+	 * 
+	 * @return {@code true} if yes, {@code false} if Java reflection is used.
+	 */
+	public boolean isFast()
+	{
+		return (this.fastMethod != null);
+	}
+
+	/**
+	 * Invoke the method.
+	 * <p>
+	 * The exception thrown by the method itself is thrown directly but not
+	 * wrapped by {@linkplain InvocationTargetException}.
+	 * </p>
+	 * 
+	 * @param obj
+	 *            The object the method invoked on, {@code null} for
+	 *            {@code static} methods.
+	 * @param args
+	 * @return
+	 * @throws Throwable
+	 */
+	public Object invoke(Object obj, Object[] args) throws Throwable
+	{
+		try
+		{
+			if (this.fastMethod != null)
+				return this.fastMethod.invoke(obj, args);
+			else
+				return this.method.invoke(obj, args);
+		}
+		catch (InvocationTargetException e)
+		{
+			throw e.getTargetException();
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName() + " [method=" + method + ", fast="
+				+ isFast() + "]";
+	}
+
+	/**
+	 * Create {@linkplain FastMethod} for the given method.
+	 * 
+	 * @param method
+	 * @return The {@linkplain FastMethod}, {@code null} if the method can not
+	 *         be handled by {@linkplain FastClass}.
+	 */
+	protected FastMethod createFastMethod(Method method)
+	{
+		try
+		{
+			FastClass fastClass = FastClass.create(method.getDeclaringClass());
+
+			if (fastClass.getIndex(method.getName(),
+					method.getParameterTypes()) < 0)
+				return null;
+
+			return fastClass.getMethod(method);
+		}
+		catch (Throwable t)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * Create {@linkplain FastMethodInvoker} for the given method.
+	 * 
+	 * @param method
+	 *            The method, may be {@code null}.
+	 * @return {@code null} if the method is {@code null}
+	 */
+	public static FastMethodInvoker valueOf(Method method)
+	{
+		return (method == null ? null : new FastMethodInvoker(method));
+	}
+}
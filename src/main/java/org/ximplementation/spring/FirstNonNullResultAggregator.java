@@ -0,0 +1,47 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * {@linkplain ResultAggregator} which returns the first not {@code null}
+ * result, that is, the highest priority one, the {@linkplain #TIMED_OUT}
+ * ones are ignored.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class FirstNonNullResultAggregator implements ResultAggregator
+{
+	public FirstNonNullResultAggregator()
+	{
+		super();
+	}
+
+	@Override
+	public Object aggregate(Method implementeeMethod, List<Object> results)
+	{
+		for (Object result : results)
+		{
+			if (result != null && result != TIMED_OUT)
+				return result;
+		}
+
+		return null;
+	}
+}
@@ -0,0 +1,88 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Hedged <i>implementee method</i> annotation.
+ * <p>
+ * An <i>implementee method</i> annotated with it invokes the selected
+ * <i>implement method</i> in the executor of
+ * {@linkplain InvokerImplementeeMethodInvocationFactory#getAsyncExecutor()},
+ * and if it does not return within the delay, also invokes the next valid
+ * <i>implementor</i> in priority order, and returns whichever finishes first.
+ * The delay is {@linkplain #delay()} if set, or the observed
+ * {@linkplain #percentile()} latency of the selected <i>implementor</i>
+ * otherwise.
+ * </p>
+ * <p>
+ * The executor is required, building the <i>implementee</i> bean fails with
+ * {@linkplain IllegalStateException} if it is not set. The backup
+ * <i>implementor</i> is selected only when the delay elapses, by the same
+ * rules as the selected one, including {@linkplain Bulkhead}s. Note that the
+ * <i>implement method</i>s should be idempotent because both may be invoked.
+ * </p>
+ * <p>
+ * Examples :
+ * </p>
+ * 
+ * <pre>
+ * public interface QuoteService
+ * {
+ * 	&#64;Hedged(percentile = 0.95)
+ * 	Quote query(String product);
+ * }
+ * </pre>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see HedgedImplementeeMethodInvocation
+ * @see LatencyHistogram
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Hedged
+{
+	/**
+	 * The delay in milliseconds before invoking the next valid
+	 * <i>implementor</i>, {@code 0} for the observed
+	 * {@linkplain #percentile()} latency.
+	 * 
+	 * @return
+	 */
+	long delay() default 0;
+
+	/**
+	 * The percentile of the observed latencies as the delay, in
+	 * {@code (0, 1]}.
+	 * 
+	 * @return
+	 */
+	double percentile() default 0.95;
+
+	/**
+	 * The minimum observed invocation count of the <i>implementor</i> before
+	 * hedging by the {@linkplain #percentile()} latency.
+	 * 
+	 * @return
+	 */
+	int minSamples() default 100;
+}
@@ -0,0 +1,388 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.ximplementation.support.ImplementeeMethodInvocation;
+import org.ximplementation.support.ImplementorBeanFactory;
+
+/**
+ * Hedged {@linkplain ImplementeeMethodInvocation}.
+ * <p>
+ * It invokes the primary {@linkplain InvokerImplementeeMethodInvocation} in
+ * the {@linkplain Executor}, and if it does not finish within the delay,
+ * selects the backup one of another <i>implementor</i> and invokes it too,
+ * then returns the result of whichever finishes first successfully and
+ * cancels the other. The exception of the primary one is thrown if both fail.
+ * The backup one is selected by
+ * {@linkplain ImplementeeMethodInvoker#getInvocation(Object[], ImplementorBeanFactory, Class)}
+ * only when the delay elapses, so it is not selected, and its
+ * {@linkplain Bulkhead} permit is not acquired, for the invocations which
+ * finish in time.
+ * </p>
+ * <p>
+ * The latency of each successfully finished invocation is recorded into the
+ * {@linkplain LatencyHistogram} of its <i>implementor</i>, and the elapsed
+ * time of a cancelled running one is recorded too when cancelled, so the
+ * slow <i>implementor</i>s which are always hedged do not lower their
+ * observed latencies.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see Hedged
+ */
+public class HedgedImplementeeMethodInvocation
+		implements ImplementeeMethodInvocation
+{
+	private final InvokerImplementeeMethodInvocation primary;
+
+	private final long delayNanos;
+
+	private final Executor executor;
+
+	private final ImplementeeMethodInvoker implementeeMethodInvoker;
+
+	private final ImplementorBeanFactory implementorBeanFactory;
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param primary
+	 *            The primary invocation.
+	 * @param delayNanos
+	 *            The delay in nanoseconds before invoking the backup one,
+	 *            {@code < 0} for not invoking it.
+	 * @param executor
+	 * @param implementeeMethodInvoker
+	 *            The {@linkplain ImplementeeMethodInvoker} for selecting the
+	 *            backup one and recording latencies.
+	 * @param implementorBeanFactory
+	 *            The {@linkplain ImplementorBeanFactory} for selecting the
+	 *            backup one.
+	 */
+	public HedgedImplementeeMethodInvocation(
+			InvokerImplementeeMethodInvocation primary, long delayNanos,
+			Executor executor,
+			ImplementeeMethodInvoker implementeeMethodInvoker,
+			ImplementorBeanFactory implementorBeanFactory)
+	{
+		super();
+		this.primary = primary;
+		this.delayNanos = delayNanos;
+		this.executor = executor;
+		this.implementeeMethodInvoker = implementeeMethodInvoker;
+		this.implementorBeanFactory = implementorBeanFactory;
+	}
+
+	public InvokerImplementeeMethodInvocation getPrimary()
+	{
+		return primary;
+	}
+
+	public long getDelayNanos()
+	{
+		return delayNanos;
+	}
+
+	public Executor getExecutor()
+	{
+		return executor;
+	}
+
+	@Override
+	public Object invoke() throws Throwable
+	{
+		CompletionService<Object> completionService = new ExecutorCompletionService<Object>(
+				this.executor);
+
+		TimedCallable primaryCallable = new TimedCallable(this.primary,
+				this.implementeeMethodInvoker);
+
+		Future<Object> primaryFuture = null;
+
+		try
+		{
+			primaryFuture = completionService.submit(primaryCallable);
+		}
+		catch (RejectedExecutionException e)
+		{
+			primaryCallable.abandon();
+			throw e;
+		}
+
+		if (this.delayNanos < 0)
+			return getResult(primaryFuture);
+
+		Future<Object> first = null;
+		InvokerImplementeeMethodInvocation backup = null;
+
+		try
+		{
+			first = completionService.poll(this.delayNanos,
+					TimeUnit.NANOSECONDS);
+
+			if (first == null)
+				backup = selectBackup();
+		}
+		catch (Throwable t)
+		{
+			cancel(primaryFuture, primaryCallable);
+			throw t;
+		}
+
+		if (first != null)
+			return getResult(first);
+
+		if (backup == null)
+			return getResult(primaryFuture);
+
+		TimedCallable backupCallable = new TimedCallable(backup,
+				this.implementeeMethodInvoker);
+
+		Future<Object> backupFuture = null;
+
+		try
+		{
+			backupFuture = completionService.submit(backupCallable);
+		}
+		catch (RejectedExecutionException e)
+		{
+			backupCallable.abandon();
+			return getResult(primaryFuture);
+		}
+
+		try
+		{
+			first = completionService.take();
+
+			boolean primaryFirst = (first == primaryFuture);
+			Future<Object> second = (primaryFirst ? backupFuture
+					: primaryFuture);
+
+			if (isSucceeded(first))
+			{
+				cancel(second, primaryFirst ? backupCallable : primaryCallable);
+				return first.get();
+			}
+
+			// the other one may still succeed
+			completionService.take();
+
+			if (isSucceeded(second))
+				return second.get();
+		}
+		catch (InterruptedException e)
+		{
+			cancel(primaryFuture, primaryCallable);
+			cancel(backupFuture, backupCallable);
+
+			throw e;
+		}
+
+		// both failed
+		return getResult(primaryFuture);
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName() + " [primary=" + primary
+				+ ", delayNanos=" + delayNanos + "]";
+	}
+
+	/**
+	 * Select the backup invocation of another <i>implementor</i>.
+	 * 
+	 * @return {@code null} if none, or all the others are saturated.
+	 * @throws Throwable
+	 */
+	protected InvokerImplementeeMethodInvocation selectBackup()
+			throws Throwable
+	{
+		ImplementeeMethodInvocation backup = null;
+
+		try
+		{
+			backup = this.implementeeMethodInvoker.getInvocation(
+					this.primary.getInvocationParams(),
+					this.implementorBeanFactory,
+					this.primary.getImplementMethodInvoker().getImplementor());
+		}
+		catch (ImplementorSaturatedException e)
+		{
+			return null;
+		}
+
+		if (backup == null
+				|| backup instanceof InvokerImplementeeMethodInvocation)
+			return (InvokerImplementeeMethodInvocation) backup;
+
+		throw new IllegalStateException(
+				"Not supported invocation for hedging : " + backup);
+	}
+
+	/**
+	 * Cancel the {@linkplain Future} of the {@linkplain TimedCallable}.
+	 * 
+	 * @param future
+	 * @param callable
+	 */
+	protected void cancel(Future<Object> future, TimedCallable callable)
+	{
+		future.cancel(true);
+		callable.abandon();
+	}
+
+	/**
+	 * Return if the done {@linkplain Future} succeeded.
+	 * 
+	 * @param future
+	 * @return
+	 * @throws InterruptedException
+	 */
+	protected boolean isSucceeded(Future<Object> future)
+			throws InterruptedException
+	{
+		try
+		{
+			future.get();
+			return true;
+		}
+		catch (ExecutionException e)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * Get the result of the {@linkplain Future}, throw the exception of the
+	 * invocation if failed.
+	 * 
+	 * @param future
+	 * @return
+	 * @throws Throwable
+	 */
+	protected Object getResult(Future<Object> future) throws Throwable
+	{
+		try
+		{
+			return future.get();
+		}
+		catch (ExecutionException e)
+		{
+			throw InvocationUtil.getCause(e);
+		}
+	}
+
+	/**
+	 * {@linkplain InvocationCallable} for invoking an
+	 * {@linkplain InvokerImplementeeMethodInvocation} and recording its
+	 * latency.
+	 * <p>
+	 * If it is {@linkplain #abandon() abandoned} after started, the elapsed
+	 * time is recorded if it is still running.
+	 * </p>
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 * 
+	 */
+	protected static class TimedCallable extends InvocationCallable
+	{
+		private final InvokerImplementeeMethodInvocation invocation;
+
+		private final ImplementeeMethodInvoker implementeeMethodInvoker;
+
+		private boolean finished = false;
+
+		private boolean recorded = false;
+
+		private long startNanos;
+
+		public TimedCallable(InvokerImplementeeMethodInvocation invocation,
+				ImplementeeMethodInvoker implementeeMethodInvoker)
+		{
+			super(invocation);
+			this.invocation = invocation;
+			this.implementeeMethodInvoker = implementeeMethodInvoker;
+		}
+
+		@Override
+		public synchronized boolean abandon()
+		{
+			if (super.abandon())
+				return true;
+
+			if (!this.finished)
+				recordLatency();
+
+			return false;
+		}
+
+		@Override
+		protected synchronized boolean start()
+		{
+			if (!super.start())
+				return false;
+
+			this.startNanos = System.nanoTime();
+
+			return true;
+		}
+
+		@Override
+		protected Object doCall() throws Exception
+		{
+			try
+			{
+				Object re = super.doCall();
+
+				recordLatency();
+
+				return re;
+			}
+			finally
+			{
+				finish();
+			}
+		}
+
+		protected synchronized void finish()
+		{
+			this.finished = true;
+		}
+
+		protected synchronized void recordLatency()
+		{
+			if (this.recorded)
+				return;
+
+			this.recorded = true;
+
+			this.implementeeMethodInvoker
+					.getLatencyHistogram(this.invocation
+							.getImplementMethodInvoker().getImplementor())
+					.record(System.nanoTime() - this.startNanos);
+		}
+	}
+}
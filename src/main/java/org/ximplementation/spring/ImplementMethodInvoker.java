@@ -0,0 +1,602 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.ximplementation.support.ImplementMethodInfo;
+
+/**
+ * <i>Implement method</i> invoker.
+ * <p>
+ * It holds {@linkplain FastMethodInvoker}s for the <i>implement method</i>,
+ * its <i>validity method</i> and its <i>priority method</i> of an
+ * {@linkplain ImplementMethodInfo}, they are created only once when this
+ * invoker is created, and then used for all afterwards invocations.
+ * </p>
+ * <p>
+ * The {@linkplain ValidIn} and {@linkplain ValidRange} declarative validities
+ * and the {@linkplain ValidityExpression} of the <i>implement method</i> are
+ * also resolved, they are evaluated before the <i>validity method</i>.
+ * </p>
+ * <p>
+ * Note that this class is thread-safe and can be accessed by multiple threads.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see FastMethodInvoker
+ */
+public class ImplementMethodInvoker
+{
+	private final Method implementeeMethod;
+
+	private final ImplementMethodInfo implementMethodInfo;
+
+	private final Class<?>[] paramTypes;
+
+	private final int[] paramIndexes;
+
+	private final FastMethodInvoker implementInvoker;
+
+	private final FastMethodInvoker validityInvoker;
+
+	private final int[] validityParamIndexes;
+
+	private final FastMethodInvoker priorityInvoker;
+
+	private final int[] priorityParamIndexes;
+
+	/** implement method parameter types by implementee method parameter indexes */
+	private final Class<?>[] implementeeParamTypes;
+
+	private final Set<String> validInValues;
+
+	private final int validInParamIndex;
+
+	private final ValidRange validRange;
+
+	private final int validRangeParamIndex;
+
+	private final ValidityExpressionEvaluator validityExpressionEvaluator;
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param implementeeMethod
+	 *            The <i>implementee method</i> the <i>implement method</i>
+	 *            implements.
+	 * @param implementMethodInfo
+	 */
+	public ImplementMethodInvoker(Method implementeeMethod,
+			ImplementMethodInfo implementMethodInfo)
+	{
+		super();
+		this.implementeeMethod = implementeeMethod;
+		this.implementMethodInfo = implementMethodInfo;
+		this.paramTypes = wrapPrimitiveTypes(
+				implementMethodInfo.getParamTypes());
+		this.paramIndexes = implementMethodInfo.getParamIndexes();
+		this.implementInvoker = new FastMethodInvoker(
+				implementMethodInfo.getImplementMethod());
+		this.validityInvoker = FastMethodInvoker
+				.valueOf(implementMethodInfo.getValidityMethod());
+		this.validityParamIndexes = implementMethodInfo
+				.getValidityParamIndexes();
+		this.priorityInvoker = FastMethodInvoker
+				.valueOf(implementMethodInfo.getPriorityMethod());
+		this.priorityParamIndexes = implementMethodInfo
+				.getPriorityParamIndexes();
+		this.implementeeParamTypes = toImplementeeParamTypes(
+				implementeeMethod.getParameterTypes().length);
+
+		ValidIn validIn = getImplementMethod().getAnnotation(ValidIn.class);
+		this.validInValues = (validIn == null ? null
+				: new HashSet<String>(Arrays.asList(validIn.value())));
+		this.validInParamIndex = (validIn == null ? -1
+				: toImplementeeParamIndex(validIn.param()));
+
+		this.validRange = getImplementMethod().getAnnotation(ValidRange.class);
+		this.validRangeParamIndex = (this.validRange == null ? -1
+				: toImplementeeParamIndex(this.validRange.param()));
+
+		this.validityExpressionEvaluator = ValidityExpressionEvaluator
+				.valueOf(getImplementMethod());
+	}
+
+	/**
+	 * Get the <i>implementee method</i>.
+	 * 
+	 * @return
+	 */
+	public Method getImplementeeMethod()
+	{
+		return implementeeMethod;
+	}
+
+	/**
+	 * Get the {@linkplain ImplementMethodInfo}.
+	 * 
+	 * @return
+	 */
+	public ImplementMethodInfo getImplementMethodInfo()
+	{
+		return implementMethodInfo;
+	}
+
+	/**
+	 * Get the <i>implementor</i>.
+	 * 
+	 * @return
+	 */
+	public Class<?> getImplementor()
+	{
+		return this.implementMethodInfo.getImplementor();
+	}
+
+	/**
+	 * Get the <i>implement method</i>.
+	 * 
+	 * @return
+	 */
+	public Method getImplementMethod()
+	{
+		return this.implementMethodInfo.getImplementMethod();
+	}
+
+	/**
+	 * Get the parameter types of the <i>implement method</i>, primitive types
+	 * are wrapped.
+	 * 
+	 * @return
+	 */
+	public Class<?>[] getParamTypes()
+	{
+		return paramTypes;
+	}
+
+	/**
+	 * Get the indexes in the <i>implementee method</i> parameters of the
+	 * <i>implement method</i> parameters.
+	 * 
+	 * @return
+	 */
+	public int[] getParamIndexes()
+	{
+		return paramIndexes;
+	}
+
+	/**
+	 * Return if it has <i>validity method</i>.
+	 * 
+	 * @return
+	 */
+	public boolean hasValidityMethod()
+	{
+		return (this.validityInvoker != null);
+	}
+
+	/**
+	 * Get the {@linkplain ValidIn} values.
+	 * 
+	 * @return {@code null} if not annotated.
+	 */
+	public Set<String> getValidInValues()
+	{
+		return validInValues;
+	}
+
+	/**
+	 * Get the <i>implementee method</i> parameter index of
+	 * {@linkplain ValidIn}.
+	 * 
+	 * @return {@code -1} if not annotated.
+	 */
+	public int getValidInParamIndex()
+	{
+		return validInParamIndex;
+	}
+
+	/**
+	 * Get the {@linkplain ValidRange}.
+	 * 
+	 * @return {@code null} if not annotated.
+	 */
+	public ValidRange getValidRange()
+	{
+		return validRange;
+	}
+
+	/**
+	 * Get the <i>implementee method</i> parameter index of
+	 * {@linkplain ValidRange}.
+	 * 
+	 * @return {@code -1} if not annotated.
+	 */
+	public int getValidRangeParamIndex()
+	{
+		return validRangeParamIndex;
+	}
+
+	/**
+	 * Return if it has {@linkplain ValidityExpression}.
+	 * 
+	 * @return
+	 */
+	public boolean hasValidityExpression()
+	{
+		return (this.validityExpressionEvaluator != null);
+	}
+
+	/**
+	 * Return if it has {@linkplain ValidIn} or {@linkplain ValidRange}.
+	 * 
+	 * @return
+	 */
+	public boolean hasDeclarativeValidity()
+	{
+		return (this.validInValues != null || this.validRange != null);
+	}
+
+	/**
+	 * Evaluate the {@linkplain ValidIn} and {@linkplain ValidRange}.
+	 * 
+	 * @param invocationParams
+	 * @return {@code true} if no declarative validity.
+	 */
+	public boolean isDeclarativelyValid(Object[] invocationParams)
+	{
+		if (this.validInValues != null)
+		{
+			Object param = invocationParams[this.validInParamIndex];
+
+			if (param == null || !this.validInValues
+					.contains(ValidityIndex.toValueKey(param)))
+				return false;
+		}
+
+		if (this.validRange != null)
+		{
+			Object param = invocationParams[this.validRangeParamIndex];
+
+			if (!(param instanceof Number))
+				return false;
+
+			double value = ((Number) param).doubleValue();
+
+			if (value < this.validRange.min() || value > this.validRange.max())
+				return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Return if it has <i>priority method</i>.
+	 * 
+	 * @return
+	 */
+	public boolean hasPriorityMethod()
+	{
+		return (this.priorityInvoker != null);
+	}
+
+	/**
+	 * Get the max priority it can be evaluated to.
+	 * 
+	 * @return {@linkplain Integer#MAX_VALUE} if it has <i>priority
+	 *         method</i>, the priority value otherwise.
+	 */
+	public int getMaxPriority()
+	{
+		return (this.priorityInvoker == null
+				? this.implementMethodInfo.getPriorityValue()
+				: Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Return if the <i>implement method</i> can accept the given
+	 * <i>implementee method</i> parameters by their types.
+	 * 
+	 * @param invocationParams
+	 *            The <i>implementee method</i> invocation parameters.
+	 * @return
+	 */
+	public boolean isParamTypeMatched(Object[] invocationParams)
+	{
+		for (int i = 0; i < this.paramTypes.length; i++)
+		{
+			Object param = invocationParams[this.paramIndexes[i]];
+
+			if (param != null && !this.paramTypes[i].isInstance(param))
+				return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Return if the <i>implement method</i> can accept parameters of the given
+	 * types.
+	 * 
+	 * @param invocationParamTypes
+	 *            The types of the <i>implementee method</i> invocation
+	 *            parameters, element may be {@code null} for {@code null}
+	 *            parameter.
+	 * @return
+	 */
+	public boolean isParamTypeMatched(Class<?>[] invocationParamTypes)
+	{
+		for (int i = 0; i < this.paramTypes.length; i++)
+		{
+			Class<?> paramType = invocationParamTypes[this.paramIndexes[i]];
+
+			if (paramType != null
+					&& !this.paramTypes[i].isAssignableFrom(paramType))
+				return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Return if this <i>implement method</i> has more specific parameter
+	 * types than the given one.
+	 * <p>
+	 * It is more specific if each of its parameter is assignable to the
+	 * corresponding parameter of the given one, and at least one is not the
+	 * same.
+	 * </p>
+	 * 
+	 * @param another
+	 *            Another invoker of the same <i>implementee method</i>.
+	 * @return
+	 */
+	public boolean isMoreSpecificThan(ImplementMethodInvoker another)
+	{
+		boolean notSame = false;
+
+		for (int i = 0; i < this.implementeeParamTypes.length; i++)
+		{
+			Class<?> myType = this.implementeeParamTypes[i];
+			Class<?> anotherType = another.implementeeParamTypes[i];
+
+			if (myType.equals(anotherType))
+				continue;
+
+			if (!anotherType.isAssignableFrom(myType))
+				return false;
+
+			notSame = true;
+		}
+
+		return notSame;
+	}
+
+	/**
+	 * Evaluate the declarative validities, the {@linkplain ValidityExpression}
+	 * and the <i>validity method</i>.
+	 * 
+	 * @param implementorBean
+	 * @param invocationParams
+	 * @return {@code true} if none of them exists.
+	 * @throws Throwable
+	 */
+	public boolean isValid(Object implementorBean, Object[] invocationParams)
+			throws Throwable
+	{
+		if (!isDeclarativelyValid(invocationParams))
+			return false;
+
+		if (this.validityExpressionEvaluator != null
+				&& !this.validityExpressionEvaluator.evaluate(
+						getArgs(this.paramIndexes, invocationParams)))
+			return false;
+
+		if (this.validityInvoker == null)
+			return true;
+
+		Boolean valid = (Boolean) this.validityInvoker.invoke(implementorBean,
+				getArgs(this.validityParamIndexes, invocationParams));
+
+		return (valid != null && valid.booleanValue());
+	}
+
+	/**
+	 * Evaluate the priority.
+	 * 
+	 * @param implementorBean
+	 * @param invocationParams
+	 * @return The <i>priority method</i> result if exists, the priority value
+	 *         otherwise.
+	 * @throws Throwable
+	 */
+	public int getPriority(Object implementorBean, Object[] invocationParams)
+			throws Throwable
+	{
+		if (this.priorityInvoker == null)
+			return this.implementMethodInfo.getPriorityValue();
+
+		Integer priority = (Integer) this.priorityInvoker.invoke(
+				implementorBean,
+				getArgs(this.priorityParamIndexes, invocationParams));
+
+		return (priority == null ? 0 : priority.intValue());
+	}
+
+	/**
+	 * Get the arguments of the <i>implement method</i> from the
+	 * <i>implementee method</i> invocation parameters, in the <i>implement
+	 * method</i> parameter order.
+	 * 
+	 * @param invocationParams
+	 * @return
+	 */
+	public Object[] getImplementArgs(Object[] invocationParams)
+	{
+		return getArgs(this.paramIndexes, invocationParams);
+	}
+
+	/**
+	 * Invoke the <i>implement method</i>.
+	 * 
+	 * @param implementorBean
+	 * @param invocationParams
+	 * @return
+	 * @throws Throwable
+	 */
+	public Object invoke(Object implementorBean, Object[] invocationParams)
+			throws Throwable
+	{
+		return this.implementInvoker.invoke(implementorBean,
+				getArgs(this.paramIndexes, invocationParams));
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName() + " [implementMethod="
+				+ getImplementMethod() + "]";
+	}
+
+	/**
+	 * Get the <i>implementee method</i> parameter index of the <i>implement
+	 * method</i> parameter index.
+	 * 
+	 * @param param
+	 * @return
+	 * @throws IllegalArgumentException
+	 *             If the index is out of bounds.
+	 */
+	protected int toImplementeeParamIndex(int param)
+	{
+		if (param < 0 || param >= this.paramIndexes.length)
+			throw new IllegalArgumentException("Parameter index [" + param
+					+ "] of the declarative validity of ["
+					+ getImplementMethod() + "] is out of bounds");
+
+		return this.paramIndexes[param];
+	}
+
+	/**
+	 * Get the <i>implement method</i> parameter types by <i>implementee
+	 * method</i> parameter indexes, {@code Object} for not mapped ones.
+	 * 
+	 * @param implementeeParamCount
+	 * @return
+	 */
+	protected Class<?>[] toImplementeeParamTypes(int implementeeParamCount)
+	{
+		Class<?>[] re = new Class<?>[implementeeParamCount];
+
+		for (int i = 0; i < re.length; i++)
+			re[i] = Object.class;
+
+		for (int i = 0; i < this.paramTypes.length; i++)
+			re[this.paramIndexes[i]] = this.paramTypes[i];
+
+		return re;
+	}
+
+	/**
+	 * Get the arguments for method from <i>implementee method</i> invocation
+	 * parameters.
+	 * 
+	 * @param paramIndexes
+	 * @param invocationParams
+	 * @return
+	 */
+	protected Object[] getArgs(int[] paramIndexes, Object[] invocationParams)
+	{
+		if (paramIndexes == null || paramIndexes.length == 0)
+			return new Object[0];
+
+		// most implement methods have the same parameters as the implementee
+		// method
+		if (paramIndexes.length == invocationParams.length)
+		{
+			boolean same = true;
+
+			for (int i = 0; i < paramIndexes.length; i++)
+			{
+				if (paramIndexes[i] != i)
+				{
+					same = false;
+					break;
+				}
+			}
+
+			if (same)
+				return invocationParams;
+		}
+
+		Object[] args = new Object[paramIndexes.length];
+
+		for (int i = 0; i < paramIndexes.length; i++)
+			args[i] = invocationParams[paramIndexes[i]];
+
+		return args;
+	}
+
+	/**
+	 * Wrap primitive types to their wrapper types.
+	 * 
+	 * @param types
+	 * @return
+	 */
+	protected static Class<?>[] wrapPrimitiveTypes(Class<?>[] types)
+	{
+		Class<?>[] re = new Class<?>[types.length];
+
+		for (int i = 0; i < types.length; i++)
+			re[i] = wrapPrimitiveType(types[i]);
+
+		return re;
+	}
+
+	/**
+	 * Wrap primitive type to its wrapper type.
+	 * 
+	 * @param type
+	 * @return
+	 */
+	protected static Class<?> wrapPrimitiveType(Class<?> type)
+	{
+		if (!type.isPrimitive())
+			return type;
+
+		if (boolean.class.equals(type))
+			return Boolean.class;
+		else if (byte.class.equals(type))
+			return Byte.class;
+		else if (char.class.equals(type))
+			return Character.class;
+		else if (short.class.equals(type))
+			return Short.class;
+		else if (int.class.equals(type))
+			return Integer.class;
+		else if (long.class.equals(type))
+			return Long.class;
+		else if (float.class.equals(type))
+			return Float.class;
+		else if (double.class.equals(type))
+			return Double.class;
+		else
+			return type;
+	}
+}
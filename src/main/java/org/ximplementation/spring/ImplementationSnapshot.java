@@ -0,0 +1,637 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.ximplementation.support.ImplementInfo;
+import org.ximplementation.support.ImplementMethodInfo;
+import org.ximplementation.support.Implementation;
+
+/**
+ * Binary snapshot of resolved {@linkplain Implementation}s.
+ * <p>
+ * It keeps the resolved {@linkplain Implementation}s, which are the
+ * <i>implement method</i> mappings and their validity and priority bindings,
+ * in a compact binary file with the fingerprint of the class path, so the
+ * reflection analysis of {@code ImplementationResolver} is not necessary on
+ * an unchanged class path at startup.
+ * </p>
+ * <p>
+ * Only the records whose <i>implementee</i> and <i>implementor</i> class
+ * files, and the class files of their super classes and interfaces, are
+ * unchanged are used, and the others should be resolved again and
+ * {@linkplain #put(Implementation) put} into it. The class files are always
+ * verified, because the class path fingerprint, which is made of the paths,
+ * sizes and modification times of the class path entries, may miss changes,
+ * for example of class loaders other than the system one. The fingerprint is
+ * only used for skipping {@linkplain #save() saving} an unchanged snapshot.
+ * </p>
+ * <p>
+ * Note that this class is thread-safe and can be accessed by multiple threads.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ */
+public class ImplementationSnapshot
+{
+	private static final int MAGIC = 0x58494d53;
+
+	private static final int VERSION = 2;
+
+	private static final String NULL_TYPE = "";
+
+	private static final Map<String, Class<?>> PRIMITIVE_TYPES = new HashMap<String, Class<?>>();
+
+	static
+	{
+		Class<?>[] primitiveTypes = { boolean.class, byte.class, char.class,
+				short.class, int.class, long.class, float.class, double.class,
+				void.class };
+
+		for (Class<?> primitiveType : primitiveTypes)
+			PRIMITIVE_TYPES.put(primitiveType.getName(), primitiveType);
+	}
+
+	private final File file;
+
+	private final String classPathFingerprint;
+
+	private volatile boolean classPathMatched = false;
+
+	private volatile boolean modified = false;
+
+	/** implementee and implementors key -> record */
+	private final ConcurrentHashMap<String, SnapshotRecord> records = new ConcurrentHashMap<String, SnapshotRecord>();
+
+	/**
+	 * Create an instance with the class path of the JVM.
+	 * 
+	 * @param file
+	 */
+	public ImplementationSnapshot(File file)
+	{
+		this(file, System.getProperty("java.class.path"));
+	}
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param file
+	 * @param classPath
+	 *            The class path for fingerprinting.
+	 */
+	public ImplementationSnapshot(File file, String classPath)
+	{
+		super();
+		this.file = file;
+		this.classPathFingerprint = ClassFileUtil
+				.getClassPathFingerprint(classPath);
+	}
+
+	public File getFile()
+	{
+		return file;
+	}
+
+	/**
+	 * Return if the class path fingerprint of the loaded file matches the
+	 * current one.
+	 * 
+	 * @return
+	 */
+	public boolean isClassPathMatched()
+	{
+		return classPathMatched;
+	}
+
+	/**
+	 * Load the snapshot file.
+	 * 
+	 * @return {@code false} if the file does not exist or is not a valid
+	 *         snapshot file.
+	 * @throws IOException
+	 */
+	public boolean load() throws IOException
+	{
+		if (!this.file.isFile())
+			return false;
+
+		byte[] bytes = null;
+
+		RandomAccessFile raf = new RandomAccessFile(this.file, "r");
+		try
+		{
+			bytes = new byte[(int) raf.length()];
+			raf.readFully(bytes);
+		}
+		finally
+		{
+			raf.close();
+		}
+
+		DataInputStream in = new DataInputStream(
+				new ByteArrayInputStream(bytes));
+
+		try
+		{
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+				return false;
+
+			String fingerprint = in.readUTF();
+
+			Map<String, SnapshotRecord> records = new HashMap<String, SnapshotRecord>();
+
+			int recordCount = in.readInt();
+			for (int i = 0; i < recordCount; i++)
+			{
+				String key = in.readUTF();
+				String classHash = in.readUTF();
+				byte[] content = new byte[in.readInt()];
+				in.readFully(content);
+
+				records.put(key, new SnapshotRecord(classHash, content));
+			}
+
+			this.records.clear();
+			this.records.putAll(records);
+			this.classPathMatched = (this.classPathFingerprint != null
+					&& this.classPathFingerprint.equals(fingerprint));
+			this.modified = false;
+
+			return true;
+		}
+		catch (EOFException e)
+		{
+			// truncated file
+			return false;
+		}
+	}
+
+	/**
+	 * Get the {@linkplain Implementation} from the snapshot.
+	 * 
+	 * @param implementee
+	 * @param implementors
+	 * @return {@code null} if not in the snapshot, or the classes are
+	 *         changed.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Implementation<T> get(Class<T> implementee,
+			Set<Class<?>> implementors)
+	{
+		List<Class<?>> sortedImplementors = ClassFileUtil
+				.sortByName(implementors);
+
+		SnapshotRecord record = this.records
+				.get(getKey(implementee, sortedImplementors));
+
+		if (record == null)
+			return null;
+
+		if (!record.getClassHash()
+				.equals(getClassHash(implementee, sortedImplementors)))
+			return null;
+
+		try
+		{
+			return (Implementation<T>) readImplementation(
+					new DataInputStream(
+							new ByteArrayInputStream(record.getContent())),
+					implementee, sortedImplementors);
+		}
+		catch (Exception e)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * Put the resolved {@linkplain Implementation} into the snapshot.
+	 * 
+	 * @param implementation
+	 */
+	public void put(Implementation<?> implementation)
+	{
+		Class<?> implementee = implementation.getImplementee();
+		List<Class<?>> sortedImplementors = ClassFileUtil
+				.sortByName(implementation.getImplementors());
+
+		String classHash = getClassHash(implementee, sortedImplementors);
+
+		if (classHash == null)
+			return;
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+
+		try
+		{
+			writeImplementation(out, implementation);
+			out.flush();
+		}
+		catch (IOException e)
+		{
+			return;
+		}
+
+		this.records.put(getKey(implementee, sortedImplementors),
+				new SnapshotRecord(classHash, bytes.toByteArray()));
+		this.modified = true;
+	}
+
+	/**
+	 * Save the snapshot file if it is modified or the class path is changed.
+	 * 
+	 * @throws IOException
+	 */
+	public void save() throws IOException
+	{
+		if (this.classPathFingerprint == null
+				|| (!this.modified && this.classPathMatched))
+			return;
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+
+		Map<String, SnapshotRecord> records = new HashMap<String, SnapshotRecord>(
+				this.records);
+
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeUTF(this.classPathFingerprint);
+		out.writeInt(records.size());
+
+		for (Map.Entry<String, SnapshotRecord> entry : records.entrySet())
+		{
+			SnapshotRecord record = entry.getValue();
+
+			out.writeUTF(entry.getKey());
+			out.writeUTF(record.getClassHash());
+			out.writeInt(record.getContent().length);
+			out.write(record.getContent());
+		}
+
+		out.flush();
+
+		writeFile(bytes);
+
+		this.classPathMatched = true;
+		this.modified = false;
+	}
+
+	/**
+	 * Write the content to the snapshot file.
+	 * <p>
+	 * The content is written to a temporary file in the same directory first
+	 * and then renamed to the snapshot file, so a concurrent or crashed save
+	 * never leaves a partially written file.
+	 * </p>
+	 * 
+	 * @param content
+	 * @throws IOException
+	 */
+	protected void writeFile(ByteArrayOutputStream content) throws IOException
+	{
+		File parent = this.file.getAbsoluteFile().getParentFile();
+		if (!parent.exists())
+			parent.mkdirs();
+
+		File tmpFile = File.createTempFile(this.file.getName(), ".tmp",
+				parent);
+
+		try
+		{
+			OutputStream out = new FileOutputStream(tmpFile);
+			try
+			{
+				content.writeTo(out);
+			}
+			finally
+			{
+				out.close();
+			}
+
+			// renaming to an existing file fails on some platforms
+			if (!tmpFile.renameTo(this.file)
+					&& !(this.file.delete() && tmpFile.renameTo(this.file)))
+				throw new IOException("Rename [" + tmpFile + "] to ["
+						+ this.file + "] failed");
+		}
+		finally
+		{
+			if (tmpFile.exists())
+				tmpFile.delete();
+		}
+	}
+
+	protected String getKey(Class<?> implementee,
+			List<Class<?>> sortedImplementors)
+	{
+		StringBuilder sb = new StringBuilder(implementee.getName());
+
+		for (Class<?> implementor : sortedImplementors)
+			sb.append(',').append(implementor.getName());
+
+		return sb.toString();
+	}
+
+	protected String getClassHash(Class<?> implementee,
+			List<Class<?>> sortedImplementors)
+	{
+		Set<Class<?>> classes = new LinkedHashSet<Class<?>>();
+		addHierarchy(classes, implementee);
+		for (Class<?> implementor : sortedImplementors)
+			addHierarchy(classes, implementor);
+
+		return ClassFileUtil.hashClassFiles("", classes);
+	}
+
+	/**
+	 * Add the class and all its super classes and interfaces, which may
+	 * declare <i>implementee method</i>s, <i>implement method</i>s or validity
+	 * and priority methods, except the ones of the bootstrap class loader.
+	 * 
+	 * @param classes
+	 * @param clazz
+	 */
+	protected void addHierarchy(Set<Class<?>> classes, Class<?> clazz)
+	{
+		if (clazz == null || clazz.getClassLoader() == null
+				|| !classes.add(clazz))
+			return;
+
+		addHierarchy(classes, clazz.getSuperclass());
+
+		for (Class<?> superInterface : clazz.getInterfaces())
+			addHierarchy(classes, superInterface);
+	}
+
+	protected void writeImplementation(DataOutputStream out,
+			Implementation<?> implementation) throws IOException
+	{
+		ImplementInfo[] implementInfos = implementation.getImplementInfos();
+
+		if (implementInfos == null)
+		{
+			out.writeInt(-1);
+			return;
+		}
+
+		out.writeInt(implementInfos.length);
+
+		for (ImplementInfo implementInfo : implementInfos)
+		{
+			writeMethod(out, implementInfo.getImplementeeMethod());
+
+			ImplementMethodInfo[] implementMethodInfos = implementInfo
+					.getImplementMethodInfos();
+
+			if (implementMethodInfos == null)
+			{
+				out.writeInt(-1);
+				continue;
+			}
+
+			out.writeInt(implementMethodInfos.length);
+
+			for (ImplementMethodInfo implementMethodInfo : implementMethodInfos)
+			{
+				out.writeUTF(implementMethodInfo.getImplementor().getName());
+				writeMethod(out, implementMethodInfo.getImplementMethod());
+				writeTypes(out, implementMethodInfo.getParamTypes());
+				writeInts(out, implementMethodInfo.getParamIndexes());
+				writeMethod(out, implementMethodInfo.getValidityMethod());
+				writeInts(out, implementMethodInfo.getValidityParamIndexes());
+				out.writeInt(implementMethodInfo.getPriorityValue());
+				writeMethod(out, implementMethodInfo.getPriorityMethod());
+				writeInts(out, implementMethodInfo.getPriorityParamIndexes());
+			}
+		}
+	}
+
+	protected <T> Implementation<T> readImplementation(DataInputStream in,
+			Class<T> implementee, List<Class<?>> sortedImplementors)
+			throws IOException, ClassNotFoundException, NoSuchMethodException
+	{
+		Map<String, Class<?>> implementors = new HashMap<String, Class<?>>();
+		for (Class<?> implementor : sortedImplementors)
+			implementors.put(implementor.getName(), implementor);
+
+		ClassLoader classLoader = implementee.getClassLoader();
+
+		int implementInfoCount = in.readInt();
+
+		if (implementInfoCount < 0)
+			return new Implementation<T>(implementee, null);
+
+		ImplementInfo[] implementInfos = new ImplementInfo[implementInfoCount];
+
+		for (int i = 0; i < implementInfoCount; i++)
+		{
+			Method implementeeMethod = readMethod(in, classLoader);
+
+			int implementMethodInfoCount = in.readInt();
+
+			if (implementMethodInfoCount < 0)
+			{
+				implementInfos[i] = new ImplementInfo(implementeeMethod);
+				continue;
+			}
+
+			ImplementMethodInfo[] implementMethodInfos = new ImplementMethodInfo[implementMethodInfoCount];
+
+			for (int j = 0; j < implementMethodInfoCount; j++)
+			{
+				String implementorName = in.readUTF();
+				Class<?> implementor = implementors.get(implementorName);
+
+				if (implementor == null)
+					throw new ClassNotFoundException(implementorName);
+
+				ClassLoader implementorClassLoader = implementor
+						.getClassLoader();
+
+				ImplementMethodInfo implementMethodInfo = new ImplementMethodInfo(
+						implementor, readMethod(in, implementorClassLoader));
+				implementMethodInfo.setParamTypes(
+						readTypes(in, implementorClassLoader));
+				implementMethodInfo.setParamIndexes(readInts(in));
+				implementMethodInfo.setValidityMethod(
+						readMethod(in, implementorClassLoader));
+				implementMethodInfo.setValidityParamIndexes(readInts(in));
+				implementMethodInfo.setPriorityValue(in.readInt());
+				implementMethodInfo.setPriorityMethod(
+						readMethod(in, implementorClassLoader));
+				implementMethodInfo.setPriorityParamIndexes(readInts(in));
+
+				implementMethodInfos[j] = implementMethodInfo;
+			}
+
+			implementInfos[i] = new ImplementInfo(implementeeMethod,
+					implementMethodInfos);
+		}
+
+		return new Implementation<T>(implementee, implementInfos);
+	}
+
+	protected void writeMethod(DataOutputStream out, Method method)
+			throws IOException
+	{
+		out.writeBoolean(method != null);
+
+		if (method == null)
+			return;
+
+		out.writeUTF(method.getDeclaringClass().getName());
+		out.writeUTF(method.getName());
+		writeTypes(out, method.getParameterTypes());
+	}
+
+	protected Method readMethod(DataInputStream in, ClassLoader classLoader)
+			throws IOException, ClassNotFoundException, NoSuchMethodException
+	{
+		if (!in.readBoolean())
+			return null;
+
+		Class<?> declaringClass = toClass(in.readUTF(), classLoader);
+		String name = in.readUTF();
+		Class<?>[] paramTypes = readTypes(in, classLoader);
+
+		return declaringClass.getDeclaredMethod(name, paramTypes);
+	}
+
+	protected void writeTypes(DataOutputStream out, Class<?>[] types)
+			throws IOException
+	{
+		if (types == null)
+		{
+			out.writeInt(-1);
+			return;
+		}
+
+		out.writeInt(types.length);
+		for (Class<?> type : types)
+			out.writeUTF(type == null ? NULL_TYPE : type.getName());
+	}
+
+	protected Class<?>[] readTypes(DataInputStream in, ClassLoader classLoader)
+			throws IOException, ClassNotFoundException
+	{
+		int length = in.readInt();
+
+		if (length < 0)
+			return null;
+
+		Class<?>[] types = new Class<?>[length];
+		for (int i = 0; i < length; i++)
+		{
+			String name = in.readUTF();
+			types[i] = (NULL_TYPE.equals(name) ? null
+					: toClass(name, classLoader));
+		}
+
+		return types;
+	}
+
+	protected void writeInts(DataOutputStream out, int[] ints)
+			throws IOException
+	{
+		if (ints == null)
+		{
+			out.writeInt(-1);
+			return;
+		}
+
+		out.writeInt(ints.length);
+		for (int i : ints)
+			out.writeInt(i);
+	}
+
+	protected int[] readInts(DataInputStream in) throws IOException
+	{
+		int length = in.readInt();
+
+		if (length < 0)
+			return null;
+
+		int[] ints = new int[length];
+		for (int i = 0; i < length; i++)
+			ints[i] = in.readInt();
+
+		return ints;
+	}
+
+	protected Class<?> toClass(String name, ClassLoader classLoader)
+			throws ClassNotFoundException
+	{
+		Class<?> primitiveType = PRIMITIVE_TYPES.get(name);
+
+		if (primitiveType != null)
+			return primitiveType;
+
+		return Class.forName(name, false, classLoader);
+	}
+
+	/**
+	 * Record of a resolved {@linkplain Implementation}.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 * 
+	 */
+	protected static class SnapshotRecord
+	{
+		/** hash of the implementee and implementor class files */
+		private final String classHash;
+
+		/** serialized implementation */
+		private final byte[] content;
+
+		public SnapshotRecord(String classHash, byte[] content)
+		{
+			super();
+			this.classHash = classHash;
+			this.content = content;
+		}
+
+		public String getClassHash()
+		{
+			return classHash;
+		}
+
+		public byte[] getContent()
+		{
+			return content;
+		}
+	}
+}
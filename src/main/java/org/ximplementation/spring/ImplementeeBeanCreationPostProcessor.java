@@ -15,6 +15,8 @@
 package org.ximplementation.spring;
 
 import java.beans.PropertyDescriptor;
+import java.io.File;
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.AnnotatedElement;
@@ -27,8 +29,14 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.MutablePropertyValues;
 import org.springframework.beans.PropertyValue;
@@ -36,7 +44,8 @@ import org.springframework.beans.PropertyValues;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
-import org.springframework.beans.factory.CannotLoadBeanClassException;
+import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.BeanDefinition;
@@ -48,8 +57,12 @@ import org.springframework.core.PriorityOrdered;
 import org.ximplementation.support.Implementation;
 import org.ximplementation.support.ImplementationResolver;
 import org.ximplementation.support.ImplementeeBeanBuilder;
+import org.ximplementation.support.ImplementeeMethodInvocationFactory;
 import org.ximplementation.support.ImplementorManager;
 
+import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.LazyLoader;
+
 /**
  * A {@code BeanPostProcessor} for creating dependency beans based on
  * <i>ximplementation</i>.
@@ -177,19 +190,63 @@ import org.ximplementation.support.ImplementorManager;
  *
  */
 public class ImplementeeBeanCreationPostProcessor extends InstantiationAwareBeanPostProcessorAdapter
-		implements PriorityOrdered, BeanFactoryAware
+		implements PriorityOrdered, BeanFactoryAware, DisposableBean
 {
 	public static final String CONFIG_XIMPLEMENTATION_PREFIX = "@ximplementation";
 	public static final String CONFIG_XIMPLEMENTATION_SPLIT = ":";
 
 	private ImplementorManager implementorManager = new ImplementorManager();
 
-	private Map<Class<?>, List<String>> implementorBeanNamesMap = new HashMap<Class<?>, List<String>>();
+	/**
+	 * index of implementors, layered on the parent bean factory's, it is
+	 * replaced but never modified, so the implementors and their bean names
+	 * are published together
+	 */
+	private volatile ImplementorIndex implementorIndex;
 
 	private ImplementationResolver implementationResolver = new ImplementationResolver();
 
 	private ImplementeeBeanBuilder implementeeBeanBuilder = new CglibImplementeeBeanBuilder();
 
+	/**
+	 * executor for asynchronous implementee methods, null for invoking
+	 * synchronously
+	 */
+	private Executor asyncExecutor;
+
+	/** selection count interval of adaptive reordering, 0 for disabled */
+	private int adaptiveReorderInterval = 0;
+
+	/** balancer among beans of the same implementor, null for none */
+	private ImplementorBeanBalancer implementorBeanBalancer;
+
+	/** file for persisting dispatch profiles, null for not persisting */
+	private File dispatchProfileFile;
+
+	/** factor of stored dispatch profile counts when loaded */
+	private double dispatchProfileDecayFactor = 0.5;
+
+	private DispatchProfileStore dispatchProfileStore;
+
+	/** directory for caching generated implementee classes, null for not caching */
+	private File classCacheDir;
+
+	/** file for snapshotting resolved implementations, null for not snapshotting */
+	private File implementationSnapshotFile;
+
+	private ImplementationSnapshot implementationSnapshot;
+
+	/** if resolving and building all implementee beans at startup */
+	private boolean preResolve = false;
+
+	/** thread count for pre-resolving, 0 for available processors */
+	private int preResolveParallelism = 0;
+
+	private ConcurrentHashMap<Class<?>, PreResolvedImplementee> preResolvedImplementees = new ConcurrentHashMap<Class<?>, PreResolvedImplementee>();
+
+	/** if injecting lazy implementee beans which are resolved at the first call */
+	private boolean lazyResolve = false;
+
 	/** order, must be before AutowiredAnnotationBeanPostProcessor */
 	private int order = Ordered.HIGHEST_PRECEDENCE;
 
@@ -202,6 +259,9 @@ public class ImplementeeBeanCreationPostProcessor extends InstantiationAwareBean
 	 */
 	private ConcurrentHashMap<Class<?>, Object> initializedImplementeeBeans = new ConcurrentHashMap<Class<?>, Object>();
 
+	/** implementee beans which are built, for updating at runtime registration */
+	private ConcurrentHashMap<Class<?>, RegisteredImplementee> registeredImplementees = new ConcurrentHashMap<Class<?>, RegisteredImplementee>();
+
 	private final Set<Class<? extends Annotation>> autowiredAnnotationTypes = new LinkedHashSet<Class<? extends Annotation>>();
 
 	private final Set<Class<? extends Annotation>> qualifierAnnotationTypes = new LinkedHashSet<Class<? extends Annotation>>();
@@ -244,11 +304,28 @@ public class ImplementeeBeanCreationPostProcessor extends InstantiationAwareBean
 		return implementorManager;
 	}
 
+	/**
+	 * Set the {@linkplain ImplementorManager} for the bean factory, it must be
+	 * set before {@linkplain #setBeanFactory(BeanFactory)}, which builds the
+	 * {@linkplain ImplementorIndex} of the bean factory and it.
+	 * 
+	 * @param implementorManager
+	 */
 	public void setImplementorManager(ImplementorManager implementorManager)
 	{
 		this.implementorManager = implementorManager;
 	}
 
+	/**
+	 * Get the {@linkplain ImplementorIndex} of the bean factory.
+	 * 
+	 * @return {@code null} if the bean factory is not set yet.
+	 */
+	public ImplementorIndex getImplementorIndex()
+	{
+		return implementorIndex;
+	}
+
 	public ImplementationResolver getImplementationResolver()
 	{
 		return implementationResolver;
@@ -271,6 +348,215 @@ public class ImplementeeBeanCreationPostProcessor extends InstantiationAwareBean
 		this.implementeeBeanBuilder = implementeeBeanBuilder;
 	}
 
+	public Executor getAsyncExecutor()
+	{
+		return asyncExecutor;
+	}
+
+	/**
+	 * Set the {@linkplain Executor} for invoking <i>implement method</i>s of
+	 * <i>implementee method</i>s which return
+	 * {@linkplain java.util.concurrent.Future}.
+	 * <p>
+	 * The <i>implementor</i> is still selected synchronously in the caller
+	 * thread. It is applied to the {@linkplain CglibImplementeeBeanBuilder}
+	 * with {@linkplain InvokerImplementeeMethodInvocationFactory}, see
+	 * {@linkplain AsyncExecutors} for creating virtual thread executor.
+	 * </p>
+	 * 
+	 * @param asyncExecutor
+	 */
+	public void setAsyncExecutor(Executor asyncExecutor)
+	{
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	public int getAdaptiveReorderInterval()
+	{
+		return adaptiveReorderInterval;
+	}
+
+	/**
+	 * Set the selection count interval of reordering the validity evaluation
+	 * order of the same priority <i>implementor</i>s by their selected
+	 * counts.
+	 * <p>
+	 * It is applied to the {@linkplain CglibImplementeeBeanBuilder} with
+	 * {@linkplain InvokerImplementeeMethodInvocationFactory}. Note that the
+	 * most often selected one wins among the equally qualified valid
+	 * <i>implementor</i>s when enabled, see {@linkplain DispatchProfile}.
+	 * </p>
+	 * 
+	 * @param adaptiveReorderInterval
+	 *            {@code 0} for disabling adaptive reordering.
+	 */
+	public void setAdaptiveReorderInterval(int adaptiveReorderInterval)
+	{
+		this.adaptiveReorderInterval = adaptiveReorderInterval;
+	}
+
+	public ImplementorBeanBalancer getImplementorBeanBalancer()
+	{
+		return implementorBeanBalancer;
+	}
+
+	/**
+	 * Set the {@linkplain ImplementorBeanBalancer} for selecting among
+	 * multiple beans of the same <i>implementor</i>, see
+	 * {@linkplain RoundRobinImplementorBeanBalancer},
+	 * {@linkplain LeastInFlightImplementorBeanBalancer} and
+	 * {@linkplain PowerOfTwoChoicesImplementorBeanBalancer}.
+	 * <p>
+	 * It is applied to the {@linkplain CglibImplementeeBeanBuilder} with
+	 * {@linkplain InvokerImplementeeMethodInvocationFactory}.
+	 * </p>
+	 * 
+	 * @param implementorBeanBalancer
+	 */
+	public void setImplementorBeanBalancer(
+			ImplementorBeanBalancer implementorBeanBalancer)
+	{
+		this.implementorBeanBalancer = implementorBeanBalancer;
+	}
+
+	public File getDispatchProfileFile()
+	{
+		return dispatchProfileFile;
+	}
+
+	/**
+	 * Set the file for persisting dispatch profiles.
+	 * <p>
+	 * If set, the invocation parameter types, and the dispatch profiles if
+	 * {@linkplain #getAdaptiveReorderInterval()} is set, are loaded from it
+	 * when this post processor is initialized, and saved to it when this post
+	 * processor is destroyed, see {@linkplain DispatchProfileStore}. It is applied to the
+	 * {@linkplain CglibImplementeeBeanBuilder} with
+	 * {@linkplain InvokerImplementeeMethodInvocationFactory}.
+	 * </p>
+	 * 
+	 * @param dispatchProfileFile
+	 */
+	public void setDispatchProfileFile(File dispatchProfileFile)
+	{
+		this.dispatchProfileFile = dispatchProfileFile;
+	}
+
+	public double getDispatchProfileDecayFactor()
+	{
+		return dispatchProfileDecayFactor;
+	}
+
+	/**
+	 * Set the factor which the dispatch profile counts loaded from
+	 * {@linkplain #getDispatchProfileFile()} are multiplied by, see
+	 * {@linkplain DispatchProfileStore#setDecayFactor(double)}. Default is
+	 * {@code 0.5}.
+	 * 
+	 * @param dispatchProfileDecayFactor
+	 */
+	public void setDispatchProfileDecayFactor(
+			double dispatchProfileDecayFactor)
+	{
+		this.dispatchProfileDecayFactor = dispatchProfileDecayFactor;
+	}
+
+	public File getClassCacheDir()
+	{
+		return classCacheDir;
+	}
+
+	/**
+	 * Set the directory for caching generated <i>implementee</i> classes
+	 * between JVM runs.
+	 * <p>
+	 * It is applied to the {@linkplain CglibImplementeeBeanBuilder} which has
+	 * no {@linkplain ImplementeeClassCache}.
+	 * </p>
+	 * 
+	 * @param classCacheDir
+	 */
+	public void setClassCacheDir(File classCacheDir)
+	{
+		this.classCacheDir = classCacheDir;
+	}
+
+	public File getImplementationSnapshotFile()
+	{
+		return implementationSnapshotFile;
+	}
+
+	/**
+	 * Set the file for snapshotting resolved {@linkplain Implementation}s.
+	 * <p>
+	 * If set, the {@linkplain Implementation}s are loaded from it when this
+	 * post processor is initialized, only the ones whose classes are changed
+	 * are resolved again, and it is saved when this post processor is
+	 * destroyed, see {@linkplain ImplementationSnapshot}.
+	 * </p>
+	 * 
+	 * @param implementationSnapshotFile
+	 */
+	public void setImplementationSnapshotFile(File implementationSnapshotFile)
+	{
+		this.implementationSnapshotFile = implementationSnapshotFile;
+	}
+
+	public boolean isPreResolve()
+	{
+		return preResolve;
+	}
+
+	/**
+	 * Set if finding all <i>implementee</i> dependencies from bean
+	 * definitions, and resolving and building their <i>implementee</i> beans
+	 * in parallel when this post processor is initialized, but not one by one
+	 * when they are injected.
+	 * 
+	 * @param preResolve
+	 */
+	public void setPreResolve(boolean preResolve)
+	{
+		this.preResolve = preResolve;
+	}
+
+	public int getPreResolveParallelism()
+	{
+		return preResolveParallelism;
+	}
+
+	/**
+	 * Set the thread count for pre-resolving.
+	 * 
+	 * @param preResolveParallelism
+	 *            {@code 0} for the available processor count.
+	 */
+	public void setPreResolveParallelism(int preResolveParallelism)
+	{
+		this.preResolveParallelism = preResolveParallelism;
+	}
+
+	public boolean isLazyResolve()
+	{
+		return lazyResolve;
+	}
+
+	/**
+	 * Set if injecting lazy placeholder <i>implementee</i> beans, which
+	 * resolve the {@linkplain Implementation}, build and initialize the
+	 * actual <i>implementee</i> beans at their first method calls.
+	 * <p>
+	 * The <i>implementee</i> beans which are pre-resolved are not lazy, see
+	 * {@linkplain #setPreResolve(boolean)}.
+	 * </p>
+	 * 
+	 * @param lazyResolve
+	 */
+	public void setLazyResolve(boolean lazyResolve)
+	{
+		this.lazyResolve = lazyResolve;
+	}
+
 	public Set<Class<? extends Annotation>> getAutowiredAnnotationTypes()
 	{
 		return autowiredAnnotationTypes;
@@ -300,6 +586,243 @@ public class ImplementeeBeanCreationPostProcessor extends InstantiationAwareBean
 
 		this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
 		this.initImplementorManagerAndImplementorBeanNamesMap();
+		this.initInvokerImplementeeMethodInvocationFactory();
+		this.initImplementeeClassCache();
+		this.initImplementationSnapshot();
+
+		if (this.preResolve)
+			this.preResolveImplementees();
+	}
+
+	/**
+	 * Register the <i>implementor</i> bean definitions which are registered
+	 * into the bean factory at runtime, for example, by
+	 * {@code GenericApplicationContext.registerBeanDefinition(...)} for
+	 * hot-deploying plugins.
+	 * <p>
+	 * The {@linkplain ImplementorIndex} is replaced by a new one with these
+	 * bean definitions, and the built <i>implementee</i> beans are updated,
+	 * their {@linkplain EditableImplementorBeanHolderFactory}s and the
+	 * dispatch {@linkplain ImplementeeMethodInvoker}s are replaced
+	 * atomically, so in-flight invocations never block nor see a partial
+	 * state. The <i>implementee</i> beans which are being built concurrently
+	 * are updated when they are registered.
+	 * </p>
+	 * <p>
+	 * Note that the not {@code abstract} methods of {@code class}
+	 * <i>implementee</i>s which are neither overridden nor inherited by any
+	 * <i>implementor</i> when the <i>implementee</i> beans are built are still
+	 * invoked directly if enabled, see
+	 * {@linkplain CglibImplementeeBeanBuilder#isInvokeSuperIfNotOverridden()}.
+	 * </p>
+	 * 
+	 * @param beanNames
+	 * @throws BeansException
+	 */
+	public synchronized void registerImplementorBeans(String... beanNames)
+			throws BeansException
+	{
+		ImplementorIndex index = this.implementorIndex.extend(this.beanFactory,
+				beanNames);
+
+		this.implementorIndex = index;
+
+		InvokerImplementeeMethodInvocationFactory factory = getInvokerImplementeeMethodInvocationFactory();
+
+		if (factory == null)
+			return;
+
+		for (RegisteredImplementee registeredImplementee : this.registeredImplementees
+				.values())
+			updateRegisteredImplementee(registeredImplementee, factory);
+	}
+
+	/**
+	 * Enable or disable an <i>implementor</i> of a built <i>implementee</i>
+	 * bean at runtime, for example, for taking a failing integration out of
+	 * rotation.
+	 * <p>
+	 * The <i>implementor</i> beans of the
+	 * {@linkplain EditableImplementorBeanHolderFactory} are replaced
+	 * atomically, and only the {@linkplain DispatchProfile}s which contain
+	 * the <i>implementor</i> are invalidated, so the invocations never block.
+	 * The {@linkplain CacheableImplement} results of the disabled
+	 * <i>implementor</i> are removed, and all of them are removed when an
+	 * <i>implementor</i> is enabled.
+	 * Note that a lazy placeholder <i>implementee</i> bean which is not loaded
+	 * yet is not built.
+	 * </p>
+	 * 
+	 * @param implementee
+	 * @param implementor
+	 * @param enabled
+	 * @return {@code true} if the state is changed, {@code false} if it is
+	 *         already in the state or no <i>implementee</i> bean of the type
+	 *         is built.
+	 */
+	public boolean setImplementorEnabled(Class<?> implementee,
+			Class<?> implementor, boolean enabled)
+	{
+		RegisteredImplementee registeredImplementee = this.registeredImplementees
+				.get(implementee);
+
+		if (registeredImplementee == null)
+			return false;
+
+		if (!registeredImplementee.getEditableImplementorBeanHolderFactory()
+				.setEnabled(implementor, enabled))
+			return false;
+
+		InvokerImplementeeMethodInvocationFactory factory = getInvokerImplementeeMethodInvocationFactory();
+
+		if (factory != null)
+		{
+			Map<Method, ImplementeeMethodInvoker> invokers = factory
+					.getImplementeeMethodInvokersMap()
+					.get(registeredImplementee.getImplementation());
+
+			if (invokers != null)
+			{
+				for (ImplementeeMethodInvoker invoker : invokers.values())
+				{
+					invoker.invalidateDispatchProfiles(implementor);
+
+					// an enabled one may beat the cached results of others
+					invoker.invalidateResultCache(
+							enabled ? null : implementor);
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Register the built <i>implementee</i> bean for updating at runtime
+	 * registration.
+	 * <p>
+	 * If the <i>implementor</i>s are registered at runtime after the
+	 * <i>implementee</i> bean is resolved or its
+	 * {@linkplain EditableImplementorBeanHolderFactory} is initialized, the
+	 * {@linkplain #registerImplementorBeans(String...)} may not see it, so it
+	 * is updated here after registered.
+	 * </p>
+	 * 
+	 * @param type
+	 * @param preResolved
+	 * @param implementorIndex
+	 *            The {@linkplain ImplementorIndex} which the
+	 *            {@linkplain EditableImplementorBeanHolderFactory} is
+	 *            initialized with.
+	 */
+	protected void registerImplementee(Class<?> type,
+			PreResolvedImplementee preResolved,
+			ImplementorIndex implementorIndex)
+	{
+		RegisteredImplementee registeredImplementee = new RegisteredImplementee(
+				type, preResolved);
+		registeredImplementee.initImplementorBeanNames(implementorIndex);
+
+		this.registeredImplementees.put(type, registeredImplementee);
+
+		// read after put, a registration which replaces the index afterwards
+		// sees this registered one
+		if (this.implementorIndex == implementorIndex
+				&& preResolved.getImplementation().getImplementors()
+						.equals(getImplementors(type)))
+			return;
+
+		InvokerImplementeeMethodInvocationFactory factory = getInvokerImplementeeMethodInvocationFactory();
+
+		if (factory == null)
+			return;
+
+		synchronized (this)
+		{
+			updateRegisteredImplementee(registeredImplementee, factory);
+		}
+	}
+
+	/**
+	 * Update the built <i>implementee</i> bean with the current
+	 * {@linkplain #implementorIndex}.
+	 * <p>
+	 * It must be called in synchronization of this post processor.
+	 * </p>
+	 * 
+	 * @param registeredImplementee
+	 * @param factory
+	 */
+	protected void updateRegisteredImplementee(
+			RegisteredImplementee registeredImplementee,
+			InvokerImplementeeMethodInvocationFactory factory)
+	{
+		Class<?> type = registeredImplementee.getType();
+		Set<Class<?>> implementors = getImplementors(type);
+		Set<String> beanNames = registeredImplementee.getImplementorBeanNames();
+
+		Map<Class<?>, List<Object>> newBeanHolders = new HashMap<Class<?>, List<Object>>();
+
+		for (Class<?> implementor : implementors)
+		{
+			for (String beanName : this.implementorIndex
+					.getImplementorBeanNames(implementor))
+			{
+				if (beanNames.contains(beanName))
+					continue;
+
+				List<Object> holders = newBeanHolders.get(implementor);
+				if (holders == null)
+				{
+					holders = new ArrayList<Object>();
+					newBeanHolders.put(implementor, holders);
+				}
+
+				holders.add(createImplementorBeanHolder(beanName));
+			}
+		}
+
+		if (newBeanHolders.isEmpty())
+			return;
+
+		Implementation<?> current = registeredImplementee
+				.getCurrentImplementation();
+
+		// add the new beans first, the current invokers never select them
+		registeredImplementee.getEditableImplementorBeanHolderFactory()
+				.addAll(newBeanHolders);
+
+		if (!implementors.equals(current.getImplementors()))
+		{
+			Implementation<?> newImplementation = resolveImplementation(type,
+					implementors);
+
+			factory.update(registeredImplementee.getImplementation(),
+					newImplementation);
+
+			registeredImplementee.setCurrentImplementation(newImplementation);
+		}
+
+		registeredImplementee.initImplementorBeanNames(this.implementorIndex);
+	}
+
+	@Override
+	public void destroy() throws Exception
+	{
+		if (this.implementorIndex != null)
+			ImplementorIndex.remove(this.beanFactory,
+					this.implementorIndex.getImplementorManager());
+
+		if (this.implementationSnapshot != null)
+			this.implementationSnapshot.save();
+
+		if (this.dispatchProfileStore == null)
+			return;
+
+		InvokerImplementeeMethodInvocationFactory factory = getInvokerImplementeeMethodInvocationFactory();
+
+		if (factory != null)
+			this.dispatchProfileStore.save(factory);
 	}
 
 	@Override
@@ -389,10 +912,8 @@ public class ImplementeeBeanCreationPostProcessor extends InstantiationAwareBean
 					// not necessary, see
 					// #initImplementorManagerAndImplementorBeanNamesMap()
 					// doc
-					implementors = this.implementorManager.get(propertyType);
 					// no implementors defined is allowed
-					if (implementors == null)
-						implementors = new HashSet<Class<?>>();
+					implementors = getImplementors(propertyType);
 
 					value = createAndRegisterImplementeeBeanDependency(
 							propertyType,
@@ -442,11 +963,10 @@ public class ImplementeeBeanCreationPostProcessor extends InstantiationAwareBean
 
 			Class<?> propertyType = pd.getPropertyType();
 
-			Set<Class<?>> implementors = this.implementorManager
-					.get(propertyType);
+			Set<Class<?>> implementors = getImplementors(propertyType);
 
 			// ignore if no implementor or only one implementor
-			if(implementors == null || implementors.size() < 2)
+			if(implementors.size() < 2)
 				continue;
 
 			createAndRegisterImplementeeBeanDependency(propertyType,
@@ -531,15 +1051,36 @@ public class ImplementeeBeanCreationPostProcessor extends InstantiationAwareBean
 	{
 		Object implementeeBean = this.initializedImplementeeBeans.get(type);
 
+		if (implementeeBean == null && this.lazyResolve
+				&& !this.preResolvedImplementees.containsKey(type))
+		{
+			implementeeBean = createLazyImplementeeBean(type);
+
+			Object previous = this.initializedImplementeeBeans.putIfAbsent(type,
+					implementeeBean);
+
+			if (previous == null)
+				this.beanFactory.registerResolvableDependency(type,
+						implementeeBean);
+			else
+				implementeeBean = previous;
+		}
+
 		if (implementeeBean == null)
 		{
-			Implementation<?> implementation = this.implementationResolver
-					.resolve(type, implementors);
+			PreResolvedImplementee preResolved = this.preResolvedImplementees
+					.remove(type);
+
+			if (preResolved == null)
+				preResolved = resolveAndBuildImplementee(type, implementors);
 
-			EditableImplementorBeanHolderFactory editableImplementorBeanHolderFactory = new EditableImplementorBeanHolderFactory();
+			Implementation<?> implementation = preResolved
+					.getImplementation();
 
-			implementeeBean = this.implementeeBeanBuilder.build(implementation,
-					editableImplementorBeanHolderFactory);
+			EditableImplementorBeanHolderFactory editableImplementorBeanHolderFactory = preResolved
+					.getEditableImplementorBeanHolderFactory();
+
+			implementeeBean = preResolved.getImplementeeBean();
 
 			// AOP will be applied to this implementee bean, so the
 			// ImplementorBeanFactory must return the raw implementor
@@ -554,9 +1095,13 @@ public class ImplementeeBeanCreationPostProcessor extends InstantiationAwareBean
 			// put by my thread, then do initialization
 			if (previous == null || implementeeBean == previous)
 			{
+				ImplementorIndex implementorIndex = this.implementorIndex;
+
 				initEditableImplementorBeanHolderFactory(
 						editableImplementorBeanHolderFactory,
-						implementation.getImplementors());
+						implementation.getImplementors(), implementorIndex);
+
+				registerImplementee(type, preResolved, implementorIndex);
 
 				this.beanFactory.registerResolvableDependency(type,
 						implementeeBean);
@@ -569,13 +1114,305 @@ public class ImplementeeBeanCreationPostProcessor extends InstantiationAwareBean
 	}
 
 	/**
-	 * Init {@linkplain #implementorManager} and
-	 * {@linkplain #implementorBeanNamesMap}.
+	 * Create a lazy placeholder <i>implementee</i> bean, which calls
+	 * {@linkplain #loadLazyImplementeeBean(Class)} at its first method
+	 * call, and delegates all method calls to the loaded bean.
+	 * 
+	 * @param type
+	 * @return
+	 */
+	protected Object createLazyImplementeeBean(Class<?> type)
+	{
+		Enhancer enhancer = new Enhancer();
+
+		// the same interfaces as the loaded bean
+		if (this.implementeeBeanBuilder instanceof CglibImplementeeBeanBuilder)
+			enhancer.setInterfaces(
+					((CglibImplementeeBeanBuilder) this.implementeeBeanBuilder)
+							.getImplementeeBeanInterfaces(type,
+									getImplementors(type)));
+		else if (type.isInterface())
+			enhancer.setInterfaces(
+					new Class[] { type, CglibImplementee.class });
+		else
+			enhancer.setInterfaces(new Class[] { CglibImplementee.class });
+
+		if (!type.isInterface())
+			enhancer.setSuperclass(type);
+
+		enhancer.setCallback(
+				new ImplementeeBeanLazyLoader(this, type));
+
+		return enhancer.create();
+	}
+
+	/**
+	 * Resolve, build and initialize the <i>implementee</i> bean for a lazy
+	 * placeholder <i>implementee</i> bean, with the current
+	 * <i>implementor</i>s of the type.
+	 * 
+	 * @param type
+	 * @return
+	 */
+	protected Object loadLazyImplementeeBean(Class<?> type)
+	{
+		PreResolvedImplementee preResolved = resolveAndBuildImplementee(type,
+				getImplementors(type));
+
+		Object implementeeBean = this.beanFactory.initializeBean(
+				preResolved.getImplementeeBean(),
+				generateImplementeeBeanName(type));
+
+		ImplementorIndex implementorIndex = this.implementorIndex;
+
+		initEditableImplementorBeanHolderFactory(
+				preResolved.getEditableImplementorBeanHolderFactory(),
+				preResolved.getImplementation().getImplementors(),
+				implementorIndex);
+
+		registerImplementee(type, preResolved, implementorIndex);
+
+		return implementeeBean;
+	}
+
+	/**
+	 * Resolve and build all <i>implementee</i> beans for dependency injection
+	 * in parallel.
 	 * <p>
-	 * Synchronization for {@linkplain #implementorManager} and
-	 * {@linkplain #implementorBeanNamesMap} are not necessary, because they are
-	 * initialized in #setBeanFactory(BeanFactory) which happens before any
-	 * other actions.
+	 * The built <i>implementee</i> beans are kept in
+	 * {@linkplain #preResolvedImplementees}, and initialized and registered
+	 * when they are injected, because not all {@code BeanPostProcessor}s are
+	 * registered yet now.
+	 * </p>
+	 * 
+	 * @throws BeansException
+	 */
+	protected void preResolveImplementees() throws BeansException
+	{
+		Set<Class<?>> types = findImplementeeDependencyTypes();
+
+		if (types.isEmpty())
+			return;
+
+		int parallelism = (this.preResolveParallelism > 0
+				? this.preResolveParallelism
+				: Runtime.getRuntime().availableProcessors());
+
+		ExecutorService executor = AsyncExecutors
+				.newFixedThreadPool(Math.min(parallelism, types.size()));
+
+		try
+		{
+			Map<Class<?>, Future<PreResolvedImplementee>> futures = new HashMap<Class<?>, Future<PreResolvedImplementee>>();
+
+			for (final Class<?> type : types)
+			{
+				final Set<Class<?>> implementors = getImplementors(type);
+
+				futures.put(type, executor
+						.submit(new Callable<PreResolvedImplementee>()
+						{
+							@Override
+							public PreResolvedImplementee call()
+									throws Exception
+							{
+								return resolveAndBuildImplementee(type,
+										implementors);
+							}
+						}));
+			}
+
+			for (Map.Entry<Class<?>, Future<PreResolvedImplementee>> entry : futures
+					.entrySet())
+			{
+				try
+				{
+					this.preResolvedImplementees.put(entry.getKey(),
+							entry.getValue().get());
+				}
+				catch (ExecutionException e)
+				{
+					throw new BeanInitializationException(
+							"Pre-resolve implementee [" + entry.getKey()
+									+ "] error",
+							e.getCause());
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+
+					throw new BeanInitializationException(
+							"Pre-resolve implementee [" + entry.getKey()
+									+ "] interrupted",
+							e);
+				}
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Find all <i>implementee</i> types for dependency injection from bean
+	 * definitions, both defined by XML configuration files and by
+	 * annotations.
+	 * 
+	 * @return
+	 */
+	protected Set<Class<?>> findImplementeeDependencyTypes()
+	{
+		Set<Class<?>> types = new LinkedHashSet<Class<?>>();
+
+		for (Map.Entry<Class<?>, List<String>> entry : this.implementorIndex
+				.getImplementorBeanNamesMap().entrySet())
+		{
+			Class<?> beanClass = entry.getKey();
+			PropertyDescriptor[] pds = BeanUtils
+					.getPropertyDescriptors(beanClass);
+
+			for (String beanName : entry.getValue())
+			{
+				PropertyValues pvs = this.beanFactory
+						.getBeanDefinition(beanName).getPropertyValues();
+
+				// defined by XML configuration files
+				for (PropertyValue propertyValue : pvs.getPropertyValues())
+				{
+					Object value = propertyValue.getValue();
+
+					if (!(value instanceof BeanReference))
+						continue;
+
+					String refBeanName = ((BeanReference) value).getBeanName();
+
+					if (!refBeanName.startsWith(CONFIG_XIMPLEMENTATION_PREFIX))
+						continue;
+
+					if (refBeanName.length() == CONFIG_XIMPLEMENTATION_PREFIX
+							.length())
+					{
+						PropertyDescriptor pd = findPropertyDescriptor(pds,
+								propertyValue.getName());
+
+						if (pd != null)
+							types.add(pd.getPropertyType());
+					}
+					else
+					{
+						// illegal references are reported when injecting
+						try
+						{
+							types.add(resolveClassNameInXimplementationRef(
+									refBeanName, beanName));
+						}
+						catch (BeansException e)
+						{
+						}
+					}
+				}
+
+				// defined by annotations
+				for (PropertyDescriptor pd : pds)
+				{
+					if (pd.getPropertyType() == null
+							|| pvs.getPropertyValue(pd.getName()) != null)
+						continue;
+
+					if (!isLlegalXImplementationProperty(beanClass, pd))
+						continue;
+
+					Set<Class<?>> implementors = getImplementors(
+							pd.getPropertyType());
+
+					if (implementors.size() > 1)
+						types.add(pd.getPropertyType());
+				}
+			}
+		}
+
+		return types;
+	}
+
+	/**
+	 * Resolve the {@linkplain Implementation} and build the <i>implementee</i>
+	 * bean, the bean is not initialized.
+	 * 
+	 * @param type
+	 * @param implementors
+	 * @return
+	 */
+	protected PreResolvedImplementee resolveAndBuildImplementee(Class<?> type,
+			Set<Class<?>> implementors)
+	{
+		Implementation<?> implementation = resolveImplementation(type,
+				implementors);
+
+		EditableImplementorBeanHolderFactory editableImplementorBeanHolderFactory = new EditableImplementorBeanHolderFactory();
+
+		Object implementeeBean = this.implementeeBeanBuilder
+				.build(implementation, editableImplementorBeanHolderFactory);
+
+		return new PreResolvedImplementee(implementation,
+				editableImplementorBeanHolderFactory, implementeeBean);
+	}
+
+	/**
+	 * Resolve the {@linkplain Implementation}, it is got from
+	 * {@linkplain #implementationSnapshot} if possible.
+	 * 
+	 * @param type
+	 * @param implementors
+	 * @return
+	 */
+	protected Implementation<?> resolveImplementation(Class<?> type,
+			Set<Class<?>> implementors)
+	{
+		if (this.implementationSnapshot == null)
+			return this.implementationResolver.resolve(type, implementors);
+
+		Implementation<?> implementation = this.implementationSnapshot
+				.get(type, implementors);
+
+		if (implementation == null)
+		{
+			implementation = this.implementationResolver.resolve(type,
+					implementors);
+			this.implementationSnapshot.put(implementation);
+		}
+
+		return implementation;
+	}
+
+	/**
+	 * Get the <i>implementor</i>s of the type.
+	 * 
+	 * @param type
+	 * @return An empty set if none.
+	 */
+	protected Set<Class<?>> getImplementors(Class<?> type)
+	{
+		Set<Class<?>> implementors = (this.implementorIndex == null
+				? this.implementorManager.get(type)
+				: this.implementorIndex.getImplementors(type));
+
+		return (implementors == null ? new HashSet<Class<?>>() : implementors);
+	}
+
+	/**
+	 * Init {@linkplain #implementorIndex} and
+	 * {@linkplain #implementorManager}, the <i>implementor</i> bean names are
+	 * got from {@linkplain #implementorIndex}.
+	 * <p>
+	 * Only the bean definitions of {@linkplain #beanFactory} itself are
+	 * scanned, the <i>implementor</i>s of its ancestors are got from their
+	 * shared {@linkplain ImplementorIndex}es.
+	 * </p>
+	 * <p>
+	 * Synchronization for {@linkplain #implementorManager} is not necessary,
+	 * because it is initialized in #setBeanFactory(BeanFactory) which happens
+	 * before any other actions.
 	 * </p>
 	 * 
 	 * @throws BeansException
@@ -583,89 +1420,160 @@ public class ImplementeeBeanCreationPostProcessor extends InstantiationAwareBean
 	protected void initImplementorManagerAndImplementorBeanNamesMap()
 			throws BeansException
 	{
-		String[] allBeanNames = beanFactory.getBeanDefinitionNames();
-	
-		for (int i = 0; i < allBeanNames.length; i++)
+		this.implementorIndex = ImplementorIndex.valueOf(this.beanFactory,
+				this.implementorManager);
+	}
+
+	/**
+	 * Init the {@linkplain InvokerImplementeeMethodInvocationFactory} of
+	 * {@linkplain #implementeeBeanBuilder} if it is a
+	 * {@linkplain CglibImplementeeBeanBuilder}.
+	 */
+	protected void initInvokerImplementeeMethodInvocationFactory()
+	{
+		InvokerImplementeeMethodInvocationFactory factory = getInvokerImplementeeMethodInvocationFactory();
+
+		if (factory == null)
+			return;
+
+		if (this.asyncExecutor != null)
+			factory.setAsyncExecutor(this.asyncExecutor);
+
+		if (this.adaptiveReorderInterval > 0)
+			factory.setAdaptiveReorderInterval(this.adaptiveReorderInterval);
+
+		if (this.implementorBeanBalancer != null)
+			factory.setImplementorBeanBalancer(this.implementorBeanBalancer);
+
+		if (this.dispatchProfileFile != null)
 		{
-			String beanName = allBeanNames[i];
-	
-			Class<?> beanClass = null;
+			this.dispatchProfileStore = new DispatchProfileStore(
+					this.dispatchProfileFile);
+			this.dispatchProfileStore
+					.setDecayFactor(this.dispatchProfileDecayFactor);
 
-			BeanDefinition beanDefinition = this.beanFactory
-					.getBeanDefinition(beanName);
-			String beanClassName = beanDefinition.getBeanClassName();
-	
 			try
 			{
-				beanClass = Class.forName(beanClassName);
+				this.dispatchProfileStore.load();
 			}
-			catch (ClassNotFoundException e)
+			catch (IOException e)
 			{
-				throw new CannotLoadBeanClassException(
-						beanDefinition.getResourceDescription(), beanName,
-						beanClassName, e);
+				throw new BeanInitializationException(
+						"Load dispatch profile file [" + this.dispatchProfileFile
+								+ "] error",
+						e);
 			}
 
-			List<String> implementorBeanNames = this.implementorBeanNamesMap
-					.get(beanClass);
-			if (implementorBeanNames == null)
-			{
-				implementorBeanNames = new ArrayList<String>();
-				this.implementorBeanNamesMap.put(beanClass,
-						implementorBeanNames);
-			}
-			implementorBeanNames.add(beanName);
+			factory.setDispatchProfileStore(this.dispatchProfileStore);
+		}
+	}
+
+	/**
+	 * Init the {@linkplain ImplementeeClassCache} of
+	 * {@linkplain #implementeeBeanBuilder} if it is a
+	 * {@linkplain CglibImplementeeBeanBuilder}.
+	 */
+	protected void initImplementeeClassCache()
+	{
+		if (this.classCacheDir == null
+				|| !(this.implementeeBeanBuilder instanceof CglibImplementeeBeanBuilder))
+			return;
+
+		CglibImplementeeBeanBuilder builder = (CglibImplementeeBeanBuilder) this.implementeeBeanBuilder;
+
+		if (builder.getClassCache() == null)
+			builder.setClassCache(new ImplementeeClassCache(this.classCacheDir));
+	}
+
+	/**
+	 * Init {@linkplain #implementationSnapshot} if
+	 * {@linkplain #implementationSnapshotFile} is set.
+	 */
+	protected void initImplementationSnapshot()
+	{
+		if (this.implementationSnapshotFile == null)
+			return;
+
+		this.implementationSnapshot = new ImplementationSnapshot(
+				this.implementationSnapshotFile);
 
-			// Add itself, fix missing itself as an implementor when auto wired
-			// class is not abstract
-			this.implementorManager.addFor(beanClass, beanClass);
-			this.implementorManager.add(beanClass);
+		try
+		{
+			this.implementationSnapshot.load();
+		}
+		catch (IOException e)
+		{
+			throw new BeanInitializationException(
+					"Load implementation snapshot file ["
+							+ this.implementationSnapshotFile + "] error",
+					e);
 		}
 	}
 
+	/**
+	 * Get the {@linkplain InvokerImplementeeMethodInvocationFactory} of
+	 * {@linkplain #implementeeBeanBuilder}.
+	 * 
+	 * @return {@code null} if not a {@linkplain CglibImplementeeBeanBuilder}
+	 *         with {@linkplain InvokerImplementeeMethodInvocationFactory}.
+	 */
+	protected InvokerImplementeeMethodInvocationFactory getInvokerImplementeeMethodInvocationFactory()
+	{
+		if (!(this.implementeeBeanBuilder instanceof CglibImplementeeBeanBuilder))
+			return null;
+
+		ImplementeeMethodInvocationFactory factory = ((CglibImplementeeBeanBuilder) this.implementeeBeanBuilder)
+				.getImplementeeMethodInvocationFactory();
+
+		if (!(factory instanceof InvokerImplementeeMethodInvocationFactory))
+			return null;
+
+		return (InvokerImplementeeMethodInvocationFactory) factory;
+	}
+
 	/**
 	 * Init {@linkplain EditableImplementorBeanHolderFactory}.
 	 * 
 	 * @param editableImplementorBeanHolderFactory
 	 * @param implementors
+	 * @param implementorIndex
 	 */
 	protected void initEditableImplementorBeanHolderFactory(
 			EditableImplementorBeanHolderFactory editableImplementorBeanHolderFactory,
-			Set<Class<?>> implementors)
+			Set<Class<?>> implementors, ImplementorIndex implementorIndex)
 	{
 		for (Class<?> implementor : implementors)
 		{
-			// synchronization for this.implementorBeanNamesMap is not
-			// necessary, see
-			// #initImplementorManagerAndImplementorBeanNamesMap() doc
-			List<String> implementorBeanNames = this.implementorBeanNamesMap
-					.get(implementor);
+			List<String> implementorBeanNames = implementorIndex
+					.getImplementorBeanNames(implementor);
 
 			for (String implementorBeanName : implementorBeanNames)
 			{
-				BeanDefinition beanDefinition = this.beanFactory
-						.getBeanDefinition(implementorBeanName);
-
-				BeanHolder implementorBeanHolder = null;
-
-				if (beanDefinition.isPrototype())
-				{
-					implementorBeanHolder = new BeanHolder(
-							this.beanFactory, implementorBeanName,
-							true);
-				}
-				else
-				{
-					implementorBeanHolder = new SingletonBeanHolder(
-							this.beanFactory, implementorBeanName, true);
-				}
-
 				editableImplementorBeanHolderFactory.add(implementor,
-						implementorBeanHolder);
+						createImplementorBeanHolder(implementorBeanName));
 			}
 		}
 	}
 
+	/**
+	 * Create {@linkplain BeanHolder} for the <i>implementor</i> bean.
+	 * 
+	 * @param implementorBeanName
+	 * @return
+	 */
+	protected BeanHolder createImplementorBeanHolder(String implementorBeanName)
+	{
+		// may be defined in ancestors
+		BeanDefinition beanDefinition = this.beanFactory
+				.getMergedBeanDefinition(implementorBeanName);
+
+		if (beanDefinition.isPrototype())
+			return new BeanHolder(this.beanFactory, implementorBeanName, true);
+		else
+			return new SingletonBeanHolder(this.beanFactory,
+					implementorBeanName, true);
+	}
+
 	/**
 	 * Returns if property is llegal <i>ximplementation</i> property.
 	 * 
@@ -771,4 +1679,162 @@ public class ImplementeeBeanCreationPostProcessor extends InstantiationAwareBean
 		}
 		return null;
 	}
+
+	/**
+	 * Resolved and built but not initialized <i>implementee</i> bean.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 * 
+	 */
+	protected static class PreResolvedImplementee
+	{
+		private final Implementation<?> implementation;
+
+		private final EditableImplementorBeanHolderFactory editableImplementorBeanHolderFactory;
+
+		private final Object implementeeBean;
+
+		public PreResolvedImplementee(Implementation<?> implementation,
+				EditableImplementorBeanHolderFactory editableImplementorBeanHolderFactory,
+				Object implementeeBean)
+		{
+			super();
+			this.implementation = implementation;
+			this.editableImplementorBeanHolderFactory = editableImplementorBeanHolderFactory;
+			this.implementeeBean = implementeeBean;
+		}
+
+		public Implementation<?> getImplementation()
+		{
+			return implementation;
+		}
+
+		public EditableImplementorBeanHolderFactory getEditableImplementorBeanHolderFactory()
+		{
+			return editableImplementorBeanHolderFactory;
+		}
+
+		public Object getImplementeeBean()
+		{
+			return implementeeBean;
+		}
+	}
+
+	/**
+	 * CGLIB {@linkplain LazyLoader} of lazy placeholder <i>implementee</i>
+	 * beans.
+	 * <p>
+	 * CGLIB calls {@linkplain #loadObject()} only once in a synchronized
+	 * block, and uses the loaded bean for all method calls afterwards.
+	 * </p>
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 * 
+	 */
+	protected static class ImplementeeBeanLazyLoader implements LazyLoader
+	{
+		private final ImplementeeBeanCreationPostProcessor postProcessor;
+
+		private final Class<?> type;
+
+		public ImplementeeBeanLazyLoader(
+				ImplementeeBeanCreationPostProcessor postProcessor,
+				Class<?> type)
+		{
+			super();
+			this.postProcessor = postProcessor;
+			this.type = type;
+		}
+
+		public Class<?> getType()
+		{
+			return type;
+		}
+
+		@Override
+		public Object loadObject() throws Exception
+		{
+			return this.postProcessor.loadLazyImplementeeBean(this.type);
+		}
+	}
+
+	/**
+	 * Built <i>implementee</i> bean state for runtime registration.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 * 
+	 */
+	protected static class RegisteredImplementee
+	{
+		private final Class<?> type;
+
+		/** the implementation which the implementee bean is built with */
+		private final Implementation<?> implementation;
+
+		private final EditableImplementorBeanHolderFactory editableImplementorBeanHolderFactory;
+
+		private volatile Implementation<?> currentImplementation;
+
+		/** implementor bean names in the holder factory */
+		private final Set<String> implementorBeanNames = new HashSet<String>();
+
+		public RegisteredImplementee(Class<?> type,
+				PreResolvedImplementee preResolved)
+		{
+			super();
+			this.type = type;
+			this.implementation = preResolved.getImplementation();
+			this.editableImplementorBeanHolderFactory = preResolved
+					.getEditableImplementorBeanHolderFactory();
+			this.currentImplementation = this.implementation;
+		}
+
+		public Class<?> getType()
+		{
+			return type;
+		}
+
+		public Implementation<?> getImplementation()
+		{
+			return implementation;
+		}
+
+		public EditableImplementorBeanHolderFactory getEditableImplementorBeanHolderFactory()
+		{
+			return editableImplementorBeanHolderFactory;
+		}
+
+		public Implementation<?> getCurrentImplementation()
+		{
+			return currentImplementation;
+		}
+
+		public void setCurrentImplementation(
+				Implementation<?> currentImplementation)
+		{
+			this.currentImplementation = currentImplementation;
+		}
+
+		public Set<String> getImplementorBeanNames()
+		{
+			return implementorBeanNames;
+		}
+
+		/**
+		 * Init the <i>implementor</i> bean names with the
+		 * <i>implementor</i>s of the current {@linkplain Implementation}.
+		 * 
+		 * @param implementorIndex
+		 */
+		public void initImplementorBeanNames(ImplementorIndex implementorIndex)
+		{
+			for (Class<?> implementor : this.currentImplementation
+					.getImplementors())
+				this.implementorBeanNames.addAll(
+						implementorIndex.getImplementorBeanNames(implementor));
+		}
+	}
 }
@@ -0,0 +1,327 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.ximplementation.support.Implementation;
+
+import net.sf.cglib.proxy.Enhancer;
+
+/**
+ * On-disk cache of generated <i>implementee</i> classes.
+ * <p>
+ * The bytecode of each generated <i>implementee</i> class is written into the
+ * cache directory, in a file named by the hash of the class files of the
+ * <i>implementee</i>, its <i>implementor</i>s, the builder and cglib, the
+ * cache format version and the stable key of the generated class, so the later
+ * JVM runs define the class from the file directly but not generate it again. A
+ * changed <i>implementee</i>, <i>implementor</i> or builder class, or an
+ * upgraded cglib, produces a different hash, so stale files are never used.
+ * </p>
+ * <p>
+ * Any failure of reading, writing or defining a cached class is treated as a
+ * cache miss.
+ * </p>
+ * <p>
+ * Note that this class is thread-safe and can be accessed by multiple threads.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see CglibImplementeeBeanBuilder#setClassCache(ImplementeeClassCache)
+ */
+public class ImplementeeClassCache
+{
+	public static final String FILE_SUFFIX = ClassFileUtil.CLASS_FILE_SUFFIX;
+
+	/** version of the cached class format, change it for invalidating all */
+	public static final int FORMAT_VERSION = 1;
+
+	private static final Class<?>[] BUILDER_TYPES = { CglibImplementee.class,
+			BatchImplementee.class, StreamImplementee.class };
+
+	private static volatile Method defineClassMethod;
+
+	/** JDK 7+ MethodHandles.lookup() */
+	private static volatile Method lookupMethod;
+
+	/** JDK 9+ MethodHandles.privateLookupIn(Class, Lookup) */
+	private static volatile Method privateLookupInMethod;
+
+	/** JDK 9+ MethodHandles.Lookup.defineClass(byte[]) */
+	private static volatile Method lookupDefineClassMethod;
+
+	private final File dir;
+
+	/** key -> defined class */
+	private final ConcurrentHashMap<String, Class<?>> definedClasses = new ConcurrentHashMap<String, Class<?>>();
+
+	public ImplementeeClassCache(File dir)
+	{
+		super();
+		this.dir = dir;
+	}
+
+	public File getDir()
+	{
+		return dir;
+	}
+
+	/**
+	 * Get the cache key of the class generated by
+	 * {@linkplain CglibImplementeeBeanBuilder}.
+	 * 
+	 * @param implementation
+	 * @param stableKey
+	 *            The stable key of the generated class.
+	 * @return {@code null} if any class file can not be read, and the class
+	 *         should not be cached.
+	 * @see #getKey(Implementation, String, Class)
+	 */
+	public String getKey(Implementation<?> implementation, String stableKey)
+	{
+		return getKey(implementation, stableKey,
+				CglibImplementeeBeanBuilder.class);
+	}
+
+	/**
+	 * Get the cache key of the generated class.
+	 * 
+	 * @param implementation
+	 * @param stableKey
+	 *            The stable key of the generated class.
+	 * @param builderType
+	 *            The type of the builder which generates the class.
+	 * @return {@code null} if any class file can not be read, and the class
+	 *         should not be cached.
+	 */
+	public String getKey(Implementation<?> implementation, String stableKey,
+			Class<?> builderType)
+	{
+		List<Class<?>> classes = ClassFileUtil
+				.sortByName(implementation.getImplementors());
+
+		classes.add(0, implementation.getImplementee());
+
+		for (Class<?> type : BUILDER_TYPES)
+			classes.add(type);
+
+		classes.add(builderType);
+
+		if (builderType != CglibImplementeeBeanBuilder.class)
+			classes.add(CglibImplementeeBeanBuilder.class);
+
+		// the manifest of cglib may have no version, so hash its class too
+		classes.add(Enhancer.class);
+
+		return ClassFileUtil.hashClassFiles(getSeed(stableKey), classes);
+	}
+
+	/**
+	 * Get the seed of the cache key.
+	 * 
+	 * @param stableKey
+	 * @return
+	 */
+	protected String getSeed(String stableKey)
+	{
+		Package cglibPackage = Enhancer.class.getPackage();
+		String cglibVersion = (cglibPackage == null ? null
+				: cglibPackage.getImplementationVersion());
+
+		return FORMAT_VERSION + "#" + cglibVersion + "#" + stableKey;
+	}
+
+	/**
+	 * Load the cached class.
+	 * 
+	 * @param key
+	 * @param contextClass
+	 *            The class in the same package of the cached class, which
+	 *            {@linkplain ClassLoader} is used for defining the class.
+	 * @return {@code null} if not cached.
+	 */
+	public Class<?> load(String key, Class<?> contextClass)
+	{
+		Class<?> clazz = this.definedClasses.get(key);
+
+		if (clazz != null)
+			return clazz;
+
+		File file = getFile(key);
+
+		if (!file.isFile())
+			return null;
+
+		synchronized (this.definedClasses)
+		{
+			clazz = this.definedClasses.get(key);
+
+			if (clazz != null)
+				return clazz;
+
+			try
+			{
+				clazz = defineClass(readFile(file), contextClass);
+			}
+			catch (Throwable t)
+			{
+				return null;
+			}
+
+			this.definedClasses.put(key, clazz);
+		}
+
+		return clazz;
+	}
+
+	/**
+	 * Store the generated class.
+	 * 
+	 * @param key
+	 * @param bytes
+	 *            The bytecode of the class, may be {@code null} if not
+	 *            available.
+	 * @param clazz
+	 *            The generated class.
+	 */
+	public void store(String key, byte[] bytes, Class<?> clazz)
+	{
+		this.definedClasses.put(key, clazz);
+
+		if (bytes == null)
+			return;
+
+		File file = getFile(key);
+
+		if (file.isFile())
+			return;
+
+		try
+		{
+			this.dir.mkdirs();
+
+			File tmpFile = File.createTempFile(key, ".tmp", this.dir);
+
+			OutputStream out = new FileOutputStream(tmpFile);
+			try
+			{
+				out.write(bytes);
+			}
+			finally
+			{
+				out.close();
+			}
+
+			if (!tmpFile.renameTo(file))
+				tmpFile.delete();
+		}
+		catch (IOException e)
+		{
+			// a cache miss next time
+		}
+	}
+
+	protected File getFile(String key)
+	{
+		return new File(this.dir, key + FILE_SUFFIX);
+	}
+
+	protected byte[] readFile(File file) throws IOException
+	{
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try
+		{
+			byte[] bytes = new byte[(int) raf.length()];
+			raf.readFully(bytes);
+
+			return bytes;
+		}
+		finally
+		{
+			raf.close();
+		}
+	}
+
+	/**
+	 * Define class in the {@linkplain ClassLoader} and package of the context
+	 * class. It uses {@code MethodHandles.Lookup.defineClass(byte[])} if
+	 * available (JDK 9+), {@code ClassLoader.defineClass(...)} otherwise.
+	 * 
+	 * @param bytes
+	 * @param contextClass
+	 * @return
+	 * @throws Exception
+	 */
+	protected static Class<?> defineClass(byte[] bytes, Class<?> contextClass)
+			throws Exception
+	{
+		if (initLookupDefineClass())
+		{
+			Object lookup = privateLookupInMethod.invoke(null, contextClass,
+					lookupMethod.invoke(null));
+
+			return (Class<?>) lookupDefineClassMethod.invoke(lookup, bytes);
+		}
+
+		Method method = defineClassMethod;
+
+		if (method == null)
+		{
+			method = ClassLoader.class.getDeclaredMethod("defineClass",
+					String.class, byte[].class, int.class, int.class);
+			method.setAccessible(true);
+
+			defineClassMethod = method;
+		}
+
+		return (Class<?>) method.invoke(contextClass.getClassLoader(), null,
+				bytes, 0, bytes.length);
+	}
+
+	private static boolean initLookupDefineClass()
+	{
+		if (lookupDefineClassMethod != null)
+			return true;
+
+		try
+		{
+			Class<?> methodHandles = Class
+					.forName("java.lang.invoke.MethodHandles");
+			Class<?> lookup = Class
+					.forName("java.lang.invoke.MethodHandles$Lookup");
+
+			lookupMethod = methodHandles.getMethod("lookup");
+			privateLookupInMethod = methodHandles.getMethod("privateLookupIn",
+					Class.class, lookup);
+			lookupDefineClassMethod = lookup.getMethod("defineClass",
+					byte[].class);
+
+			return true;
+		}
+		catch (Exception e)
+		{
+			return false;
+		}
+	}
+}
@@ -0,0 +1,337 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
+import org.ximplementation.spring.CglibImplementeeBeanBuilder.CapturingGeneratorStrategy;
+import org.ximplementation.spring.ImplementeeBeanCreationPostProcessor.PreResolvedImplementee;
+import org.ximplementation.support.Implementation;
+
+import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.Factory;
+
+/**
+ * Ahead-of-time <i>implementee</i> class generator.
+ * <p>
+ * It loads the bean definitions of Spring XML configuration files without
+ * instantiating any bean, finds all <i>implementee</i> dependencies as
+ * {@linkplain ImplementeeBeanCreationPostProcessor} does, and writes the
+ * CGLIB <i>implementee</i> classes named by
+ * {@linkplain ImplementeeNamingPolicy} into the output directory, together
+ * with the GraalVM {@code native-image} reflection and proxy configuration
+ * files in {@code META-INF/native-image}.
+ * </p>
+ * <p>
+ * If the output directory is in the classpath at runtime, and
+ * {@linkplain CglibImplementeeBeanBuilder#isAheadOfTime()} is {@code true},
+ * the generated classes are loaded instead of generating again. It can be run
+ * in the build by {@code exec-maven-plugin} :
+ * </p>
+ * 
+ * <pre>
+ * java org.ximplementation.spring.ImplementeeClassGenerator target/classes classpath:applicationContext.xml
+ * </pre>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see ImplementeeNamingPolicy
+ */
+public class ImplementeeClassGenerator
+{
+	public static final String NATIVE_IMAGE_DIR = "META-INF/native-image/org.ximplementation/ximplementation-spring";
+
+	private static final String[] PROXY_INTERFACES = { "org.springframework.aop.SpringProxy",
+			"org.springframework.aop.framework.Advised" };
+
+	private final File outputDir;
+
+	private final CapturingGeneratorStrategy generatorStrategy = new CapturingGeneratorStrategy();
+
+	/** generated implementee class names */
+	private final Set<String> generatedClassNames = new LinkedHashSet<String>();
+
+	/** class names need reflection in native image */
+	private final Set<String> reflectionClassNames = new LinkedHashSet<String>();
+
+	/** interface names of the JDK proxies of interface implementees */
+	private final Set<List<String>> proxyInterfaceNames = new LinkedHashSet<List<String>>();
+
+	private boolean batchEnabled = false;
+
+	private boolean streamEnabled = false;
+
+	public ImplementeeClassGenerator(File outputDir)
+	{
+		super();
+		this.outputDir = outputDir;
+	}
+
+	public File getOutputDir()
+	{
+		return outputDir;
+	}
+
+	/**
+	 * Return if the generated classes implement {@linkplain BatchImplementee},
+	 * it must be the same as the runtime
+	 * {@linkplain CglibImplementeeBeanBuilder#isBatchEnabled()}.
+	 * 
+	 * @return
+	 */
+	public boolean isBatchEnabled()
+	{
+		return batchEnabled;
+	}
+
+	public void setBatchEnabled(boolean batchEnabled)
+	{
+		this.batchEnabled = batchEnabled;
+	}
+
+	/**
+	 * Return if the generated classes implement
+	 * {@linkplain StreamImplementee}, it must be the same as the runtime
+	 * {@linkplain CglibImplementeeBeanBuilder#isStreamEnabled()}.
+	 * 
+	 * @return
+	 */
+	public boolean isStreamEnabled()
+	{
+		return streamEnabled;
+	}
+
+	public void setStreamEnabled(boolean streamEnabled)
+	{
+		this.streamEnabled = streamEnabled;
+	}
+
+	/**
+	 * Get the generated <i>implementee</i> class names.
+	 * 
+	 * @return
+	 */
+	public Set<String> getGeneratedClassNames()
+	{
+		return generatedClassNames;
+	}
+
+	/**
+	 * Generate for the Spring XML configuration files.
+	 * 
+	 * @param configLocations
+	 * @throws IOException
+	 */
+	public void generate(String... configLocations) throws IOException
+	{
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		new XmlBeanDefinitionReader(beanFactory)
+				.loadBeanDefinitions(configLocations);
+
+		ImplementeeBeanCreationPostProcessor postProcessor = new ImplementeeBeanCreationPostProcessor();
+		postProcessor.setImplementeeBeanBuilder(createImplementeeBeanBuilder());
+		postProcessor.setBeanFactory(beanFactory);
+
+		for (Class<?> type : postProcessor.findImplementeeDependencyTypes())
+		{
+			PreResolvedImplementee preResolved = postProcessor
+					.resolveAndBuildImplementee(type,
+							postProcessor.getImplementors(type));
+
+			writeClass(preResolved.getImplementeeBean().getClass().getName(),
+					this.generatorStrategy.takeBytes());
+
+			addNativeImageConfig(preResolved.getImplementation(),
+					preResolved.getImplementeeBean().getClass());
+		}
+
+		writeNativeImageConfig();
+	}
+
+	/**
+	 * Command line entry.
+	 * 
+	 * @param args
+	 *            The output directory, followed by the Spring XML
+	 *            configuration files.
+	 * @throws IOException
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length < 2)
+		{
+			System.err.println("Usage : "
+					+ ImplementeeClassGenerator.class.getName()
+					+ " <output-dir> <config-location>...");
+			System.exit(1);
+		}
+
+		String[] configLocations = new String[args.length - 1];
+		System.arraycopy(args, 1, configLocations, 0, configLocations.length);
+
+		ImplementeeClassGenerator generator = new ImplementeeClassGenerator(
+				new File(args[0]));
+		generator.generate(configLocations);
+
+		System.out.println(generator.getGeneratedClassNames().size()
+				+ " implementee classes generated into " + args[0]);
+	}
+
+	/**
+	 * Create the {@linkplain CglibImplementeeBeanBuilder} which always
+	 * generates classes but not loads the exist ones.
+	 * 
+	 * @return
+	 */
+	protected CglibImplementeeBeanBuilder createImplementeeBeanBuilder()
+	{
+		CglibImplementeeBeanBuilder builder = new CglibImplementeeBeanBuilder()
+		{
+			@Override
+			protected Enhancer createEnhancer(
+					Implementation<?> implementation, Set<Method> superMethods)
+			{
+				Enhancer enhancer = super.createEnhancer(implementation,
+						superMethods);
+				enhancer.setAttemptLoad(false);
+				enhancer.setUseCache(false);
+				return enhancer;
+			}
+		};
+
+		builder.setAheadOfTime(true);
+		builder.setGeneratorStrategy(this.generatorStrategy);
+		builder.setBatchEnabled(this.batchEnabled);
+		builder.setStreamEnabled(this.streamEnabled);
+
+		return builder;
+	}
+
+	protected void writeClass(String className, byte[] bytes)
+			throws IOException
+	{
+		if (bytes == null)
+			return;
+
+		File file = new File(this.outputDir,
+				className.replace('.', File.separatorChar) + ".class");
+		file.getParentFile().mkdirs();
+
+		OutputStream out = new FileOutputStream(file);
+		try
+		{
+			out.write(bytes);
+		}
+		finally
+		{
+			out.close();
+		}
+
+		this.generatedClassNames.add(className);
+	}
+
+	protected void addNativeImageConfig(Implementation<?> implementation,
+			Class<?> implementeeClass)
+	{
+		this.reflectionClassNames.add(implementeeClass.getName());
+		this.reflectionClassNames
+				.add(implementation.getImplementee().getName());
+
+		for (Class<?> implementor : implementation.getImplementors())
+			this.reflectionClassNames.add(implementor.getName());
+
+		if (implementation.getImplementee().isInterface())
+		{
+			List<String> interfaceNames = new ArrayList<String>();
+
+			// the interfaces of the implementee bean except the CGLIB ones
+			for (Class<?> beanInterface : implementeeClass.getInterfaces())
+			{
+				if (!Factory.class.equals(beanInterface))
+					interfaceNames.add(beanInterface.getName());
+			}
+
+			this.proxyInterfaceNames.add(interfaceNames);
+		}
+	}
+
+	protected void writeNativeImageConfig() throws IOException
+	{
+		File dir = new File(this.outputDir,
+				NATIVE_IMAGE_DIR.replace('/', File.separatorChar));
+		dir.mkdirs();
+
+		List<String> reflectEntries = new ArrayList<String>();
+		for (String className : this.reflectionClassNames)
+			reflectEntries.add("  {\"name\" : \"" + className
+					+ "\", \"allDeclaredConstructors\" : true, \"allDeclaredMethods\" : true, \"allDeclaredFields\" : true}");
+
+		writeJsonArray(new File(dir, "reflect-config.json"), reflectEntries);
+
+		List<String> proxyEntries = new ArrayList<String>();
+		for (List<String> interfaceNames : this.proxyInterfaceNames)
+		{
+			StringBuilder sb = new StringBuilder("  [");
+
+			for (String interfaceName : interfaceNames)
+				sb.append("\"" + interfaceName + "\", ");
+
+			for (int i = 0; i < PROXY_INTERFACES.length; i++)
+				sb.append((i == 0 ? "" : ", ") + "\"" + PROXY_INTERFACES[i]
+						+ "\"");
+
+			sb.append("]");
+
+			proxyEntries.add(sb.toString());
+		}
+
+		writeJsonArray(new File(dir, "proxy-config.json"), proxyEntries);
+	}
+
+	protected void writeJsonArray(File file, List<String> entries)
+			throws IOException
+	{
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file),
+				"UTF-8");
+		try
+		{
+			writer.write("[\n");
+
+			for (int i = 0; i < entries.size(); i++)
+			{
+				writer.write(entries.get(i));
+				writer.write(i < entries.size() - 1 ? ",\n" : "\n");
+			}
+
+			writer.write("]\n");
+		}
+		finally
+		{
+			writer.close();
+		}
+	}
+}
@@ -0,0 +1,1459 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.ximplementation.spring.CacheableImplementeeMethodInvocation.ArgumentsKey;
+import org.ximplementation.spring.CacheableImplementeeMethodInvocation.CachedResult;
+import org.ximplementation.support.ImplementInfo;
+import org.ximplementation.support.ImplementMethodInfo;
+import org.ximplementation.support.ImplementeeMethodInvocation;
+import org.ximplementation.support.ImplementorBeanFactory;
+
+/**
+ * <i>Implementee method</i> invoker.
+ * <p>
+ * It holds {@linkplain ImplementMethodInvoker}s for all <i>implement
+ * method</i>s of an <i>implementee method</i>, and selects the one to be
+ * invoked for each invocation as the following rules :
+ * </p>
+ * <ul>
+ * <li>Its parameter types must accept the invocation parameters;</li>
+ * <li>Its <i>validity method</i> must return {@code true} if exists;</li>
+ * <li>The one with the highest priority is selected, and the one with more
+ * specific parameter types is selected if they have the same priority.</li>
+ * </ul>
+ * <p>
+ * The {@linkplain ImplementMethodInvoker}s are sorted in descending priority
+ * order and more specific first when built, so the evaluation stops at the
+ * first valid one whose priority can not be beaten by the rest, without
+ * evaluating their <i>validity method</i>s.
+ * </p>
+ * <p>
+ * The parameter type matched {@linkplain ImplementMethodInvoker}s are cached
+ * by the invocation parameter types. If any of them has {@linkplain ValidIn}
+ * or {@linkplain ValidRange}, the candidates are looked up in a
+ * {@linkplain ValidityIndex} instead. If it is adaptive, a
+ * {@linkplain DispatchProfile} is kept for each invocation parameter types for
+ * evaluating the likely selected one first.
+ * </p>
+ * <p>
+ * If an {@linkplain ImplementorBeanBalancer} is set or the <i>implementee
+ * method</i> is annotated with {@linkplain KeyAffinity}, the beans of each
+ * <i>implementor</i> are evaluated from the one it selects, otherwise from
+ * the first one.
+ * </p>
+ * <p>
+ * If an <i>implementor</i> has {@linkplain Bulkhead} and is saturated, it is
+ * skipped, so the next valid one in priority order is selected, and an
+ * {@linkplain ImplementorSaturatedException} is thrown if all the valid ones
+ * are saturated.
+ * </p>
+ * <p>
+ * If the <i>implementee method</i> is annotated with
+ * {@linkplain LatencyAdaptive}, the one with the lowest recent latency is
+ * selected among the equally qualified valid ones.
+ * </p>
+ * <p>
+ * Note that this class is thread-safe and can be accessed by multiple threads.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see ImplementMethodInvoker
+ */
+public class ImplementeeMethodInvoker
+{
+	private static final ImplementMethodInvoker[] EMPTY_INVOKERS = new ImplementMethodInvoker[0];
+
+	private final Method implementeeMethod;
+
+	private final ImplementMethodInvoker[] implementMethodInvokers;
+
+	private final boolean futureReturnType;
+
+	private final FanOut fanOut;
+
+	private final ResultAggregator resultAggregator;
+
+	private final Map<Class<?>, FastMethodInvoker> batchMethodInvokers;
+
+	/** index of declarative validities, null if none */
+	private final ValidityIndex validityIndex;
+
+	private final ConcurrentHashMap<ParamTypesKey, ImplementMethodInvoker[]> paramTypeMatchedCache = new ConcurrentHashMap<ParamTypesKey, ImplementMethodInvoker[]>();
+
+	/** selection count interval of reordering, 0 for not adaptive */
+	private final int reorderInterval;
+
+	private final ConcurrentHashMap<ParamTypesKey, DispatchProfile> dispatchProfiles = new ConcurrentHashMap<ParamTypesKey, DispatchProfile>();
+
+	/** balancer among beans of the same implementor, null for none */
+	private final ImplementorBeanBalancer implementorBeanBalancer;
+
+	private final Hedged hedged;
+
+	/** implementor -> bulkhead, null if none */
+	private final Map<Class<?>, ImplementorBulkhead> bulkheads;
+
+	private final LatencyAdaptive latencyAdaptive;
+
+	private final ConcurrentHashMap<Class<?>, LatencyEwma> latencyEwmas = new ConcurrentHashMap<Class<?>, LatencyEwma>();
+
+
+	/** results of CacheableImplement, null if not annotated */
+	private final TinyLfuCache<ArgumentsKey, CachedResult> resultCache;
+
+	/** increased when the result cache is invalidated */
+	private final AtomicLong resultCacheEpoch = new AtomicLong(0);
+
+	private final ConcurrentHashMap<Class<?>, LatencyHistogram> latencyHistograms = new ConcurrentHashMap<Class<?>, LatencyHistogram>();
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param implementInfo
+	 *            The {@linkplain ImplementInfo} of the <i>implementee
+	 *            method</i>.
+	 */
+	public ImplementeeMethodInvoker(ImplementInfo implementInfo)
+	{
+		this(implementInfo, 0);
+	}
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param implementInfo
+	 *            The {@linkplain ImplementInfo} of the <i>implementee
+	 *            method</i>.
+	 * @param reorderInterval
+	 *            The selection count interval of reordering the candidates
+	 *            by {@linkplain DispatchProfile}, {@code 0} for not adaptive.
+	 */
+	public ImplementeeMethodInvoker(ImplementInfo implementInfo,
+			int reorderInterval)
+	{
+		this(implementInfo, reorderInterval, null);
+	}
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param implementInfo
+	 *            The {@linkplain ImplementInfo} of the <i>implementee
+	 *            method</i>.
+	 * @param reorderInterval
+	 *            The selection count interval of reordering the candidates
+	 *            by {@linkplain DispatchProfile}, {@code 0} for not adaptive.
+	 * @param implementorBeanBalancer
+	 *            The {@linkplain ImplementorBeanBalancer} among beans of the
+	 *            same <i>implementor</i>, {@code null} for none. It is
+	 *            overridden by {@linkplain KeyAffinity}.
+	 */
+	public ImplementeeMethodInvoker(ImplementInfo implementInfo,
+			int reorderInterval,
+			ImplementorBeanBalancer implementorBeanBalancer)
+	{
+		this(implementInfo, reorderInterval, implementorBeanBalancer, null);
+	}
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param implementInfo
+	 *            The {@linkplain ImplementInfo} of the <i>implementee
+	 *            method</i>.
+	 * @param reorderInterval
+	 *            The selection count interval of reordering the candidates
+	 *            by {@linkplain DispatchProfile}, {@code 0} for not adaptive.
+	 * @param implementorBeanBalancer
+	 *            The {@linkplain ImplementorBeanBalancer} among beans of the
+	 *            same <i>implementor</i>, {@code null} for none. It is
+	 *            overridden by {@linkplain KeyAffinity}.
+	 * @param bulkheadRegistry
+	 *            The {@linkplain ImplementorBulkhead.Registry} shared by
+	 *            <i>implementee method</i>s, {@code null} for ignoring
+	 *            {@linkplain Bulkhead}.
+	 */
+	public ImplementeeMethodInvoker(ImplementInfo implementInfo,
+			int reorderInterval,
+			ImplementorBeanBalancer implementorBeanBalancer,
+			ImplementorBulkhead.Registry bulkheadRegistry)
+	{
+		super();
+		this.reorderInterval = reorderInterval;
+		this.implementeeMethod = implementInfo.getImplementeeMethod();
+		this.implementMethodInvokers = sortImplementMethodInvokers(
+				createImplementMethodInvokers(implementInfo));
+		this.validityIndex = ValidityIndex
+				.valueOf(this.implementMethodInvokers);
+		this.futureReturnType = isFutureReturnType(this.implementeeMethod);
+		this.fanOut = this.implementeeMethod.getAnnotation(FanOut.class);
+		this.resultAggregator = (this.fanOut == null ? null
+				: createResultAggregator(this.fanOut));
+		this.batchMethodInvokers = createBatchMethodInvokers();
+		this.hedged = this.implementeeMethod.getAnnotation(Hedged.class);
+		this.latencyAdaptive = this.implementeeMethod
+				.getAnnotation(LatencyAdaptive.class);
+
+		CacheableImplement cacheableImplement = this.implementeeMethod
+				.getAnnotation(CacheableImplement.class);
+		this.resultCache = (cacheableImplement == null ? null
+				: new TinyLfuCache<ArgumentsKey, CachedResult>(
+						cacheableImplement.maximumSize(),
+						cacheableImplement.ttl()));
+
+		KeyAffinity keyAffinity = this.implementeeMethod
+				.getAnnotation(KeyAffinity.class);
+		this.implementorBeanBalancer = (keyAffinity == null
+				? implementorBeanBalancer
+				: createKeyAffinityBalancer(keyAffinity));
+		this.bulkheads = (bulkheadRegistry == null ? null
+				: createBulkheads(bulkheadRegistry));
+	}
+
+	/**
+	 * Get the <i>implementee method</i>.
+	 * 
+	 * @return
+	 */
+	public Method getImplementeeMethod()
+	{
+		return implementeeMethod;
+	}
+
+	/**
+	 * Get all {@linkplain ImplementMethodInvoker}s in evaluation order.
+	 * 
+	 * @return
+	 */
+	public ImplementMethodInvoker[] getImplementMethodInvokers()
+	{
+		return implementMethodInvokers;
+	}
+
+	/**
+	 * Return if the evaluation order is adapted by dispatch profiles.
+	 * 
+	 * @return
+	 */
+	public boolean isAdaptive()
+	{
+		return (this.reorderInterval > 0);
+	}
+
+	public int getReorderInterval()
+	{
+		return reorderInterval;
+	}
+
+	/**
+	 * Get the {@linkplain DispatchProfile}s by the invocation parameter types.
+	 * 
+	 * @return An empty map if not {@linkplain #isAdaptive()}.
+	 */
+	public Map<ParamTypesKey, DispatchProfile> getDispatchProfiles()
+	{
+		return Collections.<ParamTypesKey, DispatchProfile> unmodifiableMap(
+				this.dispatchProfiles);
+	}
+
+	/**
+	 * Get the invocation parameter types whose parameter type matched
+	 * {@linkplain ImplementMethodInvoker}s are cached.
+	 * 
+	 * @return
+	 */
+	public Set<ParamTypesKey> getParamTypeMatchedKeys()
+	{
+		return Collections.<ParamTypesKey> unmodifiableSet(
+				this.paramTypeMatchedCache.keySet());
+	}
+
+	/**
+	 * Get the {@linkplain ImplementorBeanBalancer}.
+	 * 
+	 * @return {@code null} if none
+	 */
+	public ImplementorBeanBalancer getImplementorBeanBalancer()
+	{
+		return implementorBeanBalancer;
+	}
+
+	/**
+	 * Get the {@linkplain DispatchProfile} for the invocation parameter types,
+	 * create it if not exists.
+	 * 
+	 * @param key
+	 * @return {@code null} if not {@linkplain #isAdaptive()}.
+	 */
+	public DispatchProfile getDispatchProfile(ParamTypesKey key)
+	{
+		if (this.reorderInterval < 1)
+			return null;
+
+		DispatchProfile profile = this.dispatchProfiles.get(key);
+
+		if (profile == null)
+		{
+			profile = new DispatchProfile(getParamTypeMatched(key),
+					this.reorderInterval);
+
+			DispatchProfile old = this.dispatchProfiles.putIfAbsent(key,
+					profile);
+
+			if (old != null)
+				profile = old;
+		}
+
+		return profile;
+	}
+
+	/**
+	 * Remove the {@linkplain DispatchProfile}s whose candidates contain any
+	 * <i>implement method</i> of the <i>implementor</i>, they are created
+	 * again with fresh counts when needed.
+	 * 
+	 * @param implementor
+	 */
+	public void invalidateDispatchProfiles(Class<?> implementor)
+	{
+		for (Map.Entry<ParamTypesKey, DispatchProfile> entry : this.dispatchProfiles
+				.entrySet())
+		{
+			for (ImplementMethodInvoker candidate : entry.getValue()
+					.getCandidates())
+			{
+				if (candidate.getImplementor().equals(implementor))
+				{
+					this.dispatchProfiles.remove(entry.getKey(),
+							entry.getValue());
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Inherit the runtime state of the previous
+	 * {@linkplain ImplementeeMethodInvoker} of the same <i>implementee
+	 * method</i>, which is replaced by this one, for example when the
+	 * {@code Implementation} is resolved again with more <i>implementor</i>s.
+	 * <p>
+	 * The selected counts of the {@linkplain DispatchProfile}s are added to
+	 * the ones of the same candidates of this, and the latency statistics are
+	 * shared. Selections recorded by the previous one afterwards are not
+	 * inherited.
+	 * </p>
+	 * <p>
+	 * The cached results are not inherited, because a new <i>implementor</i>
+	 * may be selected for the cached invocation parameters.
+	 * </p>
+	 * 
+	 * @param previous
+	 */
+	public void inheritState(ImplementeeMethodInvoker previous)
+	{
+		for (Map.Entry<ParamTypesKey, DispatchProfile> entry : previous.dispatchProfiles
+				.entrySet())
+		{
+			DispatchProfile profile = getDispatchProfile(entry.getKey());
+
+			if (profile == null)
+			{
+				getParamTypeMatched(entry.getKey());
+				continue;
+			}
+
+			DispatchProfile previousProfile = entry.getValue();
+
+			for (ImplementMethodInvoker previousCandidate : previousProfile
+					.getCandidates())
+			{
+				long count = previousProfile
+						.getSelectedCount(previousCandidate);
+
+				if (count < 1)
+					continue;
+
+				for (ImplementMethodInvoker candidate : profile
+						.getCandidates())
+				{
+					if (candidate.getImplementor()
+							.equals(previousCandidate.getImplementor())
+							&& candidate.getImplementMethod().equals(
+									previousCandidate.getImplementMethod()))
+					{
+						profile.addSelectedCount(candidate, count);
+						break;
+					}
+				}
+			}
+
+			profile.reorder();
+		}
+
+		this.latencyEwmas.putAll(previous.latencyEwmas);
+		this.latencyHistograms.putAll(previous.latencyHistograms);
+	}
+
+	/**
+	 * Return if the <i>implementee method</i> returns {@linkplain Future}
+	 * which can be invoked asynchronously.
+	 * 
+	 * @return
+	 */
+	public boolean isFutureReturnType()
+	{
+		return futureReturnType;
+	}
+
+	/**
+	 * Get the {@linkplain FanOut} annotation of the <i>implementee method</i>.
+	 * 
+	 * @return {@code null} if not annotated
+	 */
+	public FanOut getFanOut()
+	{
+		return fanOut;
+	}
+
+	/**
+	 * Get the {@linkplain ResultAggregator} of the {@linkplain FanOut}
+	 * <i>implementee method</i>.
+	 * 
+	 * @return {@code null} if not {@linkplain FanOut}
+	 */
+	public ResultAggregator getResultAggregator()
+	{
+		return resultAggregator;
+	}
+
+	/**
+	 * Get the {@linkplain Hedged} annotation of the <i>implementee method</i>.
+	 * 
+	 * @return {@code null} if not annotated
+	 */
+	public Hedged getHedged()
+	{
+		return hedged;
+	}
+
+	/**
+	 * Get the result cache of the {@linkplain CacheableImplement}
+	 * <i>implementee method</i>.
+	 * 
+	 * @return {@code null} if not annotated
+	 */
+	public TinyLfuCache<ArgumentsKey, CachedResult> getResultCache()
+	{
+		return resultCache;
+	}
+
+	/**
+	 * Get the epoch of the result cache, it is increased when the result
+	 * cache is invalidated, so the results of the invocations which are
+	 * selected before are not cached.
+	 * 
+	 * @return
+	 * @see #invalidateResultCache(Class)
+	 */
+	public long getResultCacheEpoch()
+	{
+		return this.resultCacheEpoch.get();
+	}
+
+	/**
+	 * Remove the cached results of the <i>implementor</i>.
+	 * <p>
+	 * The {@linkplain #getResultCacheEpoch()} is increased too, so the
+	 * in-progress invocations do not cache their results afterwards.
+	 * </p>
+	 * 
+	 * @param implementor
+	 *            {@code null} for removing all.
+	 */
+	public void invalidateResultCache(Class<?> implementor)
+	{
+		if (this.resultCache == null)
+			return;
+
+		this.resultCacheEpoch.incrementAndGet();
+
+		if (implementor == null)
+		{
+			this.resultCache.clear();
+			return;
+		}
+
+		for (Map.Entry<ArgumentsKey, CachedResult> entry : this.resultCache
+				.snapshot().entrySet())
+		{
+			Class<?> cachedImplementor = entry.getValue().getImplementor();
+
+			// results of multiple implementors
+			if (cachedImplementor == null
+					|| cachedImplementor.equals(implementor))
+				this.resultCache.remove(entry.getKey());
+		}
+	}
+
+	/**
+	 * Get the {@linkplain LatencyHistogram} of the <i>implementor</i>,
+	 * create it if not exists.
+	 * <p>
+	 * Its window size is at least {@linkplain Hedged#minSamples()}, so the
+	 * windows always have enough latencies once filled.
+	 * </p>
+	 * 
+	 * @param implementor
+	 * @return
+	 */
+	public LatencyHistogram getLatencyHistogram(Class<?> implementor)
+	{
+		LatencyHistogram histogram = this.latencyHistograms.get(implementor);
+
+		if (histogram == null)
+		{
+			histogram = new LatencyHistogram(this.hedged == null
+					? LatencyHistogram.DEFAULT_WINDOW_SIZE
+					: Math.max(LatencyHistogram.DEFAULT_WINDOW_SIZE,
+							this.hedged.minSamples()));
+
+			LatencyHistogram old = this.latencyHistograms
+					.putIfAbsent(implementor, histogram);
+
+			if (old != null)
+				histogram = old;
+		}
+
+		return histogram;
+	}
+
+	/**
+	 * Get the {@linkplain Hedged} delay of the <i>implementor</i>.
+	 * 
+	 * @param implementor
+	 * @return The delay in nanoseconds, {@code -1} if not
+	 *         {@linkplain Hedged} or not enough latencies are observed.
+	 */
+	public long getHedgeDelayNanos(Class<?> implementor)
+	{
+		if (this.hedged == null)
+			return -1;
+
+		if (this.hedged.delay() > 0)
+			return TimeUnit.MILLISECONDS.toNanos(this.hedged.delay());
+
+		LatencyHistogram histogram = getLatencyHistogram(implementor);
+
+		if (histogram.getCount() < this.hedged.minSamples())
+			return -1;
+
+		return histogram.getValueAtPercentile(this.hedged.percentile());
+	}
+
+	/**
+	 * Get the {@linkplain BatchImplement} method invoker of the given
+	 * <i>implementor</i>.
+	 * 
+	 * @param implementor
+	 * @return {@code null} if the <i>implementor</i> has no
+	 *         {@linkplain BatchImplement} method for the <i>implementee
+	 *         method</i>.
+	 */
+	public FastMethodInvoker getBatchMethodInvoker(Class<?> implementor)
+	{
+		return this.batchMethodInvokers.get(implementor);
+	}
+
+	/**
+	 * Get the {@linkplain ImplementeeMethodInvocation} for the given
+	 * invocation parameters.
+	 * 
+	 * @param invocationParams
+	 * @param implementorBeanFactory
+	 * @return The {@linkplain ImplementeeMethodInvocation}, {@code null} if
+	 *         no <i>implement method</i> is valid.
+	 * @throws ImplementorSaturatedException
+	 *             If all the valid <i>implementor</i>s are saturated.
+	 * @throws Throwable
+	 */
+	public ImplementeeMethodInvocation getInvocation(Object[] invocationParams,
+			ImplementorBeanFactory implementorBeanFactory) throws Throwable
+	{
+		return getInvocation(invocationParams, implementorBeanFactory, null);
+	}
+
+	/**
+	 * Get the {@linkplain ImplementeeMethodInvocation} for the given
+	 * invocation parameters, excluding an <i>implementor</i>.
+	 * <p>
+	 * The selection is not recorded into the {@linkplain DispatchProfile} if
+	 * an <i>implementor</i> is excluded, because it is not the regular one.
+	 * </p>
+	 * 
+	 * @param invocationParams
+	 * @param implementorBeanFactory
+	 * @param excludedImplementor
+	 *            The <i>implementor</i> not to select, {@code null} for none.
+	 * @return The {@linkplain ImplementeeMethodInvocation}, {@code null} if
+	 *         no <i>implement method</i> is valid.
+	 * @throws ImplementorSaturatedException
+	 *             If all the valid <i>implementor</i>s are saturated.
+	 * @throws Throwable
+	 */
+	public ImplementeeMethodInvocation getInvocation(Object[] invocationParams,
+			ImplementorBeanFactory implementorBeanFactory,
+			Class<?> excludedImplementor) throws Throwable
+	{
+		if (invocationParams == null)
+			invocationParams = new Object[0];
+
+		ImplementMethodInvoker selected = null;
+		Object selectedBean = null;
+		int selectedBeanIndex = 0;
+		int selectedPriority = 0;
+		ImplementorBulkhead selectedBulkhead = null;
+
+		// if a valid one failed to acquire its bulkhead
+		boolean saturated = false;
+		// the skipped saturated ones, their validity is unknown
+		List<ImplementMethodInvoker> saturatedCandidates = null;
+
+		boolean explore = (this.latencyAdaptive != null && PerThreadRandom
+				.current().nextDouble() < this.latencyAdaptive.explorationRate());
+		// count of equally qualified valid ones for random exploration
+		int equalCount = 1;
+
+		ParamTypesKey key = ParamTypesKey.valueOf(invocationParams);
+
+		DispatchProfile profile = getDispatchProfile(key);
+
+		ImplementMethodInvoker[] candidates = getCandidates(invocationParams,
+				key, profile);
+
+		try
+		{
+			for (ImplementMethodInvoker candidate : candidates)
+			{
+				if (selected != null && !canBeat(candidate, selected,
+						selectedPriority))
+				{
+					// the statically earlier ones of the reordered group
+					// still beat it
+					if (profile == null
+							|| !profile.isInSameGroup(candidate, selected))
+						break;
+
+					if (!profile.isStaticallyBefore(candidate, selected))
+						continue;
+				}
+
+				if (excludedImplementor != null
+						&& excludedImplementor.equals(candidate.getImplementor()))
+					continue;
+
+				ImplementorBulkhead bulkhead = getBulkhead(
+						candidate.getImplementor());
+
+				// saturated
+				if (bulkhead != null && bulkhead != selectedBulkhead
+						&& bulkhead.getInFlight() >= bulkhead
+								.getMaxConcurrency())
+				{
+					if (saturatedCandidates == null)
+						saturatedCandidates = new ArrayList<ImplementMethodInvoker>();
+
+					saturatedCandidates.add(candidate);
+					continue;
+				}
+
+				List<?> implementorBeans = toList(implementorBeanFactory
+						.getImplementorBeans(candidate.getImplementor()));
+
+				if (implementorBeans == null)
+					continue;
+
+				int beanCount = implementorBeans.size();
+				int start = selectStartBeanIndex(candidate.getImplementor(),
+						beanCount, invocationParams);
+
+				for (int i = 0; i < beanCount; i++)
+				{
+					int beanIndex = (start + i) % beanCount;
+					Object implementorBean = implementorBeans.get(beanIndex);
+
+					if (!candidate.isValid(implementorBean, invocationParams))
+						continue;
+
+					int priority = candidate.getPriority(implementorBean,
+							invocationParams);
+
+					boolean better = (selected == null
+							|| priority > selectedPriority
+							|| (priority == selectedPriority && candidate
+									.isMoreSpecificThan(selected))
+							|| (priority == selectedPriority
+									&& this.latencyAdaptive == null
+									&& profile != null && profile
+											.isStaticallyBefore(candidate,
+													selected)));
+
+					if (better)
+						equalCount = 1;
+					else if (this.latencyAdaptive != null
+							&& priority == selectedPriority
+							&& isEquallyQualified(candidate, selected))
+						better = (explore
+								? PerThreadRandom.current()
+										.nextInt(++equalCount) == 0
+								: isFasterThan(candidate, selected));
+
+					if (better)
+					{
+						if (bulkhead != selectedBulkhead)
+						{
+							if (bulkhead != null && !bulkhead.tryAcquire())
+							{
+								saturated = true;
+								break;
+							}
+
+							if (selectedBulkhead != null)
+								selectedBulkhead.release();
+						}
+
+						selected = candidate;
+						selectedBean = implementorBean;
+						selectedBeanIndex = beanIndex;
+						selectedPriority = priority;
+						selectedBulkhead = bulkhead;
+					}
+
+					// other beans of the same static priority candidate can
+					// not beat it
+					if (selected == candidate && !candidate.hasPriorityMethod())
+						break;
+				}
+			}
+		}
+		catch (Throwable t)
+		{
+			if (selectedBulkhead != null)
+				selectedBulkhead.release();
+
+			throw t;
+		}
+
+		if (selected == null)
+		{
+			if (saturated || hasValid(saturatedCandidates, invocationParams,
+					implementorBeanFactory))
+				throw newSaturatedException();
+
+			return null;
+		}
+
+		if (profile != null && excludedImplementor == null)
+			profile.recordSelected(selected);
+
+		AtomicInteger inFlightCounter = (this.implementorBeanBalancer == null
+				? null
+				: this.implementorBeanBalancer.getInFlightCounter(
+						selected.getImplementor(), selectedBeanIndex));
+
+		// counted from selection, so the concurrent selections see it
+		if (inFlightCounter != null)
+			inFlightCounter.incrementAndGet();
+
+		LatencyEwma latencyEwma = (this.latencyAdaptive == null ? null
+				: getLatencyEwma(selected.getImplementor()));
+
+		return new InvokerImplementeeMethodInvocation(selected, selectedBean,
+				invocationParams, inFlightCounter, selectedBulkhead,
+				latencyEwma);
+	}
+
+	/**
+	 * Get {@linkplain ImplementeeMethodInvocation}s of all valid
+	 * <i>implementor</i> beans for the given invocation parameters.
+	 * <p>
+	 * A {@linkplain Bulkhead} permit is acquired for each invocation of the
+	 * <i>implementor</i>s which have {@linkplain Bulkhead}, and the beans
+	 * failing to acquire are skipped. The permit is released after the
+	 * invocation is invoked, or by
+	 * {@linkplain InvokerImplementeeMethodInvocation#release()} if it is
+	 * never invoked.
+	 * </p>
+	 * 
+	 * @param invocationParams
+	 * @param implementorBeanFactory
+	 * @return The invocations in descending priority order, empty if no
+	 *         <i>implement method</i> is valid.
+	 * @throws ImplementorSaturatedException
+	 *             If all the valid <i>implementor</i>s are saturated.
+	 * @throws Throwable
+	 */
+	public List<InvokerImplementeeMethodInvocation> getValidInvocations(
+			Object[] invocationParams,
+			ImplementorBeanFactory implementorBeanFactory) throws Throwable
+	{
+		if (invocationParams == null)
+			invocationParams = new Object[0];
+
+		List<InvokerImplementeeMethodInvocation> invocations = new ArrayList<InvokerImplementeeMethodInvocation>();
+		List<Integer> priorities = new ArrayList<Integer>();
+
+		boolean saturated = false;
+
+		ImplementMethodInvoker[] candidates = getCandidates(invocationParams,
+				ParamTypesKey.valueOf(invocationParams), null);
+
+		try
+		{
+			for (ImplementMethodInvoker candidate : candidates)
+			{
+				Collection<?> implementorBeans = implementorBeanFactory
+						.getImplementorBeans(candidate.getImplementor());
+
+				if (implementorBeans == null)
+					continue;
+
+				ImplementorBulkhead bulkhead = getBulkhead(
+						candidate.getImplementor());
+
+				for (Object implementorBean : implementorBeans)
+				{
+					if (!candidate.isValid(implementorBean, invocationParams))
+						continue;
+
+					int priority = candidate.getPriority(implementorBean,
+							invocationParams);
+
+					if (bulkhead != null && !bulkhead.tryAcquire())
+					{
+						saturated = true;
+						continue;
+					}
+
+					// insert in descending priority order
+					int index = priorities.size();
+					while (index > 0 && priorities.get(index - 1) < priority)
+						index--;
+
+					invocations.add(index,
+							new InvokerImplementeeMethodInvocation(candidate,
+									implementorBean, invocationParams, null,
+									bulkhead, null));
+					priorities.add(index, priority);
+				}
+			}
+		}
+		catch (Throwable t)
+		{
+			for (InvokerImplementeeMethodInvocation invocation : invocations)
+				invocation.release();
+
+			throw t;
+		}
+
+		if (invocations.isEmpty() && saturated)
+			throw newSaturatedException();
+
+		return invocations;
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName() + " [implementeeMethod="
+				+ implementeeMethod + "]";
+	}
+
+	/**
+	 * Return if any bean of the candidates is valid for the invocation
+	 * parameters.
+	 * 
+	 * @param candidates
+	 *            May be {@code null}.
+	 * @param invocationParams
+	 * @param implementorBeanFactory
+	 * @return
+	 * @throws Throwable
+	 */
+	protected boolean hasValid(List<ImplementMethodInvoker> candidates,
+			Object[] invocationParams,
+			ImplementorBeanFactory implementorBeanFactory) throws Throwable
+	{
+		if (candidates == null)
+			return false;
+
+		for (ImplementMethodInvoker candidate : candidates)
+		{
+			Collection<?> implementorBeans = implementorBeanFactory
+					.getImplementorBeans(candidate.getImplementor());
+
+			if (implementorBeans == null)
+				continue;
+
+			for (Object implementorBean : implementorBeans)
+			{
+				if (candidate.isValid(implementorBean, invocationParams))
+					return true;
+			}
+		}
+
+		return false;
+	}
+
+	protected ImplementorSaturatedException newSaturatedException()
+	{
+		return new ImplementorSaturatedException(
+				"All valid implementors are saturated for invocation ["
+						+ this.implementeeMethod + "]");
+	}
+
+	/**
+	 * Get the {@linkplain ImplementorBulkhead} of the <i>implementor</i>.
+	 * 
+	 * @param implementor
+	 * @return {@code null} if none
+	 */
+	public ImplementorBulkhead getBulkhead(Class<?> implementor)
+	{
+		return (this.bulkheads == null ? null
+				: this.bulkheads.get(implementor));
+	}
+
+	/**
+	 * Create the {@linkplain ImplementorBulkhead}s of the <i>implementor</i>s.
+	 * 
+	 * @param bulkheadRegistry
+	 * @return {@code null} if none
+	 */
+	protected Map<Class<?>, ImplementorBulkhead> createBulkheads(
+			ImplementorBulkhead.Registry bulkheadRegistry)
+	{
+		Map<Class<?>, ImplementorBulkhead> re = new HashMap<Class<?>, ImplementorBulkhead>();
+
+		for (ImplementMethodInvoker invoker : this.implementMethodInvokers)
+		{
+			ImplementorBulkhead bulkhead = bulkheadRegistry
+					.get(invoker.getImplementor());
+
+			if (bulkhead != null)
+				re.put(invoker.getImplementor(), bulkhead);
+		}
+
+		return (re.isEmpty() ? null : re);
+	}
+
+	/**
+	 * Select the index of the <i>implementor</i> bean to be evaluated first.
+	 * 
+	 * @param implementor
+	 * @param beanCount
+	 * @param invocationParams
+	 * @return
+	 */
+	protected int selectStartBeanIndex(Class<?> implementor, int beanCount,
+			Object[] invocationParams)
+	{
+		if (beanCount < 2 || this.implementorBeanBalancer == null)
+			return 0;
+
+		return this.implementorBeanBalancer.select(implementor, beanCount,
+				invocationParams);
+	}
+
+	/**
+	 * Convert the <i>implementor</i> beans to {@linkplain List}.
+	 * 
+	 * @param implementorBeans
+	 * @return {@code null} if the argument is {@code null}
+	 */
+	protected List<?> toList(Collection<?> implementorBeans)
+	{
+		if (implementorBeans == null || implementorBeans instanceof List<?>)
+			return (List<?>) implementorBeans;
+
+		return new ArrayList<Object>(implementorBeans);
+	}
+
+	/**
+	 * Get the candidate {@linkplain ImplementMethodInvoker}s to be evaluated
+	 * in order.
+	 * 
+	 * @param invocationParams
+	 * @param key
+	 * @param profile
+	 *            The {@linkplain DispatchProfile}, may be {@code null}.
+	 * @return The {@linkplain ValidityIndex} lookup result if exists, the
+	 *         profiled order if the {@linkplain DispatchProfile} is not
+	 *         {@code null}, the parameter type matched ones otherwise.
+	 */
+	protected ImplementMethodInvoker[] getCandidates(Object[] invocationParams,
+			ParamTypesKey key, DispatchProfile profile)
+	{
+		if (this.validityIndex != null)
+			return this.validityIndex.lookup(invocationParams, key,
+					getParamTypeMatched(key));
+
+		if (profile != null)
+			return profile.getOrderedCandidates();
+
+		return getParamTypeMatched(key);
+	}
+
+	/**
+	 * Get the {@linkplain ImplementMethodInvoker}s whose parameter types
+	 * accept the invocation parameters.
+	 * 
+	 * @param invocationParams
+	 * @return
+	 */
+	protected ImplementMethodInvoker[] getParamTypeMatched(
+			Object[] invocationParams)
+	{
+		return getParamTypeMatched(ParamTypesKey.valueOf(invocationParams));
+	}
+
+	/**
+	 * Get the {@linkplain ImplementMethodInvoker}s whose parameter types
+	 * accept the invocation parameter types.
+	 * 
+	 * @param key
+	 * @return
+	 */
+	protected ImplementMethodInvoker[] getParamTypeMatched(ParamTypesKey key)
+	{
+		ImplementMethodInvoker[] matched = this.paramTypeMatchedCache.get(key);
+
+		if (matched == null)
+		{
+			List<ImplementMethodInvoker> re = new ArrayList<ImplementMethodInvoker>();
+
+			for (ImplementMethodInvoker invoker : this.implementMethodInvokers)
+			{
+				if (invoker.isParamTypeMatched(key.getParamTypes()))
+					re.add(invoker);
+			}
+
+			matched = re.toArray(EMPTY_INVOKERS);
+
+			this.paramTypeMatchedCache.putIfAbsent(key, matched);
+		}
+
+		return matched;
+	}
+
+	/**
+	 * Return if the candidate and the rest after it in evaluation order may
+	 * beat the selected one.
+	 * 
+	 * @param candidate
+	 * @param selected
+	 * @param selectedPriority
+	 * @return
+	 */
+	protected boolean canBeat(ImplementMethodInvoker candidate,
+			ImplementMethodInvoker selected, int selectedPriority)
+	{
+		int maxPriority = candidate.getMaxPriority();
+
+		if (maxPriority != selectedPriority)
+			return (maxPriority > selectedPriority);
+
+		// the rest are static priority and not more specific than the
+		// selected one if it is static priority too, but may be faster
+		return (selected.hasPriorityMethod() || (this.latencyAdaptive != null
+				&& !candidate.hasPriorityMethod()));
+	}
+
+	/**
+	 * Return if the two {@linkplain ImplementMethodInvoker}s are equally
+	 * qualified for {@linkplain LatencyAdaptive} selection : both have static
+	 * priority, and none of them is more specific than another.
+	 * 
+	 * @param one
+	 * @param another
+	 * @return
+	 */
+	protected boolean isEquallyQualified(ImplementMethodInvoker one,
+			ImplementMethodInvoker another)
+	{
+		return (one != another && !one.hasPriorityMethod()
+				&& !another.hasPriorityMethod()
+				&& !one.isMoreSpecificThan(another)
+				&& !another.isMoreSpecificThan(one));
+	}
+
+	/**
+	 * Return if the <i>implementor</i> of an {@linkplain ImplementMethodInvoker}
+	 * has lower recent latency than another's.
+	 * 
+	 * @param one
+	 * @param another
+	 * @return
+	 */
+	protected boolean isFasterThan(ImplementMethodInvoker one,
+			ImplementMethodInvoker another)
+	{
+		return getLatencyEwma(one.getImplementor()).get() < getLatencyEwma(
+				another.getImplementor()).get();
+	}
+
+	/**
+	 * Get the {@linkplain LatencyEwma} of the <i>implementor</i>, create it if
+	 * not exists.
+	 * 
+	 * @param implementor
+	 * @return {@code null} if not {@linkplain LatencyAdaptive}
+	 */
+	public LatencyEwma getLatencyEwma(Class<?> implementor)
+	{
+		if (this.latencyAdaptive == null)
+			return null;
+
+		LatencyEwma ewma = this.latencyEwmas.get(implementor);
+
+		if (ewma == null)
+		{
+			ewma = new LatencyEwma(this.latencyAdaptive.alpha());
+
+			LatencyEwma old = this.latencyEwmas.putIfAbsent(implementor, ewma);
+
+			if (old != null)
+				ewma = old;
+		}
+
+		return ewma;
+	}
+
+	/**
+	 * Sort {@linkplain ImplementMethodInvoker}s in evaluation order : the ones
+	 * with <i>priority method</i> first, then in descending priority value
+	 * order, and more specific first for the same priority value, the
+	 * original order is kept otherwise.
+	 * 
+	 * @param implementMethodInvokers
+	 * @return
+	 */
+	protected ImplementMethodInvoker[] sortImplementMethodInvokers(
+			ImplementMethodInvoker[] implementMethodInvokers)
+	{
+		List<ImplementMethodInvoker> rest = new ArrayList<ImplementMethodInvoker>(
+				Arrays.asList(implementMethodInvokers));
+
+		ImplementMethodInvoker[] re = new ImplementMethodInvoker[rest.size()];
+
+		for (int i = 0; i < re.length; i++)
+		{
+			int next = 0;
+
+			for (int j = 1; j < rest.size(); j++)
+			{
+				if (isEvaluatedBefore(rest.get(j), rest.get(next)))
+					next = j;
+			}
+
+			// a more specific one of the same priority may be behind
+			for (int j = 0; j < rest.size(); j++)
+			{
+				ImplementMethodInvoker candidate = rest.get(j);
+
+				if (candidate.getMaxPriority() == rest.get(next)
+						.getMaxPriority()
+						&& candidate.isMoreSpecificThan(rest.get(next)))
+				{
+					next = j;
+					j = -1;
+				}
+			}
+
+			re[i] = rest.remove(next);
+		}
+
+		return re;
+	}
+
+	/**
+	 * Return if an {@linkplain ImplementMethodInvoker} should be evaluated
+	 * before another by priority.
+	 * 
+	 * @param one
+	 * @param another
+	 * @return
+	 */
+	protected boolean isEvaluatedBefore(ImplementMethodInvoker one,
+			ImplementMethodInvoker another)
+	{
+		if (one.hasPriorityMethod() != another.hasPriorityMethod())
+			return one.hasPriorityMethod();
+
+		return (one.getMaxPriority() > another.getMaxPriority());
+	}
+
+	/**
+	 * Return if the return type of the <i>implementee method</i> is
+	 * {@linkplain Future} itself, so the {@linkplain Future} returned by
+	 * {@linkplain AsyncImplementeeMethodInvocation} can be returned. The
+	 * sub types of {@linkplain Future}, for example {@linkplain FutureTask},
+	 * are not.
+	 * 
+	 * @param implementeeMethod
+	 * @return
+	 */
+	protected boolean isFutureReturnType(Method implementeeMethod)
+	{
+		return Future.class.equals(implementeeMethod.getReturnType());
+	}
+
+	/**
+	 * Create the {@linkplain ResultAggregator} of {@linkplain FanOut}.
+	 * 
+	 * @param fanOut
+	 * @return
+	 */
+	protected ResultAggregator createResultAggregator(FanOut fanOut)
+	{
+		try
+		{
+			return fanOut.aggregator().newInstance();
+		}
+		catch (Exception e)
+		{
+			throw new IllegalArgumentException(
+					"Can not create ResultAggregator of '"
+							+ this.implementeeMethod + "'",
+					e);
+		}
+	}
+
+	/**
+	 * Create the {@linkplain ImplementorBeanBalancer} of
+	 * {@linkplain KeyAffinity}.
+	 * 
+	 * @param keyAffinity
+	 * @return
+	 */
+	protected ImplementorBeanBalancer createKeyAffinityBalancer(
+			KeyAffinity keyAffinity)
+	{
+		int paramIndex = keyAffinity.value();
+
+		if (paramIndex < 0 || paramIndex >= this.implementeeMethod
+				.getParameterTypes().length)
+			throw new IllegalArgumentException("The @"
+					+ KeyAffinity.class.getSimpleName() + " parameter index "
+					+ paramIndex + " of '" + this.implementeeMethod
+					+ "' is out of range");
+
+		return new ConsistentHashImplementorBeanBalancer(paramIndex,
+				keyAffinity.virtualNodes());
+	}
+
+	/**
+	 * Return if the {@linkplain BatchImplement} method is of the
+	 * <i>implementee method</i>.
+	 * 
+	 * @param batchImplement
+	 * @param batchMethod
+	 * @return
+	 */
+	protected boolean isBatchImplementOf(BatchImplement batchImplement,
+			Method batchMethod)
+	{
+		String name = this.implementeeMethod.getName();
+
+		if (!batchImplement.value().equals(name))
+			return false;
+
+		Class<?>[] paramTypes = batchImplement.paramTypes();
+
+		if (paramTypes.length > 0)
+			return Arrays.equals(paramTypes,
+					this.implementeeMethod.getParameterTypes());
+
+		for (Method method : this.implementeeMethod.getDeclaringClass()
+				.getMethods())
+		{
+			if (method.getName().equals(name) && !Arrays.equals(
+					method.getParameterTypes(),
+					this.implementeeMethod.getParameterTypes()))
+				throw new IllegalArgumentException("The @"
+						+ BatchImplement.class.getSimpleName() + " method '"
+						+ batchMethod + "' must declare paramTypes, '" + name
+						+ "' is overloaded");
+		}
+
+		return true;
+	}
+
+	/**
+	 * Create {@linkplain BatchImplement} method invokers of all
+	 * <i>implementor</i>s.
+	 * 
+	 * @return
+	 */
+	protected Map<Class<?>, FastMethodInvoker> createBatchMethodInvokers()
+	{
+		Map<Class<?>, FastMethodInvoker> re = new HashMap<Class<?>, FastMethodInvoker>();
+
+		for (ImplementMethodInvoker invoker : this.implementMethodInvokers)
+		{
+			Class<?> implementor = invoker.getImplementor();
+
+			if (re.containsKey(implementor))
+				continue;
+
+			for (Method method : implementor.getMethods())
+			{
+				BatchImplement batchImplement = method
+						.getAnnotation(BatchImplement.class);
+
+				if (batchImplement == null
+						|| !isBatchImplementOf(batchImplement, method))
+					continue;
+
+				Class<?>[] paramTypes = method.getParameterTypes();
+
+				if (paramTypes.length != 1
+						|| !List.class.equals(paramTypes[0]))
+					throw new IllegalArgumentException("The @"
+							+ BatchImplement.class.getSimpleName()
+							+ " method '" + method
+							+ "' must have only one List parameter");
+
+				re.put(implementor, new FastMethodInvoker(method));
+				break;
+			}
+		}
+
+		return re;
+	}
+
+	/**
+	 * Create {@linkplain ImplementMethodInvoker}s.
+	 * 
+	 * @param implementInfo
+	 * @return
+	 */
+	protected ImplementMethodInvoker[] createImplementMethodInvokers(
+			ImplementInfo implementInfo)
+	{
+		ImplementMethodInfo[] implementMethodInfos = implementInfo
+				.getImplementMethodInfos();
+
+		if (implementMethodInfos == null)
+			return EMPTY_INVOKERS;
+
+		ImplementMethodInvoker[] re = new ImplementMethodInvoker[implementMethodInfos.length];
+
+		for (int i = 0; i < implementMethodInfos.length; i++)
+			re[i] = new ImplementMethodInvoker(this.implementeeMethod,
+					implementMethodInfos[i]);
+
+		return re;
+	}
+
+	/**
+	 * Cache key of invocation parameter types.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 * 
+	 */
+	public static class ParamTypesKey
+	{
+		private final Class<?>[] paramTypes;
+
+		private final int hashCode;
+
+		public ParamTypesKey(Class<?>[] paramTypes)
+		{
+			super();
+			this.paramTypes = paramTypes;
+			this.hashCode = Arrays.hashCode(paramTypes);
+		}
+
+		public Class<?>[] getParamTypes()
+		{
+			return paramTypes;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			if (this == obj)
+				return true;
+			if (obj == null)
+				return false;
+			if (getClass() != obj.getClass())
+				return false;
+
+			ParamTypesKey other = (ParamTypesKey) obj;
+
+			return Arrays.equals(paramTypes, other.paramTypes);
+		}
+
+		@Override
+		public String toString()
+		{
+			return Arrays.toString(paramTypes);
+		}
+
+		/**
+		 * Create {@linkplain ParamTypesKey} for invocation parameters,
+		 * {@code null} parameter has {@code null} type.
+		 * 
+		 * @param invocationParams
+		 * @return
+		 */
+		public static ParamTypesKey valueOf(Object[] invocationParams)
+		{
+			Class<?>[] paramTypes = new Class<?>[invocationParams.length];
+
+			for (int i = 0; i < invocationParams.length; i++)
+				paramTypes[i] = (invocationParams[i] == null ? null
+						: invocationParams[i].getClass());
+
+			return new ParamTypesKey(paramTypes);
+		}
+	}
+}
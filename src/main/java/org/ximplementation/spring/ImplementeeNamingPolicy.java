@@ -0,0 +1,96 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import net.sf.cglib.core.NamingPolicy;
+import net.sf.cglib.core.Predicate;
+
+/**
+ * Deterministic CGLIB {@linkplain NamingPolicy} for <i>implementee</i>
+ * classes.
+ * <p>
+ * The generated class name only depends on the <i>implementee</i> class name
+ * and a stable key string, but not on identity hash codes, so the same
+ * <i>implementee</i> class is generated with the same name in different JVM
+ * runs, which makes it possible to load a generated class ahead of time
+ * instead of generating it again.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see CglibImplementeeBeanBuilder#isAheadOfTime()
+ */
+public class ImplementeeNamingPolicy implements NamingPolicy
+{
+	public static final String TAG = "$$XImplementeeByCGLIB$$";
+
+	private final String stableKey;
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param stableKey
+	 *            The key string which identifies the generated class.
+	 */
+	public ImplementeeNamingPolicy(String stableKey)
+	{
+		super();
+		this.stableKey = stableKey;
+	}
+
+	public String getStableKey()
+	{
+		return stableKey;
+	}
+
+	@Override
+	public String getClassName(String prefix, String source, Object key,
+			Predicate names)
+	{
+		if (prefix == null)
+			prefix = "net.sf.cglib.empty.Object";
+		else if (prefix.startsWith("java"))
+			prefix = "$" + prefix;
+
+		String base = prefix + TAG
+				+ Integer.toHexString(this.stableKey.hashCode());
+
+		String name = base;
+
+		for (int i = 2; names.evaluate(name); i++)
+			name = base + "_" + i;
+
+		return name;
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return this.stableKey.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj)
+	{
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+
+		return this.stableKey.equals(((ImplementeeNamingPolicy) obj).stableKey);
+	}
+}
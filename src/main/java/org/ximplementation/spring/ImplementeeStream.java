@@ -0,0 +1,669 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.ximplementation.support.ImplementorBeanFactory;
+
+/**
+ * Streaming invocation of an <i>implementee method</i>.
+ * <p>
+ * Each arguments {@linkplain #put(Object[])} into the stream is dispatched to
+ * its selected <i>implementor</i> bean synchronously, and then queued in the
+ * bounded sub-stream of that <i>implementor</i> bean, which is consumed by
+ * {@linkplain #getParallelism()} workers in the {@linkplain Executor}. The
+ * results of all sub-streams are merged into one bounded output queue, which
+ * is consumed by {@linkplain #take()}.
+ * </p>
+ * <p>
+ * All queues are bounded, so a slow consumer or a slow <i>implementor</i>
+ * blocks {@linkplain #put(Object[])}, that is, the producer is back-pressured.
+ * Results are in completion order but not in input order.
+ * </p>
+ * <p>
+ * The end tokens of the queues do not take their capacity, so
+ * {@linkplain #close()} never blocks, and the arguments put in before it
+ * returns are always handled.
+ * </p>
+ * <p>
+ * The queued invocations hold their {@linkplain Bulkhead} permits, if all
+ * workers of a sub-stream exit without handling them, for example they are
+ * interrupted, they are discarded and their permits are released.
+ * </p>
+ * <p>
+ * Note that this class is thread-safe and can be accessed by multiple threads.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see StreamImplementee
+ */
+public class ImplementeeStream
+{
+	private static final Object END = new Object();
+
+	private final ImplementeeMethodInvoker implementeeMethodInvoker;
+
+	private final ImplementorBeanFactory implementorBeanFactory;
+
+	private final Executor executor;
+
+	private final boolean ownExecutor;
+
+	private final int parallelism;
+
+	private final int bufferSize;
+
+	/** implementor bean -> sub-stream */
+	private final Map<Object, SubStream> subStreams = new IdentityHashMap<Object, SubStream>();
+
+	private final BoundedQueue output;
+
+	private final AtomicInteger activeWorkers = new AtomicInteger(0);
+
+	/** count of the in-progress puts */
+	private final AtomicInteger puts = new AtomicInteger(0);
+
+	private final AtomicBoolean ended = new AtomicBoolean(false);
+
+	private volatile boolean closed = false;
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param implementeeMethodInvoker
+	 * @param implementorBeanFactory
+	 * @param executor
+	 *            The {@linkplain Executor} for running workers, {@code null}
+	 *            for creating one by
+	 *            {@linkplain AsyncExecutors#newVirtualThreadPerTaskExecutor()}
+	 *            which is shut down when the stream is finished.
+	 * @param parallelism
+	 *            The worker count of each sub-stream.
+	 * @param bufferSize
+	 *            The capacity of each sub-stream and the output queue.
+	 */
+	public ImplementeeStream(ImplementeeMethodInvoker implementeeMethodInvoker,
+			ImplementorBeanFactory implementorBeanFactory, Executor executor,
+			int parallelism, int bufferSize)
+	{
+		super();
+
+		if (parallelism < 1)
+			throw new IllegalArgumentException("[parallelism] must be > 0");
+		if (bufferSize < 1)
+			throw new IllegalArgumentException("[bufferSize] must be > 0");
+
+		this.implementeeMethodInvoker = implementeeMethodInvoker;
+		this.implementorBeanFactory = implementorBeanFactory;
+		this.ownExecutor = (executor == null);
+		this.executor = (executor == null
+				? AsyncExecutors.newVirtualThreadPerTaskExecutor() : executor);
+		this.parallelism = parallelism;
+		this.bufferSize = bufferSize;
+		this.output = new BoundedQueue(bufferSize, 1);
+	}
+
+	public int getParallelism()
+	{
+		return parallelism;
+	}
+
+	public int getBufferSize()
+	{
+		return bufferSize;
+	}
+
+	/**
+	 * Return if {@linkplain #close()} is called.
+	 * 
+	 * @return
+	 */
+	public boolean isClosed()
+	{
+		return closed;
+	}
+
+	/**
+	 * Put an arguments into the stream.
+	 * <p>
+	 * It blocks if the sub-stream of the selected <i>implementor</i> bean is
+	 * full.
+	 * </p>
+	 * 
+	 * @param args
+	 *            The <i>implementee method</i> arguments.
+	 * @throws InterruptedException
+	 * @throws IllegalStateException
+	 *             If the stream is closed.
+	 */
+	public void put(Object[] args) throws InterruptedException
+	{
+		this.puts.incrementAndGet();
+
+		try
+		{
+			if (this.closed)
+				throw new IllegalStateException("The stream is closed");
+
+			doPut(args);
+		}
+		finally
+		{
+			// the last put after closing ends the sub-streams
+			if (this.puts.decrementAndGet() == 0 && this.closed)
+				end();
+		}
+	}
+
+	/**
+	 * Close the stream, no more arguments can be put in.
+	 * <p>
+	 * The arguments already put in will still be handled. It does not block,
+	 * the sub-streams are ended when the in-progress puts return.
+	 * </p>
+	 */
+	public void close()
+	{
+		synchronized (this.subStreams)
+		{
+			if (this.closed)
+				return;
+
+			this.closed = true;
+		}
+
+		if (this.puts.get() == 0)
+			end();
+	}
+
+	/**
+	 * Take a result, wait if none is available.
+	 * 
+	 * @return The result, {@code null} if the stream is closed and all
+	 *         results are taken.
+	 * @throws InterruptedException
+	 */
+	public StreamResult take() throws InterruptedException
+	{
+		return toResult(this.output.take());
+	}
+
+	/**
+	 * Take a result, wait up to the timeout if none is available.
+	 * 
+	 * @param timeout
+	 * @param unit
+	 * @return The result, {@code null} if timeout, or the stream is closed and
+	 *         all results are taken.
+	 * @throws InterruptedException
+	 */
+	public StreamResult poll(long timeout, TimeUnit unit)
+			throws InterruptedException
+	{
+		Object re = this.output.poll(timeout, unit);
+
+		return (re == null ? null : toResult(re));
+	}
+
+	/**
+	 * Dispatch the arguments and put it into the sub-stream.
+	 * 
+	 * @param args
+	 * @throws InterruptedException
+	 */
+	protected void doPut(Object[] args) throws InterruptedException
+	{
+		InvokerImplementeeMethodInvocation invocation = null;
+
+		try
+		{
+			invocation = (InvokerImplementeeMethodInvocation) this.implementeeMethodInvoker
+					.getInvocation(args, this.implementorBeanFactory);
+		}
+		catch (Throwable t)
+		{
+			this.output.put(new StreamResult(args, null, t));
+			return;
+		}
+
+		if (invocation == null)
+		{
+			this.output.put(new StreamResult(args, null,
+					new UnsupportedOperationException(
+							"No valid implement method found for invocation ["
+									+ this.implementeeMethodInvoker
+											.getImplementeeMethod()
+									+ "]")));
+			return;
+		}
+
+		SubStream subStream = null;
+
+		try
+		{
+			subStream = getSubStream(invocation.getImplementorBean());
+			subStream.put(invocation);
+		}
+		catch (InterruptedException e)
+		{
+			invocation.release();
+			throw e;
+		}
+		catch (RuntimeException e)
+		{
+			invocation.release();
+			throw e;
+		}
+
+		// all workers exited before it is queued
+		if (subStream.isStopped())
+			discard(subStream);
+	}
+
+	/**
+	 * Get the sub-stream of the <i>implementor</i> bean, create and start its
+	 * workers if not exists.
+	 * <p>
+	 * The sub-stream is registered only after at least one of its workers is
+	 * started, the workers rejected by the {@linkplain Executor} are rolled
+	 * back.
+	 * </p>
+	 * 
+	 * @param implementorBean
+	 * @return
+	 * @throws RejectedExecutionException
+	 *             If none of its workers can be started.
+	 */
+	protected SubStream getSubStream(Object implementorBean)
+	{
+		synchronized (this.subStreams)
+		{
+			SubStream subStream = this.subStreams.get(implementorBean);
+
+			if (subStream == null)
+			{
+				subStream = new SubStream(this.bufferSize, this.parallelism);
+
+				for (int i = 0; i < this.parallelism; i++)
+				{
+					this.activeWorkers.incrementAndGet();
+					subStream.startWorker();
+
+					try
+					{
+						this.executor.execute(new Worker(subStream));
+					}
+					catch (RejectedExecutionException e)
+					{
+						this.activeWorkers.decrementAndGet();
+						subStream.stopWorker();
+
+						if (i == 0)
+							throw e;
+
+						// runs with the started workers
+						break;
+					}
+				}
+
+				this.subStreams.put(implementorBean, subStream);
+			}
+
+			return subStream;
+		}
+	}
+
+	/**
+	 * End all sub-streams, called once when closed and no put is in
+	 * progress.
+	 */
+	protected void end()
+	{
+		if (!this.ended.compareAndSet(false, true))
+			return;
+
+		synchronized (this.subStreams)
+		{
+			if (this.subStreams.isEmpty())
+			{
+				finish();
+				return;
+			}
+
+			for (SubStream subStream : this.subStreams.values())
+			{
+				for (int i = 0; i < this.parallelism; i++)
+					subStream.putEnd();
+			}
+		}
+	}
+
+	/**
+	 * Called when the last worker exits.
+	 */
+	protected void finish()
+	{
+		this.output.putEnd();
+
+		if (this.ownExecutor)
+			((ExecutorService) this.executor).shutdown();
+	}
+
+	/**
+	 * Discard the queued invocations of the sub-stream whose workers all
+	 * exited, and release their {@linkplain Bulkhead} permits.
+	 * 
+	 * @param subStream
+	 */
+	protected void discard(SubStream subStream)
+	{
+		Object element = null;
+
+		while ((element = subStream.poll()) != null)
+		{
+			if (element != END)
+				((InvokerImplementeeMethodInvocation) element).release();
+		}
+	}
+
+	protected StreamResult toResult(Object re)
+	{
+		if (re == END)
+		{
+			// keep the end token for other consumers
+			this.output.putEnd();
+			return null;
+		}
+
+		return (StreamResult) re;
+	}
+
+	/**
+	 * Sub-stream worker.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 * 
+	 */
+	protected class Worker implements Runnable
+	{
+		private final SubStream subStream;
+
+		public Worker(SubStream subStream)
+		{
+			super();
+			this.subStream = subStream;
+		}
+
+		@Override
+		public void run()
+		{
+			try
+			{
+				while (true)
+				{
+					Object element = this.subStream.take();
+
+					if (element == END)
+						break;
+
+					InvokerImplementeeMethodInvocation invocation = (InvokerImplementeeMethodInvocation) element;
+
+					StreamResult result = null;
+
+					try
+					{
+						result = new StreamResult(
+								invocation.getInvocationParams(),
+								invocation.invoke(), null);
+					}
+					catch (Throwable t)
+					{
+						result = new StreamResult(
+								invocation.getInvocationParams(), null, t);
+					}
+
+					output.put(result);
+				}
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+			finally
+			{
+				if (this.subStream.stopWorker())
+					discard(this.subStream);
+
+				if (activeWorkers.decrementAndGet() == 0)
+					finish();
+			}
+		}
+	}
+
+	/**
+	 * Bounded queue whose end tokens do not take its capacity.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 * 
+	 */
+	protected static class BoundedQueue
+	{
+		private final Semaphore permits;
+
+		private final BlockingQueue<Object> queue;
+
+		/**
+		 * Create an instance.
+		 * 
+		 * @param capacity
+		 *            The capacity of elements.
+		 * @param endCapacity
+		 *            The capacity of end tokens.
+		 */
+		public BoundedQueue(int capacity, int endCapacity)
+		{
+			super();
+			this.permits = new Semaphore(capacity);
+			this.queue = new ArrayBlockingQueue<Object>(capacity + endCapacity);
+		}
+
+		/**
+		 * Put an element, wait if full.
+		 * 
+		 * @param element
+		 * @throws InterruptedException
+		 */
+		public void put(Object element) throws InterruptedException
+		{
+			this.permits.acquire();
+			this.queue.add(element);
+		}
+
+		/**
+		 * Put an end token, it never blocks.
+		 */
+		public void putEnd()
+		{
+			this.queue.offer(END);
+		}
+
+		/**
+		 * Take an element or end token, wait if empty.
+		 * 
+		 * @return
+		 * @throws InterruptedException
+		 */
+		public Object take() throws InterruptedException
+		{
+			return released(this.queue.take());
+		}
+
+		/**
+		 * Take an element or end token, wait up to the timeout if empty.
+		 * 
+		 * @param timeout
+		 * @param unit
+		 * @return {@code null} if timeout.
+		 * @throws InterruptedException
+		 */
+		public Object poll(long timeout, TimeUnit unit)
+				throws InterruptedException
+		{
+			return released(this.queue.poll(timeout, unit));
+		}
+
+		/**
+		 * Take an element or end token, return immediately if empty.
+		 * 
+		 * @return {@code null} if empty.
+		 */
+		public Object poll()
+		{
+			return released(this.queue.poll());
+		}
+
+		protected Object released(Object element)
+		{
+			if (element != null && element != END)
+				this.permits.release();
+
+			return element;
+		}
+	}
+
+	/**
+	 * Sub-stream of an <i>implementor</i> bean, which counts its running
+	 * workers.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 * 
+	 */
+	protected static class SubStream extends BoundedQueue
+	{
+		private final AtomicInteger workers = new AtomicInteger(0);
+
+		private volatile boolean stopped = false;
+
+		public SubStream(int capacity, int endCapacity)
+		{
+			super(capacity, endCapacity);
+		}
+
+		public void startWorker()
+		{
+			this.workers.incrementAndGet();
+		}
+
+		/**
+		 * Called when a worker exits.
+		 * 
+		 * @return {@code true} if it is the last worker.
+		 */
+		public boolean stopWorker()
+		{
+			if (this.workers.decrementAndGet() > 0)
+				return false;
+
+			this.stopped = true;
+
+			return true;
+		}
+
+		/**
+		 * Return if all workers exited.
+		 * 
+		 * @return
+		 */
+		public boolean isStopped()
+		{
+			return stopped;
+		}
+	}
+
+	/**
+	 * Result of an arguments in the stream.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 * 
+	 */
+	public static class StreamResult
+	{
+		private final Object[] args;
+
+		private final Object result;
+
+		private final Throwable error;
+
+		public StreamResult(Object[] args, Object result, Throwable error)
+		{
+			super();
+			this.args = args;
+			this.result = result;
+			this.error = error;
+		}
+
+		/**
+		 * Get the <i>implementee method</i> arguments.
+		 * 
+		 * @return
+		 */
+		public Object[] getArgs()
+		{
+			return args;
+		}
+
+		/**
+		 * Get the result of the <i>implement method</i>.
+		 * 
+		 * @return
+		 */
+		public Object getResult()
+		{
+			return result;
+		}
+
+		/**
+		 * Get the error thrown by dispatching or the <i>implement
+		 * method</i>.
+		 * 
+		 * @return {@code null} if no error.
+		 */
+		public Throwable getError()
+		{
+			return error;
+		}
+
+		public boolean isSuccess()
+		{
+			return (this.error == null);
+		}
+	}
+}
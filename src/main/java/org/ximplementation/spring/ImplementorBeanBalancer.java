@@ -0,0 +1,61 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Balancer for selecting among multiple beans of the same <i>implementor</i>,
+ * for example, one client bean per shard or credential.
+ * <p>
+ * The beans are evaluated from the selected one in order and wrapped around,
+ * so the first valid one from it is selected for static priority.
+ * </p>
+ * <p>
+ * Note that the implementations should be thread-safe, one instance is shared
+ * by all invocations of the <i>implementee method</i>s.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see ImplementeeMethodInvoker
+ */
+public interface ImplementorBeanBalancer
+{
+	/**
+	 * Select the index of the bean to be evaluated first.
+	 * 
+	 * @param implementor
+	 *            The <i>implementor</i>.
+	 * @param beanCount
+	 *            The bean count of the <i>implementor</i>, always
+	 *            {@code > 1}.
+	 * @param invocationParams
+	 *            The <i>implementee method</i> invocation parameters.
+	 * @return The index in {@code [0, beanCount)}.
+	 */
+	int select(Class<?> implementor, int beanCount, Object[] invocationParams);
+
+	/**
+	 * Get the in-flight invocation counter of the bean, which is increased
+	 * when the bean is selected, and decreased after the invocation is
+	 * invoked or abandoned.
+	 * 
+	 * @param implementor
+	 * @param beanIndex
+	 * @return {@code null} if in-flight invocations are not counted.
+	 */
+	AtomicInteger getInFlightCounter(Class<?> implementor, int beanIndex);
+}
@@ -0,0 +1,154 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency bulkhead of an <i>implementor</i>.
+ * <p>
+ * It counts the in-flight invocations by an atomic counter, a permit is
+ * acquired by compare-and-set when the <i>implementor</i> is selected and
+ * released when the invocation finishes, so it never blocks.
+ * </p>
+ * <p>
+ * Note that this class is thread-safe and can be accessed by multiple threads.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see Bulkhead
+ */
+public class ImplementorBulkhead
+{
+	private final Class<?> implementor;
+
+	private final int maxConcurrency;
+
+	private final AtomicInteger inFlight = new AtomicInteger(0);
+
+	public ImplementorBulkhead(Class<?> implementor, int maxConcurrency)
+	{
+		super();
+
+		if (maxConcurrency < 1)
+			throw new IllegalArgumentException(
+					"[maxConcurrency] must be > 0");
+
+		this.implementor = implementor;
+		this.maxConcurrency = maxConcurrency;
+	}
+
+	public Class<?> getImplementor()
+	{
+		return implementor;
+	}
+
+	public int getMaxConcurrency()
+	{
+		return maxConcurrency;
+	}
+
+	/**
+	 * Get the current in-flight invocation count.
+	 * 
+	 * @return
+	 */
+	public int getInFlight()
+	{
+		return this.inFlight.get();
+	}
+
+	/**
+	 * Try to acquire a permit.
+	 * 
+	 * @return {@code true} if acquired, {@code false} if saturated.
+	 */
+	public boolean tryAcquire()
+	{
+		for (;;)
+		{
+			int current = this.inFlight.get();
+
+			if (current >= this.maxConcurrency)
+				return false;
+
+			if (this.inFlight.compareAndSet(current, current + 1))
+				return true;
+		}
+	}
+
+	/**
+	 * Release an acquired permit.
+	 */
+	public void release()
+	{
+		this.inFlight.decrementAndGet();
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName() + " [implementor=" + implementor
+				+ ", maxConcurrency=" + maxConcurrency + ", inFlight="
+				+ this.inFlight.get() + "]";
+	}
+
+	/**
+	 * Registry of {@linkplain ImplementorBulkhead}s, so that all <i>implementee
+	 * method</i>s share the same one of an <i>implementor</i>.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 * 
+	 */
+	public static class Registry
+	{
+		private final ConcurrentHashMap<Class<?>, ImplementorBulkhead> bulkheads = new ConcurrentHashMap<Class<?>, ImplementorBulkhead>();
+
+		public Registry()
+		{
+			super();
+		}
+
+		/**
+		 * Get the {@linkplain ImplementorBulkhead} of the <i>implementor</i>.
+		 * 
+		 * @param implementor
+		 * @return {@code null} if the <i>implementor</i> is not annotated with
+		 *         {@linkplain Bulkhead}.
+		 */
+		public ImplementorBulkhead get(Class<?> implementor)
+		{
+			ImplementorBulkhead bulkhead = this.bulkheads.get(implementor);
+
+			if (bulkhead != null)
+				return bulkhead;
+
+			Bulkhead annotation = implementor.getAnnotation(Bulkhead.class);
+
+			if (annotation == null)
+				return null;
+
+			bulkhead = new ImplementorBulkhead(implementor, annotation.value());
+
+			ImplementorBulkhead old = this.bulkheads.putIfAbsent(implementor,
+					bulkhead);
+
+			return (old == null ? bulkhead : old);
+		}
+	}
+}
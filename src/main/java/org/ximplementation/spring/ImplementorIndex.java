@@ -0,0 +1,488 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.CannotLoadBeanClassException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.ximplementation.support.ImplementorManager;
+
+/**
+ * Index of <i>implementor</i>s and their bean names in a
+ * {@linkplain ConfigurableListableBeanFactory}.
+ * <p>
+ * An index only scans the bean definitions of its own bean factory, and is
+ * layered on the index of the parent bean factory, so a child Spring context
+ * sees the <i>implementor</i>s of its ancestors without scanning them again.
+ * The index of each bean factory and {@linkplain ImplementorManager} is built
+ * only once and shared by all its child contexts, see
+ * {@linkplain #valueOf(ConfigurableListableBeanFactory, ImplementorManager)}
+ * and {@linkplain #remove(BeanFactory, ImplementorManager)}.
+ * </p>
+ * <p>
+ * A bean definition of a child bean factory hides the one of the same name
+ * of the ancestors, whatever its class is.
+ * </p>
+ * <p>
+ * An index is not modified after it is built, so it can be accessed by
+ * multiple threads. Bean definitions registered at runtime are indexed into a
+ * new index, see {@linkplain #extend(ConfigurableListableBeanFactory, String...)}.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ */
+public class ImplementorIndex
+{
+	/** bean factory -> implementor manager -> built index */
+	private static final Map<BeanFactory, Map<ImplementorManager, ImplementorIndex>> INDEXES = new WeakHashMap<BeanFactory, Map<ImplementorManager, ImplementorIndex>>();
+
+	private final ImplementorIndex parent;
+
+	private final ImplementorManager implementorManager;
+
+	/** managers of the bean definitions registered at runtime */
+	private final List<ImplementorManager> extendedImplementorManagers;
+
+	/** implementor -> bean names, only of its own bean factory */
+	private final Map<Class<?>, List<String>> implementorBeanNamesMap;
+
+	/** all bean names of its own bean factory */
+	private final Set<String> beanNames;
+
+	public ImplementorIndex(ImplementorIndex parent,
+			ImplementorManager implementorManager,
+			Map<Class<?>, List<String>> implementorBeanNamesMap)
+	{
+		this(parent, implementorManager,
+				Collections.<ImplementorManager> emptyList(),
+				implementorBeanNamesMap);
+	}
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param parent
+	 * @param implementorManager
+	 * @param extendedImplementorManagers
+	 *            The {@linkplain ImplementorManager}s of the bean definitions
+	 *            registered at runtime, which are layered on the
+	 *            {@code implementorManager}.
+	 * @param implementorBeanNamesMap
+	 */
+	public ImplementorIndex(ImplementorIndex parent,
+			ImplementorManager implementorManager,
+			List<ImplementorManager> extendedImplementorManagers,
+			Map<Class<?>, List<String>> implementorBeanNamesMap)
+	{
+		super();
+		this.parent = parent;
+		this.implementorManager = implementorManager;
+		this.extendedImplementorManagers = Collections
+				.unmodifiableList(extendedImplementorManagers);
+		this.implementorBeanNamesMap = Collections
+				.unmodifiableMap(implementorBeanNamesMap);
+
+		Set<String> beanNames = new HashSet<String>();
+		for (List<String> implementorBeanNames : implementorBeanNamesMap
+				.values())
+			beanNames.addAll(implementorBeanNames);
+
+		this.beanNames = beanNames;
+	}
+
+	/**
+	 * Get the index of the parent bean factory.
+	 * 
+	 * @return {@code null} if none.
+	 */
+	public ImplementorIndex getParent()
+	{
+		return parent;
+	}
+
+	public ImplementorManager getImplementorManager()
+	{
+		return implementorManager;
+	}
+
+	/**
+	 * Get the {@linkplain ImplementorManager}s of the bean definitions
+	 * registered at runtime, see
+	 * {@linkplain #extend(ConfigurableListableBeanFactory, String...)}.
+	 * 
+	 * @return
+	 */
+	public List<ImplementorManager> getExtendedImplementorManagers()
+	{
+		return extendedImplementorManagers;
+	}
+
+	/**
+	 * Get the <i>implementor</i> to bean names map, only of its own bean
+	 * factory.
+	 * 
+	 * @return
+	 */
+	public Map<Class<?>, List<String>> getImplementorBeanNamesMap()
+	{
+		return implementorBeanNamesMap;
+	}
+
+	/**
+	 * Get the <i>implementor</i>s of the type, including the ones of the
+	 * ancestors.
+	 * 
+	 * @param type
+	 * @return {@code null} if none.
+	 */
+	public Set<Class<?>> getImplementors(Class<?> type)
+	{
+		Set<Class<?>> myImplementors = this.implementorManager.get(type);
+
+		for (ImplementorManager extendedImplementorManager : this.extendedImplementorManagers)
+			myImplementors = union(myImplementors,
+					extendedImplementorManager.get(type));
+
+		if (this.parent == null)
+			return myImplementors;
+
+		Set<Class<?>> parentImplementors = this.parent.getImplementors(type);
+
+		return union(parentImplementors, myImplementors);
+	}
+
+	private static Set<Class<?>> union(Set<Class<?>> first,
+			Set<Class<?>> second)
+	{
+		if (second == null || second.isEmpty())
+			return first;
+
+		if (first == null || first.isEmpty())
+			return second;
+
+		Set<Class<?>> union = new LinkedHashSet<Class<?>>(first);
+		union.addAll(second);
+
+		return union;
+	}
+
+	/**
+	 * Get the bean names of the <i>implementor</i>, including the ones of the
+	 * ancestors.
+	 * 
+	 * @param implementor
+	 * @return An empty list if none.
+	 */
+	public List<String> getImplementorBeanNames(Class<?> implementor)
+	{
+		List<String> myBeanNames = this.implementorBeanNamesMap
+				.get(implementor);
+
+		if (this.parent == null)
+			return (myBeanNames == null ? Collections.<String> emptyList()
+					: myBeanNames);
+
+		List<String> beanNames = new ArrayList<String>();
+
+		for (String beanName : this.parent.getImplementorBeanNames(implementor))
+		{
+			// overridden in child, whatever its class is
+			if (!this.beanNames.contains(beanName))
+				beanNames.add(beanName);
+		}
+
+		if (myBeanNames != null)
+			beanNames.addAll(myBeanNames);
+
+		return beanNames;
+	}
+
+	/**
+	 * Get a shared index of the bean factory, it is built with a new
+	 * {@linkplain ImplementorManager} if not exists.
+	 * <p>
+	 * If there are more than one index of the bean factory, the first built
+	 * one is returned.
+	 * </p>
+	 * 
+	 * @param beanFactory
+	 * @return
+	 * @throws BeansException
+	 */
+	public static ImplementorIndex valueOf(
+			ConfigurableListableBeanFactory beanFactory) throws BeansException
+	{
+		synchronized (INDEXES)
+		{
+			Map<ImplementorManager, ImplementorIndex> indexes = INDEXES
+					.get(beanFactory);
+
+			if (indexes != null && !indexes.isEmpty())
+				return indexes.values().iterator().next();
+		}
+
+		return valueOf(beanFactory, new ImplementorManager());
+	}
+
+	/**
+	 * Get the shared index of the bean factory and the
+	 * {@linkplain ImplementorManager}, it is built if not exists.
+	 * 
+	 * @param beanFactory
+	 * @param implementorManager
+	 *            The {@linkplain ImplementorManager} for the bean factory
+	 *            itself, not for its ancestors.
+	 * @return
+	 * @throws BeansException
+	 */
+	public static ImplementorIndex valueOf(
+			ConfigurableListableBeanFactory beanFactory,
+			ImplementorManager implementorManager) throws BeansException
+	{
+		synchronized (INDEXES)
+		{
+			Map<ImplementorManager, ImplementorIndex> indexes = INDEXES
+					.get(beanFactory);
+
+			ImplementorIndex index = (indexes == null ? null
+					: indexes.get(implementorManager));
+
+			if (index != null)
+				return index;
+		}
+
+		ImplementorIndex parent = null;
+
+		BeanFactory parentBeanFactory = beanFactory.getParentBeanFactory();
+
+		if (parentBeanFactory instanceof ConfigurableListableBeanFactory)
+			parent = valueOf(
+					(ConfigurableListableBeanFactory) parentBeanFactory);
+
+		ImplementorIndex index = build(beanFactory, parent,
+				implementorManager);
+
+		synchronized (INDEXES)
+		{
+			Map<ImplementorManager, ImplementorIndex> indexes = getIndexes(
+					beanFactory);
+
+			ImplementorIndex previous = indexes.get(implementorManager);
+
+			if (previous != null)
+				return previous;
+
+			indexes.put(implementorManager, index);
+		}
+
+		return index;
+	}
+
+	/**
+	 * Remove the shared index of the bean factory and the
+	 * {@linkplain ImplementorManager}, for example when the owner of the
+	 * {@linkplain ImplementorManager} is destroyed.
+	 * 
+	 * @param beanFactory
+	 * @param implementorManager
+	 */
+	public static void remove(BeanFactory beanFactory,
+			ImplementorManager implementorManager)
+	{
+		synchronized (INDEXES)
+		{
+			Map<ImplementorManager, ImplementorIndex> indexes = INDEXES
+					.get(beanFactory);
+
+			if (indexes == null)
+				return;
+
+			indexes.remove(implementorManager);
+
+			if (indexes.isEmpty())
+				INDEXES.remove(beanFactory);
+		}
+	}
+
+	/**
+	 * Get the indexes of the bean factory, it must be called in
+	 * {@code synchronized (INDEXES)}.
+	 * 
+	 * @param beanFactory
+	 * @return
+	 */
+	private static Map<ImplementorManager, ImplementorIndex> getIndexes(
+			BeanFactory beanFactory)
+	{
+		Map<ImplementorManager, ImplementorIndex> indexes = INDEXES
+				.get(beanFactory);
+
+		if (indexes == null)
+		{
+			indexes = new LinkedHashMap<ImplementorManager, ImplementorIndex>();
+			INDEXES.put(beanFactory, indexes);
+		}
+
+		return indexes;
+	}
+
+	/**
+	 * Build the index of the bean factory by scanning its own bean
+	 * definitions.
+	 * 
+	 * @param beanFactory
+	 * @param parent
+	 *            The index of the parent bean factory, may be {@code null}.
+	 * @param implementorManager
+	 * @return
+	 * @throws BeansException
+	 */
+	public static ImplementorIndex build(
+			ConfigurableListableBeanFactory beanFactory,
+			ImplementorIndex parent, ImplementorManager implementorManager)
+			throws BeansException
+	{
+		Map<Class<?>, List<String>> implementorBeanNamesMap = new HashMap<Class<?>, List<String>>();
+
+		String[] allBeanNames = beanFactory.getBeanDefinitionNames();
+
+		for (int i = 0; i < allBeanNames.length; i++)
+			addBeanDefinition(beanFactory, allBeanNames[i],
+					implementorBeanNamesMap, implementorManager);
+
+		return new ImplementorIndex(parent, implementorManager,
+				implementorBeanNamesMap);
+	}
+
+	/**
+	 * Create a new index with the bean definitions which are registered into
+	 * the bean factory at runtime, this index is not modified.
+	 * <p>
+	 * The new <i>implementor</i>s are added into a new
+	 * {@linkplain ImplementorManager} layered on the ones of this index, so
+	 * the entries added into {@linkplain #getImplementorManager()}
+	 * programmatically are kept. A registered bean definition replaces the
+	 * indexed one of the same name.
+	 * </p>
+	 * <p>
+	 * The new index is shared by the child contexts created afterwards.
+	 * </p>
+	 * 
+	 * @param beanFactory
+	 *            The bean factory of this index.
+	 * @param beanNames
+	 *            The names of the registered bean definitions.
+	 * @return
+	 * @throws BeansException
+	 */
+	public ImplementorIndex extend(ConfigurableListableBeanFactory beanFactory,
+			String... beanNames) throws BeansException
+	{
+		Map<Class<?>, List<String>> implementorBeanNamesMap = new HashMap<Class<?>, List<String>>();
+
+		for (Map.Entry<Class<?>, List<String>> entry : this.implementorBeanNamesMap
+				.entrySet())
+		{
+			List<String> implementorBeanNames = new ArrayList<String>(
+					entry.getValue());
+
+			// replaced by the registered ones
+			implementorBeanNames.removeAll(Arrays.asList(beanNames));
+
+			implementorBeanNamesMap.put(entry.getKey(), implementorBeanNames);
+		}
+
+		ImplementorManager extendedImplementorManager = new ImplementorManager();
+
+		for (String beanName : beanNames)
+			addBeanDefinition(beanFactory, beanName, implementorBeanNamesMap,
+					extendedImplementorManager);
+
+		List<ImplementorManager> extendedImplementorManagers = new ArrayList<ImplementorManager>(
+				this.extendedImplementorManagers);
+		extendedImplementorManagers.add(extendedImplementorManager);
+
+		ImplementorIndex index = new ImplementorIndex(this.parent,
+				this.implementorManager, extendedImplementorManagers,
+				implementorBeanNamesMap);
+
+		synchronized (INDEXES)
+		{
+			Map<ImplementorManager, ImplementorIndex> indexes = getIndexes(
+					beanFactory);
+
+			// replace the one of this index only
+			if (indexes.containsKey(this.implementorManager))
+				indexes.put(this.implementorManager, index);
+		}
+
+		return index;
+	}
+
+	private static void addBeanDefinition(
+			ConfigurableListableBeanFactory beanFactory, String beanName,
+			Map<Class<?>, List<String>> implementorBeanNamesMap,
+			ImplementorManager implementorManager) throws BeansException
+	{
+		Class<?> beanClass = null;
+
+		BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+		String beanClassName = beanDefinition.getBeanClassName();
+
+		try
+		{
+			beanClass = Class.forName(beanClassName);
+		}
+		catch (ClassNotFoundException e)
+		{
+			throw new CannotLoadBeanClassException(
+					beanDefinition.getResourceDescription(), beanName,
+					beanClassName, e);
+		}
+
+		List<String> implementorBeanNames = implementorBeanNamesMap
+				.get(beanClass);
+		if (implementorBeanNames == null)
+		{
+			implementorBeanNames = new ArrayList<String>();
+			implementorBeanNamesMap.put(beanClass, implementorBeanNames);
+		}
+
+		if (implementorBeanNames.contains(beanName))
+			return;
+
+		implementorBeanNames.add(beanName);
+
+		// Add itself, fix missing itself as an implementor when auto wired
+		// class is not abstract
+		implementorManager.addFor(beanClass, beanClass);
+		implementorManager.add(beanClass);
+	}
+}
@@ -0,0 +1,51 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+/**
+ * <i>Implementor</i> saturated exception.
+ * <p>
+ * It is thrown when no <i>implement method</i> is selected because all the
+ * valid <i>implementor</i>s are saturated by their {@linkplain Bulkhead}s.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see Bulkhead
+ */
+public class ImplementorSaturatedException extends RuntimeException
+{
+	private static final long serialVersionUID = 1L;
+
+	public ImplementorSaturatedException()
+	{
+		super();
+	}
+
+	public ImplementorSaturatedException(String message)
+	{
+		super(message);
+	}
+
+	public ImplementorSaturatedException(Throwable cause)
+	{
+		super(cause);
+	}
+
+	public ImplementorSaturatedException(String message, Throwable cause)
+	{
+		super(message, cause);
+	}
+}
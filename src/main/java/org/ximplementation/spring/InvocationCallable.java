@@ -0,0 +1,111 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+
+import org.ximplementation.support.ImplementeeMethodInvocation;
+
+/**
+ * {@linkplain Callable} for invoking an
+ * {@linkplain ImplementeeMethodInvocation}.
+ * <p>
+ * If it is {@linkplain #abandon() abandoned} before started, it never
+ * invokes and the {@linkplain Bulkhead} permit of the invocation is
+ * released, so the invocations which are cancelled or rejected before
+ * running do not hold their permits.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see InvocationFutureTask
+ */
+public class InvocationCallable implements Callable<Object>
+{
+	private final ImplementeeMethodInvocation implementeeMethodInvocation;
+
+	private boolean started = false;
+
+	private boolean abandoned = false;
+
+	public InvocationCallable(
+			ImplementeeMethodInvocation implementeeMethodInvocation)
+	{
+		super();
+		this.implementeeMethodInvocation = implementeeMethodInvocation;
+	}
+
+	public ImplementeeMethodInvocation getImplementeeMethodInvocation()
+	{
+		return implementeeMethodInvocation;
+	}
+
+	@Override
+	public Object call() throws Exception
+	{
+		if (!start())
+			throw new CancellationException();
+
+		return doCall();
+	}
+
+	/**
+	 * Abandon it, the {@linkplain Future} of it should be cancelled.
+	 * 
+	 * @return {@code true} if it is not started, {@code false} if it is
+	 *         already started.
+	 */
+	public synchronized boolean abandon()
+	{
+		if (this.started)
+			return false;
+
+		if (!this.abandoned)
+		{
+			this.abandoned = true;
+			InvocationUtil.release(this.implementeeMethodInvocation);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Mark it started.
+	 * 
+	 * @return {@code false} if it is already abandoned.
+	 */
+	protected synchronized boolean start()
+	{
+		if (this.abandoned)
+			return false;
+
+		this.started = true;
+
+		return true;
+	}
+
+	/**
+	 * Invoke the {@linkplain ImplementeeMethodInvocation}.
+	 * 
+	 * @return
+	 * @throws Exception
+	 */
+	protected Object doCall() throws Exception
+	{
+		return InvocationUtil.invoke(this.implementeeMethodInvocation);
+	}
+}
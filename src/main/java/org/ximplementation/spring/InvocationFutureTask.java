@@ -0,0 +1,48 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.util.concurrent.FutureTask;
+
+/**
+ * {@linkplain FutureTask} of {@linkplain InvocationCallable}, which
+ * {@linkplain InvocationCallable#abandon() abandons} it when cancelled.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class InvocationFutureTask extends FutureTask<Object>
+{
+	private final InvocationCallable invocationCallable;
+
+	public InvocationFutureTask(InvocationCallable invocationCallable)
+	{
+		super(invocationCallable);
+		this.invocationCallable = invocationCallable;
+	}
+
+	public InvocationCallable getInvocationCallable()
+	{
+		return invocationCallable;
+	}
+
+	@Override
+	protected void done()
+	{
+		if (isCancelled())
+			this.invocationCallable.abandon();
+	}
+}
@@ -0,0 +1,103 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import org.ximplementation.support.ImplementeeMethodInvocation;
+
+/**
+ * Utility for invoking {@linkplain ImplementeeMethodInvocation}s in other
+ * threads.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class InvocationUtil
+{
+	/**
+	 * Invoke the {@linkplain ImplementeeMethodInvocation} in a
+	 * {@linkplain Callable}, the {@linkplain Throwable} which is neither
+	 * {@linkplain Exception} nor {@linkplain Error} is wrapped into an
+	 * {@linkplain UndeclaredThrowableException}.
+	 * 
+	 * @param implementeeMethodInvocation
+	 * @return
+	 * @throws Exception
+	 */
+	public static Object invoke(
+			ImplementeeMethodInvocation implementeeMethodInvocation)
+			throws Exception
+	{
+		try
+		{
+			return implementeeMethodInvocation.invoke();
+		}
+		catch (Exception e)
+		{
+			throw e;
+		}
+		catch (Error e)
+		{
+			throw e;
+		}
+		catch (Throwable t)
+		{
+			throw new UndeclaredThrowableException(t);
+		}
+	}
+
+	/**
+	 * Release the {@linkplain Bulkhead} permit of the
+	 * {@linkplain ImplementeeMethodInvocation} which is abandoned before
+	 * invoked, it does nothing if it holds no permit.
+	 * 
+	 * @param implementeeMethodInvocation
+	 * @see InvokerImplementeeMethodInvocation#release()
+	 */
+	public static void release(
+			ImplementeeMethodInvocation implementeeMethodInvocation)
+	{
+		if (implementeeMethodInvocation instanceof InvokerImplementeeMethodInvocation)
+			((InvokerImplementeeMethodInvocation) implementeeMethodInvocation)
+					.release();
+	}
+
+	/**
+	 * Get the {@linkplain Throwable} thrown by the invocation from the
+	 * {@linkplain ExecutionException}, the
+	 * {@linkplain UndeclaredThrowableException} wrapped by
+	 * {@linkplain #invoke(ImplementeeMethodInvocation)} is unwrapped.
+	 * 
+	 * @param e
+	 * @return
+	 */
+	public static Throwable getCause(ExecutionException e)
+	{
+		Throwable cause = e.getCause();
+
+		if (cause == null)
+			return e;
+
+		if (cause instanceof UndeclaredThrowableException
+				&& cause.getCause() != null)
+			cause = cause.getCause();
+
+		return cause;
+	}
+}
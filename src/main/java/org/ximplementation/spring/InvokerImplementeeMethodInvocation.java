@@ -0,0 +1,249 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.ximplementation.support.ImplementeeMethodInvocation;
+
+/**
+ * {@linkplain ImplementeeMethodInvocation} based on
+ * {@linkplain ImplementMethodInvoker}.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see ImplementeeMethodInvoker
+ */
+public class InvokerImplementeeMethodInvocation
+		implements ImplementeeMethodInvocation
+{
+	private final ImplementMethodInvoker implementMethodInvoker;
+
+	private final Object implementorBean;
+
+	private final Object[] invocationParams;
+
+	/**
+	 * in-flight invocation counter of the bean, increased already, null for
+	 * not counting
+	 */
+	private final AtomicInteger inFlightCounter;
+
+	/** acquired bulkhead of the implementor, null for none */
+	private final ImplementorBulkhead bulkhead;
+
+	/** latency average of the implementor to record, null for none */
+	private final LatencyEwma latencyEwma;
+
+	/**
+	 * if the bulkhead and in-flight count are released, null for neither of
+	 * them
+	 */
+	private final AtomicBoolean released;
+
+	public InvokerImplementeeMethodInvocation(
+			ImplementMethodInvoker implementMethodInvoker,
+			Object implementorBean, Object[] invocationParams)
+	{
+		this(implementMethodInvoker, implementorBean, invocationParams, null);
+	}
+
+	public InvokerImplementeeMethodInvocation(
+			ImplementMethodInvoker implementMethodInvoker,
+			Object implementorBean, Object[] invocationParams,
+			AtomicInteger inFlightCounter)
+	{
+		this(implementMethodInvoker, implementorBean, invocationParams,
+				inFlightCounter, null);
+	}
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param implementMethodInvoker
+	 * @param implementorBean
+	 * @param invocationParams
+	 * @param inFlightCounter
+	 *            The in-flight invocation counter of the bean which is
+	 *            increased for this invocation already, and decreased after
+	 *            it is invoked or released, may be {@code null}.
+	 * @param bulkhead
+	 *            The {@linkplain ImplementorBulkhead} whose permit is acquired
+	 *            for this invocation and released after it is invoked, may be
+	 *            {@code null}.
+	 */
+	public InvokerImplementeeMethodInvocation(
+			ImplementMethodInvoker implementMethodInvoker,
+			Object implementorBean, Object[] invocationParams,
+			AtomicInteger inFlightCounter, ImplementorBulkhead bulkhead)
+	{
+		this(implementMethodInvoker, implementorBean, invocationParams,
+				inFlightCounter, bulkhead, null);
+	}
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param implementMethodInvoker
+	 * @param implementorBean
+	 * @param invocationParams
+	 * @param inFlightCounter
+	 *            The in-flight invocation counter of the bean which is
+	 *            increased for this invocation already, and decreased after
+	 *            it is invoked or released, may be {@code null}.
+	 * @param bulkhead
+	 *            The {@linkplain ImplementorBulkhead} whose permit is acquired
+	 *            for this invocation and released after it is invoked, may be
+	 *            {@code null}.
+	 * @param latencyEwma
+	 *            The {@linkplain LatencyEwma} which the latency of successful
+	 *            invocation is recorded into, may be {@code null}.
+	 */
+	public InvokerImplementeeMethodInvocation(
+			ImplementMethodInvoker implementMethodInvoker,
+			Object implementorBean, Object[] invocationParams,
+			AtomicInteger inFlightCounter, ImplementorBulkhead bulkhead,
+			LatencyEwma latencyEwma)
+	{
+		super();
+		this.implementMethodInvoker = implementMethodInvoker;
+		this.implementorBean = implementorBean;
+		this.invocationParams = invocationParams;
+		this.inFlightCounter = inFlightCounter;
+		this.bulkhead = bulkhead;
+		this.latencyEwma = latencyEwma;
+		this.released = (bulkhead == null && inFlightCounter == null ? null
+				: new AtomicBoolean(false));
+	}
+
+	/**
+	 * Get the selected {@linkplain ImplementMethodInvoker}.
+	 * 
+	 * @return
+	 */
+	public ImplementMethodInvoker getImplementMethodInvoker()
+	{
+		return implementMethodInvoker;
+	}
+
+	/**
+	 * Get the selected <i>implementor</i> bean.
+	 * 
+	 * @return
+	 */
+	public Object getImplementorBean()
+	{
+		return implementorBean;
+	}
+
+	/**
+	 * Get the <i>implementee method</i> invocation parameters.
+	 * 
+	 * @return
+	 */
+	public Object[] getInvocationParams()
+	{
+		return invocationParams;
+	}
+
+	/**
+	 * Get the in-flight invocation counter of the selected bean.
+	 * 
+	 * @return {@code null} if not counted
+	 * @see ImplementorBeanBalancer
+	 */
+	public AtomicInteger getInFlightCounter()
+	{
+		return inFlightCounter;
+	}
+
+	/**
+	 * Get the acquired {@linkplain ImplementorBulkhead}.
+	 * 
+	 * @return {@code null} if none
+	 */
+	public ImplementorBulkhead getBulkhead()
+	{
+		return bulkhead;
+	}
+
+	/**
+	 * Get the {@linkplain LatencyEwma} to record.
+	 * 
+	 * @return {@code null} if none
+	 */
+	public LatencyEwma getLatencyEwma()
+	{
+		return latencyEwma;
+	}
+
+	/**
+	 * Release the acquired {@linkplain ImplementorBulkhead} permit and the
+	 * in-flight count of an invocation which is abandoned before invoked, for
+	 * example cancelled or rejected by an executor.
+	 * <p>
+	 * They are released only once, by either this method or
+	 * {@linkplain #invoke()}.
+	 * </p>
+	 */
+	public void release()
+	{
+		if (this.released == null || !this.released.compareAndSet(false, true))
+			return;
+
+		if (this.inFlightCounter != null)
+			this.inFlightCounter.decrementAndGet();
+
+		if (this.bulkhead != null)
+			this.bulkhead.release();
+	}
+
+	@Override
+	public Object invoke() throws Throwable
+	{
+		if (this.released == null && this.latencyEwma == null)
+			return this.implementMethodInvoker.invoke(this.implementorBean,
+					this.invocationParams);
+
+		try
+		{
+			if (this.latencyEwma == null)
+				return this.implementMethodInvoker.invoke(this.implementorBean,
+						this.invocationParams);
+
+			long start = System.nanoTime();
+
+			Object re = this.implementMethodInvoker.invoke(
+					this.implementorBean, this.invocationParams);
+
+			this.latencyEwma.record(System.nanoTime() - start);
+
+			return re;
+		}
+		finally
+		{
+			release();
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName() + " [implementMethod="
+				+ this.implementMethodInvoker.getImplementMethod()
+				+ ", implementorBean=" + implementorBean + "]";
+	}
+}
@@ -0,0 +1,791 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import org.ximplementation.spring.CacheableImplementeeMethodInvocation.ArgumentsKey;
+import org.ximplementation.spring.CacheableImplementeeMethodInvocation.CachedResult;
+import org.ximplementation.support.ImplementInfo;
+import org.ximplementation.support.Implementation;
+import org.ximplementation.support.ImplementeeMethodInvocation;
+import org.ximplementation.support.ImplementeeMethodInvocationFactory;
+import org.ximplementation.support.ImplementorBeanFactory;
+
+/**
+ * {@linkplain ImplementeeMethodInvocationFactory} based on
+ * {@linkplain ImplementeeMethodInvoker}s.
+ * <p>
+ * All <i>implement method</i>s, <i>validity method</i>s and <i>priority
+ * method</i>s of an {@linkplain Implementation} are turned into
+ * {@linkplain FastMethodInvoker}s only once in
+ * {@linkplain #prepare(Implementation)}, which is called by
+ * {@linkplain CglibImplementeeBeanBuilder} when the <i>implementee</i> bean is
+ * built, so no Java reflection is needed for each invocation.
+ * </p>
+ * <p>
+ * If {@linkplain #getAsyncExecutor()} is set, the <i>implement method</i>s of
+ * <i>implementee method</i>s which return {@linkplain Future} will be
+ * invoked in it, see {@linkplain AsyncImplementeeMethodInvocation}. It is
+ * also used for invoking {@linkplain FanOut} <i>implementee method</i>s, see
+ * {@linkplain FanOutImplementeeMethodInvocation}.
+ * </p>
+ * <p>
+ * Note that this class is thread-safe and can be accessed by multiple threads.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see ImplementeeMethodInvoker
+ * @see ImplementMethodInvoker
+ * @see FastMethodInvoker
+ */
+public class InvokerImplementeeMethodInvocationFactory
+		implements ImplementeeMethodInvocationFactory
+{
+	private ConcurrentHashMap<Implementation<?>, Map<Method, ImplementeeMethodInvoker>> implementeeMethodInvokersMap = new ConcurrentHashMap<Implementation<?>, Map<Method, ImplementeeMethodInvoker>>();
+
+	private volatile Executor asyncExecutor;
+
+	/** selection count interval of adaptive reordering, 0 for disabled */
+	private volatile int adaptiveReorderInterval = 0;
+
+	private volatile DispatchProfileStore dispatchProfileStore;
+
+	/** balancer among beans of the same implementor, null for none */
+	private volatile ImplementorBeanBalancer implementorBeanBalancer;
+
+	private final ImplementorBulkhead.Registry bulkheadRegistry = new ImplementorBulkhead.Registry();
+
+	public InvokerImplementeeMethodInvocationFactory()
+	{
+		super();
+	}
+
+	/**
+	 * Get the {@linkplain Executor} for invoking asynchronous <i>implementee
+	 * method</i>s.
+	 * 
+	 * @return {@code null} if all <i>implementee method</i>s are invoked
+	 *         synchronously.
+	 */
+	public Executor getAsyncExecutor()
+	{
+		return asyncExecutor;
+	}
+
+	/**
+	 * Set the {@linkplain Executor} for invoking asynchronous
+	 * <i>implementee method</i>s.
+	 * 
+	 * @param asyncExecutor
+	 *            {@code null} for invoking all <i>implementee method</i>s
+	 *            synchronously.
+	 * @see AsyncExecutors
+	 */
+	public void setAsyncExecutor(Executor asyncExecutor)
+	{
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	public int getAdaptiveReorderInterval()
+	{
+		return adaptiveReorderInterval;
+	}
+
+	/**
+	 * Set the selection count interval of reordering the validity evaluation
+	 * order by {@linkplain DispatchProfile}s.
+	 * <p>
+	 * It only affects the {@linkplain ImplementeeMethodInvoker}s created
+	 * later. Note that the most often selected one wins among the equally
+	 * qualified valid <i>implement method</i>s when enabled, see
+	 * {@linkplain DispatchProfile}.
+	 * </p>
+	 * 
+	 * @param adaptiveReorderInterval
+	 *            {@code 0} for disabling adaptive reordering.
+	 */
+	public void setAdaptiveReorderInterval(int adaptiveReorderInterval)
+	{
+		this.adaptiveReorderInterval = adaptiveReorderInterval;
+	}
+
+	public DispatchProfileStore getDispatchProfileStore()
+	{
+		return dispatchProfileStore;
+	}
+
+	/**
+	 * Set the {@linkplain DispatchProfileStore} whose loaded records are
+	 * applied to the {@linkplain ImplementeeMethodInvoker}s when they are
+	 * created.
+	 * 
+	 * @param dispatchProfileStore
+	 */
+	public void setDispatchProfileStore(
+			DispatchProfileStore dispatchProfileStore)
+	{
+		this.dispatchProfileStore = dispatchProfileStore;
+	}
+
+	public ImplementorBeanBalancer getImplementorBeanBalancer()
+	{
+		return implementorBeanBalancer;
+	}
+
+	/**
+	 * Set the {@linkplain ImplementorBeanBalancer} for selecting among
+	 * multiple beans of the same <i>implementor</i>.
+	 * <p>
+	 * It only affects the {@linkplain ImplementeeMethodInvoker}s created
+	 * later.
+	 * </p>
+	 * 
+	 * @param implementorBeanBalancer
+	 *            {@code null} for always evaluating from the first bean.
+	 */
+	public void setImplementorBeanBalancer(
+			ImplementorBeanBalancer implementorBeanBalancer)
+	{
+		this.implementorBeanBalancer = implementorBeanBalancer;
+	}
+
+	/**
+	 * Get the {@linkplain ImplementorBulkhead.Registry} shared by all
+	 * <i>implementee method</i>s.
+	 * 
+	 * @return
+	 */
+	public ImplementorBulkhead.Registry getBulkheadRegistry()
+	{
+		return bulkheadRegistry;
+	}
+
+	/**
+	 * Get all prepared {@linkplain ImplementeeMethodInvoker}s.
+	 * 
+	 * @return
+	 */
+	public Map<Implementation<?>, Map<Method, ImplementeeMethodInvoker>> getImplementeeMethodInvokersMap()
+	{
+		return Collections
+				.<Implementation<?>, Map<Method, ImplementeeMethodInvoker>> unmodifiableMap(
+						this.implementeeMethodInvokersMap);
+	}
+
+	@Override
+	public ImplementeeMethodInvocation get(Implementation<?> implementation,
+			Method implementeeMethod, Object[] invocationParams,
+			ImplementorBeanFactory implementorBeanFactory) throws Throwable
+	{
+		ImplementeeMethodInvoker implementeeMethodInvoker = getImplementeeMethodInvoker(
+				implementation, implementeeMethod);
+
+		if (implementeeMethodInvoker == null)
+			return null;
+
+		TinyLfuCache<ArgumentsKey, CachedResult> resultCache = implementeeMethodInvoker
+				.getResultCache();
+
+		if (resultCache == null)
+			return getNotCached(implementeeMethodInvoker, implementeeMethod,
+					invocationParams, implementorBeanFactory);
+
+		ArgumentsKey key = new ArgumentsKey(
+				invocationParams == null ? new Object[0] : invocationParams);
+
+		CachedResult cached = resultCache.get(key);
+
+		if (cached != null)
+			return cached;
+
+		// before selecting, so an invalidation while invoking is detected
+		long resultCacheEpoch = implementeeMethodInvoker.getResultCacheEpoch();
+
+		ImplementeeMethodInvocation invocation = getNotCached(
+				implementeeMethodInvoker, implementeeMethod, invocationParams,
+				implementorBeanFactory);
+
+		if (invocation == null)
+			return null;
+
+		ImplementeeMethodInvocation target = invocation;
+		if (target instanceof AsyncImplementeeMethodInvocation)
+			target = ((AsyncImplementeeMethodInvocation) target)
+					.getImplementeeMethodInvocation();
+
+		Class<?> implementor = (target instanceof InvokerImplementeeMethodInvocation
+				? ((InvokerImplementeeMethodInvocation) target)
+						.getImplementMethodInvoker().getImplementor()
+				: null);
+
+		return new CacheableImplementeeMethodInvocation(invocation,
+				implementor, implementeeMethodInvoker, key, resultCacheEpoch);
+	}
+
+	/**
+	 * Get the {@linkplain ImplementeeMethodInvocation} without
+	 * {@linkplain CacheableImplement}.
+	 * 
+	 * @param implementeeMethodInvoker
+	 * @param implementeeMethod
+	 * @param invocationParams
+	 * @param implementorBeanFactory
+	 * @return
+	 * @throws Throwable
+	 */
+	protected ImplementeeMethodInvocation getNotCached(
+			ImplementeeMethodInvoker implementeeMethodInvoker,
+			Method implementeeMethod, Object[] invocationParams,
+			ImplementorBeanFactory implementorBeanFactory) throws Throwable
+	{
+		FanOut fanOut = implementeeMethodInvoker.getFanOut();
+
+		if (fanOut != null)
+			return new FanOutImplementeeMethodInvocation(
+					implementeeMethod,
+					implementeeMethodInvoker.getValidInvocations(
+							invocationParams, implementorBeanFactory),
+					implementeeMethodInvoker.getResultAggregator(),
+					this.asyncExecutor, fanOut.timeout(),
+					fanOut.failOnTimeout());
+
+		Executor asyncExecutor = this.asyncExecutor;
+
+		if (asyncExecutor != null
+				&& implementeeMethodInvoker.getHedged() != null)
+			return getHedgedInvocation(implementeeMethodInvoker,
+					invocationParams, implementorBeanFactory, asyncExecutor);
+
+		ImplementeeMethodInvocation invocation = implementeeMethodInvoker
+				.getInvocation(invocationParams, implementorBeanFactory);
+
+		if (invocation != null && asyncExecutor != null
+				&& implementeeMethodInvoker.isFutureReturnType())
+			invocation = new AsyncImplementeeMethodInvocation(invocation,
+					asyncExecutor);
+
+		return invocation;
+	}
+
+	/**
+	 * Invoke the <i>implementee method</i> with each arguments in batch.
+	 * <p>
+	 * The arguments are grouped by the selected <i>implementor</i> bean, and
+	 * each group is handled by its {@linkplain BatchImplement} method if
+	 * exists, or one by one otherwise.
+	 * </p>
+	 * <p>
+	 * A {@linkplain BatchImplement} method call takes one {@linkplain Bulkhead}
+	 * permit of its <i>implementor</i>, and each one by one invocation takes
+	 * one. If the permit can not be acquired, the arguments are dispatched
+	 * individually again.
+	 * </p>
+	 * <p>
+	 * The {@linkplain FanOut}, {@linkplain CacheableImplement},
+	 * {@linkplain Hedged} and asynchronous <i>implementee method</i>s are not
+	 * grouped, each arguments is invoked by the regular
+	 * {@linkplain #get(Implementation, Method, Object[], ImplementorBeanFactory)}
+	 * invocation, so these annotations are honoured.
+	 * </p>
+	 * 
+	 * @param implementation
+	 * @param implementeeMethod
+	 * @param argsList
+	 * @param implementorBeanFactory
+	 * @return The results in the same order as the arguments.
+	 * @throws Throwable
+	 * @see BatchImplementee
+	 */
+	public List<Object> invokeBatch(Implementation<?> implementation,
+			Method implementeeMethod, List<Object[]> argsList,
+			ImplementorBeanFactory implementorBeanFactory) throws Throwable
+	{
+		int size = argsList.size();
+
+		Object[] results = new Object[size];
+
+		ImplementeeMethodInvoker implementeeMethodInvoker = getImplementeeMethodInvoker(
+				implementation, implementeeMethod);
+
+		// fan-out, cached, hedged and async invocations are not grouped
+		if (implementeeMethodInvoker == null
+				|| implementeeMethodInvoker.getFanOut() != null
+				|| implementeeMethodInvoker.getResultCache() != null
+				|| (this.asyncExecutor != null
+						&& (implementeeMethodInvoker.getHedged() != null
+								|| implementeeMethodInvoker
+										.isFutureReturnType())))
+		{
+			for (int i = 0; i < size; i++)
+				results[i] = getNotNull(implementation, implementeeMethod,
+						argsList.get(i), implementorBeanFactory).invoke();
+
+			return Arrays.asList(results);
+		}
+
+		// implementor bean -> invocations
+		Map<Object, List<InvokerImplementeeMethodInvocation>> groups = new IdentityHashMap<Object, List<InvokerImplementeeMethodInvocation>>();
+		Map<InvokerImplementeeMethodInvocation, Integer> indexes = new IdentityHashMap<InvokerImplementeeMethodInvocation, Integer>();
+
+		try
+		{
+			for (int i = 0; i < size; i++)
+			{
+				Object[] args = argsList.get(i);
+
+				InvokerImplementeeMethodInvocation invocation = (InvokerImplementeeMethodInvocation) implementeeMethodInvoker
+						.getInvocation(args, implementorBeanFactory);
+
+				if (invocation == null)
+					throw newNoValidImplementMethodException(
+							implementeeMethod, args);
+
+				// the permits are acquired per group when invoked
+				if (invocation.getBulkhead() != null)
+				{
+					invocation.getBulkhead().release();
+
+					invocation = new InvokerImplementeeMethodInvocation(
+							invocation.getImplementMethodInvoker(),
+							invocation.getImplementorBean(),
+							invocation.getInvocationParams(),
+							invocation.getInFlightCounter(), null,
+							invocation.getLatencyEwma());
+				}
+
+				Object implementorBean = invocation.getImplementorBean();
+
+				List<InvokerImplementeeMethodInvocation> group = groups
+						.get(implementorBean);
+				if (group == null)
+				{
+					group = new ArrayList<InvokerImplementeeMethodInvocation>();
+					groups.put(implementorBean, group);
+				}
+
+				group.add(invocation);
+				indexes.put(invocation, i);
+			}
+
+			for (Map.Entry<Object, List<InvokerImplementeeMethodInvocation>> entry : groups
+					.entrySet())
+			{
+				List<InvokerImplementeeMethodInvocation> group = entry
+						.getValue();
+
+				Class<?> implementor = group.get(0)
+						.getImplementMethodInvoker().getImplementor();
+
+				FastMethodInvoker batchMethodInvoker = implementeeMethodInvoker
+						.getBatchMethodInvoker(implementor);
+				ImplementorBulkhead bulkhead = implementeeMethodInvoker
+						.getBulkhead(implementor);
+
+				if (batchMethodInvoker == null)
+				{
+					for (InvokerImplementeeMethodInvocation invocation : group)
+					{
+						if (bulkhead != null && !bulkhead.tryAcquire())
+						{
+							invocation.release();
+
+							results[indexes.get(invocation)] = getNotNull(
+									implementation, implementeeMethod,
+									invocation.getInvocationParams(),
+									implementorBeanFactory).invoke();
+							continue;
+						}
+
+						try
+						{
+							results[indexes.get(invocation)] = invocation
+									.invoke();
+						}
+						finally
+						{
+							if (bulkhead != null)
+								bulkhead.release();
+						}
+					}
+				}
+				else if (bulkhead != null && !bulkhead.tryAcquire())
+				{
+					for (InvokerImplementeeMethodInvocation invocation : group)
+					{
+						invocation.release();
+
+						results[indexes.get(invocation)] = getNotNull(
+								implementation, implementeeMethod,
+								invocation.getInvocationParams(),
+								implementorBeanFactory).invoke();
+					}
+				}
+				else
+				{
+					List<Object> batchResults = null;
+
+					try
+					{
+						batchResults = invokeBatchMethod(batchMethodInvoker,
+								entry.getKey(), implementeeMethod, group);
+					}
+					finally
+					{
+						if (bulkhead != null)
+							bulkhead.release();
+					}
+
+					for (int i = 0; i < group.size(); i++)
+						results[indexes.get(group.get(i))] = (batchResults
+								== null ? null : batchResults.get(i));
+				}
+			}
+		}
+		finally
+		{
+			// the invocations which are not invoked, for example handled by
+			// the batch method or failed before, hold in-flight counts
+			for (InvokerImplementeeMethodInvocation invocation : indexes
+					.keySet())
+				invocation.release();
+		}
+
+		return Arrays.asList(results);
+	}
+
+	/**
+	 * Prepare {@linkplain ImplementeeMethodInvoker}s for all <i>implementee
+	 * method</i>s of the given {@linkplain Implementation}.
+	 * <p>
+	 * This method is not required to be called before
+	 * {@linkplain #get(Implementation, Method, Object[], ImplementorBeanFactory)}
+	 * , it will be called automatically when needed.
+	 * </p>
+	 * 
+	 * @param implementation
+	 * @return The {@linkplain ImplementeeMethodInvoker}s mapped by
+	 *         <i>implementee method</i>s.
+	 */
+	public Map<Method, ImplementeeMethodInvoker> prepare(
+			Implementation<?> implementation)
+	{
+		Map<Method, ImplementeeMethodInvoker> invokers = this.implementeeMethodInvokersMap
+				.get(implementation);
+
+		if (invokers == null)
+		{
+			invokers = createImplementeeMethodInvokers(implementation);
+
+			Map<Method, ImplementeeMethodInvoker> previous = this.implementeeMethodInvokersMap
+					.putIfAbsent(implementation, invokers);
+
+			if (previous != null)
+				invokers = previous;
+			else if (this.dispatchProfileStore != null)
+				this.dispatchProfileStore.apply(implementation, invokers);
+		}
+
+		return invokers;
+	}
+
+	/**
+	 * Replace the prepared {@linkplain ImplementeeMethodInvoker}s of the
+	 * {@linkplain Implementation} by the ones of the new
+	 * {@linkplain Implementation}, which is resolved again with more
+	 * <i>implementor</i>s.
+	 * <p>
+	 * The invocations with the {@linkplain Implementation} are dispatched by
+	 * the new {@linkplain ImplementeeMethodInvoker}s afterwards, the
+	 * replacement is atomic, in-flight invocations keep using the old ones.
+	 * The new ones {@linkplain ImplementeeMethodInvoker#inheritState(ImplementeeMethodInvoker)
+	 * inherit} the runtime state of the old ones, and the
+	 * {@linkplain #getDispatchProfileStore()} is only applied if there are no
+	 * old ones, because the old ones include the stored counts already.
+	 * </p>
+	 * 
+	 * @param implementation
+	 * @param newImplementation
+	 * @return The new {@linkplain ImplementeeMethodInvoker}s.
+	 */
+	public Map<Method, ImplementeeMethodInvoker> update(
+			Implementation<?> implementation,
+			Implementation<?> newImplementation)
+	{
+		Map<Method, ImplementeeMethodInvoker> invokers = createImplementeeMethodInvokers(
+				newImplementation);
+
+		Map<Method, ImplementeeMethodInvoker> previousInvokers = this.implementeeMethodInvokersMap
+				.get(implementation);
+
+		if (previousInvokers != null)
+		{
+			for (Map.Entry<Method, ImplementeeMethodInvoker> entry : invokers
+					.entrySet())
+			{
+				ImplementeeMethodInvoker previous = previousInvokers
+						.get(entry.getKey());
+
+				if (previous != null)
+					entry.getValue().inheritState(previous);
+			}
+		}
+		else if (this.dispatchProfileStore != null)
+			this.dispatchProfileStore.apply(newImplementation, invokers);
+
+		this.implementeeMethodInvokersMap.put(implementation, invokers);
+
+		return invokers;
+	}
+
+	/**
+	 * Open an {@linkplain ImplementeeStream} for the <i>implementee
+	 * method</i>, its workers run in {@linkplain #getAsyncExecutor()} if set.
+	 * <p>
+	 * The arguments of a stream are dispatched to single <i>implementor</i>
+	 * beans, so the {@linkplain FanOut}, {@linkplain CacheableImplement} and
+	 * {@linkplain Hedged} <i>implementee method</i>s are not supported.
+	 * </p>
+	 * 
+	 * @param implementation
+	 * @param implementeeMethod
+	 * @param implementorBeanFactory
+	 * @param parallelism
+	 * @param bufferSize
+	 * @return
+	 * @throws IllegalArgumentException
+	 *             If it is not an <i>implementee method</i>, or is annotated
+	 *             with the not supported annotations.
+	 * @see StreamImplementee
+	 */
+	public ImplementeeStream openStream(Implementation<?> implementation,
+			Method implementeeMethod,
+			ImplementorBeanFactory implementorBeanFactory, int parallelism,
+			int bufferSize)
+	{
+		ImplementeeMethodInvoker implementeeMethodInvoker = getImplementeeMethodInvoker(
+				implementation, implementeeMethod);
+
+		if (implementeeMethodInvoker == null)
+			throw new IllegalArgumentException("[" + implementeeMethod
+					+ "] is not an implementee method of ["
+					+ implementation.getImplementee() + "]");
+
+		if (implementeeMethodInvoker.getFanOut() != null
+				|| implementeeMethodInvoker.getResultCache() != null
+				|| implementeeMethodInvoker.getHedged() != null)
+			throw new IllegalArgumentException("[" + implementeeMethod
+					+ "] with @" + FanOut.class.getSimpleName() + ", @"
+					+ CacheableImplement.class.getSimpleName() + " or @"
+					+ Hedged.class.getSimpleName()
+					+ " can not be invoked in stream");
+
+		return new ImplementeeStream(implementeeMethodInvoker,
+				implementorBeanFactory, this.asyncExecutor, parallelism,
+				bufferSize);
+	}
+
+	/**
+	 * Get the {@linkplain ImplementeeMethodInvoker} for the given
+	 * <i>implementee method</i>.
+	 * 
+	 * @param implementation
+	 * @param implementeeMethod
+	 * @return {@code null} if the <i>implementee method</i> is not found in
+	 *         the {@linkplain Implementation}.
+	 */
+	public ImplementeeMethodInvoker getImplementeeMethodInvoker(
+			Implementation<?> implementation, Method implementeeMethod)
+	{
+		return prepare(implementation).get(implementeeMethod);
+	}
+
+	/**
+	 * Get the {@linkplain HedgedImplementeeMethodInvocation} of the
+	 * {@linkplain Hedged} <i>implementee method</i>, the primary invocation is
+	 * selected as a regular one, and the backup one is selected when the
+	 * hedge fires.
+	 * 
+	 * @param implementeeMethodInvoker
+	 * @param invocationParams
+	 * @param implementorBeanFactory
+	 * @param executor
+	 * @return {@code null} if no <i>implement method</i> is valid.
+	 * @throws Throwable
+	 */
+	protected ImplementeeMethodInvocation getHedgedInvocation(
+			ImplementeeMethodInvoker implementeeMethodInvoker,
+			Object[] invocationParams,
+			ImplementorBeanFactory implementorBeanFactory, Executor executor)
+			throws Throwable
+	{
+		ImplementeeMethodInvocation invocation = implementeeMethodInvoker
+				.getInvocation(invocationParams, implementorBeanFactory);
+
+		if (!(invocation instanceof InvokerImplementeeMethodInvocation))
+			return invocation;
+
+		InvokerImplementeeMethodInvocation primary = (InvokerImplementeeMethodInvocation) invocation;
+
+		return new HedgedImplementeeMethodInvocation(primary,
+				implementeeMethodInvoker.getHedgeDelayNanos(
+						primary.getImplementMethodInvoker().getImplementor()),
+				executor, implementeeMethodInvoker, implementorBeanFactory);
+	}
+
+	/**
+	 * Invoke the {@linkplain BatchImplement} method for a group of
+	 * invocations.
+	 * 
+	 * @param batchMethodInvoker
+	 * @param implementorBean
+	 * @param implementeeMethod
+	 * @param group
+	 * @return The results, {@code null} if the batch method returns
+	 *         {@code void}.
+	 * @throws Throwable
+	 */
+	@SuppressWarnings("unchecked")
+	protected List<Object> invokeBatchMethod(
+			FastMethodInvoker batchMethodInvoker, Object implementorBean,
+			Method implementeeMethod,
+			List<InvokerImplementeeMethodInvocation> group) throws Throwable
+	{
+		List<Object[]> batchArgs = new ArrayList<Object[]>(group.size());
+
+		for (InvokerImplementeeMethodInvocation invocation : group)
+			batchArgs.add(invocation.getImplementMethodInvoker()
+					.getImplementArgs(invocation.getInvocationParams()));
+
+		List<Object> batchResults = (List<Object>) batchMethodInvoker
+				.invoke(implementorBean, new Object[] { batchArgs });
+
+		if (batchResults != null && batchResults.size() != group.size())
+			throw new IllegalStateException("The @"
+					+ BatchImplement.class.getSimpleName() + " method '"
+					+ batchMethodInvoker.getMethod() + "' returns "
+					+ batchResults.size() + " results for " + group.size()
+					+ " arguments");
+
+		return batchResults;
+	}
+
+	/**
+	 * Get the {@linkplain ImplementeeMethodInvocation}, throw exception if no
+	 * valid <i>implement method</i>.
+	 * 
+	 * @param implementation
+	 * @param implementeeMethod
+	 * @param invocationParams
+	 * @param implementorBeanFactory
+	 * @return
+	 * @throws Throwable
+	 */
+	protected ImplementeeMethodInvocation getNotNull(
+			Implementation<?> implementation, Method implementeeMethod,
+			Object[] invocationParams,
+			ImplementorBeanFactory implementorBeanFactory) throws Throwable
+	{
+		ImplementeeMethodInvocation invocation = get(implementation,
+				implementeeMethod, invocationParams, implementorBeanFactory);
+
+		if (invocation == null)
+			throw newNoValidImplementMethodException(implementeeMethod,
+					invocationParams);
+
+		return invocation;
+	}
+
+	/**
+	 * Create the exception for no valid <i>implement method</i>.
+	 * 
+	 * @param implementeeMethod
+	 * @param invocationParams
+	 * @return
+	 */
+	protected UnsupportedOperationException newNoValidImplementMethodException(
+			Method implementeeMethod, Object[] invocationParams)
+	{
+		return new UnsupportedOperationException(
+				"No valid implement method found for invocation ["
+						+ implementeeMethod + "] with arguments "
+						+ Arrays.toString(invocationParams));
+	}
+
+	/**
+	 * Create {@linkplain ImplementeeMethodInvoker}s for the given
+	 * {@linkplain Implementation}.
+	 * 
+	 * @param implementation
+	 * @return
+	 */
+	protected Map<Method, ImplementeeMethodInvoker> createImplementeeMethodInvokers(
+			Implementation<?> implementation)
+	{
+		Map<Method, ImplementeeMethodInvoker> re = new HashMap<Method, ImplementeeMethodInvoker>();
+
+		ImplementInfo[] implementInfos = implementation.getImplementInfos();
+
+		if (implementInfos != null)
+		{
+			for (ImplementInfo implementInfo : implementInfos)
+				re.put(implementInfo.getImplementeeMethod(),
+						createImplementeeMethodInvoker(implementation,
+								implementInfo));
+		}
+
+		return re;
+	}
+
+	/**
+	 * Create {@linkplain ImplementeeMethodInvoker} for the given
+	 * {@linkplain ImplementInfo}.
+	 * 
+	 * @param implementation
+	 * @param implementInfo
+	 * @return
+	 * @throws IllegalStateException
+	 *             If the <i>implementee method</i> is annotated with
+	 *             {@linkplain Hedged} but {@linkplain #getAsyncExecutor()} is
+	 *             not set.
+	 */
+	protected ImplementeeMethodInvoker createImplementeeMethodInvoker(
+			Implementation<?> implementation, ImplementInfo implementInfo)
+	{
+		ImplementeeMethodInvoker implementeeMethodInvoker = new ImplementeeMethodInvoker(
+				implementInfo, this.adaptiveReorderInterval,
+				this.implementorBeanBalancer, this.bulkheadRegistry);
+
+		if (implementeeMethodInvoker.getHedged() != null
+				&& this.asyncExecutor == null)
+			throw new IllegalStateException("The @"
+					+ Hedged.class.getSimpleName() + " '"
+					+ implementInfo.getImplementeeMethod()
+					+ "' requires the async executor to be set");
+
+		return implementeeMethodInvoker;
+	}
+}
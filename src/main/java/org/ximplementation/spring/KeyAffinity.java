@@ -0,0 +1,67 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Key affinity <i>implementee method</i> annotation.
+ * <p>
+ * If there are multiple beans of the same <i>implementor</i>, an
+ * <i>implementee method</i> annotated with it selects among them by the
+ * consistent hash of the parameter at {@linkplain #value()}, so the same key
+ * always reaches the same bean, see
+ * {@linkplain ConsistentHashImplementorBeanBalancer}. It overrides the
+ * {@linkplain InvokerImplementeeMethodInvocationFactory#getImplementorBeanBalancer()}.
+ * </p>
+ * <p>
+ * Examples :
+ * </p>
+ * 
+ * <pre>
+ * public interface ProfileService
+ * {
+ * 	&#64;KeyAffinity(0)
+ * 	Profile get(String userId);
+ * }
+ * </pre>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see ConsistentHashImplementorBeanBalancer
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface KeyAffinity
+{
+	/**
+	 * The index of the key parameter.
+	 * 
+	 * @return
+	 */
+	int value() default 0;
+
+	/**
+	 * The virtual node count of each bean on the hash ring.
+	 * 
+	 * @return
+	 */
+	int virtualNodes() default 100;
+}
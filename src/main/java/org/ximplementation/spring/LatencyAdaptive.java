@@ -0,0 +1,72 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Latency adaptive <i>implementee method</i> annotation.
+ * <p>
+ * For an <i>implementee method</i> annotated with it, among the valid
+ * <i>implement method</i>s which have the same static priority and none of
+ * them is more specific than another, the one whose <i>implementor</i> has
+ * the lowest recent latency is selected but not the first one. The recent
+ * latency is the exponentially weighted moving average of the invocation
+ * latencies, see {@linkplain LatencyEwma}. A random one is selected by the
+ * {@linkplain #explorationRate()} for keeping the averages fresh.
+ * </p>
+ * <p>
+ * The tie-break among them is decided by the latencies in any case, neither
+ * by the static order nor by the order of {@linkplain DispatchProfile}.
+ * </p>
+ * <p>
+ * Examples :
+ * </p>
+ * 
+ * <pre>
+ * public interface StorageService
+ * {
+ * 	&#64;LatencyAdaptive(alpha = 0.2, explorationRate = 0.05)
+ * 	byte[] read(String key);
+ * }
+ * </pre>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see LatencyEwma
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface LatencyAdaptive
+{
+	/**
+	 * The weight of the latest latency, in {@code (0, 1]}.
+	 * 
+	 * @return
+	 */
+	double alpha() default 0.2;
+
+	/**
+	 * The rate of selecting a random one, in {@code [0, 1]}.
+	 * 
+	 * @return
+	 */
+	double explorationRate() default 0.05;
+}
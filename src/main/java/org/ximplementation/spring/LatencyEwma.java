@@ -0,0 +1,95 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free exponentially weighted moving average of latencies.
+ * <p>
+ * Note that this class is thread-safe and can be accessed by multiple threads.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see LatencyAdaptive
+ */
+public class LatencyEwma
+{
+	private final double alpha;
+
+	/** bits of the average in nanoseconds, 0 if nothing is recorded */
+	private final AtomicLong averageBits = new AtomicLong(
+			Double.doubleToLongBits(0D));
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param alpha
+	 *            The weight of the latest latency, in {@code (0, 1]}.
+	 */
+	public LatencyEwma(double alpha)
+	{
+		super();
+
+		if (!(alpha > 0D && alpha <= 1D))
+			throw new IllegalArgumentException("[alpha] must be in (0, 1]");
+
+		this.alpha = alpha;
+	}
+
+	public double getAlpha()
+	{
+		return alpha;
+	}
+
+	/**
+	 * Record a latency.
+	 * 
+	 * @param nanos
+	 */
+	public void record(long nanos)
+	{
+		for (;;)
+		{
+			long bits = this.averageBits.get();
+			double average = Double.longBitsToDouble(bits);
+
+			double newAverage = (average == 0D ? nanos
+					: average + this.alpha * (nanos - average));
+
+			if (this.averageBits.compareAndSet(bits,
+					Double.doubleToLongBits(newAverage)))
+				return;
+		}
+	}
+
+	/**
+	 * Get the average latency.
+	 * 
+	 * @return The average in nanoseconds, {@code 0} if nothing is recorded.
+	 */
+	public double get()
+	{
+		return Double.longBitsToDouble(this.averageBits.get());
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName() + " [alpha=" + alpha + ", average="
+				+ get() + "]";
+	}
+}
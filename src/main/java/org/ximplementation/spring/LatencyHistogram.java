@@ -0,0 +1,237 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free latency histogram.
+ * <p>
+ * The latencies in nanoseconds are counted in log-linear buckets, each power
+ * of two range is split into {@code 8} buckets, so the percentile values have
+ * at most {@code 12.5%} relative error.
+ * </p>
+ * <p>
+ * The latencies are recorded into two rotating windows : when the current
+ * window has {@linkplain #getWindowSize()} latencies, it becomes the previous
+ * one and a new empty window becomes the current one, the old previous one is
+ * dropped. The percentiles are taken from both windows, so they track the
+ * recent {@code [windowSize, 2 * windowSize)} latencies but not all history.
+ * </p>
+ * <p>
+ * Note that this class is thread-safe and can be accessed by multiple threads.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see Hedged
+ */
+public class LatencyHistogram
+{
+	private static final int SUB_BUCKET_BITS = 3;
+
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+	private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS + 1)
+			* SUB_BUCKET_COUNT;
+
+	/** default window size */
+	public static final int DEFAULT_WINDOW_SIZE = 1024;
+
+	private final int windowSize;
+
+	private final AtomicReference<Windows> windows = new AtomicReference<Windows>(
+			new Windows(new Window(), new Window()));
+
+	public LatencyHistogram()
+	{
+		this(DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param windowSize
+	 *            The latency count of each window.
+	 */
+	public LatencyHistogram(int windowSize)
+	{
+		super();
+
+		if (windowSize < 1)
+			throw new IllegalArgumentException("[windowSize] must be > 0");
+
+		this.windowSize = windowSize;
+	}
+
+	public int getWindowSize()
+	{
+		return windowSize;
+	}
+
+	/**
+	 * Record a latency.
+	 * 
+	 * @param nanos
+	 */
+	public void record(long nanos)
+	{
+		if (nanos < 0)
+			nanos = 0;
+
+		Windows windows = this.windows.get();
+		Window current = windows.current;
+
+		current.counts.incrementAndGet(getBucketIndex(nanos));
+
+		// only one thread fills the window
+		if (current.totalCount.incrementAndGet() == this.windowSize)
+			this.windows.compareAndSet(windows,
+					new Windows(new Window(), current));
+	}
+
+	/**
+	 * Get the recorded count in the current and previous windows.
+	 * 
+	 * @return
+	 */
+	public long getCount()
+	{
+		Windows windows = this.windows.get();
+
+		return windows.previous.totalCount.get()
+				+ windows.current.totalCount.get();
+	}
+
+	/**
+	 * Get the latency at the percentile.
+	 * 
+	 * @param percentile
+	 *            The percentile in {@code (0, 1]}.
+	 * @return The latency in nanoseconds, {@code -1} if nothing is recorded.
+	 */
+	public long getValueAtPercentile(double percentile)
+	{
+		Windows windows = this.windows.get();
+		AtomicLongArray previousCounts = windows.previous.counts;
+		AtomicLongArray currentCounts = windows.current.counts;
+
+		long total = windows.previous.totalCount.get()
+				+ windows.current.totalCount.get();
+
+		if (total == 0)
+			return -1;
+
+		long target = (long) Math.ceil(percentile * total);
+		if (target < 1)
+			target = 1;
+
+		long cumulative = 0;
+		int last = -1;
+
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			long count = previousCounts.get(i) + currentCounts.get(i);
+
+			if (count == 0)
+				continue;
+
+			cumulative += count;
+			last = i;
+
+			if (cumulative >= target)
+				return getBucketUpperBound(i);
+		}
+
+		// records which are not yet counted in buckets
+		return (last < 0 ? -1 : getBucketUpperBound(last));
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName() + " [windowSize=" + windowSize
+				+ ", count=" + getCount()
+				+ ", p50=" + getValueAtPercentile(0.5D) + ", p95="
+				+ getValueAtPercentile(0.95D) + "]";
+	}
+
+	/**
+	 * Get the bucket index of the value.
+	 * 
+	 * @param value
+	 * @return
+	 */
+	protected static int getBucketIndex(long value)
+	{
+		if (value < SUB_BUCKET_COUNT)
+			return (int) value;
+
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+
+		return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	/**
+	 * Get the max value of the bucket.
+	 * 
+	 * @param index
+	 * @return
+	 */
+	protected static long getBucketUpperBound(int index)
+	{
+		if (index < SUB_BUCKET_COUNT)
+			return index;
+
+		int shift = index / SUB_BUCKET_COUNT - 1;
+		long subBucket = index % SUB_BUCKET_COUNT;
+
+		long upper = ((SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+
+		// overflowed for the last buckets
+		return (upper < 0 ? Long.MAX_VALUE : upper);
+	}
+
+	protected static class Window
+	{
+		private final AtomicLongArray counts = new AtomicLongArray(
+				BUCKET_COUNT);
+
+		private final AtomicLong totalCount = new AtomicLong(0);
+
+		public Window()
+		{
+			super();
+		}
+	}
+
+	protected static class Windows
+	{
+		private final Window current;
+
+		private final Window previous;
+
+		public Windows(Window current, Window previous)
+		{
+			super();
+			this.current = current;
+			this.previous = previous;
+		}
+	}
+}
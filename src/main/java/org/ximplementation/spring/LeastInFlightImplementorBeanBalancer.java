@@ -0,0 +1,124 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@linkplain ImplementorBeanBalancer} which selects the bean with the least
+ * in-flight invocations.
+ * <p>
+ * The in-flight invocations are counted from the bean is selected, so the
+ * concurrent selections see each other. The scan starts at a rotating offset,
+ * so the ties are spread over the beans but not always go to the first one.
+ * </p>
+ * <p>
+ * The in-flight counters are kept by bean index, which is stable because
+ * beans of an <i>implementor</i> are only appended, and the counter arrays are
+ * grown by sharing the existing counters, so no count is lost.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class LeastInFlightImplementorBeanBalancer
+		implements ImplementorBeanBalancer
+{
+	private static final AtomicInteger[] EMPTY_COUNTERS = new AtomicInteger[0];
+
+	private final ConcurrentHashMap<Class<?>, AtomicInteger[]> inFlightCounters = new ConcurrentHashMap<Class<?>, AtomicInteger[]>();
+
+	/** start offset of the scan for spreading ties */
+	private final AtomicInteger offset = new AtomicInteger(0);
+
+	public LeastInFlightImplementorBeanBalancer()
+	{
+		super();
+	}
+
+	@Override
+	public int select(Class<?> implementor, int beanCount,
+			Object[] invocationParams)
+	{
+		AtomicInteger[] counters = getInFlightCounters(implementor, beanCount);
+
+		int start = (this.offset.getAndIncrement() & Integer.MAX_VALUE)
+				% beanCount;
+
+		int re = start;
+		int min = counters[start].get();
+
+		for (int i = 1; i < beanCount && min > 0; i++)
+		{
+			int index = (start + i) % beanCount;
+			int count = counters[index].get();
+
+			if (count < min)
+			{
+				re = index;
+				min = count;
+			}
+		}
+
+		return re;
+	}
+
+	@Override
+	public AtomicInteger getInFlightCounter(Class<?> implementor,
+			int beanIndex)
+	{
+		return getInFlightCounters(implementor, beanIndex + 1)[beanIndex];
+	}
+
+	/**
+	 * Get the in-flight counters of the <i>implementor</i>, grow them if less
+	 * than the bean count.
+	 * 
+	 * @param implementor
+	 * @param beanCount
+	 * @return
+	 */
+	protected AtomicInteger[] getInFlightCounters(Class<?> implementor,
+			int beanCount)
+	{
+		AtomicInteger[] counters = this.inFlightCounters.get(implementor);
+
+		if (counters != null && counters.length >= beanCount)
+			return counters;
+
+		synchronized (this)
+		{
+			counters = this.inFlightCounters.get(implementor);
+
+			if (counters == null)
+				counters = EMPTY_COUNTERS;
+
+			if (counters.length >= beanCount)
+				return counters;
+
+			AtomicInteger[] grown = new AtomicInteger[beanCount];
+			System.arraycopy(counters, 0, grown, 0, counters.length);
+
+			for (int i = counters.length; i < beanCount; i++)
+				grown[i] = new AtomicInteger(0);
+
+			this.inFlightCounters.put(implementor, grown);
+
+			return grown;
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@linkplain ResultAggregator} which merges all results.
+ * <p>
+ * The return type of the <i>implementee method</i> decides how to merge :
+ * </p>
+ * <ul>
+ * <li>{@linkplain Set} : all elements are added to a
+ * {@linkplain LinkedHashSet};</li>
+ * <li>{@linkplain Collection} : all elements are added to an
+ * {@linkplain ArrayList};</li>
+ * <li>{@linkplain Map} : all entries are put to a {@linkplain LinkedHashMap},
+ * the higher priority one wins for the same key;</li>
+ * <li>Array : all elements are copied to a new array.</li>
+ * </ul>
+ * <p>
+ * {@code null} and {@linkplain #TIMED_OUT} results are ignored.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class MergeResultAggregator implements ResultAggregator
+{
+	public MergeResultAggregator()
+	{
+		super();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Object aggregate(Method implementeeMethod, List<Object> results)
+	{
+		Class<?> returnType = implementeeMethod.getReturnType();
+
+		if (Map.class.isAssignableFrom(returnType))
+		{
+			Map<Object, Object> re = new LinkedHashMap<Object, Object>();
+
+			// put lower priority first, so higher priority one wins
+			for (int i = results.size() - 1; i >= 0; i--)
+			{
+				Object result = results.get(i);
+
+				if (result != null && result != TIMED_OUT)
+					re.putAll((Map<Object, Object>) result);
+			}
+
+			return re;
+		}
+		else if (Collection.class.isAssignableFrom(returnType))
+		{
+			Collection<Object> re = (Set.class.isAssignableFrom(returnType)
+					? new LinkedHashSet<Object>() : new ArrayList<Object>());
+
+			for (Object result : results)
+			{
+				if (result != null && result != TIMED_OUT)
+					re.addAll((Collection<Object>) result);
+			}
+
+			return re;
+		}
+		else if (returnType.isArray())
+		{
+			int length = 0;
+
+			for (Object result : results)
+			{
+				if (result != null && result != TIMED_OUT)
+					length += Array.getLength(result);
+			}
+
+			Object re = Array.newInstance(returnType.getComponentType(),
+					length);
+
+			int index = 0;
+
+			for (Object result : results)
+			{
+				if (result == null || result == TIMED_OUT)
+					continue;
+
+				int myLength = Array.getLength(result);
+
+				System.arraycopy(result, 0, re, index, myLength);
+
+				index += myLength;
+			}
+
+			return re;
+		}
+		else
+			throw new UnsupportedOperationException("Can not merge results of '"
+					+ implementeeMethod + "', only Collection, Map and array "
+					+ "return types are supported");
+	}
+}
@@ -0,0 +1,51 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.util.Random;
+
+/**
+ * Per-thread {@linkplain Random}s.
+ * <p>
+ * A shared {@linkplain Random} is contended by all threads on its atomic
+ * seed, so the hot paths use the {@linkplain Random} of the current thread
+ * instead, like {@code java.util.concurrent.ThreadLocalRandom} of JDK 7+.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class PerThreadRandom
+{
+	private static final ThreadLocal<Random> RANDOMS = new ThreadLocal<Random>()
+	{
+		@Override
+		protected Random initialValue()
+		{
+			return new Random();
+		}
+	};
+
+	/**
+	 * Get the {@linkplain Random} of the current thread.
+	 * 
+	 * @return
+	 */
+	public static Random current()
+	{
+		return RANDOMS.get();
+	}
+}
@@ -0,0 +1,54 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Power-of-two-choices {@linkplain ImplementorBeanBalancer}, it picks two
+ * random beans and selects the one with less in-flight invocations, which
+ * avoids herding to the same least loaded bean.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class PowerOfTwoChoicesImplementorBeanBalancer
+		extends LeastInFlightImplementorBeanBalancer
+{
+	public PowerOfTwoChoicesImplementorBeanBalancer()
+	{
+		super();
+	}
+
+	@Override
+	public int select(Class<?> implementor, int beanCount,
+			Object[] invocationParams)
+	{
+		AtomicInteger[] counters = getInFlightCounters(implementor, beanCount);
+
+		Random random = PerThreadRandom.current();
+
+		int one = random.nextInt(beanCount);
+		int another = random.nextInt(beanCount - 1);
+
+		if (another >= one)
+			another++;
+
+		return (counters[another].get() < counters[one].get() ? another
+				: one);
+	}
+}
@@ -0,0 +1,58 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Result aggregator for {@linkplain FanOut} <i>implementee method</i>s.
+ * <p>
+ * Note that the implementations should be thread-safe, one instance is shared
+ * by all invocations of an <i>implementee method</i>.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see FanOut
+ */
+public interface ResultAggregator
+{
+	/**
+	 * The result marker of the <i>implement method</i> which is timed out.
+	 */
+	Object TIMED_OUT = new Object()
+	{
+		@Override
+		public String toString()
+		{
+			return ResultAggregator.class.getSimpleName() + ".TIMED_OUT";
+		}
+	};
+
+	/**
+	 * Combine the results.
+	 * 
+	 * @param implementeeMethod
+	 *            The invoked <i>implementee method</i>.
+	 * @param results
+	 *            The results of the <i>implement method</i>s, in descending
+	 *            priority order, elements may be {@code null}, or
+	 *            {@linkplain #TIMED_OUT} if timed out when
+	 *            {@linkplain FanOut#failOnTimeout()} is {@code false}.
+	 * @return The result of the <i>implementee method</i>.
+	 */
+	Object aggregate(Method implementeeMethod, List<Object> results);
+}
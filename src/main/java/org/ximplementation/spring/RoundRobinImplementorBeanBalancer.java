@@ -0,0 +1,63 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Round-robin {@linkplain ImplementorBeanBalancer}.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class RoundRobinImplementorBeanBalancer
+		implements ImplementorBeanBalancer
+{
+	private final ConcurrentHashMap<Class<?>, AtomicInteger> counters = new ConcurrentHashMap<Class<?>, AtomicInteger>();
+
+	public RoundRobinImplementorBeanBalancer()
+	{
+		super();
+	}
+
+	@Override
+	public int select(Class<?> implementor, int beanCount,
+			Object[] invocationParams)
+	{
+		AtomicInteger counter = this.counters.get(implementor);
+
+		if (counter == null)
+		{
+			counter = new AtomicInteger(0);
+
+			AtomicInteger old = this.counters.putIfAbsent(implementor,
+					counter);
+
+			if (old != null)
+				counter = old;
+		}
+
+		return (counter.getAndIncrement() & Integer.MAX_VALUE) % beanCount;
+	}
+
+	@Override
+	public AtomicInteger getInFlightCounter(Class<?> implementor,
+			int beanIndex)
+	{
+		return null;
+	}
+}
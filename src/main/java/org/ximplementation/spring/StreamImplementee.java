@@ -0,0 +1,72 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.reflect.Method;
+
+/**
+ * Streaming invocation interface of <i>implementee</i> beans.
+ * <p>
+ * The <i>implementee</i> beans created by
+ * {@linkplain CglibImplementeeBeanBuilder} implement this interface if
+ * {@linkplain CglibImplementeeBeanBuilder#isStreamEnabled()}, the
+ * <i>implementee</i> bean can be cast to it for streaming invocation, even if
+ * it is proxied by Spring JDK Proxy AOP.
+ * </p>
+ * <p>
+ * The {@linkplain FanOut}, {@linkplain CacheableImplement} and
+ * {@linkplain Hedged} <i>implementee method</i>s can not be opened as
+ * streams.
+ * </p>
+ * <p>
+ * Examples :
+ * </p>
+ * 
+ * <pre>
+ * ImplementeeStream stream = ((StreamImplementee) eventHandler)
+ * 		.openStream(HANDLE_METHOD, 4, 256);
+ * 
+ * // producer thread
+ * for (Event event : events)
+ * 	stream.put(new Object[] { event });
+ * stream.close();
+ * 
+ * // consumer thread
+ * StreamResult result;
+ * while ((result = stream.take()) != null)
+ * 	...
+ * </pre>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see ImplementeeStream
+ */
+public interface StreamImplementee
+{
+	/**
+	 * Open an {@linkplain ImplementeeStream} for the <i>implementee
+	 * method</i>.
+	 * 
+	 * @param implementeeMethod
+	 *            The <i>implementee method</i> to be invoked.
+	 * @param parallelism
+	 *            The worker count of each <i>implementor</i> sub-stream.
+	 * @param bufferSize
+	 *            The capacity of each sub-stream and the output queue.
+	 * @return
+	 */
+	ImplementeeStream openStream(Method implementeeMethod, int parallelism,
+			int bufferSize);
+}
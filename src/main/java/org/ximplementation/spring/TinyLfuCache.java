@@ -0,0 +1,633 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded concurrent cache with W-TinyLFU admission.
+ * <p>
+ * New entries are added into a small LRU window, and the ones evicted from the
+ * window compete with the least recently used ones of the main segmented LRU
+ * (probation and protected) by their access frequencies estimated by a
+ * count-min sketch, so a one-hit entry can not flush a frequently used one.
+ * </p>
+ * <p>
+ * Lookups read a {@linkplain ConcurrentHashMap} without locking, and update
+ * the access order and the frequencies only if the lock is free, so readers
+ * never block. Writes hold the lock.
+ * </p>
+ * <p>
+ * Note that this class is thread-safe and can be accessed by multiple threads,
+ * {@code null} keys and values are not supported.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see CacheableImplement
+ */
+public class TinyLfuCache<K, V>
+{
+	private static final int WINDOW = 0;
+
+	private static final int PROBATION = 1;
+
+	private static final int PROTECTED = 2;
+
+	private static final int REMOVED = 3;
+
+	private final int maximumSize;
+
+	private final long ttlNanos;
+
+	private final int windowMaximum;
+
+	private final int mainMaximum;
+
+	private final int protectedMaximum;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<K, Node<K, V>>();
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	/** guarded by evictionLock */
+	private final FrequencySketch sketch;
+
+	/** sentinels of the circular queues, guarded by evictionLock */
+	private final Node<K, V> windowQueue = new Node<K, V>();
+
+	private final Node<K, V> probationQueue = new Node<K, V>();
+
+	private final Node<K, V> protectedQueue = new Node<K, V>();
+
+	private int windowSize = 0;
+
+	private int probationSize = 0;
+
+	private int protectedSize = 0;
+
+	private final AtomicLong hitCount = new AtomicLong(0);
+
+	private final AtomicLong missCount = new AtomicLong(0);
+
+	private final AtomicLong evictionCount = new AtomicLong(0);
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param maximumSize
+	 *            The maximum entry count.
+	 * @param ttl
+	 *            The time to live in milliseconds after an entry is put,
+	 *            {@code 0} for never expiring.
+	 */
+	public TinyLfuCache(int maximumSize, long ttl)
+	{
+		super();
+
+		if (maximumSize < 1)
+			throw new IllegalArgumentException("[maximumSize] must be > 0");
+		if (ttl < 0)
+			throw new IllegalArgumentException("[ttl] must be >= 0");
+
+		this.maximumSize = maximumSize;
+		this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttl);
+		this.windowMaximum = Math.max(1, maximumSize / 100);
+		this.mainMaximum = maximumSize - this.windowMaximum;
+		this.protectedMaximum = this.mainMaximum * 8 / 10;
+		this.sketch = new FrequencySketch(maximumSize);
+	}
+
+	public int getMaximumSize()
+	{
+		return maximumSize;
+	}
+
+	/**
+	 * Get the current entry count, including the expired ones not yet
+	 * removed.
+	 * 
+	 * @return
+	 */
+	public int size()
+	{
+		return this.data.size();
+	}
+
+	/**
+	 * Get the value of the key.
+	 * 
+	 * @param key
+	 * @return {@code null} if not cached or expired.
+	 */
+	public V get(K key)
+	{
+		Node<K, V> node = this.data.get(key);
+
+		if (node != null && isExpired(node))
+		{
+			removeExpired(node);
+			node = null;
+		}
+
+		if (node == null)
+		{
+			this.missCount.incrementAndGet();
+
+			if (this.evictionLock.tryLock())
+			{
+				try
+				{
+					this.sketch.increment(key.hashCode());
+				}
+				finally
+				{
+					this.evictionLock.unlock();
+				}
+			}
+
+			return null;
+		}
+
+		this.hitCount.incrementAndGet();
+
+		// access order is lossy under contention
+		if (this.evictionLock.tryLock())
+		{
+			try
+			{
+				this.sketch.increment(key.hashCode());
+
+				if (node.queue != REMOVED)
+					onAccess(node);
+			}
+			finally
+			{
+				this.evictionLock.unlock();
+			}
+		}
+
+		return node.value;
+	}
+
+	/**
+	 * Put the value of the key.
+	 * 
+	 * @param key
+	 * @param value
+	 */
+	public void put(K key, V value)
+	{
+		if (key == null || value == null)
+			throw new NullPointerException();
+
+		long expireAt = (this.ttlNanos > 0 ? System.nanoTime() + this.ttlNanos
+				: 0);
+
+		this.evictionLock.lock();
+
+		try
+		{
+			this.sketch.increment(key.hashCode());
+
+			Node<K, V> node = this.data.get(key);
+
+			if (node != null)
+			{
+				node.value = value;
+				node.expireAt = expireAt;
+
+				onAccess(node);
+
+				return;
+			}
+
+			node = new Node<K, V>(key, value, expireAt);
+
+			this.data.put(key, node);
+
+			linkLast(this.windowQueue, node);
+			node.queue = WINDOW;
+			this.windowSize++;
+
+			evict();
+		}
+		finally
+		{
+			this.evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Remove the key.
+	 * 
+	 * @param key
+	 */
+	public void remove(K key)
+	{
+		this.evictionLock.lock();
+
+		try
+		{
+			Node<K, V> node = this.data.remove(key);
+
+			if (node != null)
+				unlinkAndCount(node);
+		}
+		finally
+		{
+			this.evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Remove all entries.
+	 */
+	public void clear()
+	{
+		this.evictionLock.lock();
+
+		try
+		{
+			for (Node<K, V> node : this.data.values())
+				unlinkAndCount(node);
+
+			this.data.clear();
+		}
+		finally
+		{
+			this.evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Get a snapshot of the not expired entries.
+	 * 
+	 * @return
+	 */
+	public Map<K, V> snapshot()
+	{
+		Map<K, V> re = new HashMap<K, V>();
+
+		for (Node<K, V> node : this.data.values())
+		{
+			if (!isExpired(node))
+				re.put(node.key, node.value);
+		}
+
+		return re;
+	}
+
+	public long getHitCount()
+	{
+		return this.hitCount.get();
+	}
+
+	public long getMissCount()
+	{
+		return this.missCount.get();
+	}
+
+	public long getEvictionCount()
+	{
+		return this.evictionCount.get();
+	}
+
+	/**
+	 * Get the hit rate.
+	 * 
+	 * @return {@code 0} if no request.
+	 */
+	public double getHitRate()
+	{
+		long hits = this.hitCount.get();
+		long requests = hits + this.missCount.get();
+
+		return (requests == 0 ? 0D : (double) hits / requests);
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName() + " [maximumSize=" + maximumSize
+				+ ", size=" + size() + ", hitCount=" + getHitCount()
+				+ ", missCount=" + getMissCount() + ", evictionCount="
+				+ getEvictionCount() + "]";
+	}
+
+	/**
+	 * Remove the expired node if it is not replaced.
+	 * 
+	 * @param node
+	 */
+	protected void removeExpired(Node<K, V> node)
+	{
+		this.evictionLock.lock();
+
+		try
+		{
+			if (isExpired(node) && this.data.remove(node.key, node))
+				unlinkAndCount(node);
+		}
+		finally
+		{
+			this.evictionLock.unlock();
+		}
+	}
+
+	protected boolean isExpired(Node<K, V> node)
+	{
+		long expireAt = node.expireAt;
+
+		return (expireAt != 0 && System.nanoTime() - expireAt >= 0);
+	}
+
+	/**
+	 * Update the access order of the node, must hold the lock.
+	 * 
+	 * @param node
+	 */
+	protected void onAccess(Node<K, V> node)
+	{
+		if (node.queue == WINDOW)
+		{
+			unlink(node);
+			linkLast(this.windowQueue, node);
+		}
+		else if (node.queue == PROBATION)
+		{
+			unlink(node);
+			this.probationSize--;
+
+			linkLast(this.protectedQueue, node);
+			node.queue = PROTECTED;
+			this.protectedSize++;
+
+			// demote the least recently used protected one
+			if (this.protectedSize > this.protectedMaximum)
+			{
+				Node<K, V> demoted = this.protectedQueue.next;
+
+				unlink(demoted);
+				this.protectedSize--;
+
+				linkLast(this.probationQueue, demoted);
+				demoted.queue = PROBATION;
+				this.probationSize++;
+			}
+		}
+		else if (node.queue == PROTECTED)
+		{
+			unlink(node);
+			linkLast(this.protectedQueue, node);
+		}
+	}
+
+	/**
+	 * Move the overflowed window entries to the main segments, and evict the
+	 * one with lower frequency between them and the main victims, must hold
+	 * the lock.
+	 */
+	protected void evict()
+	{
+		while (this.windowSize > this.windowMaximum)
+		{
+			Node<K, V> candidate = this.windowQueue.next;
+
+			unlink(candidate);
+			this.windowSize--;
+
+			linkLast(this.probationQueue, candidate);
+			candidate.queue = PROBATION;
+			this.probationSize++;
+
+			if (this.probationSize + this.protectedSize <= this.mainMaximum)
+				continue;
+
+			Node<K, V> victim = this.probationQueue.next;
+
+			if (victim == candidate)
+				victim = (this.protectedSize > 0 ? this.protectedQueue.next
+						: null);
+
+			Node<K, V> evicted = candidate;
+
+			if (victim != null && (isExpired(victim)
+					|| this.sketch.frequency(candidate.key.hashCode()) > this.sketch
+							.frequency(victim.key.hashCode())))
+				evicted = victim;
+
+			this.data.remove(evicted.key, evicted);
+			unlinkAndCount(evicted);
+			this.evictionCount.incrementAndGet();
+		}
+	}
+
+	protected void unlinkAndCount(Node<K, V> node)
+	{
+		if (node.queue == WINDOW)
+			this.windowSize--;
+		else if (node.queue == PROBATION)
+			this.probationSize--;
+		else if (node.queue == PROTECTED)
+			this.protectedSize--;
+		else
+			return;
+
+		unlink(node);
+		node.queue = REMOVED;
+	}
+
+	protected void linkLast(Node<K, V> sentinel, Node<K, V> node)
+	{
+		Node<K, V> last = sentinel.prev;
+
+		node.prev = last;
+		node.next = sentinel;
+		last.next = node;
+		sentinel.prev = node;
+	}
+
+	protected void unlink(Node<K, V> node)
+	{
+		node.prev.next = node.next;
+		node.next.prev = node.prev;
+		node.prev = null;
+		node.next = null;
+	}
+
+	/**
+	 * Cache entry node in a circular doubly linked queue.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 * 
+	 */
+	protected static class Node<K, V>
+	{
+		final K key;
+
+		volatile V value;
+
+		volatile long expireAt;
+
+		/** guarded by evictionLock */
+		int queue = REMOVED;
+
+		Node<K, V> prev;
+
+		Node<K, V> next;
+
+		/**
+		 * Create a sentinel.
+		 */
+		Node()
+		{
+			super();
+			this.key = null;
+			this.prev = this;
+			this.next = this;
+		}
+
+		Node(K key, V value, long expireAt)
+		{
+			super();
+			this.key = key;
+			this.value = value;
+			this.expireAt = expireAt;
+		}
+	}
+
+	/**
+	 * Count-min sketch of 4-bit counters with aging, for estimating access
+	 * frequencies, not thread-safe.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 * 
+	 */
+	protected static class FrequencySketch
+	{
+		private static final long[] SEEDS = { 0xc3a5c85c97cb3127L,
+				0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+				0xcbf29ce484222325L };
+
+		private static final long RESET_MASK = 0x7777777777777777L;
+
+		private final long[] table;
+
+		private final int tableMask;
+
+		private final int sampleSize;
+
+		private int size = 0;
+
+		public FrequencySketch(int maximumSize)
+		{
+			super();
+
+			int length = Integer.highestOneBit(Math.max(maximumSize, 2) - 1)
+					<< 1;
+
+			this.table = new long[length];
+			this.tableMask = length - 1;
+			this.sampleSize = (int) Math.min(10L * maximumSize,
+					Integer.MAX_VALUE);
+		}
+
+		/**
+		 * Get the estimated frequency, at most {@code 15}.
+		 * 
+		 * @param hash
+		 * @return
+		 */
+		public int frequency(int hash)
+		{
+			int item = spread(hash);
+			int start = (item & 3) << 2;
+
+			int re = Integer.MAX_VALUE;
+
+			for (int i = 0; i < 4; i++)
+			{
+				int count = (int) ((this.table[indexOf(item, i)] >>> ((start
+						+ i) << 2)) & 0xfL);
+
+				re = Math.min(re, count);
+			}
+
+			return re;
+		}
+
+		/**
+		 * Increase the frequency, and halve all frequencies when the sample
+		 * size is reached.
+		 * 
+		 * @param hash
+		 */
+		public void increment(int hash)
+		{
+			int item = spread(hash);
+			int start = (item & 3) << 2;
+
+			boolean added = false;
+
+			for (int i = 0; i < 4; i++)
+			{
+				int index = indexOf(item, i);
+				int offset = (start + i) << 2;
+				long mask = (0xfL << offset);
+
+				if ((this.table[index] & mask) != mask)
+				{
+					this.table[index] += (1L << offset);
+					added = true;
+				}
+			}
+
+			if (added && ++this.size >= this.sampleSize)
+				reset();
+		}
+
+		protected void reset()
+		{
+			for (int i = 0; i < this.table.length; i++)
+				this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+
+			this.size = this.size / 2;
+		}
+
+		protected int indexOf(int item, int i)
+		{
+			long hash = (item + SEEDS[i]) * SEEDS[i];
+			hash += (hash >>> 32);
+
+			return ((int) hash) & this.tableMask;
+		}
+
+		protected static int spread(int x)
+		{
+			x = ((x >>> 16) ^ x) * 0x45d9f3b;
+			x = ((x >>> 16) ^ x) * 0x45d9f3b;
+
+			return (x >>> 16) ^ x;
+		}
+	}
+}
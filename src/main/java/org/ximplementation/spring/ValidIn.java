@@ -0,0 +1,77 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declarative validity annotation of <i>implement method</i>s, the
+ * <i>implement method</i> is valid only if its parameter is in the constant
+ * set.
+ * <p>
+ * A parameter matches if its {@linkplain Enum#name()} for enum, or its
+ * {@linkplain String#valueOf(Object)} otherwise, is in {@linkplain #value()},
+ * {@code null} parameter never matches. It can be used with
+ * {@linkplain org.ximplementation.Validity}, both must be valid then.
+ * </p>
+ * <p>
+ * Declarative validities of all <i>implement method</i>s of an
+ * <i>implementee method</i> are compiled into a {@linkplain ValidityIndex}
+ * when the <i>implementee</i> bean is built, so selecting among many
+ * <i>implementor</i>s is a hash lookup but not evaluating their validities
+ * one by one.
+ * </p>
+ * <p>
+ * Examples :
+ * </p>
+ * 
+ * <pre>
+ * &#64;Implementor(MessageHandler.class)
+ * public class OrderMessageHandler
+ * {
+ * 	&#64;Implement
+ * 	&#64;ValidIn({ "ORDER_CREATED", "ORDER_CANCELLED" })
+ * 	public void handle(MessageType type, Message message){...}
+ * }
+ * </pre>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see ValidRange
+ * @see ValidityIndex
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ValidIn
+{
+	/**
+	 * The valid values.
+	 * 
+	 * @return
+	 */
+	String[] value();
+
+	/**
+	 * The index of the <i>implement method</i> parameter to be matched.
+	 * 
+	 * @return
+	 */
+	int param() default 0;
+}
@@ -0,0 +1,77 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declarative validity annotation of <i>implement method</i>s, the
+ * <i>implement method</i> is valid only if its {@linkplain Number} parameter
+ * is in the range {@code [min, max]}.
+ * <p>
+ * Non {@linkplain Number} and {@code null} parameters never match. It can be
+ * used with {@linkplain org.ximplementation.Validity}, both must be valid
+ * then. It is compiled into a {@linkplain ValidityIndex} as
+ * {@linkplain ValidIn}.
+ * </p>
+ * <p>
+ * Examples :
+ * </p>
+ * 
+ * <pre>
+ * &#64;Implementor(FeeCalculator.class)
+ * public class SmallFeeCalculator
+ * {
+ * 	&#64;Implement
+ * 	&#64;ValidRange(min = 0, max = 999.99)
+ * 	public BigDecimal calculate(BigDecimal amount){...}
+ * }
+ * </pre>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see ValidIn
+ * @see ValidityIndex
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ValidRange
+{
+	/**
+	 * The min value, inclusive.
+	 * 
+	 * @return
+	 */
+	double min() default Double.NEGATIVE_INFINITY;
+
+	/**
+	 * The max value, inclusive.
+	 * 
+	 * @return
+	 */
+	double max() default Double.POSITIVE_INFINITY;
+
+	/**
+	 * The index of the <i>implement method</i> parameter to be matched.
+	 * 
+	 * @return
+	 */
+	int param() default 0;
+}
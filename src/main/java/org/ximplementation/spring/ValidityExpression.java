@@ -0,0 +1,67 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Expression validity annotation of <i>implement method</i>s, the
+ * <i>implement method</i> is valid only if the Spring Expression Language
+ * (SpEL) expression evaluates to {@code true}.
+ * <p>
+ * The <i>implement method</i> parameters can be referenced as {@code #p0},
+ * {@code #a0}, or by their names if the class is compiled with debug
+ * information, and as {@code #root[0]}. It can be used with
+ * {@linkplain org.ximplementation.Validity}, {@linkplain ValidIn} and
+ * {@linkplain ValidRange}, all must be valid then.
+ * </p>
+ * <p>
+ * The expression is parsed only once when the <i>implementee</i> bean is
+ * built, see {@linkplain ValidityExpressionEvaluator}.
+ * </p>
+ * <p>
+ * Examples :
+ * </p>
+ * 
+ * <pre>
+ * &#64;Implementor(OrderService.class)
+ * public class BigOrderService
+ * {
+ * 	&#64;Implement
+ * 	&#64;ValidityExpression("#p0.amount &gt; 10000")
+ * 	public void place(Order order){...}
+ * }
+ * </pre>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see ValidityExpressionEvaluator
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ValidityExpression
+{
+	/**
+	 * The SpEL expression.
+	 * 
+	 * @return
+	 */
+	String value();
+}
@@ -0,0 +1,275 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.core.LocalVariableTableParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+/**
+ * Evaluator of {@linkplain ValidityExpression}.
+ * <p>
+ * The expression is parsed only once when it is created. If the SpEL
+ * compiler is available (Spring 4.1+), the expression is also compiled to
+ * bytecode after its first evaluations, otherwise it is interpreted.
+ * </p>
+ * <p>
+ * The evaluation context is created once for each thread and reused, the
+ * arguments are the root object, and the parameter variables are resolved
+ * from them by precomputed names, so evaluating does not create evaluation
+ * context or set variables.
+ * </p>
+ * <p>
+ * Note that this class is thread-safe and can be accessed by multiple threads.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see ValidityExpression
+ */
+public class ValidityExpressionEvaluator
+{
+	private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new LocalVariableTableParameterNameDiscoverer();
+
+	private final Method implementMethod;
+
+	private final Expression expression;
+
+	private final String[] paramNames;
+
+	/** variable name -> argument index */
+	private final Map<String, Integer> variableIndexes;
+
+	private final ThreadLocal<ArgsEvaluationContext> evaluationContexts = new ThreadLocal<ArgsEvaluationContext>()
+	{
+		@Override
+		protected ArgsEvaluationContext initialValue()
+		{
+			return new ArgsEvaluationContext(variableIndexes);
+		}
+	};
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param implementMethod
+	 *            The <i>implement method</i> the expression belongs to.
+	 * @param expressionString
+	 *            The SpEL expression.
+	 * @throws org.springframework.expression.ParseException
+	 *             If the expression is illegal.
+	 */
+	public ValidityExpressionEvaluator(Method implementMethod,
+			String expressionString)
+	{
+		super();
+		this.implementMethod = implementMethod;
+		this.expression = createExpressionParser(
+				implementMethod.getDeclaringClass().getClassLoader())
+						.parseExpression(expressionString);
+		this.paramNames = PARAMETER_NAME_DISCOVERER
+				.getParameterNames(implementMethod);
+		this.variableIndexes = resolveVariableIndexes(
+				implementMethod.getParameterTypes().length, this.paramNames);
+	}
+
+	/**
+	 * Create an instance for the {@linkplain ValidityExpression} of the
+	 * <i>implement method</i>.
+	 * 
+	 * @param implementMethod
+	 * @return {@code null} if it is not annotated.
+	 */
+	public static ValidityExpressionEvaluator valueOf(Method implementMethod)
+	{
+		ValidityExpression validityExpression = implementMethod
+				.getAnnotation(ValidityExpression.class);
+
+		if (validityExpression == null)
+			return null;
+
+		return new ValidityExpressionEvaluator(implementMethod,
+				validityExpression.value());
+	}
+
+	public Method getImplementMethod()
+	{
+		return implementMethod;
+	}
+
+	public String getExpressionString()
+	{
+		return this.expression.getExpressionString();
+	}
+
+	/**
+	 * Evaluate the expression.
+	 * 
+	 * @param args
+	 *            The <i>implement method</i> arguments.
+	 * @return
+	 */
+	public boolean evaluate(Object[] args)
+	{
+		ArgsEvaluationContext context = this.evaluationContexts.get();
+
+		// the expression may evaluate this again in the same thread
+		Object[] previousArgs = context.getArgs();
+		context.setArgs(args);
+
+		try
+		{
+			Boolean valid = this.expression.getValue(context, args,
+					Boolean.class);
+
+			return (valid != null && valid.booleanValue());
+		}
+		finally
+		{
+			context.setArgs(previousArgs);
+		}
+	}
+
+	/**
+	 * Get the evaluation context of the current thread.
+	 * 
+	 * @return
+	 */
+	protected EvaluationContext getEvaluationContext()
+	{
+		return this.evaluationContexts.get();
+	}
+
+	@Override
+	public String toString()
+	{
+		return getClass().getSimpleName() + " [expression="
+				+ getExpressionString() + "]";
+	}
+
+	/**
+	 * Resolve the argument indexes of the variables, they are
+	 * {@code p<index>}, {@code a<index>} and the parameter names if
+	 * available.
+	 * 
+	 * @param paramCount
+	 * @param paramNames
+	 *            May be {@code null}.
+	 * @return
+	 */
+	protected Map<String, Integer> resolveVariableIndexes(int paramCount,
+			String[] paramNames)
+	{
+		Map<String, Integer> re = new HashMap<String, Integer>();
+
+		for (int i = 0; i < paramCount; i++)
+		{
+			re.put("p" + i, i);
+			re.put("a" + i, i);
+
+			if (paramNames != null && i < paramNames.length)
+				re.put(paramNames[i], i);
+		}
+
+		return re;
+	}
+
+	/**
+	 * Create the {@linkplain SpelExpressionParser}, with the SpEL compiler
+	 * enabled if it is available.
+	 * 
+	 * @param classLoader
+	 * @return
+	 */
+	protected SpelExpressionParser createExpressionParser(
+			ClassLoader classLoader)
+	{
+		try
+		{
+			Class<?> compilerModeClass = Class.forName(
+					"org.springframework.expression.spel.SpelCompilerMode");
+
+			Object mixedMode = null;
+			for (Object constant : compilerModeClass.getEnumConstants())
+			{
+				if ("MIXED".equals(((Enum<?>) constant).name()))
+					mixedMode = constant;
+			}
+
+			Constructor<SpelParserConfiguration> constructor = SpelParserConfiguration.class
+					.getConstructor(compilerModeClass, ClassLoader.class);
+
+			return new SpelExpressionParser(
+					constructor.newInstance(mixedMode, classLoader));
+		}
+		catch (Exception e)
+		{
+			// SpEL compiler is not available
+			return new SpelExpressionParser();
+		}
+	}
+
+	/**
+	 * Evaluation context which resolves the parameter variables from the
+	 * current arguments.
+	 * 
+	 * @author earthangry@gmail.com
+	 * @date 2026-10-18
+	 */
+	protected static class ArgsEvaluationContext
+			extends StandardEvaluationContext
+	{
+		private final Map<String, Integer> variableIndexes;
+
+		private Object[] args;
+
+		public ArgsEvaluationContext(Map<String, Integer> variableIndexes)
+		{
+			super();
+			this.variableIndexes = variableIndexes;
+		}
+
+		public Object[] getArgs()
+		{
+			return args;
+		}
+
+		public void setArgs(Object[] args)
+		{
+			this.args = args;
+		}
+
+		@Override
+		public Object lookupVariable(String name)
+		{
+			Integer index = this.variableIndexes.get(name);
+
+			if (index != null)
+				return (this.args != null && index < this.args.length
+						? this.args[index] : null);
+
+			return super.lookupVariable(name);
+		}
+	}
+}
@@ -0,0 +1,515 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.ximplementation.spring.ImplementeeMethodInvoker.ParamTypesKey;
+
+/**
+ * Index of the {@linkplain ValidIn} and {@linkplain ValidRange} declarative
+ * validities of an <i>implementee method</i>.
+ * <p>
+ * It is built once from all {@linkplain ImplementMethodInvoker}s of the
+ * <i>implementee method</i> : {@linkplain ValidIn}s are compiled into a hash
+ * index by parameter value, {@linkplain ValidRange}s are compiled into a range
+ * index of disjoint segments. Each hash bucket and range segment holds its
+ * candidates merged with the candidates without declarative validity in
+ * evaluation order, so
+ * {@linkplain #lookup(Object[], ParamTypesKey, ImplementMethodInvoker[])}
+ * returns the candidates whose declarative validities may be valid, plus all
+ * the candidates without declarative validity, by index lookups but not
+ * evaluating each candidate. The merged candidates are filtered by the
+ * invocation parameter types only once for each of them.
+ * </p>
+ * <p>
+ * Note that this class is thread-safe and can be accessed by multiple threads.
+ * </p>
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * @see ValidIn
+ * @see ValidRange
+ */
+public class ValidityIndex
+{
+	private static final ImplementMethodInvoker[] EMPTY_INVOKERS = new ImplementMethodInvoker[0];
+
+	/** evaluation order position of each invoker */
+	private final IdentityHashMap<ImplementMethodInvoker, Integer> positions = new IdentityHashMap<ImplementMethodInvoker, Integer>();
+
+	/**
+	 * merged candidates in evaluation order by id, id {@code 0} is the ones
+	 * without declarative validity only
+	 */
+	private final ImplementMethodInvoker[][] mergedOrders;
+
+	private final ValueIndex[] valueIndexes;
+
+	private final RangeIndex[] rangeIndexes;
+
+	/** invocation parameter types -> merged id -> parameter type matched */
+	private final ConcurrentHashMap<ParamTypesKey, AtomicReferenceArray<ImplementMethodInvoker[]>> typedOrders = new ConcurrentHashMap<ParamTypesKey, AtomicReferenceArray<ImplementMethodInvoker[]>>();
+
+	private final Comparator<ImplementMethodInvoker> positionComparator = new Comparator<ImplementMethodInvoker>()
+	{
+		@Override
+		public int compare(ImplementMethodInvoker o1, ImplementMethodInvoker o2)
+		{
+			return positions.get(o1).compareTo(positions.get(o2));
+		}
+	};
+
+	/**
+	 * Create an instance.
+	 * 
+	 * @param implementMethodInvokers
+	 *            All {@linkplain ImplementMethodInvoker}s of the
+	 *            <i>implementee method</i> in evaluation order.
+	 */
+	public ValidityIndex(ImplementMethodInvoker[] implementMethodInvokers)
+	{
+		super();
+
+		List<ImplementMethodInvoker> unindexed = new ArrayList<ImplementMethodInvoker>();
+		Map<Integer, Map<String, List<ImplementMethodInvoker>>> values = new HashMap<Integer, Map<String, List<ImplementMethodInvoker>>>();
+		Map<Integer, List<ImplementMethodInvoker>> ranges = new HashMap<Integer, List<ImplementMethodInvoker>>();
+
+		for (int i = 0; i < implementMethodInvokers.length; i++)
+		{
+			ImplementMethodInvoker invoker = implementMethodInvokers[i];
+
+			this.positions.put(invoker, i);
+
+			if (invoker.getValidInValues() != null)
+			{
+				Map<String, List<ImplementMethodInvoker>> valueMap = values
+						.get(invoker.getValidInParamIndex());
+				if (valueMap == null)
+				{
+					valueMap = new HashMap<String, List<ImplementMethodInvoker>>();
+					values.put(invoker.getValidInParamIndex(), valueMap);
+				}
+
+				for (String value : invoker.getValidInValues())
+				{
+					List<ImplementMethodInvoker> list = valueMap.get(value);
+					if (list == null)
+					{
+						list = new ArrayList<ImplementMethodInvoker>();
+						valueMap.put(value, list);
+					}
+
+					list.add(invoker);
+				}
+			}
+			else if (invoker.getValidRange() != null)
+			{
+				List<ImplementMethodInvoker> list = ranges
+						.get(invoker.getValidRangeParamIndex());
+				if (list == null)
+				{
+					list = new ArrayList<ImplementMethodInvoker>();
+					ranges.put(invoker.getValidRangeParamIndex(), list);
+				}
+
+				list.add(invoker);
+			}
+			else
+				unindexed.add(invoker);
+		}
+
+		List<ImplementMethodInvoker[]> mergedOrders = new ArrayList<ImplementMethodInvoker[]>();
+		mergedOrders.add(unindexed.toArray(EMPTY_INVOKERS));
+
+		List<ValueIndex> valueIndexes = new ArrayList<ValueIndex>();
+		for (Map.Entry<Integer, Map<String, List<ImplementMethodInvoker>>> entry : values
+				.entrySet())
+		{
+			Map<String, Integer> ids = new HashMap<String, Integer>();
+
+			for (Map.Entry<String, List<ImplementMethodInvoker>> valueEntry : entry
+					.getValue().entrySet())
+				ids.put(valueEntry.getKey(), addMergedOrder(mergedOrders,
+						valueEntry.getValue(), unindexed));
+
+			valueIndexes.add(new ValueIndex(entry.getKey(), ids));
+		}
+
+		List<RangeIndex> rangeIndexes = new ArrayList<RangeIndex>();
+		for (Map.Entry<Integer, List<ImplementMethodInvoker>> entry : ranges
+				.entrySet())
+			rangeIndexes.add(buildRangeIndex(entry.getKey(), entry.getValue(),
+					unindexed, mergedOrders));
+
+		this.mergedOrders = mergedOrders
+				.toArray(new ImplementMethodInvoker[mergedOrders.size()][]);
+		this.valueIndexes = valueIndexes
+				.toArray(new ValueIndex[valueIndexes.size()]);
+		this.rangeIndexes = rangeIndexes
+				.toArray(new RangeIndex[rangeIndexes.size()]);
+	}
+
+	/**
+	 * Create a {@linkplain ValidityIndex} if any of the
+	 * {@linkplain ImplementMethodInvoker}s has declarative validity.
+	 * 
+	 * @param implementMethodInvokers
+	 * @return {@code null} if none has declarative validity.
+	 */
+	public static ValidityIndex valueOf(
+			ImplementMethodInvoker[] implementMethodInvokers)
+	{
+		for (ImplementMethodInvoker invoker : implementMethodInvokers)
+		{
+			if (invoker.hasDeclarativeValidity())
+				return new ValidityIndex(implementMethodInvokers);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Lookup the candidates for the invocation parameters.
+	 * <p>
+	 * The returned array is shared and must not be modified.
+	 * </p>
+	 * 
+	 * @param invocationParams
+	 * @param key
+	 *            The {@linkplain ParamTypesKey} of the invocation parameters.
+	 * @param paramTypeMatched
+	 *            The {@linkplain ImplementMethodInvoker}s whose parameter
+	 *            types accept the invocation parameters, in evaluation order.
+	 * @return The candidates in evaluation order, whose parameter types
+	 *         accept the invocation parameters, and whose declarative
+	 *         validities may be valid or who has no declarative validity.
+	 */
+	public ImplementMethodInvoker[] lookup(Object[] invocationParams,
+			ParamTypesKey key, ImplementMethodInvoker[] paramTypeMatched)
+	{
+		int id = 0;
+		// more than one indexes are hit, rare
+		List<ImplementMethodInvoker[]> hits = null;
+
+		for (ValueIndex valueIndex : this.valueIndexes)
+		{
+			int hit = valueIndex.lookup(invocationParams);
+
+			if (hit == 0)
+				continue;
+
+			if (id == 0)
+				id = hit;
+			else
+				hits = addHit(hits, id, hit);
+		}
+
+		for (RangeIndex rangeIndex : this.rangeIndexes)
+		{
+			int hit = rangeIndex.lookup(invocationParams);
+
+			if (hit == 0)
+				continue;
+
+			if (id == 0)
+				id = hit;
+			else
+				hits = addHit(hits, id, hit);
+		}
+
+		if (hits != null)
+			return retain(paramTypeMatched, hits);
+
+		AtomicReferenceArray<ImplementMethodInvoker[]> typed = this.typedOrders
+				.get(key);
+
+		if (typed == null)
+		{
+			typed = new AtomicReferenceArray<ImplementMethodInvoker[]>(
+					this.mergedOrders.length);
+
+			AtomicReferenceArray<ImplementMethodInvoker[]> old = this.typedOrders
+					.putIfAbsent(key, typed);
+
+			if (old != null)
+				typed = old;
+		}
+
+		ImplementMethodInvoker[] re = typed.get(id);
+
+		if (re == null)
+		{
+			ImplementMethodInvoker[] merged = this.mergedOrders[id];
+
+			re = retain(paramTypeMatched,
+					Collections.<ImplementMethodInvoker[]> singletonList(merged));
+
+			// share the merged one if all are matched
+			if (re.length == merged.length)
+				re = merged;
+
+			typed.set(id, re);
+		}
+
+		return re;
+	}
+
+	/**
+	 * Get the key of the parameter value for {@linkplain ValidIn}.
+	 * 
+	 * @param param
+	 * @return {@linkplain Enum#name()} for enum,
+	 *         {@linkplain String#valueOf(Object)} otherwise.
+	 */
+	public static String toValueKey(Object param)
+	{
+		if (param instanceof Enum<?>)
+			return ((Enum<?>) param).name();
+
+		return String.valueOf(param);
+	}
+
+	protected List<ImplementMethodInvoker[]> addHit(
+			List<ImplementMethodInvoker[]> hits, int id, int hit)
+	{
+		if (hits == null)
+		{
+			hits = new ArrayList<ImplementMethodInvoker[]>();
+			hits.add(this.mergedOrders[id]);
+		}
+
+		hits.add(this.mergedOrders[hit]);
+
+		return hits;
+	}
+
+	/**
+	 * Retain the parameter type matched {@linkplain ImplementMethodInvoker}s
+	 * which are in any of the merged candidates.
+	 * 
+	 * @param paramTypeMatched
+	 * @param mergeds
+	 * @return
+	 */
+	protected ImplementMethodInvoker[] retain(
+			ImplementMethodInvoker[] paramTypeMatched,
+			List<ImplementMethodInvoker[]> mergeds)
+	{
+		IdentityHashMap<ImplementMethodInvoker, Boolean> members = new IdentityHashMap<ImplementMethodInvoker, Boolean>();
+
+		for (ImplementMethodInvoker[] merged : mergeds)
+		{
+			for (ImplementMethodInvoker invoker : merged)
+				members.put(invoker, Boolean.TRUE);
+		}
+
+		List<ImplementMethodInvoker> re = new ArrayList<ImplementMethodInvoker>();
+
+		for (ImplementMethodInvoker invoker : paramTypeMatched)
+		{
+			if (members.containsKey(invoker))
+				re.add(invoker);
+		}
+
+		return re.toArray(EMPTY_INVOKERS);
+	}
+
+	/**
+	 * Add the indexed candidates merged with the unindexed ones in evaluation
+	 * order.
+	 * 
+	 * @param mergedOrders
+	 * @param indexed
+	 * @param unindexed
+	 * @return The id of the merged candidates.
+	 */
+	protected int addMergedOrder(List<ImplementMethodInvoker[]> mergedOrders,
+			List<ImplementMethodInvoker> indexed,
+			List<ImplementMethodInvoker> unindexed)
+	{
+		List<ImplementMethodInvoker> merged = new ArrayList<ImplementMethodInvoker>(
+				indexed);
+		merged.addAll(unindexed);
+
+		Collections.sort(merged, this.positionComparator);
+
+		mergedOrders.add(merged.toArray(EMPTY_INVOKERS));
+
+		return mergedOrders.size() - 1;
+	}
+
+	/**
+	 * Build the {@linkplain RangeIndex} of a parameter.
+	 * <p>
+	 * The distinct min and max values split the number line into points and
+	 * the open intervals between them, each of them is covered by the same
+	 * {@linkplain ValidRange}s.
+	 * </p>
+	 * 
+	 * @param paramIndex
+	 * @param invokers
+	 * @param unindexed
+	 * @param mergedOrders
+	 * @return
+	 */
+	protected RangeIndex buildRangeIndex(int paramIndex,
+			List<ImplementMethodInvoker> invokers,
+			List<ImplementMethodInvoker> unindexed,
+			List<ImplementMethodInvoker[]> mergedOrders)
+	{
+		TreeSet<Double> bounds = new TreeSet<Double>();
+
+		for (ImplementMethodInvoker invoker : invokers)
+		{
+			bounds.add(normalize(invoker.getValidRange().min()));
+			bounds.add(normalize(invoker.getValidRange().max()));
+		}
+
+		double[] points = new double[bounds.size()];
+		int index = 0;
+		for (Double bound : bounds)
+			points[index++] = bound;
+
+		// segment 2i + 1 is points[i], segment 2i is the open interval
+		// before it
+		int[] ids = new int[points.length * 2 + 1];
+
+		for (int i = 0; i < ids.length; i++)
+		{
+			int pointIndex = i / 2;
+
+			// the open intervals before the first and after the last point
+			// are covered by none
+			if (i % 2 == 0 && (pointIndex == 0 || pointIndex == points.length))
+				continue;
+
+			double low = (i % 2 == 0 ? points[pointIndex - 1]
+					: points[pointIndex]);
+			double high = points[pointIndex];
+
+			List<ImplementMethodInvoker> covering = new ArrayList<ImplementMethodInvoker>();
+
+			for (ImplementMethodInvoker invoker : invokers)
+			{
+				if (invoker.getValidRange().min() <= low
+						&& invoker.getValidRange().max() >= high)
+					covering.add(invoker);
+			}
+
+			if (!covering.isEmpty())
+				ids[i] = addMergedOrder(mergedOrders, covering, unindexed);
+		}
+
+		return new RangeIndex(paramIndex, points, ids);
+	}
+
+	/**
+	 * Normalize {@code -0.0} to {@code 0.0}, they are not equal in
+	 * {@linkplain Arrays#binarySearch(double[], double)}.
+	 * 
+	 * @param value
+	 * @return
+	 */
+	protected static double normalize(double value)
+	{
+		return value + 0.0D;
+	}
+
+	protected static class ValueIndex
+	{
+		private final int paramIndex;
+
+		/** value -> merged id */
+		private final Map<String, Integer> ids;
+
+		public ValueIndex(int paramIndex, Map<String, Integer> ids)
+		{
+			super();
+			this.paramIndex = paramIndex;
+			this.ids = ids;
+		}
+
+		/**
+		 * Lookup the merged id.
+		 * 
+		 * @param invocationParams
+		 * @return {@code 0} if not hit.
+		 */
+		public int lookup(Object[] invocationParams)
+		{
+			Object param = invocationParams[this.paramIndex];
+
+			if (param == null)
+				return 0;
+
+			Integer id = this.ids.get(toValueKey(param));
+
+			return (id == null ? 0 : id);
+		}
+	}
+
+	protected static class RangeIndex
+	{
+		private final int paramIndex;
+
+		/** distinct min and max values in ascending order */
+		private final double[] points;
+
+		/** segment -> merged id */
+		private final int[] ids;
+
+		public RangeIndex(int paramIndex, double[] points, int[] ids)
+		{
+			super();
+			this.paramIndex = paramIndex;
+			this.points = points;
+			this.ids = ids;
+		}
+
+		/**
+		 * Lookup the merged id.
+		 * 
+		 * @param invocationParams
+		 * @return {@code 0} if not hit.
+		 */
+		public int lookup(Object[] invocationParams)
+		{
+			Object param = invocationParams[this.paramIndex];
+
+			if (!(param instanceof Number))
+				return 0;
+
+			double value = ((Number) param).doubleValue();
+
+			if (Double.isNaN(value))
+				return 0;
+
+			int index = Arrays.binarySearch(this.points, normalize(value));
+
+			return this.ids[index >= 0 ? index * 2 + 1 : (-index - 1) * 2];
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * {@linkplain AsyncExecutors} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ *
+ */
+public class AsyncExecutorsTest
+{
+	@Before
+	public void setUp() throws Exception
+	{
+	}
+
+	@After
+	public void tearDown() throws Exception
+	{
+	}
+
+	@Test
+	public void newVirtualThreadPerTaskExecutorTest() throws Exception
+	{
+		ExecutorService executor = AsyncExecutors
+				.newVirtualThreadPerTaskExecutor();
+
+		assertNotNull(executor);
+
+		try
+		{
+			String re = executor.submit(new Callable<String>()
+			{
+				@Override
+				public String call() throws Exception
+				{
+					return "ok";
+				}
+			}).get();
+
+			assertEquals("ok", re);
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+}
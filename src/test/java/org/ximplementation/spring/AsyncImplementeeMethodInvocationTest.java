@@ -0,0 +1,91 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.ximplementation.support.ImplementeeMethodInvocation;
+
+/**
+ * {@linkplain AsyncImplementeeMethodInvocation} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class AsyncImplementeeMethodInvocationTest extends AbstractTestSupport
+{
+	@Test
+	public void invokeTest() throws Throwable
+	{
+		final FutureTask<Object> inner = new FutureTask<Object>(
+				new Callable<Object>()
+				{
+					@Override
+					public Object call() throws Exception
+					{
+						return "re";
+					}
+				});
+
+		ExecutorService executor = Executors.newFixedThreadPool(1);
+
+		try
+		{
+			AsyncImplementeeMethodInvocation invocation = new AsyncImplementeeMethodInvocation(
+					new ImplementeeMethodInvocation()
+					{
+						@Override
+						public Object invoke() throws Throwable
+						{
+							return inner;
+						}
+					}, executor);
+
+			Future<?> future = (Future<?>) invocation.invoke();
+
+			// the only executor thread is not waiting for the inner future
+			assertEquals("free", executor.submit(new Callable<Object>()
+			{
+				@Override
+				public Object call() throws Exception
+				{
+					return "free";
+				}
+			}).get(5, TimeUnit.SECONDS));
+
+			assertFalse(future.isDone());
+
+			inner.run();
+
+			assertTrue(future.isDone());
+			assertEquals("re", future.get(5, TimeUnit.SECONDS));
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+}
@@ -14,20 +14,31 @@
 
 package org.ximplementation.spring;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.ximplementation.Implementor;
 import org.ximplementation.spring.CglibImplementeeBeanBuilder.CglibImplementeeInvocationHandler;
+import org.ximplementation.spring.CglibImplementeeBeanBuilder.SuperMethodInterceptor;
 import org.ximplementation.support.Implementation;
 import org.ximplementation.support.ImplementationResolver;
 import org.ximplementation.support.ImplementorBeanFactory;
 import org.ximplementation.support.SimpleImplementorBeanFactory;
 
+import net.sf.cglib.proxy.Factory;
+
 /**
  * {@linkplain CglibImplementeeBeanBuilder} unit tests.
  * 
@@ -35,7 +46,7 @@ import org.ximplementation.support.SimpleImplementorBeanFactory;
  * @date 2016-11-2
  *
  */
-public class CglibImplementeeBeanBuilderTest
+public class CglibImplementeeBeanBuilderTest extends AbstractTestSupport
 {
 	private ImplementationResolver implementationResolver;
 
@@ -88,6 +99,8 @@ public class CglibImplementeeBeanBuilderTest
 				.build(implementation, implementorBeanFactory);
 
 		assertTrue(implementee instanceof CglibImplementee);
+		assertFalse(implementee instanceof BatchImplementee);
+		assertFalse(implementee instanceof StreamImplementee);
 
 		Field callbackField = implementee.getClass()
 				.getDeclaredField("CGLIB$CALLBACK_0");
@@ -108,6 +121,139 @@ public class CglibImplementeeBeanBuilderTest
 		implementee.handle();
 	}
 
+	@Test
+	public void resolveSuperMethodsTest()
+	{
+		Implementation<AbstractImplementee> implementation = this.implementationResolver
+				.resolve(AbstractImplementee.class,
+						HandleImplementor0.class);
+
+		Set<Method> superMethods = this.cglibImplementeeBeanBuilder
+				.resolveSuperMethods(implementation);
+
+		assertEquals(1, superMethods.size());
+		assertTrue(superMethods.contains(
+				getMethodByName(AbstractImplementee.class, "helper")));
+	}
+
+	@Test
+	public void resolveSuperMethodsTest_inherited()
+	{
+		Implementation<AbstractImplementee> implementation = this.implementationResolver
+				.resolve(AbstractImplementee.class,
+						AbstractImplementor0.class,
+						HandleImplementor0.class);
+
+		Set<Method> superMethods = this.cglibImplementeeBeanBuilder
+				.resolveSuperMethods(implementation);
+
+		// helper() is inherited by AbstractImplementor0
+		assertTrue(superMethods.isEmpty());
+	}
+
+	@Test
+	public void doBuildTest_invokeSuper()
+	{
+		Implementation<AbstractImplementee> implementation = this.implementationResolver
+				.resolve(AbstractImplementee.class,
+						HandleImplementor0.class);
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(new HandleImplementor0());
+
+		this.cglibImplementeeBeanBuilder.setInvokeSuperIfNotOverridden(true);
+
+		AbstractImplementee implementee = this.cglibImplementeeBeanBuilder
+				.build(implementation, implementorBeanFactory);
+
+		Factory factory = (Factory) implementee;
+
+		assertEquals(2, factory.getCallbacks().length);
+		assertTrue(factory
+				.getCallback(0) instanceof CglibImplementeeInvocationHandler);
+		assertTrue(factory.getCallback(1) instanceof SuperMethodInterceptor);
+
+		// the handle() invocation in helper() is still dispatched
+		assertEquals(AbstractImplementee.PREFIX + HandleImplementor0.RE,
+				implementee.helper());
+	}
+
+	@Test
+	public void doBuildTest_invokeSuperDisabled()
+	{
+		Implementation<AbstractImplementee> implementation = this.implementationResolver
+				.resolve(AbstractImplementee.class,
+						HandleImplementor0.class);
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(new HandleImplementor0());
+
+		// disabled by default
+		assertFalse(this.cglibImplementeeBeanBuilder
+				.isInvokeSuperIfNotOverridden());
+
+		AbstractImplementee implementee = this.cglibImplementeeBeanBuilder
+				.build(implementation, implementorBeanFactory);
+
+		assertEquals(1, ((Factory) implementee).getCallbacks().length);
+	}
+
+	@Test
+	public void buildTest_interfaceImplementee()
+	{
+		Implementation<InterfaceImplementee> implementation = this.implementationResolver
+				.resolve(InterfaceImplementee.class,
+						InterfaceImplementor0.class);
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(new InterfaceImplementor0());
+
+		this.cglibImplementeeBeanBuilder.setBatchEnabled(true);
+		this.cglibImplementeeBeanBuilder.setStreamEnabled(true);
+
+		InterfaceImplementee implementee = this.cglibImplementeeBeanBuilder
+				.build(implementation, implementorBeanFactory);
+
+		assertTrue(implementee instanceof CglibImplementee);
+		assertTrue(implementee instanceof BatchImplementee);
+		assertTrue(implementee instanceof StreamImplementee);
+		assertEquals(InterfaceImplementor0.RE, implementee.handle());
+	}
+
+	@Test
+	public void getImplementeeBeanInterfacesTest()
+	{
+		Set<Class<?>> implementors = Collections
+				.<Class<?>> singleton(InterfaceImplementor0.class);
+
+		assertEquals(
+				Arrays.<Class<?>> asList(InterfaceImplementee.class,
+						CglibImplementee.class),
+				Arrays.asList(this.cglibImplementeeBeanBuilder
+						.getImplementeeBeanInterfaces(
+								InterfaceImplementee.class, implementors)));
+
+		// has BatchImplement method
+		implementors = Collections
+				.<Class<?>> singleton(BatchInterfaceImplementor.class);
+
+		assertEquals(
+				Arrays.<Class<?>> asList(CglibImplementee.class,
+						BatchImplementee.class),
+				Arrays.asList(this.cglibImplementeeBeanBuilder
+						.getImplementeeBeanInterfaces(Implementee.class,
+								implementors)));
+
+		this.cglibImplementeeBeanBuilder.setStreamEnabled(true);
+
+		assertEquals(
+				Arrays.<Class<?>> asList(CglibImplementee.class,
+						BatchImplementee.class, StreamImplementee.class),
+				Arrays.asList(this.cglibImplementeeBeanBuilder
+						.getImplementeeBeanInterfaces(Implementee.class,
+								implementors)));
+	}
+
 	public static class Implementee
 	{
 		public static final String RE = Implementee.class.getName();
@@ -139,4 +285,70 @@ public class CglibImplementeeBeanBuilderTest
 			return RE;
 		}
 	}
+
+	public static abstract class AbstractImplementee
+	{
+		public static final String PREFIX = "helper:";
+
+		public abstract String handle();
+
+		public String helper()
+		{
+			return PREFIX + handle();
+		}
+	}
+
+	public static class AbstractImplementor0 extends AbstractImplementee
+	{
+		public static final String RE = AbstractImplementor0.class.getName();
+
+		@Override
+		public String handle()
+		{
+			return RE;
+		}
+	}
+
+	@Implementor(AbstractImplementee.class)
+	public static class HandleImplementor0
+	{
+		public static final String RE = HandleImplementor0.class.getName();
+
+		public String handle()
+		{
+			return RE;
+		}
+	}
+
+	public static interface InterfaceImplementee
+	{
+		String handle();
+	}
+
+	public static class InterfaceImplementor0 implements InterfaceImplementee
+	{
+		public static final String RE = InterfaceImplementor0.class.getName();
+
+		@Override
+		public String handle()
+		{
+			return RE;
+		}
+	}
+
+	public static class BatchInterfaceImplementor
+			implements InterfaceImplementee
+	{
+		@Override
+		public String handle()
+		{
+			return null;
+		}
+
+		@BatchImplement("handle")
+		public List<Object> handleAll(List<Object[]> argsList)
+		{
+			return null;
+		}
+	}
 }
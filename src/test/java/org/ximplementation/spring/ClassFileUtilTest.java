@@ -0,0 +1,85 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * {@linkplain ClassFileUtil} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class ClassFileUtilTest extends AbstractTestSupport
+{
+	@Test
+	public void hashClassFilesTest()
+	{
+		List<Class<?>> classes = Arrays.<Class<?>> asList(ClassFileUtil.class,
+				ClassFileUtilTest.class);
+
+		String hash = ClassFileUtil.hashClassFiles("seed", classes);
+
+		assertNotNull(hash);
+		assertEquals(40, hash.length());
+		assertEquals(hash, ClassFileUtil.hashClassFiles("seed", classes));
+		assertFalse(hash.equals(ClassFileUtil.hashClassFiles("other", classes)));
+
+		// no class file
+		assertNull(ClassFileUtil.hashClassFiles("seed",
+				Arrays.<Class<?>> asList(int.class)));
+	}
+
+	@Test
+	public void getClassPathFingerprintTest()
+	{
+		String classPath = System.getProperty("java.class.path");
+
+		String fingerprint = ClassFileUtil.getClassPathFingerprint(classPath);
+
+		assertNotNull(fingerprint);
+		assertEquals(fingerprint,
+				ClassFileUtil.getClassPathFingerprint(classPath));
+		assertFalse(fingerprint.equals(ClassFileUtil.getClassPathFingerprint(
+				classPath + File.pathSeparator + "not-exists")));
+	}
+
+	@Test
+	public void sortByNameTest()
+	{
+		List<Class<?>> sorted = ClassFileUtil.sortByName(Arrays
+				.<Class<?>> asList(String.class, Integer.class, Byte.class));
+
+		assertEquals(Arrays.<Class<?>> asList(Byte.class, Integer.class,
+				String.class), sorted);
+	}
+
+	@Test
+	public void toHexTest()
+	{
+		assertEquals("00ff7f80", ClassFileUtil
+				.toHex(new byte[] { 0, (byte) 0xff, 0x7f, (byte) 0x80 }));
+	}
+}
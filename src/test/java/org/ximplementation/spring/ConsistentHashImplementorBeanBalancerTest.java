@@ -0,0 +1,89 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * {@linkplain ConsistentHashImplementorBeanBalancer} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class ConsistentHashImplementorBeanBalancerTest
+		extends AbstractTestSupport
+{
+	@Test
+	public void selectTest()
+	{
+		ConsistentHashImplementorBeanBalancer balancer = new ConsistentHashImplementorBeanBalancer(
+				1, 100);
+
+		int[] counts = new int[4];
+
+		for (int i = 0; i < 1000; i++)
+		{
+			Object[] params = new Object[] { "a", "key-" + i };
+
+			int index = balancer.select(String.class, 4, params);
+
+			assertEquals(index, balancer.select(String.class, 4, params));
+
+			counts[index]++;
+		}
+
+		// spread to all beans
+		for (int count : counts)
+			assertTrue(count > 100);
+
+		// null key
+		assertEquals(0,
+				balancer.select(String.class, 4, new Object[] { "a", null }));
+	}
+
+	@Test
+	public void selectTest_beanAdded()
+	{
+		ConsistentHashImplementorBeanBalancer balancer = new ConsistentHashImplementorBeanBalancer(
+				0, 100);
+
+		int[] before = new int[1000];
+
+		for (int i = 0; i < before.length; i++)
+			before[i] = balancer.select(String.class, 4,
+					new Object[] { "key-" + i });
+
+		int remapped = 0;
+
+		for (int i = 0; i < before.length; i++)
+		{
+			int after = balancer.select(String.class, 5,
+					new Object[] { "key-" + i });
+
+			if (after != before[i])
+			{
+				// only to the added bean
+				assertEquals(4, after);
+				remapped++;
+			}
+		}
+
+		assertTrue(remapped > 0 && remapped < 400);
+	}
+}
@@ -0,0 +1,228 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FilenameFilter;
+import java.lang.reflect.Method;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.ximplementation.spring.DispatchProfileTest.Implementee;
+import org.ximplementation.spring.DispatchProfileTest.Implementor0;
+import org.ximplementation.spring.DispatchProfileTest.Implementor1;
+import org.ximplementation.spring.DispatchProfileTest.Implementor2;
+import org.ximplementation.spring.ImplementeeMethodInvoker.ParamTypesKey;
+import org.ximplementation.support.Implementation;
+import org.ximplementation.support.ImplementationResolver;
+import org.ximplementation.support.ImplementorBeanFactory;
+import org.ximplementation.support.SimpleImplementorBeanFactory;
+
+/**
+ * {@linkplain DispatchProfileStore} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class DispatchProfileStoreTest extends AbstractTestSupport
+{
+	private ImplementationResolver implementationResolver;
+
+	private File file;
+
+	@Before
+	public void setUp() throws Exception
+	{
+		this.implementationResolver = new ImplementationResolver();
+		this.file = File.createTempFile("dispatch-profile", ".bin");
+		this.file.delete();
+	}
+
+	@After
+	public void tearDown() throws Exception
+	{
+		this.file.delete();
+	}
+
+	@Test
+	public void saveAndLoadTest() throws Throwable
+	{
+		Implementation<Implementee> implementation = this.implementationResolver
+				.resolve(Implementee.class, Implementor0.class,
+						Implementor1.class, Implementor2.class);
+
+		Method handle = getMethodByName(Implementee.class, "handle");
+
+		Object[] params = new Object[] { 5 };
+
+		// save
+		{
+			InvokerImplementeeMethodInvocationFactory factory = new InvokerImplementeeMethodInvocationFactory();
+			factory.setAdaptiveReorderInterval(1000);
+
+			ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+					.valueOf(new Implementor0(), new Implementor1(),
+							new Implementor2());
+
+			for (int i = 0; i < 3; i++)
+				factory.get(implementation, handle, params,
+						implementorBeanFactory);
+
+			DispatchProfileStore store = new DispatchProfileStore(this.file);
+			store.save(factory);
+
+			assertTrue(this.file.isFile());
+		}
+
+		// load
+		{
+			DispatchProfileStore store = new DispatchProfileStore(this.file);
+			store.setDecayFactor(1);
+			assertTrue(store.load());
+
+			InvokerImplementeeMethodInvocationFactory factory = new InvokerImplementeeMethodInvocationFactory();
+			factory.setAdaptiveReorderInterval(1000);
+			factory.setDispatchProfileStore(store);
+
+			ImplementeeMethodInvoker implementeeMethodInvoker = factory
+					.getImplementeeMethodInvoker(implementation, handle);
+
+			assertEquals(1,
+					implementeeMethodInvoker.getDispatchProfiles().size());
+
+			DispatchProfile profile = implementeeMethodInvoker
+					.getDispatchProfile(ParamTypesKey.valueOf(params));
+
+			assertNotNull(profile);
+
+			ImplementMethodInvoker[] ordered = profile.getOrderedCandidates();
+
+			assertEquals(Implementor2.class, ordered[0].getImplementor());
+			assertEquals(Implementor1.class, ordered[1].getImplementor());
+			assertEquals(Implementor0.class, ordered[2].getImplementor());
+			assertEquals(3, profile.getSelectedCount(ordered[1]));
+		}
+	}
+
+	@Test
+	public void saveAndLoadTest_notAdaptive() throws Throwable
+	{
+		Implementation<Implementee> implementation = this.implementationResolver
+				.resolve(Implementee.class, Implementor0.class,
+						Implementor1.class, Implementor2.class);
+
+		Method handle = getMethodByName(Implementee.class, "handle");
+
+		ParamTypesKey key = ParamTypesKey.valueOf(new Object[] { 5 });
+
+		// save
+		{
+			InvokerImplementeeMethodInvocationFactory factory = new InvokerImplementeeMethodInvocationFactory();
+
+			ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+					.valueOf(new Implementor0(), new Implementor1(),
+							new Implementor2());
+
+			factory.get(implementation, handle, new Object[] { 5 },
+					implementorBeanFactory);
+
+			DispatchProfileStore store = new DispatchProfileStore(this.file);
+			store.save(factory);
+		}
+
+		// load
+		{
+			DispatchProfileStore store = new DispatchProfileStore(this.file);
+			assertTrue(store.load());
+
+			InvokerImplementeeMethodInvocationFactory factory = new InvokerImplementeeMethodInvocationFactory();
+			factory.setDispatchProfileStore(store);
+
+			ImplementeeMethodInvoker implementeeMethodInvoker = factory
+					.getImplementeeMethodInvoker(implementation, handle);
+
+			assertTrue(implementeeMethodInvoker.getDispatchProfiles()
+					.isEmpty());
+			assertTrue(implementeeMethodInvoker.getParamTypeMatchedKeys()
+					.contains(key));
+		}
+	}
+
+	@Test
+	public void loadTest_notExists() throws Throwable
+	{
+		assertFalse(new DispatchProfileStore(this.file).load());
+	}
+
+	@Test
+	public void readRecordTest_decay() throws Throwable
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeUTF("handle");
+		out.writeInt(0);
+		out.writeInt(2);
+		out.writeUTF("Implementor0");
+		out.writeUTF("handle0");
+		out.writeLong(10);
+		out.writeUTF("Implementor1");
+		out.writeUTF("handle1");
+		out.writeLong(1);
+		out.flush();
+
+		DispatchProfileStore store = new DispatchProfileStore(this.file);
+
+		assertEquals(0.5, store.getDecayFactor(), 0);
+
+		DispatchProfileStore.ProfileRecord record = store
+				.readRecord(new DataInputStream(
+						new ByteArrayInputStream(bytes.toByteArray())));
+
+		assertEquals(5, record.getCount("Implementor0", "handle0"));
+		assertEquals(0, record.getCount("Implementor1", "handle1"));
+	}
+
+	@Test
+	public void writeFileTest() throws Throwable
+	{
+		DispatchProfileStore store = new DispatchProfileStore(this.file);
+
+		store.writeFile(new byte[] { 1, 2, 3 });
+		store.writeFile(new byte[] { 4, 5 });
+
+		assertEquals(2, this.file.length());
+		assertEquals(1, this.file.getParentFile()
+				.listFiles(new FilenameFilter()
+				{
+					@Override
+					public boolean accept(File dir, String name)
+					{
+						return name.startsWith(DispatchProfileStoreTest.this.file
+								.getName());
+					}
+				}).length);
+	}
+}
@@ -0,0 +1,277 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.ximplementation.Implement;
+import org.ximplementation.Implementor;
+import org.ximplementation.Priority;
+import org.ximplementation.Validity;
+import org.ximplementation.spring.ImplementeeMethodInvoker.ParamTypesKey;
+import org.ximplementation.support.Implementation;
+import org.ximplementation.support.ImplementationResolver;
+import org.ximplementation.support.ImplementorBeanFactory;
+import org.ximplementation.support.SimpleImplementorBeanFactory;
+
+/**
+ * {@linkplain DispatchProfile} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class DispatchProfileTest extends AbstractTestSupport
+{
+	private ImplementationResolver implementationResolver;
+
+	private InvokerImplementeeMethodInvocationFactory invokerImplementeeMethodInvocationFactory;
+
+	@Before
+	public void setUp() throws Exception
+	{
+		this.implementationResolver = new ImplementationResolver();
+		this.invokerImplementeeMethodInvocationFactory = new InvokerImplementeeMethodInvocationFactory();
+		this.invokerImplementeeMethodInvocationFactory
+				.setAdaptiveReorderInterval(4);
+	}
+
+	@After
+	public void tearDown() throws Exception
+	{
+	}
+
+	@Test
+	public void reorderTest() throws Throwable
+	{
+		Implementation<Implementee> implementation = this.implementationResolver
+				.resolve(Implementee.class, Implementor0.class,
+						Implementor1.class, Implementor2.class);
+
+		Implementor0 implementor0 = new Implementor0();
+		Implementor1 implementor1 = new Implementor1();
+		Implementor2 implementor2 = new Implementor2();
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(implementor0, implementor1, implementor2);
+
+		Method handle = getMethodByName(Implementee.class, "handle");
+
+		ImplementeeMethodInvoker implementeeMethodInvoker = this.invokerImplementeeMethodInvocationFactory
+				.getImplementeeMethodInvoker(implementation, handle);
+
+		Object[] params = new Object[] { 5 };
+
+		for (int i = 0; i < 4; i++)
+			assertEquals(Implementor1.RE,
+					this.invokerImplementeeMethodInvocationFactory
+							.get(implementation, handle, params,
+									implementorBeanFactory)
+							.invoke());
+
+		DispatchProfile profile = implementeeMethodInvoker
+				.getDispatchProfile(ParamTypesKey.valueOf(params));
+
+		ImplementMethodInvoker[] ordered = profile.getOrderedCandidates();
+
+		// higher priority one is not reordered
+		assertEquals(Implementor2.class, ordered[0].getImplementor());
+		assertEquals(Implementor1.class, ordered[1].getImplementor());
+		assertEquals(Implementor0.class, ordered[2].getImplementor());
+		assertEquals(4, profile.getSelectedCount(ordered[1]));
+
+		int validityCount0 = implementor0.validityCount;
+
+		assertEquals(Implementor1.RE,
+				this.invokerImplementeeMethodInvocationFactory
+						.get(implementation, handle, params,
+								implementorBeanFactory)
+						.invoke());
+
+		// the statically earlier one is still evaluated
+		assertEquals(validityCount0 + 1, implementor0.validityCount);
+		assertEquals(5, implementor2.validityCount);
+
+		// selection is not changed
+		assertEquals(Implementor0.RE,
+				this.invokerImplementeeMethodInvocationFactory
+						.get(implementation, handle, new Object[] { -5 },
+								implementorBeanFactory)
+						.invoke());
+	}
+
+	@Test
+	public void reorderTest_tieBreak() throws Throwable
+	{
+		Implementation<Implementee> implementation = this.implementationResolver
+				.resolve(Implementee.class, Implementor1.class,
+						Implementor3.class);
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(new Implementor1(), new Implementor3());
+
+		Method handle = getMethodByName(Implementee.class, "handle");
+
+		// only Implementor3 is valid for negative numbers
+		for (int i = 0; i < 8; i++)
+			this.invokerImplementeeMethodInvocationFactory.get(
+					implementation, handle, new Object[] { -5 },
+					implementorBeanFactory).invoke();
+
+		ImplementeeMethodInvoker implementeeMethodInvoker = this.invokerImplementeeMethodInvocationFactory
+				.getImplementeeMethodInvoker(implementation, handle);
+
+		DispatchProfile profile = implementeeMethodInvoker
+				.getDispatchProfile(ParamTypesKey.valueOf(new Object[] { 5 }));
+
+		assertEquals(Implementor3.class,
+				profile.getOrderedCandidates()[0].getImplementor());
+		assertTrue(profile.isStaticallyBefore(profile.getCandidates()[0],
+				profile.getOrderedCandidates()[0]));
+
+		// both are valid, the first one in static order still wins after
+		// reordering
+		assertEquals(Implementor1.RE,
+				this.invokerImplementeeMethodInvocationFactory
+						.get(implementation, handle, new Object[] { 5 },
+								implementorBeanFactory)
+						.invoke());
+	}
+
+	@Test
+	public void updateTest_inheritState() throws Throwable
+	{
+		Implementation<Implementee> implementation = this.implementationResolver
+				.resolve(Implementee.class, Implementor0.class,
+						Implementor1.class);
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(new Implementor0(), new Implementor1(),
+						new Implementor2());
+
+		Method handle = getMethodByName(Implementee.class, "handle");
+
+		Object[] params = new Object[] { 5 };
+
+		for (int i = 0; i < 3; i++)
+			this.invokerImplementeeMethodInvocationFactory.get(implementation,
+					handle, params, implementorBeanFactory).invoke();
+
+		Implementation<Implementee> newImplementation = this.implementationResolver
+				.resolve(Implementee.class, Implementor0.class,
+						Implementor1.class, Implementor2.class);
+
+		ImplementeeMethodInvoker implementeeMethodInvoker = this.invokerImplementeeMethodInvocationFactory
+				.update(implementation, newImplementation).get(handle);
+
+		assertEquals(implementeeMethodInvoker,
+				this.invokerImplementeeMethodInvocationFactory
+						.getImplementeeMethodInvoker(implementation, handle));
+
+		DispatchProfile profile = implementeeMethodInvoker
+				.getDispatchProfile(ParamTypesKey.valueOf(params));
+
+		ImplementMethodInvoker[] ordered = profile.getOrderedCandidates();
+
+		assertEquals(3, ordered.length);
+		assertEquals(Implementor1.class, ordered[1].getImplementor());
+		assertEquals(3, profile.getSelectedCount(ordered[1]));
+		assertEquals(0, profile.getSelectedCount(ordered[0]));
+	}
+
+	public static interface Implementee
+	{
+		String handle(Number number);
+	}
+
+	@Implementor(Implementee.class)
+	public static class Implementor0
+	{
+		public static final String RE = Implementor0.class.getName();
+
+		private int validityCount = 0;
+
+		@Implement
+		@Validity("isValid")
+		public String handle(Number number)
+		{
+			return RE;
+		}
+
+		public boolean isValid(Number number)
+		{
+			this.validityCount++;
+			return number.intValue() < 0;
+		}
+	}
+
+	@Implementor(Implementee.class)
+	public static class Implementor1
+	{
+		public static final String RE = Implementor1.class.getName();
+
+		@Implement
+		@Validity("isValid")
+		public String handle(Number number)
+		{
+			return RE;
+		}
+
+		public boolean isValid(Number number)
+		{
+			return number.intValue() >= 0;
+		}
+	}
+
+	@Implementor(Implementee.class)
+	public static class Implementor2
+	{
+		public static final String RE = Implementor2.class.getName();
+
+		private int validityCount = 0;
+
+		@Implement
+		@Validity("isValid")
+		@Priority(1)
+		public String handle(Number number)
+		{
+			return RE;
+		}
+
+		public boolean isValid(Number number)
+		{
+			this.validityCount++;
+			return number.intValue() > 100;
+		}
+	}
+
+	@Implementor(Implementee.class)
+	public static class Implementor3
+	{
+		public static final String RE = Implementor3.class.getName();
+
+		@Implement
+		public String handle(Number number)
+		{
+			return RE;
+		}
+	}
+}
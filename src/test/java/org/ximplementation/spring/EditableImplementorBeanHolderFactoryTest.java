@@ -14,9 +14,17 @@
 
 package org.ximplementation.spring;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.hamcrest.Matchers;
 import org.junit.After;
@@ -81,6 +89,67 @@ public class EditableImplementorBeanHolderFactoryTest
 				.contains(Matchers.hasToString(MyBeanB.class.getName())));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void addAllTest()
+	{
+		EditableImplementorBeanHolderFactory factory = new EditableImplementorBeanHolderFactory();
+
+		factory.add(MyBeanA.class, new BeanHolder(applicationContext,
+				"editableImplementorBeanHolderFactoryTest.MyBeanA", true));
+
+		Map<Class<?>, List<Object>> before = factory.getImplementorBeansMap();
+
+		Map<Class<?>, List<Object>> added = new HashMap<Class<?>, List<Object>>();
+		List<Object> beanAs = new ArrayList<Object>();
+		beanAs.add(new BeanHolder(applicationContext,
+				"editableImplementorBeanHolderFactoryTest.MyBeanA", true));
+		List<Object> beanBs = new ArrayList<Object>();
+		beanBs.add(new BeanHolder(applicationContext,
+				"editableImplementorBeanHolderFactoryTest.MyBeanB", true));
+		added.put(MyBeanA.class, beanAs);
+		added.put(MyBeanB.class, beanBs);
+
+		factory.addAll(added);
+
+		// copy on write, the previous view is not changed
+		assertEquals(1, before.size());
+		assertEquals(1, before.get(MyBeanA.class).size());
+
+		Collection<MyBeanA> as = factory.getImplementorBeans(MyBeanA.class);
+		Collection<MyBeanB> bs = factory.getImplementorBeans(MyBeanB.class);
+
+		assertEquals(2, as.size());
+		assertThat(bs, Matchers
+				.contains(Matchers.hasToString(MyBeanB.class.getName())));
+	}
+
+	@Test
+	public void setEnabledTest()
+	{
+		EditableImplementorBeanHolderFactory factory = new EditableImplementorBeanHolderFactory();
+
+		factory.add(MyBeanA.class, new BeanHolder(applicationContext,
+				"editableImplementorBeanHolderFactoryTest.MyBeanA", true));
+		factory.add(MyBeanB.class, new BeanHolder(applicationContext,
+				"editableImplementorBeanHolderFactoryTest.MyBeanB", true));
+
+		assertTrue(factory.setEnabled(MyBeanA.class, false));
+		assertFalse(factory.setEnabled(MyBeanA.class, false));
+		assertFalse(factory.isEnabled(MyBeanA.class));
+		assertNull(factory.getImplementorBeans(MyBeanA.class));
+		assertEquals(1, factory.getImplementorBeans(MyBeanB.class).size());
+
+		// beans added when disabled are kept
+		factory.add(MyBeanA.class, new BeanHolder(applicationContext,
+				"editableImplementorBeanHolderFactoryTest.MyBeanA", true));
+		assertNull(factory.getImplementorBeans(MyBeanA.class));
+
+		assertTrue(factory.setEnabled(MyBeanA.class, true));
+		assertTrue(factory.isEnabled(MyBeanA.class));
+		assertEquals(2, factory.getImplementorBeans(MyBeanA.class).size());
+	}
+
 	@Component
 	public static class MyBeanA
 	{
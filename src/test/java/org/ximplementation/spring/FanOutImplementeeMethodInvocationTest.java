@@ -0,0 +1,186 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Test;
+import org.ximplementation.support.ImplementeeMethodInvocation;
+
+/**
+ * {@linkplain FanOutImplementeeMethodInvocation} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class FanOutImplementeeMethodInvocationTest extends AbstractTestSupport
+{
+	@Test
+	public void invokeTest_timedOut() throws Throwable
+	{
+		ExecutorService executor = Executors.newCachedThreadPool();
+
+		try
+		{
+			List<ImplementeeMethodInvocation> invocations = Arrays
+					.<ImplementeeMethodInvocation> asList(
+							new ResultInvocation("a", 0),
+							new ResultInvocation("b", 5000));
+
+			FanOutImplementeeMethodInvocation invocation = new FanOutImplementeeMethodInvocation(
+					getMethodByName(MyBean.class, "handle"), invocations,
+					new ResultAggregator()
+					{
+						@Override
+						public Object aggregate(Method implementeeMethod,
+								List<Object> results)
+						{
+							return results;
+						}
+					}, executor, 100, false);
+
+			List<?> re = (List<?>) invocation.invoke();
+
+			assertEquals(2, re.size());
+			assertEquals("a", re.get(0));
+			assertTrue(ResultAggregator.TIMED_OUT == re.get(1));
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	@Test(expected = MyThrowable.class)
+	public void invokeTest_throwable() throws Throwable
+	{
+		ExecutorService executor = Executors.newCachedThreadPool();
+
+		try
+		{
+			List<ImplementeeMethodInvocation> invocations = Arrays
+					.<ImplementeeMethodInvocation> asList(
+							new ImplementeeMethodInvocation()
+							{
+								@Override
+								public Object invoke() throws Throwable
+								{
+									throw new MyThrowable();
+								}
+							});
+
+			FanOutImplementeeMethodInvocation invocation = new FanOutImplementeeMethodInvocation(
+					getMethodByName(MyBean.class, "handle"), invocations,
+					new CollectResultAggregator(), executor, 0, false);
+
+			invocation.invoke();
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void invokeTest_rejected() throws Throwable
+	{
+		ImplementorBulkhead bulkhead = new ImplementorBulkhead(MyBean.class,
+				2);
+
+		assertTrue(bulkhead.tryAcquire());
+		assertTrue(bulkhead.tryAcquire());
+
+		List<ImplementeeMethodInvocation> invocations = Arrays
+				.<ImplementeeMethodInvocation> asList(
+						new InvokerImplementeeMethodInvocation(null,
+								new MyBean(), new Object[0], null, bulkhead,
+								null),
+						new InvokerImplementeeMethodInvocation(null,
+								new MyBean(), new Object[0], null, bulkhead,
+								null));
+
+		FanOutImplementeeMethodInvocation invocation = new FanOutImplementeeMethodInvocation(
+				getMethodByName(MyBean.class, "handle"), invocations,
+				new CollectResultAggregator(), new Executor()
+				{
+					@Override
+					public void execute(Runnable command)
+					{
+						throw new RejectedExecutionException();
+					}
+				}, 0, false);
+
+		RejectedExecutionException rejected = null;
+
+		try
+		{
+			invocation.invoke();
+		}
+		catch (RejectedExecutionException e)
+		{
+			rejected = e;
+		}
+
+		assertTrue(rejected != null);
+		assertEquals(0, bulkhead.getInFlight());
+	}
+
+	protected static class ResultInvocation
+			implements ImplementeeMethodInvocation
+	{
+		private final Object result;
+
+		private final long sleep;
+
+		public ResultInvocation(Object result, long sleep)
+		{
+			super();
+			this.result = result;
+			this.sleep = sleep;
+		}
+
+		@Override
+		public Object invoke() throws Throwable
+		{
+			if (this.sleep > 0)
+				Thread.sleep(this.sleep);
+
+			return this.result;
+		}
+	}
+
+	@SuppressWarnings("serial")
+	protected static class MyThrowable extends Throwable
+	{
+	}
+
+	public static class MyBean
+	{
+		public Object handle()
+		{
+			return null;
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * {@linkplain FastMethodInvoker} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class FastMethodInvokerTest extends AbstractTestSupport
+{
+	@Rule
+	public ExpectedException expectedException = ExpectedException.none();
+
+	@Before
+	public void setUp() throws Exception
+	{
+	}
+
+	@After
+	public void tearDown() throws Exception
+	{
+	}
+
+	@Test
+	public void invokeTest() throws Throwable
+	{
+		MyBean bean = new MyBean();
+
+		// public method
+		{
+			FastMethodInvoker invoker = new FastMethodInvoker(
+					getMethodByName(MyBean.class, "plus"));
+
+			assertTrue(invoker.isFast());
+			assertEquals(3, invoker.invoke(bean, new Object[] { 1, 2 }));
+		}
+
+		// static method
+		{
+			FastMethodInvoker invoker = new FastMethodInvoker(
+					getMethodByName(MyBean.class, "staticPlus"));
+
+			assertTrue(invoker.isFast());
+			assertEquals(3, invoker.invoke(null, new Object[] { 1, 2 }));
+		}
+
+		// private method
+		{
+			FastMethodInvoker invoker = new FastMethodInvoker(
+					getMethodByName(MyBean.class, "privatePlus"));
+
+			assertFalse(invoker.isFast());
+			assertEquals(3, invoker.invoke(bean, new Object[] { 1, 2 }));
+		}
+	}
+
+	@Test
+	public void invokeTest_exception() throws Throwable
+	{
+		FastMethodInvoker invoker = new FastMethodInvoker(
+				getMethodByName(MyBean.class, "error"));
+
+		expectedException.expect(IllegalStateException.class);
+
+		invoker.invoke(new MyBean(), new Object[0]);
+	}
+
+	@Test
+	public void valueOfTest()
+	{
+		assertNull(FastMethodInvoker.valueOf(null));
+		assertEquals(getMethodByName(MyBean.class, "plus"), FastMethodInvoker
+				.valueOf(getMethodByName(MyBean.class, "plus")).getMethod());
+	}
+
+	public static class MyBean
+	{
+		public int plus(int a, int b)
+		{
+			return a + b;
+		}
+
+		public static int staticPlus(int a, int b)
+		{
+			return a + b;
+		}
+
+		@SuppressWarnings("unused")
+		private int privatePlus(int a, int b)
+		{
+			return a + b;
+		}
+
+		public void error()
+		{
+			throw new IllegalStateException();
+		}
+	}
+}
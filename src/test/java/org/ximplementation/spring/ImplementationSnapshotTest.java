@@ -0,0 +1,255 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.ximplementation.Implement;
+import org.ximplementation.Implementor;
+import org.ximplementation.Priority;
+import org.ximplementation.Validity;
+import org.ximplementation.support.ImplementInfo;
+import org.ximplementation.support.ImplementMethodInfo;
+import org.ximplementation.support.Implementation;
+import org.ximplementation.support.ImplementationResolver;
+
+/**
+ * {@linkplain ImplementationSnapshot} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class ImplementationSnapshotTest extends AbstractTestSupport
+{
+	private static final String CLASS_PATH = System
+			.getProperty("java.class.path");
+
+	private ImplementationResolver implementationResolver;
+
+	private File file;
+
+	@Before
+	public void setUp() throws Exception
+	{
+		this.implementationResolver = new ImplementationResolver();
+		this.file = File.createTempFile("implementation-snapshot", ".bin");
+		this.file.delete();
+	}
+
+	@After
+	public void tearDown() throws Exception
+	{
+		this.file.delete();
+	}
+
+	@Test
+	public void saveAndLoadTest() throws Throwable
+	{
+		Set<Class<?>> implementors = new HashSet<Class<?>>();
+		implementors.add(Implementor0.class);
+		implementors.add(Implementor1.class);
+
+		Implementation<Implementee> implementation = this.implementationResolver
+				.resolve(Implementee.class, implementors);
+
+		// save
+		{
+			ImplementationSnapshot snapshot = new ImplementationSnapshot(
+					this.file, CLASS_PATH);
+
+			assertNull(snapshot.get(Implementee.class, implementors));
+
+			snapshot.put(implementation);
+			snapshot.save();
+
+			assertTrue(this.file.isFile());
+		}
+
+		// load
+		{
+			ImplementationSnapshot snapshot = new ImplementationSnapshot(
+					this.file, CLASS_PATH);
+
+			assertTrue(snapshot.load());
+			assertTrue(snapshot.isClassPathMatched());
+
+			Implementation<Implementee> loaded = snapshot
+					.get(Implementee.class, implementors);
+
+			assertNotNull(loaded);
+			assertImplementationEquals(implementation, loaded);
+
+			Set<Class<?>> otherImplementors = new HashSet<Class<?>>();
+			otherImplementors.add(Implementor0.class);
+
+			assertNull(snapshot.get(Implementee.class, otherImplementors));
+		}
+
+		// load with changed class path, class files are unchanged
+		{
+			ImplementationSnapshot snapshot = new ImplementationSnapshot(
+					this.file, CLASS_PATH + File.pathSeparator + "not-exists");
+
+			assertTrue(snapshot.load());
+			assertFalse(snapshot.isClassPathMatched());
+
+			Implementation<Implementee> loaded = snapshot
+					.get(Implementee.class, implementors);
+
+			assertNotNull(loaded);
+			assertImplementationEquals(implementation, loaded);
+		}
+	}
+
+	@Test
+	public void loadTest_notExists() throws Throwable
+	{
+		assertFalse(new ImplementationSnapshot(this.file, CLASS_PATH).load());
+	}
+
+	@Test
+	public void getClassHashTest() throws Throwable
+	{
+		ImplementationSnapshot snapshot = new ImplementationSnapshot(this.file,
+				CLASS_PATH);
+
+		String classHash = snapshot.getClassHash(Implementee.class,
+				Collections.<Class<?>> singletonList(Implementor2.class));
+
+		assertNotNull(classHash);
+		assertEquals(
+				ClassFileUtil.hashClassFiles("",
+						Arrays.<Class<?>> asList(Implementee.class,
+								Implementor2.class, Implementor1.class)),
+				classHash);
+	}
+
+	@Test
+	public void writeFileTest() throws Throwable
+	{
+		ImplementationSnapshot snapshot = new ImplementationSnapshot(this.file,
+				CLASS_PATH);
+
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		content.write(new byte[] { 1, 2, 3 });
+		snapshot.writeFile(content);
+
+		content.reset();
+		content.write(new byte[] { 4, 5 });
+		snapshot.writeFile(content);
+
+		assertEquals(2, this.file.length());
+	}
+
+	protected void assertImplementationEquals(Implementation<?> expected,
+			Implementation<?> actual)
+	{
+		assertEquals(expected.getImplementee(), actual.getImplementee());
+		assertEquals(expected.getImplementors(), actual.getImplementors());
+
+		Method handle = getMethodByName(Implementee.class, "handle");
+
+		ImplementInfo expectedInfo = expected.getImplementInfo(handle);
+		ImplementInfo actualInfo = actual.getImplementInfo(handle);
+
+		assertEquals(expectedInfo.getImplementMethodInfos().length,
+				actualInfo.getImplementMethodInfos().length);
+
+		for (ImplementMethodInfo expectedMethodInfo : expectedInfo
+				.getImplementMethodInfos())
+		{
+			ImplementMethodInfo actualMethodInfo = null;
+
+			for (ImplementMethodInfo methodInfo : actualInfo
+					.getImplementMethodInfos())
+			{
+				if (methodInfo.getImplementor()
+						.equals(expectedMethodInfo.getImplementor()))
+					actualMethodInfo = methodInfo;
+			}
+
+			assertNotNull(actualMethodInfo);
+			assertEquals(expectedMethodInfo.getImplementMethod(),
+					actualMethodInfo.getImplementMethod());
+			assertArrayEquals(expectedMethodInfo.getParamTypes(),
+					actualMethodInfo.getParamTypes());
+			assertArrayEquals(expectedMethodInfo.getParamIndexes(),
+					actualMethodInfo.getParamIndexes());
+			assertEquals(expectedMethodInfo.getValidityMethod(),
+					actualMethodInfo.getValidityMethod());
+			assertArrayEquals(expectedMethodInfo.getValidityParamIndexes(),
+					actualMethodInfo.getValidityParamIndexes());
+			assertEquals(expectedMethodInfo.getPriorityValue(),
+					actualMethodInfo.getPriorityValue());
+		}
+	}
+
+	public static interface Implementee
+	{
+		String handle(Number number);
+	}
+
+	@Implementor(Implementee.class)
+	public static class Implementor0
+	{
+		@Implement
+		@Validity("isValid")
+		public String handle(Number number)
+		{
+			return "0";
+		}
+
+		public boolean isValid(Number number)
+		{
+			return number.intValue() < 0;
+		}
+	}
+
+	@Implementor(Implementee.class)
+	public static class Implementor1
+	{
+		@Implement
+		@Priority(1)
+		public String handle(Integer number)
+		{
+			return "1";
+		}
+	}
+
+	/**
+	 * The <i>implement method</i> is inherited from {@linkplain Implementor1}.
+	 */
+	@Implementor(Implementee.class)
+	public static class Implementor2 extends Implementor1
+	{
+	}
+}
@@ -15,6 +15,7 @@
 package org.ximplementation.spring;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -26,6 +27,8 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
@@ -33,6 +36,9 @@ import org.springframework.stereotype.Component;
 import org.ximplementation.Implement;
 import org.ximplementation.Implementor;
 import org.ximplementation.Validity;
+import org.ximplementation.spring.ImplementeeBeanCreationPostProcessor.ImplementeeBeanLazyLoader;
+
+import net.sf.cglib.proxy.Factory;
 
 /**
  * {@linkplain ImplementeeBeanCreationPostProcessor} unit tests.
@@ -113,6 +119,146 @@ public class ImplementeeBeanCreationPostProcessorTest
 		}
 	}
 
+	@Test
+	public void testPreResolve()
+	{
+		ClassPathXmlApplicationContext preResolveApplicationContext = new ClassPathXmlApplicationContext(
+				"classpath:applicationContext-preResolve.xml");
+
+		try
+		{
+			Controller controller = preResolveApplicationContext
+					.getBean(Controller.class);
+
+			String re = controller.handle(ServiceImpl1.MY_NUMBER);
+			assertEquals(MyAspect.PREFIX + ServiceImpl1.MY_RE, re);
+
+			re = controller.handle(12345);
+			assertEquals(MyAspect.PREFIX + ServiceImpl2.MY_RE, re);
+
+			ControllerForXMLConfig xmlController = (ControllerForXMLConfig) preResolveApplicationContext
+					.getBean("controller1-xml-config");
+
+			assertTrue(xmlController.getService() == controller.getService());
+		}
+		finally
+		{
+			preResolveApplicationContext.close();
+		}
+	}
+
+	@Test
+	public void testLazyResolve()
+	{
+		ClassPathXmlApplicationContext lazyResolveApplicationContext = new ClassPathXmlApplicationContext(
+				"classpath:applicationContext-lazyResolve.xml");
+
+		try
+		{
+			Controller controller = lazyResolveApplicationContext
+					.getBean(Controller.class);
+
+			assertTrue(((Factory) controller.getService())
+					.getCallback(0) instanceof ImplementeeBeanLazyLoader);
+
+			String re = controller.handle(ServiceImpl1.MY_NUMBER);
+			assertEquals(MyAspect.PREFIX + ServiceImpl1.MY_RE, re);
+
+			re = controller.handle(12345);
+			assertEquals(MyAspect.PREFIX + ServiceImpl2.MY_RE, re);
+
+			ControllerForXMLConfig xmlController = (ControllerForXMLConfig) lazyResolveApplicationContext
+					.getBean("controller1-xml-config");
+
+			assertTrue(xmlController.getService() == controller.getService());
+			assertTrue(controller.getService() instanceof CglibImplementee);
+		}
+		finally
+		{
+			lazyResolveApplicationContext.close();
+		}
+	}
+
+	@Test
+	public void testRegisterImplementorBeans()
+	{
+		ClassPathXmlApplicationContext registerApplicationContext = new ClassPathXmlApplicationContext(
+				"classpath:applicationContext.xml");
+
+		try
+		{
+			Controller controller = registerApplicationContext
+					.getBean(Controller.class);
+
+			Long number = new Long(5L);
+
+			String re = controller.handle(number);
+			assertEquals(MyAspect.PREFIX + ServiceImpl0.MY_RE, re);
+
+			DefaultListableBeanFactory beanFactory = (DefaultListableBeanFactory) registerApplicationContext
+					.getBeanFactory();
+
+			GenericBeanDefinition beanDefinition = new GenericBeanDefinition();
+			beanDefinition.setBeanClass(ServiceImpl4.class);
+			beanFactory.registerBeanDefinition("serviceImpl4", beanDefinition);
+
+			ImplementeeBeanCreationPostProcessor postProcessor = registerApplicationContext
+					.getBean(ImplementeeBeanCreationPostProcessor.class);
+			postProcessor.registerImplementorBeans("serviceImpl4");
+
+			assertTrue(postProcessor.getImplementorIndex()
+					.getImplementors(Service.class)
+					.contains(ServiceImpl4.class));
+
+			re = controller.handle(number);
+			assertEquals(MyAspect.PREFIX + ServiceImpl4.MY_RE, re);
+
+			re = controller.handle(12345);
+			assertEquals(MyAspect.PREFIX + ServiceImpl2.MY_RE, re);
+		}
+		finally
+		{
+			registerApplicationContext.close();
+		}
+	}
+
+	@Test
+	public void testSetImplementorEnabled()
+	{
+		ClassPathXmlApplicationContext enabledApplicationContext = new ClassPathXmlApplicationContext(
+				"classpath:applicationContext.xml");
+
+		try
+		{
+			Controller controller = enabledApplicationContext
+					.getBean(Controller.class);
+
+			ImplementeeBeanCreationPostProcessor postProcessor = enabledApplicationContext
+					.getBean(ImplementeeBeanCreationPostProcessor.class);
+
+			String re = controller.handle(12345);
+			assertEquals(MyAspect.PREFIX + ServiceImpl2.MY_RE, re);
+
+			assertTrue(postProcessor.setImplementorEnabled(Service.class,
+					ServiceImpl2.class, false));
+			assertFalse(postProcessor.setImplementorEnabled(Service.class,
+					ServiceImpl2.class, false));
+
+			re = controller.handle(12345);
+			assertEquals(MyAspect.PREFIX + ServiceImpl0.MY_RE, re);
+
+			assertTrue(postProcessor.setImplementorEnabled(Service.class,
+					ServiceImpl2.class, true));
+
+			re = controller.handle(12345);
+			assertEquals(MyAspect.PREFIX + ServiceImpl2.MY_RE, re);
+		}
+		finally
+		{
+			enabledApplicationContext.close();
+		}
+	}
+
 	@Test
 	public void testOnlyOneDependentImplementeeBeanCreated()
 	{
@@ -653,6 +799,21 @@ public class ImplementeeBeanCreationPostProcessorTest
 		}
 	}
 
+	/**
+	 * Not a component, registered at runtime.
+	 */
+	@Implementor(Service.class)
+	public static class ServiceImpl4
+	{
+		public static final String MY_RE = ServiceImpl4.class.getName();
+
+		@Implement("handle")
+		public String handle(Long number)
+		{
+			return MY_RE;
+		}
+	}
+
 	@Component
 	@Aspect
 	public static class MyAspect
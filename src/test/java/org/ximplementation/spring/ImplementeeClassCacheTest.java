@@ -0,0 +1,144 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.ximplementation.support.ImplementInfo;
+import org.ximplementation.support.Implementation;
+
+/**
+ * {@linkplain ImplementeeClassCache} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class ImplementeeClassCacheTest extends AbstractTestSupport
+{
+	private File dir;
+
+	@Before
+	public void setUp() throws Exception
+	{
+		this.dir = File.createTempFile("implementee-class-cache", "");
+		this.dir.delete();
+	}
+
+	@After
+	public void tearDown() throws Exception
+	{
+		File[] files = this.dir.listFiles();
+
+		if (files != null)
+		{
+			for (File file : files)
+				file.delete();
+		}
+
+		this.dir.delete();
+	}
+
+	@Test
+	public void storeAndLoadTest() throws Exception
+	{
+		ImplementeeClassCache cache = new ImplementeeClassCache(this.dir);
+
+		String key = "0123456789abcdef";
+
+		assertNull(cache.load(key, CachedBean.class));
+
+		byte[] bytes = ClassFileUtil.readClassFile(CachedBean.class);
+		cache.store(key, bytes, CachedBean.class);
+
+		assertTrue(new File(this.dir, key + ImplementeeClassCache.FILE_SUFFIX)
+				.isFile());
+		assertSame(CachedBean.class, cache.load(key, CachedBean.class));
+
+		// a new JVM run
+		ImplementeeClassCache newCache = new ImplementeeClassCache(this.dir);
+		ClassLoader classLoader = new URLClassLoader(new URL[] { ContextBean.class
+				.getProtectionDomain().getCodeSource().getLocation() }, null);
+		Class<?> contextClass = classLoader
+				.loadClass(ContextBean.class.getName());
+
+		Class<?> clazz = newCache.load(key, contextClass);
+
+		assertEquals(CachedBean.class.getName(), clazz.getName());
+		assertNotSame(CachedBean.class, clazz);
+		assertSame(classLoader, clazz.getClassLoader());
+		assertSame(clazz, newCache.load(key, contextClass));
+	}
+
+	@Test
+	public void getKeyTest() throws Exception
+	{
+		ImplementeeClassCache cache = new ImplementeeClassCache(this.dir);
+
+		Implementation<CachedBean> implementation = new Implementation<CachedBean>(
+				CachedBean.class, new ImplementInfo[0])
+		{
+			@Override
+			public Class<CachedBean> getImplementee()
+			{
+				return CachedBean.class;
+			}
+
+			@Override
+			public Set<Class<?>> getImplementors()
+			{
+				return Collections.<Class<?>> singleton(ContextBean.class);
+			}
+		};
+
+		String key = cache.getKey(implementation, "stable");
+
+		assertNotNull(key);
+		assertEquals(key, cache.getKey(implementation, "stable",
+				CglibImplementeeBeanBuilder.class));
+		assertFalse(key.equals(cache.getKey(implementation, "stable0")));
+		assertFalse(key.equals(cache.getKey(implementation, "stable",
+				CustomBuilder.class)));
+		assertTrue(cache.getSeed("stable").startsWith(
+				ImplementeeClassCache.FORMAT_VERSION + "#"));
+	}
+
+	public static class CustomBuilder extends CglibImplementeeBeanBuilder
+	{
+	}
+
+	public static class CachedBean
+	{
+	}
+
+	public static class ContextBean
+	{
+	}
+}
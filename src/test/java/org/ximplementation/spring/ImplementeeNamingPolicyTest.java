@@ -0,0 +1,73 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import net.sf.cglib.core.Predicate;
+
+/**
+ * {@linkplain ImplementeeNamingPolicy} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class ImplementeeNamingPolicyTest extends AbstractTestSupport
+{
+	@Test
+	public void getClassNameTest()
+	{
+		final Set<String> names = new HashSet<String>();
+
+		Predicate predicate = new Predicate()
+		{
+			@Override
+			public boolean evaluate(Object arg)
+			{
+				return names.contains(arg);
+			}
+		};
+
+		ImplementeeNamingPolicy policy0 = new ImplementeeNamingPolicy("a.B");
+		ImplementeeNamingPolicy policy1 = new ImplementeeNamingPolicy("a.B");
+		ImplementeeNamingPolicy policy2 = new ImplementeeNamingPolicy("a.C");
+
+		assertEquals(policy0, policy1);
+		assertEquals(policy0.hashCode(), policy1.hashCode());
+		assertFalse(policy0.equals(policy2));
+
+		String name0 = policy0.getClassName("a.B", "source", null, predicate);
+		String name1 = policy1.getClassName("a.B", "source", null, predicate);
+
+		assertEquals(name0, name1);
+		assertTrue(name0.startsWith("a.B" + ImplementeeNamingPolicy.TAG));
+
+		names.add(name0);
+
+		assertEquals(name0 + "_2",
+				policy0.getClassName("a.B", "source", null, predicate));
+
+		assertTrue(policy0.getClassName("java.util.List", "source", null,
+				predicate).startsWith("$java.util.List"));
+	}
+}
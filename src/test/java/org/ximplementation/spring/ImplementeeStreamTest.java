@@ -0,0 +1,299 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.ximplementation.spring.ImplementeeStream.StreamResult;
+import org.ximplementation.spring.InvokerImplementeeMethodInvocationFactoryTest.CacheableImplementee;
+import org.ximplementation.spring.InvokerImplementeeMethodInvocationFactoryTest.CacheableImplementor0;
+import org.ximplementation.spring.InvokerImplementeeMethodInvocationFactoryTest.Implementee;
+import org.ximplementation.spring.InvokerImplementeeMethodInvocationFactoryTest.Implementor0;
+import org.ximplementation.spring.InvokerImplementeeMethodInvocationFactoryTest.Implementor1;
+import org.ximplementation.spring.InvokerImplementeeMethodInvocationFactoryTest.Implementor2;
+import org.ximplementation.support.Implementation;
+import org.ximplementation.support.ImplementationResolver;
+import org.ximplementation.support.ImplementorBeanFactory;
+import org.ximplementation.support.SimpleImplementorBeanFactory;
+
+/**
+ * {@linkplain ImplementeeStream} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class ImplementeeStreamTest extends AbstractTestSupport
+{
+	private ImplementationResolver implementationResolver;
+
+	private InvokerImplementeeMethodInvocationFactory invokerImplementeeMethodInvocationFactory;
+
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() throws Exception
+	{
+		this.implementationResolver = new ImplementationResolver();
+		this.invokerImplementeeMethodInvocationFactory = new InvokerImplementeeMethodInvocationFactory();
+		this.executor = Executors.newCachedThreadPool();
+		this.invokerImplementeeMethodInvocationFactory
+				.setAsyncExecutor(this.executor);
+	}
+
+	@After
+	public void tearDown() throws Exception
+	{
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	public void streamTest() throws Throwable
+	{
+		Implementation<Implementee> implementation = this.implementationResolver
+				.resolve(Implementee.class, Implementor0.class,
+						Implementor1.class, Implementor2.class);
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(new Implementor0(), new Implementor1(),
+						new Implementor2());
+
+		Method handle = getMethodByName(Implementee.class, "handle");
+
+		final ImplementeeStream stream = this.invokerImplementeeMethodInvocationFactory
+				.openStream(implementation, handle, implementorBeanFactory, 2,
+						2);
+
+		Thread producer = new Thread()
+		{
+			@Override
+			public void run()
+			{
+				try
+				{
+					for (int i = 0; i < 20; i++)
+						stream.put(new Object[] { i });
+
+					stream.put(new Object[] { 0.5F });
+
+					stream.close();
+				}
+				catch (InterruptedException e)
+				{
+				}
+			}
+		};
+		producer.start();
+
+		Map<Object, Integer> counts = new HashMap<Object, Integer>();
+
+		StreamResult result;
+		while ((result = stream.take()) != null)
+		{
+			assertTrue(result.isSuccess());
+
+			Integer count = counts.get(result.getResult());
+			counts.put(result.getResult(), (count == null ? 1 : count + 1));
+		}
+
+		assertNull(stream.take());
+		assertTrue(stream.isClosed());
+
+		assertEquals(Integer.valueOf(1), counts.get(Implementor0.RE));
+		assertEquals(Integer.valueOf(11), counts.get(Implementor1.RE));
+		assertEquals(Integer.valueOf(9), counts.get(Implementor2.RE));
+	}
+
+	@Test
+	public void streamTest_noValid() throws Throwable
+	{
+		Implementation<Implementee> implementation = this.implementationResolver
+				.resolve(Implementee.class, Implementor1.class);
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(new Implementor1());
+
+		ImplementeeStream stream = this.invokerImplementeeMethodInvocationFactory
+				.openStream(implementation,
+						getMethodByName(Implementee.class, "handle"),
+						implementorBeanFactory, 1, 4);
+
+		stream.put(new Object[] { 1 });
+		stream.put(new Object[] { 1.0F });
+		stream.close();
+
+		int success = 0;
+		int error = 0;
+
+		StreamResult result;
+		while ((result = stream.take()) != null)
+		{
+			if (result.isSuccess())
+				success++;
+			else
+			{
+				assertTrue(result
+						.getError() instanceof UnsupportedOperationException);
+				error++;
+			}
+		}
+
+		assertEquals(1, success);
+		assertEquals(1, error);
+	}
+
+	@Test
+	public void closeTest_full() throws Throwable
+	{
+		Implementation<Implementee> implementation = this.implementationResolver
+				.resolve(Implementee.class, Implementor1.class);
+
+		ImplementeeStream stream = this.invokerImplementeeMethodInvocationFactory
+				.openStream(implementation,
+						getMethodByName(Implementee.class, "handle"),
+						SimpleImplementorBeanFactory
+								.valueOf(new Implementor1()),
+						1, 1);
+
+		// fills the output, the worker and the sub-stream
+		for (int i = 0; i < 3; i++)
+			stream.put(new Object[] { i });
+
+		// must not block on the full sub-stream
+		stream.close();
+
+		int count = 0;
+		while (stream.take() != null)
+			count++;
+
+		assertEquals(3, count);
+	}
+
+	@Test
+	public void boundedQueueTest() throws Throwable
+	{
+		ImplementeeStream.BoundedQueue queue = new ImplementeeStream.BoundedQueue(
+				1, 1);
+
+		queue.put("a");
+
+		// end token does not take the capacity
+		queue.putEnd();
+
+		assertEquals("a", queue.take());
+		assertNotNull(queue.poll(10, TimeUnit.MILLISECONDS));
+		assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+
+		// the capacity is released by taking
+		queue.put("b");
+		assertEquals("b", queue.take());
+	}
+
+	@Test
+	public void putTest_rejected() throws Throwable
+	{
+		Implementation<Implementee> implementation = this.implementationResolver
+				.resolve(Implementee.class, Implementor1.class);
+
+		this.invokerImplementeeMethodInvocationFactory
+				.setAsyncExecutor(new Executor()
+				{
+					@Override
+					public void execute(Runnable command)
+					{
+						throw new RejectedExecutionException();
+					}
+				});
+
+		ImplementeeStream stream = this.invokerImplementeeMethodInvocationFactory
+				.openStream(implementation,
+						getMethodByName(Implementee.class, "handle"),
+						SimpleImplementorBeanFactory
+								.valueOf(new Implementor1()),
+						1, 1);
+
+		RejectedExecutionException rejected = null;
+
+		try
+		{
+			stream.put(new Object[] { 1 });
+		}
+		catch (RejectedExecutionException e)
+		{
+			rejected = e;
+		}
+
+		assertNotNull(rejected);
+
+		// no sub-stream is left without workers
+		stream.close();
+
+		assertNull(stream.poll(1, TimeUnit.SECONDS));
+		assertTrue(stream.take() == null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void openStreamTest_cacheable() throws Throwable
+	{
+		Implementation<CacheableImplementee> implementation = this.implementationResolver
+				.resolve(CacheableImplementee.class,
+						CacheableImplementor0.class);
+
+		this.invokerImplementeeMethodInvocationFactory.openStream(
+				implementation,
+				getMethodByName(CacheableImplementee.class, "handle"),
+				SimpleImplementorBeanFactory
+						.valueOf(new CacheableImplementor0()),
+				1, 1);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void putTest_closed() throws Throwable
+	{
+		Implementation<Implementee> implementation = this.implementationResolver
+				.resolve(Implementee.class, Implementor0.class);
+
+		ImplementeeStream stream = this.invokerImplementeeMethodInvocationFactory
+				.openStream(implementation,
+						getMethodByName(Implementee.class, "handle"),
+						SimpleImplementorBeanFactory
+								.valueOf(new Implementor0()),
+						1, 1);
+
+		assertFalse(stream.isClosed());
+
+		stream.close();
+
+		assertNull(stream.take());
+
+		stream.put(new Object[] { 1 });
+	}
+}
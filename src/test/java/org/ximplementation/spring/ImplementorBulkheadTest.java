@@ -0,0 +1,66 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * {@linkplain ImplementorBulkhead} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class ImplementorBulkheadTest extends AbstractTestSupport
+{
+	@Test
+	public void tryAcquireTest()
+	{
+		ImplementorBulkhead bulkhead = new ImplementorBulkhead(String.class, 2);
+
+		assertTrue(bulkhead.tryAcquire());
+		assertTrue(bulkhead.tryAcquire());
+		assertFalse(bulkhead.tryAcquire());
+		assertEquals(2, bulkhead.getInFlight());
+
+		bulkhead.release();
+
+		assertTrue(bulkhead.tryAcquire());
+		assertFalse(bulkhead.tryAcquire());
+	}
+
+	@Test
+	public void registryTest()
+	{
+		ImplementorBulkhead.Registry registry = new ImplementorBulkhead.Registry();
+
+		ImplementorBulkhead bulkhead = registry.get(MyImplementor.class);
+
+		assertEquals(3, bulkhead.getMaxConcurrency());
+		assertSame(bulkhead, registry.get(MyImplementor.class));
+		assertNull(registry.get(String.class));
+	}
+
+	@Bulkhead(3)
+	public static class MyImplementor
+	{
+	}
+}
@@ -0,0 +1,222 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.ximplementation.support.ImplementorManager;
+
+/**
+ * {@linkplain ImplementorIndex} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class ImplementorIndexTest extends AbstractTestSupport
+{
+	private DefaultListableBeanFactory parentBeanFactory;
+
+	private DefaultListableBeanFactory childBeanFactory;
+
+	@Before
+	public void setUp() throws Exception
+	{
+		this.parentBeanFactory = new DefaultListableBeanFactory();
+		this.parentBeanFactory.registerBeanDefinition("implementor0",
+				new RootBeanDefinition(Implementor0.class));
+		this.parentBeanFactory.registerBeanDefinition("implementor1",
+				new RootBeanDefinition(Implementor1.class));
+
+		this.childBeanFactory = new DefaultListableBeanFactory(
+				this.parentBeanFactory);
+		this.childBeanFactory.registerBeanDefinition("implementor1Child",
+				new RootBeanDefinition(Implementor1.class));
+		this.childBeanFactory.registerBeanDefinition("implementor2",
+				new RootBeanDefinition(Implementor2.class));
+	}
+
+	@Test
+	public void valueOfTest()
+	{
+		ImplementorIndex childIndex = ImplementorIndex
+				.valueOf(this.childBeanFactory);
+		ImplementorIndex parentIndex = ImplementorIndex
+				.valueOf(this.parentBeanFactory);
+
+		// shared
+		assertSame(childIndex, ImplementorIndex.valueOf(this.childBeanFactory));
+		assertSame(parentIndex, childIndex.getParent());
+		assertNull(parentIndex.getParent());
+
+		// only its own bean definitions are scanned
+		assertEquals(2, parentIndex.getImplementorBeanNamesMap().size());
+		assertEquals(2, childIndex.getImplementorBeanNamesMap().size());
+
+		assertEquals(Arrays.asList("implementor0"),
+				childIndex.getImplementorBeanNames(Implementor0.class));
+		assertEquals(Arrays.asList("implementor1", "implementor1Child"),
+				childIndex.getImplementorBeanNames(Implementor1.class));
+		assertEquals(Arrays.asList("implementor2"),
+				childIndex.getImplementorBeanNames(Implementor2.class));
+		assertTrue(parentIndex.getImplementorBeanNames(Implementor2.class)
+				.isEmpty());
+	}
+
+	@Test
+	public void valueOfTest_implementorManager()
+	{
+		ImplementorManager implementorManager0 = new ImplementorManager();
+		ImplementorManager implementorManager1 = new ImplementorManager();
+
+		ImplementorIndex index0 = ImplementorIndex
+				.valueOf(this.childBeanFactory, implementorManager0);
+		ImplementorIndex index1 = ImplementorIndex
+				.valueOf(this.childBeanFactory, implementorManager1);
+
+		assertNotSame(index0, index1);
+		assertSame(implementorManager0, index0.getImplementorManager());
+		assertSame(implementorManager1, index1.getImplementorManager());
+		assertSame(index0, ImplementorIndex.valueOf(this.childBeanFactory,
+				implementorManager0));
+
+		// the first built one
+		assertSame(index0, ImplementorIndex.valueOf(this.childBeanFactory));
+
+		// parent is shared
+		assertSame(index0.getParent(), index1.getParent());
+
+		ImplementorIndex.remove(this.childBeanFactory, implementorManager0);
+
+		assertSame(index1, ImplementorIndex.valueOf(this.childBeanFactory));
+		assertNotSame(index0, ImplementorIndex.valueOf(this.childBeanFactory,
+				implementorManager0));
+	}
+
+	@Test
+	public void getImplementorBeanNamesTest_overriddenByOtherClass()
+	{
+		// overrides the parent bean definition with another class
+		this.childBeanFactory.registerBeanDefinition("implementor1",
+				new RootBeanDefinition(Implementor2.class));
+
+		ImplementorIndex childIndex = ImplementorIndex
+				.valueOf(this.childBeanFactory);
+
+		assertEquals(Arrays.asList("implementor1Child"),
+				childIndex.getImplementorBeanNames(Implementor1.class));
+		assertEquals(Arrays.asList("implementor2", "implementor1"),
+				childIndex.getImplementorBeanNames(Implementor2.class));
+		assertEquals(Arrays.asList("implementor1"), childIndex.getParent()
+				.getImplementorBeanNames(Implementor1.class));
+	}
+
+	@Test
+	public void extendTest()
+	{
+		ImplementorManager implementorManager = new ImplementorManager();
+
+		ImplementorIndex index = ImplementorIndex
+				.valueOf(this.childBeanFactory, implementorManager);
+
+		// replaces the indexed one of the same name with another class
+		this.childBeanFactory.registerBeanDefinition("implementor1Child",
+				new RootBeanDefinition(Implementor2.class));
+		this.childBeanFactory.registerBeanDefinition("implementor0Child",
+				new RootBeanDefinition(Implementor0.class));
+
+		ImplementorIndex extended = index.extend(this.childBeanFactory,
+				"implementor1Child", "implementor0Child");
+
+		// programmatic entries of the manager are kept
+		assertSame(implementorManager, extended.getImplementorManager());
+		assertEquals(1, extended.getExtendedImplementorManagers().size());
+		assertSame(index.getParent(), extended.getParent());
+		assertSame(extended, ImplementorIndex.valueOf(this.childBeanFactory,
+				implementorManager));
+
+		assertEquals(Arrays.asList("implementor1"),
+				extended.getImplementorBeanNames(Implementor1.class));
+		assertEquals(Arrays.asList("implementor2", "implementor1Child"),
+				extended.getImplementorBeanNames(Implementor2.class));
+		assertEquals(Arrays.asList("implementor0", "implementor0Child"),
+				extended.getImplementorBeanNames(Implementor0.class));
+
+		// not modified
+		assertEquals(Arrays.asList("implementor1", "implementor1Child"),
+				index.getImplementorBeanNames(Implementor1.class));
+	}
+
+	@Test
+	public void getImplementorsTest()
+	{
+		ImplementorIndex childIndex = ImplementorIndex
+				.valueOf(this.childBeanFactory);
+
+		Set<Class<?>> implementors = childIndex
+				.getImplementors(Implementee.class);
+
+		assertEquals(3, implementors.size());
+		assertTrue(implementors.contains(Implementor0.class));
+		assertTrue(implementors.contains(Implementor1.class));
+		assertTrue(implementors.contains(Implementor2.class));
+
+		assertEquals(2, childIndex.getParent()
+				.getImplementors(Implementee.class).size());
+	}
+
+	public static interface Implementee
+	{
+		String handle();
+	}
+
+	public static class Implementor0 implements Implementee
+	{
+		@Override
+		public String handle()
+		{
+			return "0";
+		}
+	}
+
+	public static class Implementor1 implements Implementee
+	{
+		@Override
+		public String handle()
+		{
+			return "1";
+		}
+	}
+
+	public static class Implementor2 implements Implementee
+	{
+		@Override
+		public String handle()
+		{
+			return "2";
+		}
+	}
+}
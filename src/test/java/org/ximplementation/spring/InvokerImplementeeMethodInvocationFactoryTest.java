@@ -0,0 +1,1140 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.scheduling.annotation.AsyncResult;
+import org.ximplementation.Implement;
+import org.ximplementation.Implementor;
+import org.ximplementation.Priority;
+import org.ximplementation.Validity;
+import org.ximplementation.support.Implementation;
+import org.ximplementation.support.ImplementationResolver;
+import org.ximplementation.support.ImplementeeMethodInvocation;
+import org.ximplementation.support.ImplementorBeanFactory;
+import org.ximplementation.support.SimpleImplementorBeanFactory;
+
+/**
+ * {@linkplain InvokerImplementeeMethodInvocationFactory} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class InvokerImplementeeMethodInvocationFactoryTest
+		extends AbstractTestSupport
+{
+	private ImplementationResolver implementationResolver;
+
+	private InvokerImplementeeMethodInvocationFactory invokerImplementeeMethodInvocationFactory;
+
+	@Before
+	public void setUp() throws Exception
+	{
+		this.implementationResolver = new ImplementationResolver();
+		this.invokerImplementeeMethodInvocationFactory = new InvokerImplementeeMethodInvocationFactory();
+	}
+
+	@After
+	public void tearDown() throws Exception
+	{
+	}
+
+	@Test
+	public void prepareTest()
+	{
+		Implementation<Implementee> implementation = this.implementationResolver
+				.resolve(Implementee.class, Implementor0.class,
+						Implementor1.class, Implementor2.class);
+
+		Map<Method, ImplementeeMethodInvoker> invokers = this.invokerImplementeeMethodInvocationFactory
+				.prepare(implementation);
+
+		assertTrue(invokers == this.invokerImplementeeMethodInvocationFactory
+				.prepare(implementation));
+
+		ImplementeeMethodInvoker handleInvoker = invokers
+				.get(getMethodByName(Implementee.class, "handle"));
+
+		assertNotNull(handleInvoker);
+		assertEquals(3, handleInvoker.getImplementMethodInvokers().length);
+	}
+
+	@Test
+	public void getTest() throws Throwable
+	{
+		Implementation<Implementee> implementation = this.implementationResolver
+				.resolve(Implementee.class, Implementor0.class,
+						Implementor1.class, Implementor2.class);
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(new Implementor0(), new Implementor1(),
+						new Implementor2());
+
+		Method handle = getMethodByName(Implementee.class, "handle");
+
+		// default
+		{
+			ImplementeeMethodInvocation invocation = this.invokerImplementeeMethodInvocationFactory
+					.get(implementation, handle, new Object[] { 1.0F },
+							implementorBeanFactory);
+
+			assertEquals(Implementor0.RE, invocation.invoke());
+		}
+
+		// more specific parameter type
+		{
+			ImplementeeMethodInvocation invocation = this.invokerImplementeeMethodInvocationFactory
+					.get(implementation, handle, new Object[] { 1 },
+							implementorBeanFactory);
+
+			assertEquals(Implementor1.RE, invocation.invoke());
+		}
+
+		// validity and priority
+		{
+			ImplementeeMethodInvocation invocation = this.invokerImplementeeMethodInvocationFactory
+					.get(implementation, handle, new Object[] { 100 },
+							implementorBeanFactory);
+
+			assertEquals(Implementor2.RE, invocation.invoke());
+		}
+	}
+
+	@Test
+	public void getTest_noValid() throws Throwable
+	{
+		Implementation<Implementee> implementation = this.implementationResolver
+				.resolve(Implementee.class, Implementor1.class);
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(new Implementor1());
+
+		ImplementeeMethodInvocation invocation = this.invokerImplementeeMethodInvocationFactory
+				.get(implementation,
+						getMethodByName(Implementee.class, "handle"),
+						new Object[] { 1.0F }, implementorBeanFactory);
+
+		assertNull(invocation);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void getTest_async() throws Throwable
+	{
+		Implementation<AsyncImplementee> implementation = this.implementationResolver
+				.resolve(AsyncImplementee.class, AsyncImplementor0.class,
+						AsyncImplementor1.class);
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(new AsyncImplementor0(), new AsyncImplementor1());
+
+		Method handle = getMethodByName(AsyncImplementee.class, "handle");
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try
+		{
+			this.invokerImplementeeMethodInvocationFactory
+					.setAsyncExecutor(executor);
+
+			ImplementeeMethodInvocation invocation = this.invokerImplementeeMethodInvocationFactory
+					.get(implementation, handle, new Object[] { 1 },
+							implementorBeanFactory);
+
+			assertTrue(invocation instanceof AsyncImplementeeMethodInvocation);
+
+			Future<String> future = (Future<String>) invocation.invoke();
+
+			assertEquals(AsyncImplementor1.RE, future.get());
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void getTest_futureTaskReturnType() throws Throwable
+	{
+		Implementation<FutureTaskImplementee> implementation = this.implementationResolver
+				.resolve(FutureTaskImplementee.class,
+						FutureTaskImplementor.class);
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(new FutureTaskImplementor());
+
+		Method handle = getMethodByName(FutureTaskImplementee.class,
+				"handle");
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try
+		{
+			this.invokerImplementeeMethodInvocationFactory
+					.setAsyncExecutor(executor);
+
+			ImplementeeMethodInvocation invocation = this.invokerImplementeeMethodInvocationFactory
+					.get(implementation, handle, new Object[] { 1 },
+							implementorBeanFactory);
+
+			// a FutureTask can not be returned asynchronously
+			assertTrue(
+					!(invocation instanceof AsyncImplementeeMethodInvocation));
+
+			FutureTask<String> future = (FutureTask<String>) invocation
+					.invoke();
+
+			assertEquals(FutureTaskImplementor.RE, future.get());
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void getTest_fanOut() throws Throwable
+	{
+		Implementation<FanOutImplementee> implementation = this.implementationResolver
+				.resolve(FanOutImplementee.class, FanOutImplementor0.class,
+						FanOutImplementor1.class, FanOutImplementor2.class);
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(new FanOutImplementor0(), new FanOutImplementor1(),
+						new FanOutImplementor2());
+
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+
+		try
+		{
+			this.invokerImplementeeMethodInvocationFactory
+					.setAsyncExecutor(executor);
+
+			// collect
+			{
+				ImplementeeMethodInvocation invocation = this.invokerImplementeeMethodInvocationFactory
+						.get(implementation,
+								getMethodByName(FanOutImplementee.class,
+										"collect"),
+								new Object[] { 1 }, implementorBeanFactory);
+
+				assertTrue(
+						invocation instanceof FanOutImplementeeMethodInvocation);
+
+				List<Object> re = (List<Object>) invocation.invoke();
+
+				assertEquals(Arrays.asList((Object) FanOutImplementor1.RE,
+						FanOutImplementor0.RE), re);
+			}
+
+			// merge
+			{
+				ImplementeeMethodInvocation invocation = this.invokerImplementeeMethodInvocationFactory
+						.get(implementation,
+								getMethodByName(FanOutImplementee.class,
+										"merge"),
+								new Object[] { 1 }, implementorBeanFactory);
+
+				List<String> re = (List<String>) invocation.invoke();
+
+				assertEquals(Arrays.asList(FanOutImplementor1.RE,
+						FanOutImplementor0.RE), re);
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void getTest_hedged() throws Throwable
+	{
+		Implementation<HedgedImplementee> implementation = this.implementationResolver
+				.resolve(HedgedImplementee.class, HedgedImplementor0.class,
+						HedgedImplementor1.class);
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(new HedgedImplementor0(), new HedgedImplementor1());
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try
+		{
+			this.invokerImplementeeMethodInvocationFactory
+					.setAsyncExecutor(executor);
+
+			Method method = getMethodByName(HedgedImplementee.class, "query");
+
+			ImplementeeMethodInvocation invocation = this.invokerImplementeeMethodInvocationFactory
+					.get(implementation, method, new Object[] { 1 },
+							implementorBeanFactory);
+
+			assertTrue(
+					invocation instanceof HedgedImplementeeMethodInvocation);
+
+			// the slow primary is hedged by the backup
+			assertEquals(HedgedImplementor1.RE, invocation.invoke());
+
+			// no backup
+			invocation = this.invokerImplementeeMethodInvocationFactory.get(
+					implementation, method, new Object[] { -1 },
+					implementorBeanFactory);
+
+			assertEquals(HedgedImplementor1.RE, invocation.invoke());
+
+			ImplementeeMethodInvoker implementeeMethodInvoker = this.invokerImplementeeMethodInvocationFactory
+					.getImplementeeMethodInvoker(implementation, method);
+
+			assertEquals(2, implementeeMethodInvoker
+					.getLatencyHistogram(HedgedImplementor1.class)
+					.getCount());
+
+			// the cancelled primary is recorded too
+			assertEquals(1, implementeeMethodInvoker
+					.getLatencyHistogram(HedgedImplementor0.class)
+					.getCount());
+			assertTrue(implementeeMethodInvoker
+					.getLatencyHistogram(HedgedImplementor0.class)
+					.getValueAtPercentile(1) >= 50000000L);
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void prepareTest_hedgedWithoutExecutor() throws Throwable
+	{
+		Implementation<HedgedImplementee> implementation = this.implementationResolver
+				.resolve(HedgedImplementee.class, HedgedImplementor0.class,
+						HedgedImplementor1.class);
+
+		this.invokerImplementeeMethodInvocationFactory.prepare(implementation);
+	}
+
+	@Test
+	public void getTest_bulkhead() throws Throwable
+	{
+		Implementation<BulkheadImplementee> implementation = this.implementationResolver
+				.resolve(BulkheadImplementee.class,
+						BulkheadImplementor0.class,
+						BulkheadImplementor1.class);
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(new BulkheadImplementor0(),
+						new BulkheadImplementor1());
+
+		Method method = getMethodByName(BulkheadImplementee.class, "handle");
+
+		ImplementeeMethodInvocation invocation0 = this.invokerImplementeeMethodInvocationFactory
+				.get(implementation, method, new Object[] { 1 },
+						implementorBeanFactory);
+
+		// saturated, fall back to the lower priority one
+		ImplementeeMethodInvocation invocation1 = this.invokerImplementeeMethodInvocationFactory
+				.get(implementation, method, new Object[] { 1 },
+						implementorBeanFactory);
+
+		assertEquals(BulkheadImplementor1.RE, invocation1.invoke());
+		assertEquals(BulkheadImplementor0.RE, invocation0.invoke());
+
+		// released
+		ImplementeeMethodInvocation invocation2 = this.invokerImplementeeMethodInvocationFactory
+				.get(implementation, method, new Object[] { 1 },
+						implementorBeanFactory);
+
+		assertEquals(BulkheadImplementor0.RE, invocation2.invoke());
+		assertEquals(0, this.invokerImplementeeMethodInvocationFactory
+				.getBulkheadRegistry().get(BulkheadImplementor0.class)
+				.getInFlight());
+	}
+
+	@Test(expected = ImplementorSaturatedException.class)
+	public void getTest_bulkheadSaturated() throws Throwable
+	{
+		Implementation<BulkheadImplementee> implementation = this.implementationResolver
+				.resolve(BulkheadImplementee.class,
+						BulkheadImplementor0.class);
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(new BulkheadImplementor0());
+
+		Method method = getMethodByName(BulkheadImplementee.class, "handle");
+
+		assertNotNull(this.invokerImplementeeMethodInvocationFactory.get(
+				implementation, method, new Object[] { 1 },
+				implementorBeanFactory));
+
+		this.invokerImplementeeMethodInvocationFactory.get(implementation,
+				method, new Object[] { 1 }, implementorBeanFactory);
+	}
+
+	@Test
+	public void getTest_latencyAdaptive() throws Throwable
+	{
+		Implementation<AdaptiveImplementee> implementation = this.implementationResolver
+				.resolve(AdaptiveImplementee.class,
+						AdaptiveImplementor0.class,
+						AdaptiveImplementor1.class);
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(new AdaptiveImplementor0(),
+						new AdaptiveImplementor1());
+
+		Method method = getMethodByName(AdaptiveImplementee.class, "handle");
+
+		ImplementeeMethodInvoker implementeeMethodInvoker = this.invokerImplementeeMethodInvocationFactory
+				.getImplementeeMethodInvoker(implementation, method);
+
+		implementeeMethodInvoker.getLatencyEwma(AdaptiveImplementor0.class)
+				.record(1000000L);
+		implementeeMethodInvoker.getLatencyEwma(AdaptiveImplementor1.class)
+				.record(1000L);
+
+		ImplementeeMethodInvocation invocation = this.invokerImplementeeMethodInvocationFactory
+				.get(implementation, method, new Object[] { 1 },
+						implementorBeanFactory);
+
+		assertEquals(AdaptiveImplementor1.RE, invocation.invoke());
+
+		implementeeMethodInvoker.getLatencyEwma(AdaptiveImplementor1.class)
+				.record(100000000L);
+
+		invocation = this.invokerImplementeeMethodInvocationFactory.get(
+				implementation, method, new Object[] { 1 },
+				implementorBeanFactory);
+
+		assertEquals(AdaptiveImplementor0.RE, invocation.invoke());
+	}
+
+	@Test
+	public void getTest_cacheable() throws Throwable
+	{
+		Implementation<CacheableImplementee> implementation = this.implementationResolver
+				.resolve(CacheableImplementee.class,
+						CacheableImplementor0.class);
+
+		CacheableImplementor0 implementor0 = new CacheableImplementor0();
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(implementor0);
+
+		Method method = getMethodByName(CacheableImplementee.class, "handle");
+
+		ImplementeeMethodInvocation invocation = this.invokerImplementeeMethodInvocationFactory
+				.get(implementation, method, new Object[] { 1 },
+						implementorBeanFactory);
+
+		assertTrue(
+				invocation instanceof CacheableImplementeeMethodInvocation);
+		assertEquals("1", invocation.invoke());
+
+		// hit, dispatch skipped
+		invocation = this.invokerImplementeeMethodInvocationFactory.get(
+				implementation, method, new Object[] { 1 },
+				implementorBeanFactory);
+
+		assertEquals("1", invocation.invoke());
+		assertEquals(1, implementor0.count);
+
+		ImplementeeMethodInvoker implementeeMethodInvoker = this.invokerImplementeeMethodInvocationFactory
+				.getImplementeeMethodInvoker(implementation, method);
+
+		assertEquals(1, implementeeMethodInvoker.getResultCache()
+				.getHitCount());
+
+		implementeeMethodInvoker
+				.invalidateResultCache(CacheableImplementor0.class);
+
+		invocation = this.invokerImplementeeMethodInvocationFactory.get(
+				implementation, method, new Object[] { 1 },
+				implementorBeanFactory);
+
+		assertEquals("1", invocation.invoke());
+		assertEquals(2, implementor0.count);
+	}
+
+	@Test
+	public void getTest_cacheableUpdated() throws Throwable
+	{
+		Implementation<CacheableImplementee> implementation = this.implementationResolver
+				.resolve(CacheableImplementee.class,
+						CacheableImplementor0.class);
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(new CacheableImplementor0(),
+						new CacheableImplementor1());
+
+		Method method = getMethodByName(CacheableImplementee.class, "handle");
+
+		assertEquals("1",
+				this.invokerImplementeeMethodInvocationFactory
+						.get(implementation, method, new Object[] { 1 },
+								implementorBeanFactory)
+						.invoke());
+
+		// a better implementor is registered at runtime
+		this.invokerImplementeeMethodInvocationFactory.update(implementation,
+				this.implementationResolver.resolve(
+						CacheableImplementee.class,
+						CacheableImplementor0.class,
+						CacheableImplementor1.class));
+
+		assertEquals(CacheableImplementor1.PREFIX + "1",
+				this.invokerImplementeeMethodInvocationFactory
+						.get(implementation, method, new Object[] { 1 },
+								implementorBeanFactory)
+						.invoke());
+	}
+
+	@Test
+	public void getTest_cacheableInvalidatedWhileInvoking() throws Throwable
+	{
+		Implementation<CacheableImplementee> implementation = this.implementationResolver
+				.resolve(CacheableImplementee.class,
+						CacheableImplementor0.class);
+
+		CacheableImplementor0 implementor0 = new CacheableImplementor0();
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(implementor0);
+
+		Method method = getMethodByName(CacheableImplementee.class, "handle");
+
+		ImplementeeMethodInvocation invocation = this.invokerImplementeeMethodInvocationFactory
+				.get(implementation, method, new Object[] { 1 },
+						implementorBeanFactory);
+
+		this.invokerImplementeeMethodInvocationFactory
+				.getImplementeeMethodInvoker(implementation, method)
+				.invalidateResultCache(CacheableImplementor0.class);
+
+		assertEquals("1", invocation.invoke());
+
+		// not cached
+		invocation = this.invokerImplementeeMethodInvocationFactory.get(
+				implementation, method, new Object[] { 1 },
+				implementorBeanFactory);
+
+		assertTrue(
+				invocation instanceof CacheableImplementeeMethodInvocation);
+		assertEquals("1", invocation.invoke());
+		assertEquals(2, implementor0.count);
+	}
+
+	@Test
+	public void invokeBatchTest() throws Throwable
+	{
+		Implementation<BatchImplementee0> implementation = this.implementationResolver
+				.resolve(BatchImplementee0.class, BatchImplementor0.class,
+						BatchImplementor1.class);
+
+		BatchImplementor0 implementor0 = new BatchImplementor0();
+		BatchImplementor1 implementor1 = new BatchImplementor1();
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(implementor0, implementor1);
+
+		List<Object[]> argsList = new ArrayList<Object[]>();
+		argsList.add(new Object[] { 1 });
+		argsList.add(new Object[] { 2.0D });
+		argsList.add(new Object[] { 3 });
+		argsList.add(new Object[] { 4.0D });
+
+		List<Object> re = this.invokerImplementeeMethodInvocationFactory
+				.invokeBatch(implementation,
+						getMethodByName(BatchImplementee0.class, "handle"),
+						argsList, implementorBeanFactory);
+
+		assertEquals(Arrays.asList((Object) "batch:1", "single:2.0",
+				"batch:3", "single:4.0"), re);
+		assertEquals(1, implementor0.batchCount);
+	}
+
+	@Test
+	public void invokeBatchTest_overloaded() throws Throwable
+	{
+		Implementation<BatchImplementee1> implementation = this.implementationResolver
+				.resolve(BatchImplementee1.class, BatchImplementor2.class);
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(new BatchImplementor2());
+
+		List<Object[]> argsList = new ArrayList<Object[]>();
+		argsList.add(new Object[] { 1 });
+
+		List<Object> re = this.invokerImplementeeMethodInvocationFactory
+				.invokeBatch(implementation,
+						BatchImplementee1.class.getMethod("handle",
+								Number.class),
+						argsList, implementorBeanFactory);
+
+		assertEquals(Arrays.asList((Object) "single:1"), re);
+
+		argsList = new ArrayList<Object[]>();
+		argsList.add(new Object[] { 1, "p:" });
+
+		re = this.invokerImplementeeMethodInvocationFactory.invokeBatch(
+				implementation, BatchImplementee1.class.getMethod("handle",
+						Number.class, String.class),
+				argsList, implementorBeanFactory);
+
+		assertEquals(Arrays.asList((Object) "batch:p:1"), re);
+	}
+
+	@Test
+	public void invokeBatchTest_cacheable() throws Throwable
+	{
+		Implementation<CacheableImplementee> implementation = this.implementationResolver
+				.resolve(CacheableImplementee.class,
+						CacheableImplementor0.class);
+
+		CacheableImplementor0 implementor0 = new CacheableImplementor0();
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(implementor0);
+
+		List<Object[]> argsList = new ArrayList<Object[]>();
+		argsList.add(new Object[] { 1 });
+		argsList.add(new Object[] { 1 });
+
+		List<Object> re = this.invokerImplementeeMethodInvocationFactory
+				.invokeBatch(implementation,
+						getMethodByName(CacheableImplementee.class, "handle"),
+						argsList, implementorBeanFactory);
+
+		assertEquals(Arrays.asList((Object) "1", "1"), re);
+
+		// the second one is cached
+		assertEquals(1, implementor0.count);
+	}
+
+	@Test
+	public void getTest_shortCircuit() throws Throwable
+	{
+		Implementation<Implementee> implementation = this.implementationResolver
+				.resolve(Implementee.class, PriorityImplementor0.class,
+						PriorityImplementor1.class, PriorityImplementor2.class);
+
+		PriorityImplementor0 implementor0 = new PriorityImplementor0();
+		PriorityImplementor1 implementor1 = new PriorityImplementor1();
+		PriorityImplementor2 implementor2 = new PriorityImplementor2();
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(implementor0, implementor1, implementor2);
+
+		Method handle = getMethodByName(Implementee.class, "handle");
+
+		ImplementMethodInvoker[] invokers = this.invokerImplementeeMethodInvocationFactory
+				.getImplementeeMethodInvoker(implementation, handle)
+				.getImplementMethodInvokers();
+
+		assertEquals(PriorityImplementor0.class, invokers[0].getImplementor());
+		assertEquals(PriorityImplementor1.class, invokers[1].getImplementor());
+		assertEquals(PriorityImplementor2.class, invokers[2].getImplementor());
+
+		// highest priority valid
+		{
+			ImplementeeMethodInvocation invocation = this.invokerImplementeeMethodInvocationFactory
+					.get(implementation, handle, new Object[] { 5 },
+							implementorBeanFactory);
+
+			assertEquals(PriorityImplementor0.RE, invocation.invoke());
+			assertEquals(1, implementor0.validityCount);
+			assertEquals(0, implementor1.validityCount);
+			assertEquals(0, implementor2.validityCount);
+		}
+
+		// next priority valid
+		{
+			ImplementeeMethodInvocation invocation = this.invokerImplementeeMethodInvocationFactory
+					.get(implementation, handle, new Object[] { -5 },
+							implementorBeanFactory);
+
+			assertEquals(PriorityImplementor1.RE, invocation.invoke());
+			assertEquals(2, implementor0.validityCount);
+			assertEquals(1, implementor1.validityCount);
+			assertEquals(0, implementor2.validityCount);
+		}
+	}
+
+	public static interface Implementee
+	{
+		String handle(Number number);
+	}
+
+	public static class Implementor0 implements Implementee
+	{
+		public static final String RE = Implementor0.class.getName();
+
+		@Override
+		public String handle(Number number)
+		{
+			return RE;
+		}
+	}
+
+	@Implementor(Implementee.class)
+	public static class Implementor1
+	{
+		public static final String RE = Implementor1.class.getName();
+
+		@Implement
+		public String handle(Integer number)
+		{
+			return RE;
+		}
+	}
+
+	@Implementor(Implementee.class)
+	public static class Implementor2
+	{
+		public static final String RE = Implementor2.class.getName();
+
+		@Implement
+		@Validity("isValid")
+		@Priority(1)
+		public String handle(Number number)
+		{
+			return RE;
+		}
+
+		public boolean isValid(Number number)
+		{
+			return number.intValue() > 10;
+		}
+	}
+
+	public static interface AsyncImplementee
+	{
+		Future<String> handle(Number number);
+	}
+
+	public static interface FutureTaskImplementee
+	{
+		FutureTask<String> handle(Number number);
+	}
+
+	public static class FutureTaskImplementor implements FutureTaskImplementee
+	{
+		public static final String RE = FutureTaskImplementor.class
+				.getName();
+
+		@Override
+		public FutureTask<String> handle(Number number)
+		{
+			FutureTask<String> re = new FutureTask<String>(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+				}
+			}, RE);
+
+			re.run();
+
+			return re;
+		}
+	}
+
+	public static class AsyncImplementor0 implements AsyncImplementee
+	{
+		public static final String RE = AsyncImplementor0.class.getName();
+
+		@Override
+		public Future<String> handle(Number number)
+		{
+			return new AsyncResult<String>(RE);
+		}
+	}
+
+	public static class AsyncImplementor1 implements AsyncImplementee
+	{
+		public static final String RE = AsyncImplementor1.class.getName();
+
+		@Override
+		@Validity("isValid")
+		public Future<String> handle(Number number)
+		{
+			return new AsyncResult<String>(RE);
+		}
+
+		public boolean isValid(Number number)
+		{
+			return (number instanceof Integer);
+		}
+	}
+
+	public static interface FanOutImplementee
+	{
+		@FanOut
+		String collect(Number number);
+
+		@FanOut(aggregator = MergeResultAggregator.class, timeout = 5000)
+		List<String> merge(Number number);
+	}
+
+	public static class FanOutImplementor0 implements FanOutImplementee
+	{
+		public static final String RE = FanOutImplementor0.class.getName();
+
+		@Override
+		public String collect(Number number)
+		{
+			return RE;
+		}
+
+		@Override
+		public List<String> merge(Number number)
+		{
+			return Arrays.asList(RE);
+		}
+	}
+
+	public static class FanOutImplementor1 implements FanOutImplementee
+	{
+		public static final String RE = FanOutImplementor1.class.getName();
+
+		@Override
+		@Priority(1)
+		public String collect(Number number)
+		{
+			return RE;
+		}
+
+		@Override
+		@Priority(1)
+		public List<String> merge(Number number)
+		{
+			return Arrays.asList(RE);
+		}
+	}
+
+	public static class FanOutImplementor2 implements FanOutImplementee
+	{
+		public static final String RE = FanOutImplementor2.class.getName();
+
+		@Override
+		@Validity("isValid")
+		public String collect(Number number)
+		{
+			return RE;
+		}
+
+		@Override
+		@Validity("isValid")
+		public List<String> merge(Number number)
+		{
+			return Arrays.asList(RE);
+		}
+
+		public boolean isValid(Number number)
+		{
+			return false;
+		}
+	}
+
+	public static interface HedgedImplementee
+	{
+		@Hedged(delay = 50)
+		String query(Number number);
+	}
+
+	public static class HedgedImplementor0 implements HedgedImplementee
+	{
+		public static final String RE = HedgedImplementor0.class.getName();
+
+		@Override
+		@Priority(1)
+		@Validity("isValid")
+		public String query(Number number)
+		{
+			try
+			{
+				Thread.sleep(5000);
+			}
+			catch (InterruptedException e)
+			{
+			}
+
+			return RE;
+		}
+
+		public boolean isValid(Number number)
+		{
+			return number.intValue() > 0;
+		}
+	}
+
+	public static class HedgedImplementor1 implements HedgedImplementee
+	{
+		public static final String RE = HedgedImplementor1.class.getName();
+
+		@Override
+		public String query(Number number)
+		{
+			return RE;
+		}
+	}
+
+	public static interface BulkheadImplementee
+	{
+		String handle(Number number);
+	}
+
+	@Bulkhead(1)
+	public static class BulkheadImplementor0 implements BulkheadImplementee
+	{
+		public static final String RE = BulkheadImplementor0.class.getName();
+
+		@Override
+		@Priority(1)
+		public String handle(Number number)
+		{
+			return RE;
+		}
+	}
+
+	public static class BulkheadImplementor1 implements BulkheadImplementee
+	{
+		public static final String RE = BulkheadImplementor1.class.getName();
+
+		@Override
+		public String handle(Number number)
+		{
+			return RE;
+		}
+	}
+
+	public static interface AdaptiveImplementee
+	{
+		@LatencyAdaptive(alpha = 1.0, explorationRate = 0)
+		String handle(Number number);
+	}
+
+	public static class AdaptiveImplementor0 implements AdaptiveImplementee
+	{
+		public static final String RE = AdaptiveImplementor0.class.getName();
+
+		@Override
+		public String handle(Number number)
+		{
+			return RE;
+		}
+	}
+
+	public static class AdaptiveImplementor1 implements AdaptiveImplementee
+	{
+		public static final String RE = AdaptiveImplementor1.class.getName();
+
+		@Override
+		public String handle(Number number)
+		{
+			return RE;
+		}
+	}
+
+	public static interface CacheableImplementee
+	{
+		@CacheableImplement(maximumSize = 10)
+		String handle(Number number);
+	}
+
+	public static class CacheableImplementor0 implements CacheableImplementee
+	{
+		private int count = 0;
+
+		@Override
+		public String handle(Number number)
+		{
+			this.count++;
+			return number.toString();
+		}
+	}
+
+	public static class CacheableImplementor1 implements CacheableImplementee
+	{
+		public static final String PREFIX = CacheableImplementor1.class
+				.getName();
+
+		@Override
+		@Priority(1)
+		public String handle(Number number)
+		{
+			return PREFIX + number;
+		}
+	}
+
+	public static interface BatchImplementee0
+	{
+		String handle(Number number);
+	}
+
+	@Implementor(BatchImplementee0.class)
+	public static class BatchImplementor0
+	{
+		private int batchCount = 0;
+
+		@Implement
+		public String handle(Integer number)
+		{
+			return "single:" + number;
+		}
+
+		@BatchImplement("handle")
+		public List<String> handleAll(List<Object[]> argsList)
+		{
+			this.batchCount++;
+
+			List<String> re = new ArrayList<String>();
+
+			for (Object[] args : argsList)
+				re.add("batch:" + args[0]);
+
+			return re;
+		}
+	}
+
+	public static interface BatchImplementee1
+	{
+		String handle(Number number);
+
+		String handle(Number number, String prefix);
+	}
+
+	@Implementor(BatchImplementee1.class)
+	public static class BatchImplementor2
+	{
+		@Implement
+		public String handle(Integer number)
+		{
+			return "single:" + number;
+		}
+
+		@Implement
+		public String handle(Integer number, String prefix)
+		{
+			return prefix + number;
+		}
+
+		@BatchImplement(value = "handle", paramTypes = { Number.class,
+				String.class })
+		public List<String> handleAll(List<Object[]> argsList)
+		{
+			List<String> re = new ArrayList<String>();
+
+			for (Object[] args : argsList)
+				re.add("batch:" + args[1] + args[0]);
+
+			return re;
+		}
+	}
+
+	public static class BatchImplementor1 implements BatchImplementee0
+	{
+		@Override
+		public String handle(Number number)
+		{
+			return "single:" + number;
+		}
+	}
+
+	@Implementor(Implementee.class)
+	public static class PriorityImplementor0
+	{
+		public static final String RE = PriorityImplementor0.class.getName();
+
+		private int validityCount = 0;
+
+		@Implement
+		@Validity("isValid")
+		@Priority(2)
+		public String handle(Number number)
+		{
+			return RE;
+		}
+
+		public boolean isValid(Number number)
+		{
+			this.validityCount++;
+			return number.intValue() > 0;
+		}
+	}
+
+	@Implementor(Implementee.class)
+	public static class PriorityImplementor1
+	{
+		public static final String RE = PriorityImplementor1.class.getName();
+
+		private int validityCount = 0;
+
+		@Implement
+		@Validity("isValid")
+		@Priority(1)
+		public String handle(Number number)
+		{
+			return RE;
+		}
+
+		public boolean isValid(Number number)
+		{
+			this.validityCount++;
+			return true;
+		}
+	}
+
+	@Implementor(Implementee.class)
+	public static class PriorityImplementor2
+	{
+		public static final String RE = PriorityImplementor2.class.getName();
+
+		private int validityCount = 0;
+
+		@Implement
+		@Validity("isValid")
+		public String handle(Integer number)
+		{
+			return RE;
+		}
+
+		public boolean isValid(Integer number)
+		{
+			this.validityCount++;
+			return true;
+		}
+	}
+}
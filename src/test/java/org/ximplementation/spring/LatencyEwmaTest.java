@@ -0,0 +1,52 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * {@linkplain LatencyEwma} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class LatencyEwmaTest extends AbstractTestSupport
+{
+	@Test
+	public void recordTest()
+	{
+		LatencyEwma ewma = new LatencyEwma(0.5D);
+
+		assertEquals(0D, ewma.get(), 0D);
+
+		ewma.record(100);
+		assertEquals(100D, ewma.get(), 0D);
+
+		ewma.record(200);
+		assertEquals(150D, ewma.get(), 0D);
+
+		ewma.record(50);
+		assertEquals(100D, ewma.get(), 0D);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void newTest_illegalAlpha()
+	{
+		new LatencyEwma(0D);
+	}
+}
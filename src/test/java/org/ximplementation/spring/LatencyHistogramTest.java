@@ -0,0 +1,93 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * {@linkplain LatencyHistogram} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class LatencyHistogramTest extends AbstractTestSupport
+{
+	@Test
+	public void getValueAtPercentileTest()
+	{
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		assertEquals(-1, histogram.getValueAtPercentile(0.95D));
+
+		for (int i = 1; i <= 100; i++)
+			histogram.record(i * 1000L);
+
+		assertEquals(100, histogram.getCount());
+
+		long p50 = histogram.getValueAtPercentile(0.5D);
+		long p95 = histogram.getValueAtPercentile(0.95D);
+
+		assertTrue(p50 >= 50000 && p50 <= 50000 * 1.125D);
+		assertTrue(p95 >= 95000 && p95 <= 95000 * 1.125D);
+		assertTrue(histogram.getValueAtPercentile(1.0D) >= 100000);
+	}
+
+	@Test
+	public void getValueAtPercentileTest_shifted()
+	{
+		LatencyHistogram histogram = new LatencyHistogram(100);
+
+		for (int i = 0; i < 300; i++)
+			histogram.record(1000L);
+
+		assertEquals(100, histogram.getCount());
+		assertTrue(histogram.getValueAtPercentile(0.95D) < 1000 * 1.125D);
+
+		for (int i = 0; i < 50; i++)
+			histogram.record(100000L);
+
+		// the previous window and the current half window
+		assertEquals(150, histogram.getCount());
+		assertTrue(histogram.getValueAtPercentile(0.5D) < 1000 * 1.125D);
+		assertTrue(histogram.getValueAtPercentile(0.95D) >= 100000);
+
+		for (int i = 0; i < 150; i++)
+			histogram.record(100000L);
+
+		// the old latencies are dropped
+		assertEquals(100, histogram.getCount());
+		assertTrue(histogram.getValueAtPercentile(0.01D) >= 100000);
+	}
+
+	@Test
+	public void getBucketIndexTest()
+	{
+		for (long value : new long[] { 0, 7, 8, 15, 16, 17, 1000, 123456789L,
+				Long.MAX_VALUE })
+		{
+			int index = LatencyHistogram.getBucketIndex(value);
+
+			assertTrue(LatencyHistogram.getBucketUpperBound(index) >= value);
+
+			if (index > 0)
+				assertTrue(LatencyHistogram
+						.getBucketUpperBound(index - 1) < value);
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * {@linkplain LeastInFlightImplementorBeanBalancer} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class LeastInFlightImplementorBeanBalancerTest
+		extends AbstractTestSupport
+{
+	@Test
+	public void selectTest()
+	{
+		LeastInFlightImplementorBeanBalancer balancer = new LeastInFlightImplementorBeanBalancer();
+
+		balancer.getInFlightCounter(String.class, 0).incrementAndGet();
+		balancer.getInFlightCounter(String.class, 1).incrementAndGet();
+
+		for (int i = 0; i < 6; i++)
+			assertEquals(2, balancer.select(String.class, 3, null));
+
+		balancer.getInFlightCounter(String.class, 2).incrementAndGet();
+		balancer.getInFlightCounter(String.class, 2).incrementAndGet();
+		balancer.getInFlightCounter(String.class, 0).decrementAndGet();
+
+		for (int i = 0; i < 6; i++)
+			assertEquals(0, balancer.select(String.class, 3, null));
+	}
+
+	@Test
+	public void selectTest_ties()
+	{
+		LeastInFlightImplementorBeanBalancer balancer = new LeastInFlightImplementorBeanBalancer();
+
+		int[] counts = new int[3];
+
+		for (int i = 0; i < 30; i++)
+			counts[balancer.select(String.class, 3, null)]++;
+
+		// not always the first one
+		assertEquals(10, counts[0]);
+		assertEquals(10, counts[1]);
+		assertEquals(10, counts[2]);
+	}
+
+	@Test
+	public void getInFlightCounterTest_countedFromSelection() throws Throwable
+	{
+		LeastInFlightImplementorBeanBalancer balancer = new LeastInFlightImplementorBeanBalancer();
+
+		AtomicInteger counter = balancer.getInFlightCounter(String.class, 0);
+
+		// increased when selected, so the next selection sees it
+		counter.incrementAndGet();
+
+		InvokerImplementeeMethodInvocation invocation = new InvokerImplementeeMethodInvocation(
+				null, null, null, counter);
+
+		assertEquals(1, balancer.select(String.class, 2, null));
+		assertEquals(1, balancer.select(String.class, 2, null));
+
+		// abandoned, released only once
+		invocation.release();
+		invocation.release();
+
+		assertEquals(0, counter.get());
+	}
+
+	@Test
+	public void getInFlightCounterTest()
+	{
+		LeastInFlightImplementorBeanBalancer balancer = new LeastInFlightImplementorBeanBalancer();
+
+		AtomicInteger counter = balancer.getInFlightCounter(String.class, 1);
+		counter.incrementAndGet();
+
+		// grown counters share the existing ones
+		balancer.select(String.class, 5, null);
+
+		assertSame(counter, balancer.getInFlightCounter(String.class, 1));
+		assertEquals(1, balancer.getInFlightCounter(String.class, 1).get());
+		assertEquals(0, balancer.getInFlightCounter(String.class, 4).get());
+	}
+}
@@ -0,0 +1,153 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * {@linkplain MergeResultAggregator} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ *
+ */
+public class MergeResultAggregatorTest extends AbstractTestSupport
+{
+	private MergeResultAggregator mergeResultAggregator;
+
+	@Rule
+	public ExpectedException expectedException = ExpectedException.none();
+
+	@Before
+	public void setUp() throws Exception
+	{
+		this.mergeResultAggregator = new MergeResultAggregator();
+	}
+
+	@After
+	public void tearDown() throws Exception
+	{
+	}
+
+	@Test
+	public void aggregateTest_collection()
+	{
+		Object re = this.mergeResultAggregator.aggregate(
+				getMethodByName(MyBean.class, "list"),
+				Arrays.asList((Object) Arrays.asList("a", "b"), null,
+						Arrays.asList("b", "c")));
+
+		assertEquals(Arrays.asList("a", "b", "b", "c"), re);
+
+		re = this.mergeResultAggregator.aggregate(
+				getMethodByName(MyBean.class, "set"),
+				Arrays.asList((Object) Arrays.asList("a", "b"),
+						Arrays.asList("b", "c")));
+
+		assertEquals(3, ((Set<?>) re).size());
+	}
+
+	@Test
+	public void aggregateTest_timedOut()
+	{
+		Object re = this.mergeResultAggregator.aggregate(
+				getMethodByName(MyBean.class, "list"),
+				Arrays.asList((Object) Arrays.asList("a", "b"),
+						ResultAggregator.TIMED_OUT, Arrays.asList("c")));
+
+		assertEquals(Arrays.asList("a", "b", "c"), re);
+	}
+
+	@Test
+	public void aggregateTest_map()
+	{
+		Map<String, String> map0 = new HashMap<String, String>();
+		map0.put("a", "0");
+
+		Map<String, String> map1 = new HashMap<String, String>();
+		map1.put("a", "1");
+		map1.put("b", "1");
+
+		Map<?, ?> re = (Map<?, ?>) this.mergeResultAggregator.aggregate(
+				getMethodByName(MyBean.class, "map"),
+				Arrays.asList((Object) map0, map1));
+
+		assertEquals("0", re.get("a"));
+		assertEquals("1", re.get("b"));
+	}
+
+	@Test
+	public void aggregateTest_array()
+	{
+		Object re = this.mergeResultAggregator.aggregate(
+				getMethodByName(MyBean.class, "array"),
+				Arrays.asList((Object) new String[] { "a" },
+						new String[] { "b", "c" }));
+
+		assertArrayEquals(new String[] { "a", "b", "c" }, (String[]) re);
+	}
+
+	@Test
+	public void aggregateTest_unsupported()
+	{
+		expectedException.expect(UnsupportedOperationException.class);
+
+		this.mergeResultAggregator.aggregate(
+				getMethodByName(MyBean.class, "string"),
+				Collections.<Object> singletonList("a"));
+	}
+
+	public static class MyBean
+	{
+		public List<String> list()
+		{
+			return null;
+		}
+
+		public Set<String> set()
+		{
+			return null;
+		}
+
+		public Map<String, String> map()
+		{
+			return null;
+		}
+
+		public String[] array()
+		{
+			return null;
+		}
+
+		public String string()
+		{
+			return null;
+		}
+	}
+}
@@ -0,0 +1,49 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * {@linkplain PowerOfTwoChoicesImplementorBeanBalancer} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class PowerOfTwoChoicesImplementorBeanBalancerTest
+		extends AbstractTestSupport
+{
+	@Test
+	public void selectTest()
+	{
+		PowerOfTwoChoicesImplementorBeanBalancer balancer = new PowerOfTwoChoicesImplementorBeanBalancer();
+
+		for (int i = 0; i < 100; i++)
+		{
+			int index = balancer.select(String.class, 3, null);
+			assertTrue(index >= 0 && index < 3);
+		}
+
+		// two beans are always both picked
+		balancer.getInFlightCounter(String.class, 0).incrementAndGet();
+
+		for (int i = 0; i < 100; i++)
+			assertEquals(1, balancer.select(String.class, 2, null));
+	}
+}
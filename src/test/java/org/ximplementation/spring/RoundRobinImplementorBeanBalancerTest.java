@@ -0,0 +1,47 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+/**
+ * {@linkplain RoundRobinImplementorBeanBalancer} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class RoundRobinImplementorBeanBalancerTest extends AbstractTestSupport
+{
+	@Test
+	public void selectTest()
+	{
+		RoundRobinImplementorBeanBalancer balancer = new RoundRobinImplementorBeanBalancer();
+
+		assertEquals(0, balancer.select(String.class, 3, null));
+		assertEquals(1, balancer.select(String.class, 3, null));
+		assertEquals(2, balancer.select(String.class, 3, null));
+		assertEquals(0, balancer.select(String.class, 3, null));
+
+		// counted by implementor
+		assertEquals(0, balancer.select(Integer.class, 2, null));
+		assertEquals(1, balancer.select(String.class, 3, null));
+
+		assertNull(balancer.getInFlightCounter(String.class, 0));
+	}
+}
@@ -0,0 +1,109 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * {@linkplain TinyLfuCache} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class TinyLfuCacheTest extends AbstractTestSupport
+{
+	@Test
+	public void getTest()
+	{
+		TinyLfuCache<String, String> cache = new TinyLfuCache<String, String>(
+				10, 0);
+
+		assertNull(cache.get("a"));
+
+		cache.put("a", "1");
+		assertEquals("1", cache.get("a"));
+
+		cache.put("a", "2");
+		assertEquals("2", cache.get("a"));
+
+		cache.remove("a");
+		assertNull(cache.get("a"));
+
+		assertEquals(2, cache.getHitCount());
+		assertEquals(2, cache.getMissCount());
+		assertEquals(0.5D, cache.getHitRate(), 0D);
+	}
+
+	@Test
+	public void putTest_bounded()
+	{
+		TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<Integer, Integer>(
+				100, 0);
+
+		for (int i = 0; i < 1000; i++)
+			cache.put(i, i);
+
+		assertEquals(100, cache.size());
+		assertEquals(900, cache.getEvictionCount());
+	}
+
+	@Test
+	public void putTest_frequentKept()
+	{
+		TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<Integer, Integer>(
+				100, 0);
+
+		for (int i = 0; i < 100; i++)
+		{
+			cache.put(i, i);
+
+			for (int j = 0; j < 5; j++)
+				cache.get(i);
+		}
+
+		// a scan of one-hit keys does not flush the frequent ones
+		for (int i = 1000; i < 2000; i++)
+			cache.put(i, i);
+
+		int kept = 0;
+		for (int i = 0; i < 100; i++)
+		{
+			if (cache.get(i) != null)
+				kept++;
+		}
+
+		assertTrue(kept >= 90);
+	}
+
+	@Test
+	public void getTest_expired() throws Exception
+	{
+		TinyLfuCache<String, String> cache = new TinyLfuCache<String, String>(
+				10, 20);
+
+		cache.put("a", "1");
+		assertEquals("1", cache.get("a"));
+
+		Thread.sleep(50);
+
+		assertNull(cache.get("a"));
+		assertEquals(0, cache.size());
+	}
+}
@@ -0,0 +1,180 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.expression.EvaluationContext;
+import org.ximplementation.Implement;
+import org.ximplementation.Implementor;
+import org.ximplementation.Priority;
+import org.ximplementation.support.Implementation;
+import org.ximplementation.support.ImplementationResolver;
+import org.ximplementation.support.ImplementorBeanFactory;
+import org.ximplementation.support.SimpleImplementorBeanFactory;
+
+/**
+ * {@linkplain ValidityExpressionEvaluator} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class ValidityExpressionEvaluatorTest extends AbstractTestSupport
+{
+	@Before
+	public void setUp() throws Exception
+	{
+	}
+
+	@After
+	public void tearDown() throws Exception
+	{
+	}
+
+	@Test
+	public void evaluateTest()
+	{
+		Method method = getMethodByName(Implementor0.class, "handle");
+
+		{
+			ValidityExpressionEvaluator evaluator = new ValidityExpressionEvaluator(
+					method, "#p0 > 10");
+
+			assertTrue(evaluator.evaluate(new Object[] { 11 }));
+			assertFalse(evaluator.evaluate(new Object[] { 10 }));
+		}
+
+		{
+			ValidityExpressionEvaluator evaluator = new ValidityExpressionEvaluator(
+					method, "#a0 == 3 or #root[0] == 5");
+
+			assertTrue(evaluator.evaluate(new Object[] { 3 }));
+			assertTrue(evaluator.evaluate(new Object[] { 5 }));
+			assertFalse(evaluator.evaluate(new Object[] { 4 }));
+		}
+	}
+
+	@Test
+	public void evaluateTest_reuseContext() throws Throwable
+	{
+		final ValidityExpressionEvaluator evaluator = new ValidityExpressionEvaluator(
+				getMethodByName(Implementor0.class, "handle"), "#p0 > 10");
+
+		assertTrue(evaluator.evaluate(new Object[] { 11 }));
+
+		EvaluationContext context = evaluator.getEvaluationContext();
+
+		for (int i = 0; i < 100; i++)
+			assertEquals(i > 10, evaluator.evaluate(new Object[] { i }));
+
+		assertSame(context, evaluator.getEvaluationContext());
+
+		// arguments are not retained
+		assertNull(((ValidityExpressionEvaluator.ArgsEvaluationContext) context)
+				.getArgs());
+
+		// one for each thread
+		final EvaluationContext[] otherContext = new EvaluationContext[1];
+
+		Thread thread = new Thread()
+		{
+			@Override
+			public void run()
+			{
+				evaluator.evaluate(new Object[] { 3 });
+				otherContext[0] = evaluator.getEvaluationContext();
+			}
+		};
+		thread.start();
+		thread.join();
+
+		assertNotNull(otherContext[0]);
+		assertNotSame(context, otherContext[0]);
+	}
+
+	@Test
+	public void valueOfTest()
+	{
+		assertNull(ValidityExpressionEvaluator
+				.valueOf(getMethodByName(Implementor1.class, "handle")));
+		assertEquals("#p0 > 10",
+				ValidityExpressionEvaluator
+						.valueOf(getMethodByName(Implementor0.class, "handle"))
+						.getExpressionString());
+	}
+
+	@Test
+	public void dispatchTest() throws Throwable
+	{
+		Implementation<Implementee> implementation = new ImplementationResolver()
+				.resolve(Implementee.class, Implementor0.class,
+						Implementor1.class);
+
+		ImplementorBeanFactory implementorBeanFactory = SimpleImplementorBeanFactory
+				.valueOf(new Implementor0(), new Implementor1());
+
+		InvokerImplementeeMethodInvocationFactory factory = new InvokerImplementeeMethodInvocationFactory();
+
+		Method handle = getMethodByName(Implementee.class, "handle");
+
+		assertEquals(Implementor0.RE, factory.get(implementation, handle,
+				new Object[] { 11 }, implementorBeanFactory).invoke());
+		assertEquals(Implementor1.RE, factory.get(implementation, handle,
+				new Object[] { 10 }, implementorBeanFactory).invoke());
+	}
+
+	public static interface Implementee
+	{
+		String handle(Number number);
+	}
+
+	@Implementor(Implementee.class)
+	public static class Implementor0
+	{
+		public static final String RE = Implementor0.class.getName();
+
+		@Implement
+		@ValidityExpression("#p0 > 10")
+		@Priority(1)
+		public String handle(Integer number)
+		{
+			return RE;
+		}
+	}
+
+	@Implementor(Implementee.class)
+	public static class Implementor1
+	{
+		public static final String RE = Implementor1.class.getName();
+
+		@Implement
+		public String handle(Number number)
+		{
+			return RE;
+		}
+	}
+}
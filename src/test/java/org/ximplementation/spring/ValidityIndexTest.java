@@ -0,0 +1,246 @@
+/**
+  * Licensed under the Apache License, Version 2.0 (the "License");
+  * you may not use this file except in compliance with the License.
+  * You may obtain a copy of the License at
+  *  
+  * 	http://www.apache.org/licenses/LICENSE-2.0
+  *  
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License. 
+  */
+
+package org.ximplementation.spring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Method;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.ximplementation.Implement;
+import org.ximplementation.Implementor;
+import org.ximplementation.Priority;
+import org.ximplementation.spring.ImplementeeMethodInvoker.ParamTypesKey;
+import org.ximplementation.support.Implementation;
+import org.ximplementation.support.ImplementationResolver;
+import org.ximplementation.support.ImplementorBeanFactory;
+import org.ximplementation.support.SimpleImplementorBeanFactory;
+
+/**
+ * {@linkplain ValidityIndex} unit tests.
+ * 
+ * @author earthangry@gmail.com
+ * @date 2026-10-18
+ * 
+ */
+public class ValidityIndexTest extends AbstractTestSupport
+{
+	private ImplementationResolver implementationResolver;
+
+	private InvokerImplementeeMethodInvocationFactory invokerImplementeeMethodInvocationFactory;
+
+	private Implementation<Implementee> implementation;
+
+	private ImplementorBeanFactory implementorBeanFactory;
+
+	private Method handle;
+
+	@Before
+	public void setUp() throws Exception
+	{
+		this.implementationResolver = new ImplementationResolver();
+		this.invokerImplementeeMethodInvocationFactory = new InvokerImplementeeMethodInvocationFactory();
+		this.implementation = this.implementationResolver.resolve(
+				Implementee.class, ValueImplementor0.class,
+				ValueImplementor1.class, RangeImplementor0.class,
+				RangeImplementor1.class, DefaultImplementor.class);
+		this.implementorBeanFactory = SimpleImplementorBeanFactory.valueOf(
+				new ValueImplementor0(), new ValueImplementor1(),
+				new RangeImplementor0(), new RangeImplementor1(),
+				new DefaultImplementor());
+		this.handle = getMethodByName(Implementee.class, "handle");
+	}
+
+	@After
+	public void tearDown() throws Exception
+	{
+	}
+
+	@Test
+	public void lookupTest()
+	{
+		ImplementeeMethodInvoker implementeeMethodInvoker = this.invokerImplementeeMethodInvocationFactory
+				.getImplementeeMethodInvoker(this.implementation, this.handle);
+
+		ValidityIndex validityIndex = ValidityIndex
+				.valueOf(implementeeMethodInvoker.getImplementMethodInvokers());
+
+		{
+			Object[] params = new Object[] { "A" };
+			ParamTypesKey key = ParamTypesKey.valueOf(params);
+
+			ImplementMethodInvoker[] re = validityIndex.lookup(params, key,
+					implementeeMethodInvoker.getParamTypeMatched(key));
+
+			assertEquals(2, re.length);
+			assertEquals(ValueImplementor0.class, re[0].getImplementor());
+			assertEquals(DefaultImplementor.class, re[1].getImplementor());
+		}
+
+		{
+			Object[] params = new Object[] { 7 };
+			ParamTypesKey key = ParamTypesKey.valueOf(params);
+
+			ImplementMethodInvoker[] re = validityIndex.lookup(params, key,
+					implementeeMethodInvoker.getParamTypeMatched(key));
+
+			assertEquals(3, re.length);
+			assertEquals(RangeImplementor1.class, re[0].getImplementor());
+			assertEquals(RangeImplementor0.class, re[1].getImplementor());
+			assertEquals(DefaultImplementor.class, re[2].getImplementor());
+
+			// precomputed
+			assertSame(re, validityIndex.lookup(new Object[] { 8 }, key,
+					implementeeMethodInvoker.getParamTypeMatched(key)));
+		}
+
+		// range bounds are inclusive
+		{
+			Object[] params = new Object[] { 10D };
+			ParamTypesKey key = ParamTypesKey.valueOf(params);
+
+			ImplementMethodInvoker[] re = validityIndex.lookup(params, key,
+					implementeeMethodInvoker.getParamTypeMatched(key));
+
+			assertEquals(3, re.length);
+			assertEquals(RangeImplementor0.class, re[1].getImplementor());
+		}
+
+		{
+			Object[] params = new Object[] { -0.5D };
+			ParamTypesKey key = ParamTypesKey.valueOf(params);
+
+			ImplementMethodInvoker[] re = validityIndex.lookup(params, key,
+					implementeeMethodInvoker.getParamTypeMatched(key));
+
+			assertEquals(1, re.length);
+			assertEquals(DefaultImplementor.class, re[0].getImplementor());
+		}
+	}
+
+	@Test
+	public void getTest() throws Throwable
+	{
+		assertEquals(ValueImplementor0.RE, invoke("A"));
+		assertEquals(ValueImplementor0.RE, invoke("B"));
+		assertEquals(ValueImplementor1.RE, invoke(Type.C));
+		assertEquals(RangeImplementor0.RE, invoke(3));
+		assertEquals(RangeImplementor1.RE, invoke(7.5D));
+		assertEquals(RangeImplementor1.RE, invoke(100));
+		assertEquals(DefaultImplementor.RE, invoke(1000));
+		assertEquals(DefaultImplementor.RE, invoke("Z"));
+	}
+
+	@Test
+	public void valueOfTest()
+	{
+		Implementation<Implementee> implementation = this.implementationResolver
+				.resolve(Implementee.class, DefaultImplementor.class);
+
+		assertNull(ValidityIndex
+				.valueOf(this.invokerImplementeeMethodInvocationFactory
+						.getImplementeeMethodInvoker(implementation,
+								this.handle)
+						.getImplementMethodInvokers()));
+	}
+
+	protected Object invoke(Object key) throws Throwable
+	{
+		return this.invokerImplementeeMethodInvocationFactory
+				.get(this.implementation, this.handle, new Object[] { key },
+						this.implementorBeanFactory)
+				.invoke();
+	}
+
+	public static enum Type
+	{
+		A, B, C
+	}
+
+	public static interface Implementee
+	{
+		String handle(Object key);
+	}
+
+	@Implementor(Implementee.class)
+	public static class ValueImplementor0
+	{
+		public static final String RE = ValueImplementor0.class.getName();
+
+		@Implement
+		@ValidIn({ "A", "B" })
+		public String handle(Object key)
+		{
+			return RE;
+		}
+	}
+
+	@Implementor(Implementee.class)
+	public static class ValueImplementor1
+	{
+		public static final String RE = ValueImplementor1.class.getName();
+
+		@Implement
+		@ValidIn("C")
+		public String handle(Object key)
+		{
+			return RE;
+		}
+	}
+
+	@Implementor(Implementee.class)
+	public static class RangeImplementor0
+	{
+		public static final String RE = RangeImplementor0.class.getName();
+
+		@Implement
+		@ValidRange(min = 0, max = 10)
+		public String handle(Object key)
+		{
+			return RE;
+		}
+	}
+
+	@Implementor(Implementee.class)
+	public static class RangeImplementor1
+	{
+		public static final String RE = RangeImplementor1.class.getName();
+
+		@Implement
+		@ValidRange(min = 5, max = 100)
+		@Priority(1)
+		public String handle(Object key)
+		{
+			return RE;
+		}
+	}
+
+	@Implementor(Implementee.class)
+	public static class DefaultImplementor
+	{
+		public static final String RE = DefaultImplementor.class.getName();
+
+		@Implement
+		@Priority(-1)
+		public String handle(Object key)
+		{
+			return RE;
+		}
+	}
+}